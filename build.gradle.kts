@@ -33,6 +33,7 @@ val jacksonVersion = "2.17.1"
 val junitVersion = "5.10.2"
 val loggerVersion = "2.0.17"
 val logbackClassicVersion = "1.5.17"
+val jmhVersion = "1.37"
 
 // Define source sets for integration tests
 sourceSets {
@@ -43,6 +44,17 @@ sourceSets {
         compileClasspath += sourceSets["main"].output + sourceSets["test"].output
         runtimeClasspath += sourceSets["main"].output + sourceSets["test"].output
     }
+    // Annotation processor generating the streaming JSON codecs of the model classes (see JsonCodec)
+    create("codegen") {
+        java.srcDir("src/codegen/java")
+        resources.srcDir("src/codegen/resources")
+    }
+    // JMH micro benchmarks (not part of the build / published artifacts)
+    create("jmh") {
+        java.srcDir("src/jmh/java")
+        compileClasspath += sourceSets["main"].output + sourceSets["main"].runtimeClasspath
+        runtimeClasspath += sourceSets["main"].output + sourceSets["main"].runtimeClasspath
+    }
 }
 
 // Create a configuration for integration test implementation dependencies
@@ -77,6 +89,39 @@ tasks.named<ProcessResources>("processIntegrationTestResources") {
     duplicatesStrategy = DuplicatesStrategy.EXCLUDE
 }
 
+// Runs JMH benchmarks, i.e.: ./gradlew jmh -Pjmh.include=SerializationBenchmark -Pjmh.mode=thrpt -Pjmh.prof=gc
+tasks.register<JavaExec>("jmh") {
+    description = "Runs the JMH micro benchmarks."
+    group = "verification"
+
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+
+    // benchmark mode override (thrpt, avgt, sample, ss, all)
+    val mode = project.findProperty("jmh.mode")?.toString()
+    if (!mode.isNullOrBlank()) {
+        args("-bm", mode)
+    }
+
+    // profiler, i.e. gc for allocation rate (gc.alloc.rate.norm)
+    val profiler = project.findProperty("jmh.prof")?.toString()
+    if (!profiler.isNullOrBlank()) {
+        args("-prof", profiler)
+    }
+
+    // machine readable results for regression tracking
+    val resultFile = layout.buildDirectory.file("reports/jmh/results.json").get().asFile
+    args("-rf", "json", "-rff", resultFile.absolutePath)
+    doFirst {
+        resultFile.parentFile.mkdirs()
+    }
+
+    val include = project.findProperty("jmh.include")?.toString()
+    if (!include.isNullOrBlank()) {
+        args(include)
+    }
+}
+
 // Standard test task
 tasks.test {
     useJUnitPlatform()
@@ -103,6 +148,9 @@ dependencies {
     implementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310:$jacksonVersion")
     implementation("com.google.code.findbugs:jsr305:3.0.2")
 
+    // Streaming JSON codecs, generated at compile time
+    annotationProcessor(sourceSets["codegen"].output)
+
     // Unit tests
     testImplementation("org.junit.jupiter:junit-jupiter-api:$junitVersion")
     testRuntimeOnly("org.junit.jupiter:junit-jupiter-engine:$junitVersion")
@@ -117,6 +165,10 @@ dependencies {
     // Needed for Gradle 9.0
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
     "integrationTestRuntimeOnly"("org.junit.platform:junit-platform-launcher")
+
+    // Micro benchmarks
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:$jmhVersion")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:$jmhVersion")
 }
 
 
@@ -0,0 +1,643 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.codegen;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Generates streaming JSON codecs for classes annotated with {@code io.fliqa.client.interledger.serializer.JsonCodec}.
+ *
+ * <p>For every annotated class a {@code <Class>Codec} is generated in the package of the class, holding a
+ * {@code Serializer} and (when the class has a no-argument constructor) a {@code Deserializer}. A
+ * {@code JsonCodecModule} registers all codecs of a package with an {@code ObjectMapper}.
+ *
+ * <p>The generated code mirrors what Jackson's bean introspection would do for the class, so the JSON
+ * stays byte-identical. Properties are the {@code @JsonProperty} fields and the public fields in declaration
+ * order. Strings, numbers and booleans are written and read directly. All other values are handed to the
+ * serializer or deserializer Jackson resolves for the declared type, once per codec. Constructs the
+ * generator can not mirror are reported as compile errors. Jackson annotations are matched by name, so the
+ * processor has no dependencies.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @since 1.0
+ */
+@SupportedAnnotationTypes(JsonCodecProcessor.JSON_CODEC)
+public class JsonCodecProcessor extends AbstractProcessor {
+
+    static final String JSON_CODEC = "io.fliqa.client.interledger.serializer.JsonCodec";
+
+    /**
+     * Simple name of the generated module registering all codecs of a package.
+     */
+    static final String MODULE = "JsonCodecModule";
+
+    private static final String JACKSON = "com.fasterxml.jackson.";
+    private static final String JSON_PROPERTY = "com.fasterxml.jackson.annotation.JsonProperty";
+    private static final String JSON_INCLUDE = "com.fasterxml.jackson.annotation.JsonInclude";
+    private static final String JSON_IGNORE = "com.fasterxml.jackson.annotation.JsonIgnore";
+    private static final String JSON_SERIALIZE = "com.fasterxml.jackson.databind.annotation.JsonSerialize";
+    private static final String JSON_DESERIALIZE = "com.fasterxml.jackson.databind.annotation.JsonDeserialize";
+
+    private static final Set<String> FIELD_ANNOTATIONS = Set.of(JSON_PROPERTY, JSON_INCLUDE, JSON_IGNORE, JSON_SERIALIZE, JSON_DESERIALIZE);
+
+    private static final String GENERATED = "@Generated(\"" + JsonCodecProcessor.class.getName() + "\")";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        Map<String, List<Codec>> packages = new TreeMap<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : round.getElementsAnnotatedWith(annotation)) {
+                try {
+                    Codec codec = analyze(element);
+                    write(codec.packageName + "." + codec.name + "Codec", codec(codec), codec.type);
+                    packages.computeIfAbsent(codec.packageName, name -> new ArrayList<>()).add(codec);
+                } catch (CodecException e) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.element);
+                }
+            }
+        }
+
+        packages.forEach((packageName, codecs) -> write(packageName + "." + MODULE, module(packageName, codecs),
+                codecs.stream().map(codec -> codec.type).toArray(Element[]::new)));
+        return true;
+    }
+
+    private Codec analyze(Element element) throws CodecException {
+        if (element.getKind() != ElementKind.CLASS) {
+            throw new CodecException(element, "@JsonCodec can only be used on classes");
+        }
+
+        TypeElement type = (TypeElement) element;
+        if (type.getNestingKind() != NestingKind.TOP_LEVEL) {
+            throw new CodecException(type, "@JsonCodec can only be used on top level classes");
+        }
+        if (type.getModifiers().contains(Modifier.ABSTRACT) || !type.getTypeParameters().isEmpty()) {
+            throw new CodecException(type, "@JsonCodec can not be used on abstract or generic classes");
+        }
+        if (!"java.lang.Object".equals(type.getSuperclass().toString())) {
+            throw new CodecException(type, "@JsonCodec does not support super classes, properties of " + type.getSuperclass() + " would be missed");
+        }
+        checkAnnotations(type, Set.of());
+
+        List<Property> properties = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        boolean readable = false;
+        for (Element member : type.getEnclosedElements()) {
+            switch (member.getKind()) {
+                case FIELD -> {
+                    Property property = property((VariableElement) member);
+                    if (property != null) {
+                        if (!names.add(property.name)) {
+                            throw new CodecException(member, "Duplicate JSON property '" + property.name + "'");
+                        }
+                        properties.add(property);
+                    }
+                }
+                case METHOD -> checkMethod((ExecutableElement) member);
+                case CONSTRUCTOR -> readable |= ((ExecutableElement) member).getParameters().isEmpty()
+                        && !member.getModifiers().contains(Modifier.PRIVATE);
+                default -> {
+                }
+            }
+        }
+
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(type);
+        return new Codec(type, packageElement.getQualifiedName().toString(), type.getSimpleName().toString(), properties, readable);
+    }
+
+    /**
+     * @return property of the field, or null if Jackson would not detect the field as a property
+     */
+    private Property property(VariableElement field) throws CodecException {
+        Set<Modifier> modifiers = field.getModifiers();
+        AnnotationMirror jsonProperty = find(field, JSON_PROPERTY);
+        boolean detected = jsonProperty != null || (modifiers.contains(Modifier.PUBLIC) && !modifiers.contains(Modifier.TRANSIENT));
+        if (modifiers.contains(Modifier.STATIC) || find(field, JSON_IGNORE) != null || !detected) {
+            checkAnnotations(field, Set.of(JSON_IGNORE));
+            return null;
+        }
+
+        checkAnnotations(field, FIELD_ANNOTATIONS);
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            throw new CodecException(field, "Private property '" + field.getSimpleName() + "' can not be accessed by the generated codec");
+        }
+        if (modifiers.contains(Modifier.FINAL)) {
+            throw new CodecException(field, "Final property '" + field.getSimpleName() + "' can not be set by the generated codec");
+        }
+
+        String name = field.getSimpleName().toString();
+        if (jsonProperty != null) {
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : jsonProperty.getElementValues().entrySet()) {
+                switch (entry.getKey().getSimpleName().toString()) {
+                    case "value" -> {
+                        String value = (String) entry.getValue().getValue();
+                        name = value.isEmpty() ? name : value;
+                    }
+                    case "required" -> {
+                        // not enforced by Jackson for fields either
+                    }
+                    default -> throw new CodecException(field, "@JsonProperty(" + entry.getKey().getSimpleName() + ") is not supported by the generated codec");
+                }
+            }
+        }
+
+        boolean writeNull = false;
+        AnnotationMirror include = find(field, JSON_INCLUDE);
+        if (include != null) {
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : include.getElementValues().entrySet()) {
+                String value = entry.getValue().getValue().toString();
+                if (!"value".contentEquals(entry.getKey().getSimpleName()) || !("NON_NULL".equals(value) || "ALWAYS".equals(value))) {
+                    throw new CodecException(field, "Only @JsonInclude(NON_NULL) and @JsonInclude(ALWAYS) are supported by the generated codec");
+                }
+                writeNull = "ALWAYS".equals(value);
+            }
+        }
+
+        return new Property(name,
+                field.getSimpleName().toString(),
+                field.asType(),
+                writeNull,
+                using(field, JSON_SERIALIZE),
+                using(field, JSON_DESERIALIZE));
+    }
+
+    /**
+     * @return class given with {@code using} of the annotation, or null if the field is not annotated
+     */
+    private String using(VariableElement field, String annotation) throws CodecException {
+        AnnotationMirror mirror = find(field, annotation);
+        if (mirror == null) {
+            return null;
+        }
+
+        Map<? extends ExecutableElement, ? extends AnnotationValue> values = mirror.getElementValues();
+        if (values.size() != 1 || !"using".contentEquals(values.keySet().iterator().next().getSimpleName())) {
+            throw new CodecException(field, "Only " + annotation + "(using = ...) is supported by the generated codec");
+        }
+
+        DeclaredType using = (DeclaredType) values.values().iterator().next().getValue();
+        return ((TypeElement) using.asElement()).getQualifiedName().toString();
+    }
+
+    /**
+     * Getters and setters are detected as properties by Jackson, fails if the class has any.
+     */
+    private void checkMethod(ExecutableElement method) throws CodecException {
+        Set<Modifier> modifiers = method.getModifiers();
+        if (modifiers.contains(Modifier.STATIC) || find(method, JSON_IGNORE) != null) {
+            return;
+        }
+        checkAnnotations(method, Set.of());
+
+        String name = method.getSimpleName().toString();
+        int parameters = method.getParameters().size();
+        TypeKind returns = method.getReturnType().getKind();
+
+        boolean getter = modifiers.contains(Modifier.PUBLIC) && parameters == 0
+                && ((isAccessor(name, "get") && returns != TypeKind.VOID) || (isAccessor(name, "is") && returns == TypeKind.BOOLEAN));
+        boolean setter = parameters == 1 && isAccessor(name, "set");
+        if (getter || setter) {
+            throw new CodecException(method, "Method '" + name + "' would be a Jackson property, which is not supported by the generated codec (annotate it with @JsonIgnore)");
+        }
+    }
+
+    private static boolean isAccessor(String name, String prefix) {
+        return name.length() > prefix.length() && name.startsWith(prefix) && !"getClass".equals(name);
+    }
+
+    private static void checkAnnotations(Element element, Set<String> allowed) throws CodecException {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            String name = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+            if (name.startsWith(JACKSON) && !allowed.contains(name)) {
+                throw new CodecException(element, "@" + name + " is not supported by the generated codec");
+            }
+        }
+    }
+
+    private static AnnotationMirror find(Element element, String annotation) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotation)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private void write(String name, String source, Element... origins) {
+        try (Writer out = processingEnv.getFiler().createSourceFile(name, origins).openWriter()) {
+            out.write(source);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write " + name + ": " + e.getMessage(), origins[0]);
+        }
+    }
+
+    // ---------------------------------------------------------------------------------------------------------------
+    // code generation
+    // ---------------------------------------------------------------------------------------------------------------
+
+    private String codec(Codec codec) throws CodecException {
+        StringBuilder out = new StringBuilder();
+        out.append("package ").append(codec.packageName).append(";\n\n")
+                .append("import com.fasterxml.jackson.core.JsonGenerator;\n")
+                .append("import com.fasterxml.jackson.core.JsonParser;\n")
+                .append("import com.fasterxml.jackson.core.JsonToken;\n")
+                .append("import com.fasterxml.jackson.core.io.SerializedString;\n")
+                .append("import com.fasterxml.jackson.core.type.TypeReference;\n")
+                .append("import com.fasterxml.jackson.databind.DeserializationContext;\n")
+                .append("import com.fasterxml.jackson.databind.JsonDeserializer;\n")
+                .append("import com.fasterxml.jackson.databind.JsonMappingException;\n")
+                .append("import com.fasterxml.jackson.databind.JsonSerializer;\n")
+                .append("import com.fasterxml.jackson.databind.SerializerProvider;\n")
+                .append("import com.fasterxml.jackson.databind.deser.ResolvableDeserializer;\n")
+                .append("import com.fasterxml.jackson.databind.deser.std.StdDeserializer;\n")
+                .append("import com.fasterxml.jackson.databind.ser.ResolvableSerializer;\n")
+                .append("import com.fasterxml.jackson.databind.ser.std.StdSerializer;\n\n")
+                .append("import javax.annotation.processing.Generated;\n")
+                .append("import java.io.IOException;\n\n")
+                .append("/**\n")
+                .append(" * Streaming JSON codec for {@link ").append(codec.name).append("}, generated from its Jackson annotations.\n")
+                .append(" */\n")
+                .append(GENERATED).append("\n")
+                .append("@SuppressWarnings({\"rawtypes\", \"unchecked\", \"serial\"})\n")
+                .append("public final class ").append(codec.name).append("Codec {\n\n");
+
+        for (Property property : codec.properties) {
+            out.append("    private static final SerializedString ").append(constant(property.field))
+                    .append(" = new SerializedString(").append(literal(property.name)).append(");\n");
+        }
+        out.append("\n    private ").append(codec.name).append("Codec() {\n    }\n\n");
+
+        serializer(codec, out);
+        if (codec.readable) {
+            out.append("\n");
+            deserializer(codec, out);
+        }
+        return out.append("}\n").toString();
+    }
+
+    private void serializer(Codec codec, StringBuilder out) throws CodecException {
+        out.append("    /**\n")
+                .append("     * Writes the properties of {@link ").append(codec.name).append("} in declaration order.\n")
+                .append("     */\n")
+                .append("    public static final class Serializer extends StdSerializer<").append(codec.name).append("> implements ResolvableSerializer {\n\n")
+                .append("        private static final long serialVersionUID = 1L;\n\n");
+
+        for (Property property : codec.properties) {
+            if (property.serializer != null) {
+                out.append("        private final JsonSerializer ").append(property.field).append("Serializer = new ")
+                        .append(property.serializer).append("();\n");
+            } else if (kind(property.type) == Kind.OTHER) {
+                out.append("        private JsonSerializer<Object> ").append(property.field).append("Serializer;\n");
+            }
+        }
+
+        out.append("\n        public Serializer() {\n")
+                .append("            super(").append(codec.name).append(".class);\n")
+                .append("        }\n\n")
+                .append("        @Override\n")
+                .append("        public void resolve(SerializerProvider provider) throws JsonMappingException {\n");
+        for (Property property : codec.properties) {
+            if (property.serializer == null && kind(property.type) == Kind.OTHER) {
+                out.append("            ").append(property.field).append("Serializer = provider.findPrimaryPropertySerializer(")
+                        .append(javaType("provider", property.type)).append(", null);\n");
+            }
+        }
+        out.append("        }\n\n")
+                .append("        @Override\n")
+                .append("        public void serialize(").append(codec.name).append(" value, JsonGenerator gen, SerializerProvider provider) throws IOException {\n")
+                .append("            gen.writeStartObject(value);\n");
+
+        for (Property property : codec.properties) {
+            String field = "value." + property.field;
+            String write = write(property, field);
+            String name = "gen.writeFieldName(" + constant(property.field) + ");";
+            if (property.type.getKind().isPrimitive()) {
+                out.append("            ").append(name).append("\n")
+                        .append("            ").append(write).append("\n");
+            } else if (property.writeNull) {
+                out.append("            ").append(name).append("\n")
+                        .append("            if (").append(field).append(" == null) {\n")
+                        .append("                gen.writeNull();\n")
+                        .append("            } else {\n")
+                        .append("                ").append(write).append("\n")
+                        .append("            }\n");
+            } else {
+                out.append("            if (").append(field).append(" != null) {\n")
+                        .append("                ").append(name).append("\n")
+                        .append("                ").append(write).append("\n")
+                        .append("            }\n");
+            }
+        }
+
+        out.append("            gen.writeEndObject();\n")
+                .append("        }\n")
+                .append("    }\n");
+    }
+
+    private String write(Property property, String field) {
+        if (property.serializer != null) {
+            return property.field + "Serializer.serialize(" + field + ", gen, provider);";
+        }
+
+        boolean primitive = property.type.getKind().isPrimitive();
+        return switch (kind(property.type)) {
+            case STRING -> "gen.writeString(" + field + ");";
+            case INT -> "gen.writeNumber(" + field + (primitive ? "" : ".intValue()") + ");";
+            case LONG -> "gen.writeNumber(" + field + (primitive ? "" : ".longValue()") + ");";
+            case BOOLEAN -> "gen.writeBoolean(" + field + (primitive ? "" : ".booleanValue()") + ");";
+            case OTHER -> property.field + "Serializer.serialize(" + field + ", gen, provider);";
+        };
+    }
+
+    private void deserializer(Codec codec, StringBuilder out) throws CodecException {
+        out.append("    /**\n")
+                .append("     * Reads {@link ").append(codec.name).append("}, ignoring unknown properties as configured.\n")
+                .append("     */\n")
+                .append("    public static final class Deserializer extends StdDeserializer<").append(codec.name).append("> implements ResolvableDeserializer {\n\n")
+                .append("        private static final long serialVersionUID = 1L;\n\n");
+
+        for (Property property : codec.properties) {
+            if (property.deserializer != null) {
+                out.append("        private final JsonDeserializer ").append(property.field).append("Deserializer = new ")
+                        .append(property.deserializer).append("();\n");
+            } else {
+                out.append("        private JsonDeserializer<Object> ").append(property.field).append("Deserializer;\n");
+            }
+        }
+
+        out.append("\n        public Deserializer() {\n")
+                .append("            super(").append(codec.name).append(".class);\n")
+                .append("        }\n\n")
+                .append("        @Override\n")
+                .append("        public void resolve(DeserializationContext ctxt) throws JsonMappingException {\n");
+        for (Property property : codec.properties) {
+            if (property.deserializer == null) {
+                out.append("            ").append(property.field).append("Deserializer = ctxt.findRootValueDeserializer(")
+                        .append(javaType("ctxt", property.type)).append(");\n");
+            }
+        }
+        out.append("        }\n\n")
+                .append("        @Override\n")
+                .append("        public boolean isCachable() {\n")
+                .append("            return true;\n")
+                .append("        }\n\n")
+                .append("        @Override\n")
+                .append("        public ").append(codec.name).append(" deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {\n")
+                .append("            String name;\n")
+                .append("            if (p.isExpectedStartObjectToken()) {\n")
+                .append("                name = p.nextFieldName();\n")
+                .append("            } else if (p.hasToken(JsonToken.FIELD_NAME)) {\n")
+                .append("                name = p.currentName();\n")
+                .append("            } else if (p.hasToken(JsonToken.END_OBJECT)) {\n")
+                .append("                name = null;\n")
+                .append("            } else {\n")
+                .append("                return (").append(codec.name).append(") ctxt.handleUnexpectedToken(").append(codec.name).append(".class, p);\n")
+                .append("            }\n\n")
+                .append("            ").append(codec.name).append(" value = new ").append(codec.name).append("();\n")
+                .append("            for (; name != null; name = p.nextFieldName()) {\n")
+                .append("                p.nextToken();\n")
+                .append("                switch (name) {\n");
+
+        for (Property property : codec.properties) {
+            String field = "value." + property.field;
+            String deserializer = property.field + "Deserializer";
+            String cast = "(" + castType(property.type) + ") ";
+            out.append("                    case ").append(literal(property.name)).append(":\n")
+                    .append("                        if (p.hasToken(JsonToken.VALUE_NULL)) {\n")
+                    .append("                            ").append(field).append(" = ").append(cast).append(deserializer).append(".getNullValue(ctxt);\n");
+
+            String[] fastPath = property.deserializer == null ? read(property.type) : null;
+            if (fastPath != null) {
+                out.append("                        } else if (").append(fastPath[0]).append(") {\n")
+                        .append("                            ").append(field).append(" = ").append(fastPath[1]).append(";\n");
+            }
+
+            out.append("                        } else {\n")
+                    .append("                            ").append(field).append(" = ").append(cast).append(deserializer).append(".deserialize(p, ctxt);\n")
+                    .append("                        }\n")
+                    .append("                        break;\n");
+        }
+
+        out.append("                    default:\n")
+                .append("                        ctxt.handleUnknownProperty(p, this, value, name);\n")
+                .append("                }\n")
+                .append("            }\n")
+                .append("            return value;\n")
+                .append("        }\n")
+                .append("    }\n");
+    }
+
+    /**
+     * @return condition and expression reading the expected token directly, or null to always use the resolved deserializer
+     */
+    private String[] read(TypeMirror type) {
+        return switch (kind(type)) {
+            case STRING -> new String[]{"p.hasToken(JsonToken.VALUE_STRING)", "p.getText()"};
+            case INT -> new String[]{"p.hasToken(JsonToken.VALUE_NUMBER_INT)", "p.getIntValue()"};
+            case LONG -> new String[]{"p.hasToken(JsonToken.VALUE_NUMBER_INT)", "p.getLongValue()"};
+            case BOOLEAN -> new String[]{"p.hasToken(JsonToken.VALUE_TRUE) || p.hasToken(JsonToken.VALUE_FALSE)", "p.hasToken(JsonToken.VALUE_TRUE)"};
+            case OTHER -> null;
+        };
+    }
+
+    private String module(String packageName, List<Codec> codecs) {
+        StringBuilder out = new StringBuilder();
+        out.append("package ").append(packageName).append(";\n\n")
+                .append("import com.fasterxml.jackson.databind.module.SimpleModule;\n\n")
+                .append("import javax.annotation.processing.Generated;\n\n")
+                .append("/**\n")
+                .append(" * Registers the generated streaming JSON codecs of this package.\n")
+                .append(" */\n")
+                .append(GENERATED).append("\n")
+                .append("public final class ").append(MODULE).append(" extends SimpleModule {\n\n")
+                .append("    private static final long serialVersionUID = 1L;\n\n")
+                .append("    public ").append(MODULE).append("() {\n");
+
+        List<Codec> sorted = new ArrayList<>(codecs);
+        sorted.sort(Comparator.comparing(Codec::name)); // reproducible output
+        for (Codec codec : sorted) {
+            out.append("        addSerializer(").append(codec.name).append(".class, new ").append(codec.name).append("Codec.Serializer());\n");
+            if (codec.readable) {
+                out.append("        addDeserializer(").append(codec.name).append(".class, new ").append(codec.name).append("Codec.Deserializer());\n");
+            }
+        }
+
+        return out.append("    }\n")
+                .append("}\n")
+                .toString();
+    }
+
+    private enum Kind {
+        STRING, INT, LONG, BOOLEAN, OTHER
+    }
+
+    private Kind kind(TypeMirror type) {
+        TypeKind kind = type.getKind();
+        if (kind.isPrimitive()) {
+            return switch (kind) {
+                case INT -> Kind.INT;
+                case LONG -> Kind.LONG;
+                case BOOLEAN -> Kind.BOOLEAN;
+                default -> Kind.OTHER;
+            };
+        }
+
+        if (kind != TypeKind.DECLARED) {
+            return Kind.OTHER;
+        }
+        return switch (((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString()) {
+            case "java.lang.String" -> Kind.STRING;
+            case "java.lang.Integer" -> Kind.INT;
+            case "java.lang.Long" -> Kind.LONG;
+            case "java.lang.Boolean" -> Kind.BOOLEAN;
+            default -> Kind.OTHER;
+        };
+    }
+
+    /**
+     * @return expression constructing the Jackson type of the declared type
+     */
+    private String javaType(String context, TypeMirror type) throws CodecException {
+        if (type.getKind().isPrimitive() || (type.getKind() == TypeKind.DECLARED && ((DeclaredType) type).getTypeArguments().isEmpty())) {
+            return context + ".constructType(" + typeName(type) + ".class)";
+        }
+        return context + ".getTypeFactory().constructType(new TypeReference<" + typeName(type) + ">() {})";
+    }
+
+    private String castType(TypeMirror type) throws CodecException {
+        if (type.getKind().isPrimitive()) {
+            return processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).getQualifiedName().toString();
+        }
+        return typeName(type);
+    }
+
+    /**
+     * @return fully qualified source representation of the type (without type annotations)
+     */
+    private String typeName(TypeMirror type) throws CodecException {
+        switch (type.getKind()) {
+            case DECLARED -> {
+                DeclaredType declared = (DeclaredType) type;
+                StringBuilder out = new StringBuilder(((TypeElement) declared.asElement()).getQualifiedName());
+                if (!declared.getTypeArguments().isEmpty()) {
+                    out.append('<');
+                    for (int i = 0; i < declared.getTypeArguments().size(); i++) {
+                        out.append(i > 0 ? ", " : "").append(typeName(declared.getTypeArguments().get(i)));
+                    }
+                    out.append('>');
+                }
+                return out.toString();
+            }
+            case ARRAY -> {
+                return typeName(((ArrayType) type).getComponentType()) + "[]";
+            }
+            case WILDCARD -> {
+                WildcardType wildcard = (WildcardType) type;
+                if (wildcard.getExtendsBound() != null) {
+                    return "? extends " + typeName(wildcard.getExtendsBound());
+                }
+                return wildcard.getSuperBound() != null ? "? super " + typeName(wildcard.getSuperBound()) : "?";
+            }
+            default -> {
+                if (type.getKind().isPrimitive()) {
+                    return type.getKind().name().toLowerCase();
+                }
+                throw new CodecException(null, "Type " + type + " is not supported by the generated codec");
+            }
+        }
+    }
+
+    private static String constant(String field) {
+        StringBuilder out = new StringBuilder();
+        for (char c : field.toCharArray()) {
+            if (Character.isUpperCase(c) && !out.isEmpty()) {
+                out.append('_');
+            }
+            out.append(Character.toUpperCase(c));
+        }
+        return out.toString();
+    }
+
+    private static String literal(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    /**
+     * Class annotated with {@code JsonCodec}.
+     */
+    private record Codec(TypeElement type, String packageName, String name, List<Property> properties, boolean readable) {
+    }
+
+    /**
+     * Field detected as JSON property.
+     *
+     * @param name         JSON property name
+     * @param field        Java field name
+     * @param type         declared type of the field
+     * @param writeNull    true if null values are written ({@code @JsonInclude(ALWAYS)})
+     * @param serializer   serializer class given with {@code @JsonSerialize(using)}, or null
+     * @param deserializer deserializer class given with {@code @JsonDeserialize(using)}, or null
+     */
+    private record Property(String name, String field, TypeMirror type, boolean writeNull, String serializer, String deserializer) {
+    }
+
+    private static class CodecException extends Exception {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Element element;
+
+        CodecException(Element element, String message) {
+            super(message);
+            this.element = element;
+        }
+    }
+}
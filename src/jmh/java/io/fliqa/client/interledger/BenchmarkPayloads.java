@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger;
+
+import io.fliqa.client.interledger.model.*;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.util.Set;
+
+/**
+ * Realistic payloads for benchmarks, taken from the examples in the Open Payments
+ * specifications ({@code src/main/resources/api}).
+ */
+public final class BenchmarkPayloads {
+
+    private BenchmarkPayloads() {
+    }
+
+    /**
+     * Incoming payment as returned by the resource server (resource-server.yaml, incoming-payment-with-methods).
+     */
+    public static final String INCOMING_PAYMENT = """
+            {
+              "id": "https://ilp.interledger-test.dev/incoming-payments/016da9d5-c9a4-4c80-a354-86b915a04ff8",
+              "walletAddress": "https://ilp.interledger-test.dev/alice/",
+              "incomingAmount": {"value": "250", "assetCode": "USD", "assetScale": 2},
+              "receivedAmount": {"value": "0", "assetCode": "USD", "assetScale": 2},
+              "completed": false,
+              "expiresAt": "2022-04-12T23:20:50.52Z",
+              "createdAt": "2022-03-12T23:20:50.52Z",
+              "updatedAt": "2022-04-01T10:24:36.11Z",
+              "metadata": {
+                "description": "Hi Mo, this is for the cappuccino I bought for you the other day.",
+                "externalRef": "Coffee w/ Mo on 10 March 22"
+              },
+              "methods": [
+                {
+                  "type": "ilp",
+                  "ilpAddress": "g.ilp.iwuyge987y.98y08y",
+                  "sharedSecret": "1c7eaXa4rd2fFOBl1iydvCT1tV5TbM3RW1WLCafu_JA"
+                }
+              ]
+            }
+            """;
+
+    /**
+     * Outgoing payment as returned by the resource server (resource-server.yaml, outgoing-payment-with-spent-amounts).
+     */
+    public static final String PAYMENT = """
+            {
+              "id": "https://ilp.interledger-test.dev/outgoing-payments/8c68d3cc-0a0f-4216-98b4-4fa44a6c88cf",
+              "walletAddress": "https://ilp.interledger-test.dev/alice/",
+              "quoteId": "https://ilp.interledger-test.dev/quotes/ab03296b-0c8b-4776-b94e-7ee27d868d4d",
+              "failed": false,
+              "receiver": "https://ilp.interledger-test.dev/bob/incoming-payments/48884225-b393-4872-90de-1b737e2491c2",
+              "debitAmount": {"value": "2600", "assetCode": "USD", "assetScale": 2},
+              "receiveAmount": {"value": "2500", "assetCode": "USD", "assetScale": 2},
+              "sentAmount": {"value": "0", "assetCode": "USD", "assetScale": 2},
+              "grantSpentDebitAmount": {"value": "2600", "assetCode": "USD", "assetScale": 2},
+              "grantSpentReceiveAmount": {"value": "2500", "assetCode": "USD", "assetScale": 2},
+              "metadata": {"description": "Thank you for the shoes."},
+              "createdAt": "2022-03-12T23:20:50.52Z",
+              "updatedAt": "2022-04-01T10:24:36.11Z"
+            }
+            """;
+
+    /**
+     * Outgoing payment grant request with redirect interaction, as built by the client when continuing a grant
+     * (auth-server.yaml, grant request example).
+     *
+     * @return grant request
+     */
+    public static GrantAccessRequest grantAccessRequest() {
+        return GrantAccessRequest.outgoing(new WalletAddress("https://ilp.interledger-test.dev/fliqa"),
+                        AccessItemType.outgoingPayment,
+                        Set.of(AccessAction.create, AccessAction.read),
+                        URI.create("https://ilp.interledger-test.dev/alice"),
+                        InterledgerAmount.build(new BigDecimal("26.00"), "USD"))
+                .redirectInteract(URI.create("https://fliqa.io/return/76a8c9b0"), "4edb2194-dbdf-46bb-9397-d5fd57b7c8a7");
+    }
+}
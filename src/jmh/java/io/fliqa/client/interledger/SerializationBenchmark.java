@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger;
+
+import io.fliqa.client.interledger.exception.InterledgerClientException;
+import io.fliqa.client.interledger.model.GrantAccessRequest;
+import io.fliqa.client.interledger.model.IncomingPayment;
+import io.fliqa.client.interledger.model.Payment;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization and deserialization cost of the request / response models on the hot path.
+ *
+ * <p>Payloads are taken from the Open Payments specification examples, see {@link BenchmarkPayloads}.
+ * Run with: {@code ./gradlew jmh -Pjmh.include=SerializationBenchmark -Pjmh.prof=gc}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private InterledgerObjectMapper mapper;
+
+    private GrantAccessRequest grantAccessRequest;
+    private IncomingPayment incomingPayment;
+    private Payment payment;
+
+    private String incomingPaymentJson;
+    private byte[] incomingPaymentBytes;
+    private String paymentJson;
+    private byte[] paymentBytes;
+
+    @Setup
+    public void setUp() throws InterledgerClientException {
+        mapper = InterledgerObjectMapper.DEFAULT;
+
+        grantAccessRequest = BenchmarkPayloads.grantAccessRequest();
+        incomingPayment = mapper.readValue(BenchmarkPayloads.INCOMING_PAYMENT, IncomingPayment.class);
+        payment = mapper.readValue(BenchmarkPayloads.PAYMENT, Payment.class);
+
+        // responses as they are received (compact JSON)
+        incomingPaymentJson = mapper.writeValueAsString(incomingPayment);
+        incomingPaymentBytes = incomingPaymentJson.getBytes(StandardCharsets.UTF_8);
+        paymentJson = mapper.writeValueAsString(payment);
+        paymentBytes = paymentJson.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String writeGrantAccessRequest() throws InterledgerClientException {
+        return mapper.writeValueAsString(grantAccessRequest);
+    }
+
+    @Benchmark
+    public byte[] writeGrantAccessRequestBytes() throws InterledgerClientException {
+        return mapper.writeValueAsBytes(grantAccessRequest);
+    }
+
+    @Benchmark
+    public String writeIncomingPayment() throws InterledgerClientException {
+        return mapper.writeValueAsString(incomingPayment);
+    }
+
+    @Benchmark
+    public String writePayment() throws InterledgerClientException {
+        return mapper.writeValueAsString(payment);
+    }
+
+    @Benchmark
+    public IncomingPayment readIncomingPayment() throws InterledgerClientException {
+        return mapper.readValue(incomingPaymentJson, IncomingPayment.class);
+    }
+
+    @Benchmark
+    public IncomingPayment readIncomingPaymentBytes() throws InterledgerClientException {
+        return mapper.readValue(incomingPaymentBytes, IncomingPayment.class);
+    }
+
+    @Benchmark
+    public Payment readPayment() throws InterledgerClientException {
+        return mapper.readValue(paymentJson, Payment.class);
+    }
+
+    @Benchmark
+    public Payment readPaymentBytes() throws InterledgerClientException {
+        return mapper.readValue(paymentBytes, Payment.class);
+    }
+}
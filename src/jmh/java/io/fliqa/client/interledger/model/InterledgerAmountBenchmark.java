@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of converting decimal amounts to Interledger amount strings.
+ *
+ * <p>Run with: {@code ./gradlew jmh -Pjmh.include=InterledgerAmountBenchmark -Pjmh.prof=gc}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InterledgerAmountBenchmark {
+
+    @Param({"25.00", "1234567.891", "0.5"})
+    public String value;
+
+    private BigDecimal amount;
+
+    @Setup
+    public void setUp() {
+        amount = new BigDecimal(value);
+    }
+
+    @Benchmark
+    public String toInterledgerAmount() {
+        return InterledgerAmount.toInterledgerAmount(amount);
+    }
+
+    @Benchmark
+    public String toInterledgerAmountScale9() {
+        return InterledgerAmount.toInterledgerAmount(amount, 9);
+    }
+
+    @Benchmark
+    public InterledgerAmount build() {
+        return InterledgerAmount.build(amount, "EUR");
+    }
+}
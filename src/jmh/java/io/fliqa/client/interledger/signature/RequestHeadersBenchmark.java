@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.signature;
+
+import io.fliqa.client.interledger.BenchmarkPayloads;
+import io.fliqa.client.interledger.InterledgerObjectMapper;
+import io.fliqa.client.interledger.model.GrantAccessRequest;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.KeyPairGenerator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of building complete signed request headers ({@link SignatureRequestBuilder#getHeaders()})
+ * for a grant request, including JSON serialization, content digest and the Ed25519 signature.
+ *
+ * <p>Run with: {@code ./gradlew jmh -Pjmh.include=RequestHeadersBenchmark -Pjmh.prof=gc}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestHeadersBenchmark {
+
+    private RequestSigner signer;
+    private InterledgerObjectMapper mapper;
+    private GrantAccessRequest grantAccessRequest;
+
+    @Setup
+    public void setUp() throws Exception {
+        signer = new RequestSigner(KeyPairGenerator.getInstance(SignatureRequestBuilder.SIGNATURE_ALGORITHM).generateKeyPair().getPrivate(),
+                "benchmark-key-id");
+        mapper = InterledgerObjectMapper.DEFAULT;
+        grantAccessRequest = BenchmarkPayloads.grantAccessRequest();
+    }
+
+    @Benchmark
+    public LinkedHashMap<String, String> postHeaders() {
+        return new SignatureRequestBuilder(signer, mapper)
+                .POST(grantAccessRequest)
+                .target("https://auth.interledger-test.dev")
+                .build()
+                .getHeaders();
+    }
+
+    @Benchmark
+    public LinkedHashMap<String, String> getHeaders() {
+        return new SignatureRequestBuilder(signer, mapper)
+                .GET()
+                .target("https://ilp.interledger-test.dev/incoming-payments/016da9d5-c9a4-4c80-a354-86b915a04ff8")
+                .accessToken("OS9M2PMHKUR64TB8N6BW7OZB8CDFONP219RP1LT0")
+                .build()
+                .getHeaders();
+    }
+}
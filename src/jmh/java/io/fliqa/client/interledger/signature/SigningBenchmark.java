@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.signature;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares per-request signing cost of creating the signature and digest instances on every call
+ * (previous {@link SignatureRequestBuilder} behaviour) with the shared {@link RequestSigner}.
+ *
+ * <p>Run with: {@code ./gradlew jmh -Pjmh.include=SigningBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SigningBenchmark {
+
+    private static final String BODY = "{\"access_token\":{\"access\":[{\"type\":\"incoming-payment\"," +
+            "\"actions\":[\"complete\",\"create\",\"read\"]}]},\"client\":\"https://ilp.interledger-test.dev/fliqa\"}";
+
+    private PrivateKey privateKey;
+    private RequestSigner signer;
+    private byte[] body;
+    private byte[] signatureBase;
+
+    @Setup
+    public void setUp() throws Exception {
+        privateKey = KeyPairGenerator.getInstance(SignatureRequestBuilder.SIGNATURE_ALGORITHM).generateKeyPair().getPrivate();
+        signer = new RequestSigner(privateKey, "benchmark-key-id");
+        body = BODY.getBytes(StandardCharsets.UTF_8);
+        signatureBase = new SignatureRequestBuilder(signer, null)
+                .POST()
+                .target("https://auth.interledger-test.dev")
+                .json(body)
+                .build(1741002284L)
+                .getSignatureBase()
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String legacySign() throws Exception {
+        Signature signature = Signature.getInstance(SignatureRequestBuilder.SIGNATURE_ALGORITHM);
+        signature.initSign(privateKey);
+        signature.update(signatureBase);
+        return Base64.getEncoder().encodeToString(signature.sign());
+    }
+
+    @Benchmark
+    public String signerSign() {
+        return signer.signBase64(signatureBase);
+    }
+
+    @Benchmark
+    public String legacyDigest() throws Exception {
+        MessageDigest digest = MessageDigest.getInstance(SignatureRequestBuilder.DIGEST_ALGORITHM);
+        return Base64.getEncoder().encodeToString(digest.digest(body));
+    }
+
+    @Benchmark
+    public String signerDigest() {
+        return signer.digestBase64(body);
+    }
+
+    @Benchmark
+    public LinkedHashMap<String, String> legacyHeaders() {
+        return new SignatureRequestBuilder(privateKey, "benchmark-key-id")
+                .POST()
+                .target("https://auth.interledger-test.dev")
+                .json(body)
+                .build(1741002284L)
+                .getHeaders();
+    }
+
+    @Benchmark
+    public LinkedHashMap<String, String> signerHeaders() {
+        return new SignatureRequestBuilder(signer, null)
+                .POST()
+                .target("https://auth.interledger-test.dev")
+                .json(body)
+                .build(1741002284L)
+                .getHeaders();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String signerSignContended() {
+        return signer.signBase64(signatureBase);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger;
+
+/**
+ * API call of the {@link InterledgerApiClient} an exchange belongs to, used to keep metrics, capture exchanges
+ * and apply rate limits per call.
+ *
+ * <p>The operation is passed along by the client with every request it builds, so i.e. resolving a wallet and
+ * polling an incoming payment (both GET requests) or rotating a token and continuing a grant (both on the
+ * auth server) are told apart.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see io.fliqa.client.interledger.metrics.InterledgerMetrics
+ * @see CapturePolicy
+ * @see RateLimitPolicy
+ * @since 1.0
+ */
+public enum ApiOperation {
+
+    /**
+     * {@link InterledgerApiClient#getWallet}
+     */
+    GET_WALLET("getWallet"),
+
+    /**
+     * {@link InterledgerApiClient#createPendingGrant}
+     */
+    CREATE_PENDING_GRANT("createPendingGrant"),
+
+    /**
+     * {@link InterledgerApiClient#createIncomingPayment}
+     */
+    CREATE_INCOMING_PAYMENT("createIncomingPayment"),
+
+    /**
+     * {@link InterledgerApiClient#createQuoteRequest}
+     */
+    CREATE_QUOTE_REQUEST("createQuoteRequest"),
+
+    /**
+     * {@link InterledgerApiClient#createQuote}
+     */
+    CREATE_QUOTE("createQuote"),
+
+    /**
+     * {@link InterledgerApiClient#continueGrant}
+     */
+    CONTINUE_GRANT("continueGrant"),
+
+    /**
+     * {@link InterledgerApiClient#finalizeGrant}
+     */
+    FINALIZE_GRANT("finalizeGrant"),
+
+    /**
+     * {@link InterledgerApiClient#finalizePayment}
+     */
+    FINALIZE_PAYMENT("finalizePayment"),
+
+    /**
+     * {@link InterledgerApiClient#getIncomingPayment}
+     */
+    GET_INCOMING_PAYMENT("getIncomingPayment"),
+
+    /**
+     * Page of {@link InterledgerApiClient#listIncomingPayments}
+     */
+    LIST_INCOMING_PAYMENTS("listIncomingPayments"),
+
+    /**
+     * Page of {@link InterledgerApiClient#listOutgoingPayments}
+     */
+    LIST_OUTGOING_PAYMENTS("listOutgoingPayments"),
+
+    /**
+     * {@link InterledgerApiClient#rotateToken}
+     */
+    ROTATE_TOKEN("rotateToken"),
+
+    /**
+     * {@link InterledgerApiClient#revokeToken}
+     */
+    REVOKE_TOKEN("revokeToken"),
+
+    /**
+     * Requests built by the caller and sent with {@link InterledgerApiClientImpl#send(java.net.http.HttpRequest, Class)}
+     */
+    OTHER("send");
+
+    private final String methodName;
+
+    ApiOperation(String methodName) {
+        this.methodName = methodName;
+    }
+
+    /**
+     * @return name of the API method, i.e. {@code getWallet} (to be used as metric name or tag)
+     */
+    public String getMethodName() {
+        return methodName;
+    }
+}
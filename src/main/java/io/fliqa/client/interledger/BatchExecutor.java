@@ -0,0 +1,123 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Runs the calls of a batch concurrently, keeping at most a given number of calls in flight.
+ *
+ * <p>A new call is started as soon as a previous one completes, so all requests share the connections
+ * (HTTP/2 streams) of the transport and throughput is bounded by the server rather than by round trips.
+ * Per-host concurrency and rate limits of the transport apply to every call. The failure of a call is
+ * recorded as the result of its item and never fails the batch.
+ *
+ * @param <I> type of batch item
+ * @param <T> type of created value
+ * @author Fliqa
+ * @version 1.0
+ * @since 1.0
+ */
+class BatchExecutor<I, T> {
+
+    private final List<I> items;
+    private final Function<I, CompletableFuture<T>> call;
+
+    private final BatchResult<?>[] results;
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicInteger remaining;
+    private final CompletableFuture<List<BatchResult<T>>> done = new CompletableFuture<>();
+
+    private BatchExecutor(List<I> items, Function<I, CompletableFuture<T>> call) {
+        this.items = items;
+        this.call = call;
+        this.results = new BatchResult<?>[items.size()];
+        this.remaining = new AtomicInteger(items.size());
+    }
+
+    /**
+     * Calls all items, at most maxConcurrency at once.
+     *
+     * @param items          batch items
+     * @param maxConcurrency maximum number of calls in flight
+     * @param call           starts the call of one item
+     * @param <I>            type of batch item
+     * @param <T>            type of created value
+     * @return future completed with the results in the order of the items, once all calls completed
+     */
+    static <I, T> CompletableFuture<List<BatchResult<T>>> run(List<I> items,
+                                                               int maxConcurrency,
+                                                               Function<I, CompletableFuture<T>> call) {
+        if (items.isEmpty()) {
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }
+
+        BatchExecutor<I, T> executor = new BatchExecutor<>(items, call);
+        for (int i = 0; i < Math.min(maxConcurrency, items.size()); i++) {
+            executor.runNext();
+        }
+        return executor.done;
+    }
+
+    /**
+     * Starts calls until one is in flight, calls completing immediately (i.e. failed validation) are not
+     * continued recursively to keep the stack flat.
+     */
+    private void runNext() {
+        while (true) {
+            int index = next.getAndIncrement();
+            if (index >= items.size()) {
+                return;
+            }
+
+            CompletableFuture<T> future = start(items.get(index));
+            if (!future.isDone()) {
+                future.whenComplete((value, throwable) -> {
+                    complete(index, value, throwable);
+                    runNext();
+                });
+                return;
+            }
+
+            future.handle((value, throwable) -> {
+                complete(index, value, throwable);
+                return null;
+            });
+        }
+    }
+
+    private CompletableFuture<T> start(I item) {
+        try {
+            return call.apply(item);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void complete(int index, T value, Throwable throwable) {
+        results[index] = throwable == null ? BatchResult.success(value) : BatchResult.failure(InterledgerApiClientImpl.asClientException(throwable));
+
+        if (remaining.decrementAndGet() == 0) {
+            done.complete(Arrays.asList((BatchResult<T>[]) results));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger;
+
+import io.fliqa.client.interledger.exception.InterledgerClientException;
+
+/**
+ * Outcome of a single item of a batch call, holding either the created value or the error of the item.
+ *
+ * <p>Batch calls such as {@link InterledgerApiClient#createIncomingPayments(java.util.List)} never fail as a whole
+ * because of a single item, results are returned in the order of the given items instead.
+ *
+ * @param <T> type of the created value
+ * @author Fliqa
+ * @version 1.0
+ * @since 1.0
+ */
+public final class BatchResult<T> {
+
+    private final T value;
+    private final InterledgerClientException error;
+
+    private BatchResult(T value, InterledgerClientException error) {
+        this.value = value;
+        this.error = error;
+    }
+
+    /**
+     * @param value created value
+     * @param <T>   type of the created value
+     * @return successful result
+     */
+    public static <T> BatchResult<T> success(T value) {
+        return new BatchResult<>(value, null);
+    }
+
+    /**
+     * @param error error of the item (must not be null)
+     * @param <T>   type of the created value
+     * @return failed result
+     */
+    public static <T> BatchResult<T> failure(InterledgerClientException error) {
+        return new BatchResult<>(null, error);
+    }
+
+    /**
+     * @return true if the item was created, false if it failed
+     */
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * @return created value or null if the item failed
+     */
+    public T getValue() {
+        return value;
+    }
+
+    /**
+     * @return error of the item or null if the item was created
+     */
+    public InterledgerClientException getError() {
+        return error;
+    }
+
+    @Override
+    public String toString() {
+        return isSuccess() ? "success: " + value : "failure: " + error.getMessage();
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger;
+
+import io.fliqa.client.interledger.utils.Assert;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Configuration of full exchange capture: which calls are kept with headers and bodies for later inspection.
+ *
+ * <p>Logging every payload (TRACE) is too expensive at production load, yet payloads are needed for the
+ * calls that go wrong. An exchange (request and response with headers and bodies) is captured when:
+ * <ul>
+ *   <li>it is sampled, every n-th exchange of an operation ({@link #getSampleRate})</li>
+ *   <li>it took longer than {@link #slowThreshold}</li>
+ *   <li>it failed without a response or with a non 2xx status code ({@link #captureErrors})</li>
+ * </ul>
+ *
+ * <p>The decision is taken once the exchange completed, nothing is copied for exchanges not captured.
+ * Captured exchanges are kept in a bounded in-memory store ({@link #capacity}, oldest are replaced),
+ * sensitive headers ({@link #redactedHeaders}) are redacted and bodies are truncated to {@link #maxBodySize}.
+ *
+ * <h3>Usage Example</h3>
+ * <pre>{@code
+ * CapturePolicy capture = CapturePolicy.builder()
+ *     .sample(ApiOperation.FINALIZE_PAYMENT, 100)   // 1 in 100
+ *     .slowThreshold(Duration.ofSeconds(2))
+ *     .captureErrors(true)
+ *     .build();
+ * }</pre>
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see InterledgerClientOptions#capture
+ * @see io.fliqa.client.interledger.logging.ExchangeCapture
+ * @since 1.0
+ */
+public class CapturePolicy {
+
+    /**
+     * Nothing is captured (default).
+     */
+    public static final CapturePolicy DISABLED = builder().build();
+
+    /**
+     * Sampling rates per operation, an operation is captured once every n exchanges.
+     */
+    public final Map<ApiOperation, Integer> sampleRates;
+
+    /**
+     * Exchanges taking longer are captured, null to not capture slow exchanges.
+     */
+    public final Duration slowThreshold;
+
+    /**
+     * When true, exchanges failed without a response or with a non 2xx status code are captured.
+     */
+    public final boolean captureErrors;
+
+    /**
+     * Names of headers whose values are redacted (lower case).
+     */
+    public final Set<String> redactedHeaders;
+
+    /**
+     * Number of body bytes captured per request and response.
+     */
+    public final int maxBodySize;
+
+    /**
+     * Number of captured exchanges kept, the oldest are replaced.
+     */
+    public final int capacity;
+
+    private CapturePolicy(Builder builder) {
+        this.sampleRates = Collections.unmodifiableMap(new EnumMap<>(builder.sampleRates));
+        this.slowThreshold = builder.slowThreshold;
+        this.captureErrors = builder.captureErrors;
+        this.redactedHeaders = Collections.unmodifiableSet(new TreeSet<>(builder.redactedHeaders));
+        this.maxBodySize = builder.maxBodySize;
+        this.capacity = builder.capacity;
+    }
+
+    /**
+     * Creates a builder capturing nothing, redacting the {@code Authorization} and {@code Signature} headers.
+     *
+     * @return new policy builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return true if any exchange can be captured
+     */
+    public boolean isEnabled() {
+        return !sampleRates.isEmpty() || slowThreshold != null || captureErrors;
+    }
+
+    /**
+     * Gets the sampling rate of an operation.
+     *
+     * @param operation operation type
+     * @return n to capture every n-th exchange, or 0 if the operation is not sampled
+     */
+    public int getSampleRate(ApiOperation operation) {
+        return sampleRates.getOrDefault(operation, 0);
+    }
+
+    /**
+     * Checks if the values of a header are redacted.
+     *
+     * @param name header name (any case)
+     * @return true if redacted
+     */
+    public boolean isRedacted(String name) {
+        return redactedHeaders.contains(name.toLowerCase(Locale.ROOT));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CapturePolicy{sampleRates=%s, slowThreshold=%s, captureErrors=%s, redactedHeaders=%s, maxBodySize=%d, capacity=%d}",
+                sampleRates, slowThreshold, captureErrors, redactedHeaders, maxBodySize, capacity);
+    }
+
+    /**
+     * Builder for {@link CapturePolicy}.
+     */
+    public static class Builder {
+
+        private final Map<ApiOperation, Integer> sampleRates = new EnumMap<>(ApiOperation.class);
+        private final Set<String> redactedHeaders = new TreeSet<>(Set.of("authorization", "signature"));
+        private Duration slowThreshold;
+        private boolean captureErrors;
+        private int maxBodySize = 16 * 1024;
+        private int capacity = 256;
+
+        private Builder() {
+        }
+
+        /**
+         * Captures every n-th exchange of an operation.
+         *
+         * @param operation operation type
+         * @param n         sampling rate, 1 captures every exchange
+         * @return this builder for method chaining
+         */
+        public Builder sample(ApiOperation operation, int n) {
+            Assert.notNull(operation, "ApiOperation cannot be null");
+            Assert.isTrue(n > 0, "n must be greater than zero.");
+            sampleRates.put(operation, n);
+            return this;
+        }
+
+        /**
+         * Captures every n-th exchange of every operation.
+         *
+         * @param n sampling rate, 1 captures every exchange
+         * @return this builder for method chaining
+         */
+        public Builder sample(int n) {
+            for (ApiOperation operation : ApiOperation.values()) {
+                sample(operation, n);
+            }
+            return this;
+        }
+
+        /**
+         * Captures exchanges taking longer than the given time.
+         *
+         * @param value latency threshold
+         * @return this builder for method chaining
+         */
+        public Builder slowThreshold(Duration value) {
+            Assert.notNull(value, "slowThreshold cannot be null");
+            Assert.isFalse(value.isNegative(), "slowThreshold cannot be negative.");
+            slowThreshold = value;
+            return this;
+        }
+
+        /**
+         * Captures exchanges failed without a response or with a non 2xx status code.
+         *
+         * @param value true to capture errors
+         * @return this builder for method chaining
+         */
+        public Builder captureErrors(boolean value) {
+            captureErrors = value;
+            return this;
+        }
+
+        /**
+         * Adds a header whose values are redacted, in addition to {@code Authorization} and {@code Signature}.
+         *
+         * @param name header name (any case)
+         * @return this builder for method chaining
+         */
+        public Builder redact(String name) {
+            Assert.notNullOrEmpty(name, "name cannot be null or empty");
+            redactedHeaders.add(name.toLowerCase(Locale.ROOT));
+            return this;
+        }
+
+        /**
+         * Sets the number of body bytes captured per request and response.
+         *
+         * @param value maximum captured body size, in bytes
+         * @return this builder for method chaining
+         */
+        public Builder maxBodySize(int value) {
+            Assert.isTrue(value > 0, "maxBodySize must be greater than zero.");
+            maxBodySize = value;
+            return this;
+        }
+
+        /**
+         * Sets the number of captured exchanges kept.
+         *
+         * @param value store capacity, the oldest exchanges are replaced
+         * @return this builder for method chaining
+         */
+        public Builder capacity(int value) {
+            Assert.isTrue(value > 0 && value <= 1 << 16, "capacity must be between 1 and 65536.");
+            capacity = value;
+            return this;
+        }
+
+        /**
+         * Creates the policy from the configured values.
+         *
+         * @return new capture policy
+         */
+        public CapturePolicy build() {
+            return new CapturePolicy(this);
+        }
+    }
+}
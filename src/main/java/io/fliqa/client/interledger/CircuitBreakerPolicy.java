@@ -0,0 +1,247 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger;
+
+import io.fliqa.client.interledger.utils.Assert;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the per-host circuit breakers guarding calls to auth and resource servers.
+ *
+ * <p>Each host (scheme, host and port of the request URI) has its own breaker, so one degraded
+ * Account Servicing Entity doesn't slow down calls to all other wallet providers:
+ * <ul>
+ *   <li><strong>Closed</strong> - calls pass, outcomes of the last {@link #slidingWindowSize} calls are recorded</li>
+ *   <li><strong>Open</strong> - once {@link #minimumCalls} were recorded and the failure rate or the slow call rate
+ *   reaches its threshold, calls are rejected immediately for {@link #openDuration}</li>
+ *   <li><strong>Half-open</strong> - after the open duration {@link #halfOpenCalls} trial calls are let through,
+ *   the breaker closes again if they succeed or opens again if they fail</li>
+ * </ul>
+ *
+ * <p>Network failures and server errors (5xx) count as failures, calls taking longer than
+ * {@link #slowCallDuration} count as slow.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see InterledgerClientOptions#circuitBreaker
+ * @see io.fliqa.client.interledger.transport.CircuitBreakerTransport
+ * @since 1.0
+ */
+public class CircuitBreakerPolicy {
+
+    /**
+     * Circuit breakers are disabled (default).
+     */
+    public static final CircuitBreakerPolicy DISABLED = builder().enabled(false).build();
+
+    /**
+     * Window of 20 calls (at least 10), 50% failure or 80% slow call (5 seconds) rate, open for 30 seconds, 3 trial calls.
+     */
+    public static final CircuitBreakerPolicy DEFAULT = builder().build();
+
+    /**
+     * True if calls are guarded by circuit breakers.
+     */
+    public final boolean enabled;
+
+    /**
+     * Number of most recent calls the failure and slow call rates are calculated from.
+     */
+    public final int slidingWindowSize;
+
+    /**
+     * Minimum number of recorded calls before rates are evaluated.
+     */
+    public final int minimumCalls;
+
+    /**
+     * Failure rate (0 - 1) opening the breaker.
+     */
+    public final double failureRateThreshold;
+
+    /**
+     * Duration above which a call is considered slow.
+     */
+    public final Duration slowCallDuration;
+
+    /**
+     * Slow call rate (0 - 1) opening the breaker.
+     */
+    public final double slowCallRateThreshold;
+
+    /**
+     * Time calls are rejected before trial calls are let through.
+     */
+    public final Duration openDuration;
+
+    /**
+     * Number of trial calls let through in half-open state.
+     */
+    public final int halfOpenCalls;
+
+    private CircuitBreakerPolicy(Builder builder) {
+        this.enabled = builder.enabled;
+        this.slidingWindowSize = builder.slidingWindowSize;
+        this.minimumCalls = builder.minimumCalls;
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.slowCallDuration = builder.slowCallDuration;
+        this.slowCallRateThreshold = builder.slowCallRateThreshold;
+        this.openDuration = builder.openDuration;
+        this.halfOpenCalls = builder.halfOpenCalls;
+    }
+
+    /**
+     * Creates a builder initialized with the {@link #DEFAULT} values.
+     *
+     * @return new policy builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CircuitBreakerPolicy{enabled=%s, slidingWindowSize=%d, minimumCalls=%d, failureRateThreshold=%s, " +
+                        "slowCallDuration=%s, slowCallRateThreshold=%s, openDuration=%s, halfOpenCalls=%d}",
+                enabled, slidingWindowSize, minimumCalls, failureRateThreshold,
+                slowCallDuration, slowCallRateThreshold, openDuration, halfOpenCalls);
+    }
+
+    /**
+     * Builder for {@link CircuitBreakerPolicy}.
+     */
+    public static class Builder {
+
+        private boolean enabled = true;
+        private int slidingWindowSize = 20;
+        private int minimumCalls = 10;
+        private double failureRateThreshold = 0.5;
+        private Duration slowCallDuration = Duration.ofSeconds(5);
+        private double slowCallRateThreshold = 0.8;
+        private Duration openDuration = Duration.ofSeconds(30);
+        private int halfOpenCalls = 3;
+
+        private Builder() {
+        }
+
+        /**
+         * Enables or disables the circuit breakers.
+         *
+         * @param value false to pass all calls through
+         * @return this builder for method chaining
+         */
+        public Builder enabled(boolean value) {
+            enabled = value;
+            return this;
+        }
+
+        /**
+         * Sets the number of most recent calls the rates are calculated from.
+         *
+         * @param value window size
+         * @return this builder for method chaining
+         */
+        public Builder slidingWindowSize(int value) {
+            Assert.isTrue(value >= 1, "slidingWindowSize must be greater than or equal to 1.");
+            slidingWindowSize = value;
+            return this;
+        }
+
+        /**
+         * Sets the minimum number of recorded calls before rates are evaluated.
+         *
+         * @param value minimum number of calls
+         * @return this builder for method chaining
+         */
+        public Builder minimumCalls(int value) {
+            Assert.isTrue(value >= 1, "minimumCalls must be greater than or equal to 1.");
+            minimumCalls = value;
+            return this;
+        }
+
+        /**
+         * Sets the failure rate opening the breaker.
+         *
+         * @param value failure rate between 0 and 1
+         * @return this builder for method chaining
+         */
+        public Builder failureRateThreshold(double value) {
+            Assert.isTrue(value > 0.0 && value <= 1.0, "failureRateThreshold must be greater than 0 and at most 1.");
+            failureRateThreshold = value;
+            return this;
+        }
+
+        /**
+         * Sets the duration above which a call is considered slow.
+         *
+         * @param value slow call duration
+         * @return this builder for method chaining
+         */
+        public Builder slowCallDuration(Duration value) {
+            Assert.notNull(value, "slowCallDuration cannot be null");
+            Assert.isTrue(value.compareTo(Duration.ZERO) > 0, "slowCallDuration must be positive.");
+            slowCallDuration = value;
+            return this;
+        }
+
+        /**
+         * Sets the slow call rate opening the breaker.
+         *
+         * @param value slow call rate between 0 and 1
+         * @return this builder for method chaining
+         */
+        public Builder slowCallRateThreshold(double value) {
+            Assert.isTrue(value > 0.0 && value <= 1.0, "slowCallRateThreshold must be greater than 0 and at most 1.");
+            slowCallRateThreshold = value;
+            return this;
+        }
+
+        /**
+         * Sets the time calls are rejected before trial calls are let through.
+         *
+         * @param value open duration
+         * @return this builder for method chaining
+         */
+        public Builder openDuration(Duration value) {
+            Assert.notNull(value, "openDuration cannot be null");
+            Assert.isFalse(value.isNegative(), "openDuration cannot be negative.");
+            openDuration = value;
+            return this;
+        }
+
+        /**
+         * Sets the number of trial calls let through in half-open state.
+         *
+         * @param value number of trial calls
+         * @return this builder for method chaining
+         */
+        public Builder halfOpenCalls(int value) {
+            Assert.isTrue(value >= 1, "halfOpenCalls must be greater than or equal to 1.");
+            halfOpenCalls = value;
+            return this;
+        }
+
+        /**
+         * Creates the policy from the configured values.
+         *
+         * @return new circuit breaker policy
+         */
+        public CircuitBreakerPolicy build() {
+            return new CircuitBreakerPolicy(this);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger;
+
+import io.fliqa.client.interledger.utils.Assert;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the adaptive per-host concurrency limits (bulkheads).
+ *
+ * <p>Each host (scheme, host and port of the request URI) has its own limit of concurrent requests,
+ * adapted to the latency the host shows (AIMD - additive increase, multiplicative decrease):
+ * <ul>
+ *   <li>A call completing faster than {@link #latencyThreshold} while the limit is in use raises the limit by {@code 1 / limit}
+ *   (about one per round trip), up to {@link #maxLimit}</li>
+ *   <li>A slower call, a network failure, 429 or 503 multiplies the limit by {@link #backoffRatio}, down to {@link #minLimit}</li>
+ * </ul>
+ *
+ * <p>Requests beyond the limit wait (blocking callers block, asynchronous callers don't hold a thread)
+ * in a queue of at most {@link #maxQueue} requests for at most {@link #maxWait}, and are rejected otherwise.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see InterledgerClientOptions#concurrencyLimit
+ * @see io.fliqa.client.interledger.transport.ConcurrencyLimitTransport
+ * @since 1.0
+ */
+public class ConcurrencyLimitPolicy {
+
+    /**
+     * Concurrency is not limited (default).
+     */
+    public static final ConcurrencyLimitPolicy DISABLED = builder().enabled(false).build();
+
+    /**
+     * Initial limit of 20 (1 - 200), 2 second latency threshold, 0.9 backoff ratio, 100 queued requests waiting at most 5 seconds.
+     */
+    public static final ConcurrencyLimitPolicy DEFAULT = builder().build();
+
+    /**
+     * True if concurrent requests per host are limited.
+     */
+    public final boolean enabled;
+
+    /**
+     * Limit of a host before any call completed.
+     */
+    public final int initialLimit;
+
+    /**
+     * Lowest limit.
+     */
+    public final int minLimit;
+
+    /**
+     * Highest limit.
+     */
+    public final int maxLimit;
+
+    /**
+     * Latency above which the host is considered overloaded.
+     */
+    public final Duration latencyThreshold;
+
+    /**
+     * Factor (0 - 1) the limit is multiplied with when the host is overloaded.
+     */
+    public final double backoffRatio;
+
+    /**
+     * Maximum number of requests waiting per host.
+     */
+    public final int maxQueue;
+
+    /**
+     * Maximum time a request waits for a free slot.
+     */
+    public final Duration maxWait;
+
+    private ConcurrencyLimitPolicy(Builder builder) {
+        this.enabled = builder.enabled;
+        this.initialLimit = builder.initialLimit;
+        this.minLimit = builder.minLimit;
+        this.maxLimit = builder.maxLimit;
+        this.latencyThreshold = builder.latencyThreshold;
+        this.backoffRatio = builder.backoffRatio;
+        this.maxQueue = builder.maxQueue;
+        this.maxWait = builder.maxWait;
+    }
+
+    /**
+     * Creates a builder initialized with the {@link #DEFAULT} values.
+     *
+     * @return new policy builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ConcurrencyLimitPolicy{enabled=%s, initialLimit=%d, minLimit=%d, maxLimit=%d, " +
+                        "latencyThreshold=%s, backoffRatio=%s, maxQueue=%d, maxWait=%s}",
+                enabled, initialLimit, minLimit, maxLimit, latencyThreshold, backoffRatio, maxQueue, maxWait);
+    }
+
+    /**
+     * Builder for {@link ConcurrencyLimitPolicy}.
+     */
+    public static class Builder {
+
+        private boolean enabled = true;
+        private int initialLimit = 20;
+        private int minLimit = 1;
+        private int maxLimit = 200;
+        private Duration latencyThreshold = Duration.ofSeconds(2);
+        private double backoffRatio = 0.9;
+        private int maxQueue = 100;
+        private Duration maxWait = Duration.ofSeconds(5);
+
+        private Builder() {
+        }
+
+        /**
+         * Enables or disables the concurrency limits.
+         *
+         * @param value false to pass all calls through
+         * @return this builder for method chaining
+         */
+        public Builder enabled(boolean value) {
+            enabled = value;
+            return this;
+        }
+
+        /**
+         * Sets the limit of a host before any call completed.
+         *
+         * @param value initial limit
+         * @return this builder for method chaining
+         */
+        public Builder initialLimit(int value) {
+            Assert.isTrue(value >= 1, "initialLimit must be greater than or equal to 1.");
+            initialLimit = value;
+            return this;
+        }
+
+        /**
+         * Sets the lowest limit.
+         *
+         * @param value minimum limit
+         * @return this builder for method chaining
+         */
+        public Builder minLimit(int value) {
+            Assert.isTrue(value >= 1, "minLimit must be greater than or equal to 1.");
+            minLimit = value;
+            return this;
+        }
+
+        /**
+         * Sets the highest limit.
+         *
+         * @param value maximum limit
+         * @return this builder for method chaining
+         */
+        public Builder maxLimit(int value) {
+            Assert.isTrue(value >= 1, "maxLimit must be greater than or equal to 1.");
+            maxLimit = value;
+            return this;
+        }
+
+        /**
+         * Sets the latency above which the host is considered overloaded.
+         *
+         * @param value latency threshold
+         * @return this builder for method chaining
+         */
+        public Builder latencyThreshold(Duration value) {
+            Assert.notNull(value, "latencyThreshold cannot be null");
+            Assert.isTrue(value.compareTo(Duration.ZERO) > 0, "latencyThreshold must be positive.");
+            latencyThreshold = value;
+            return this;
+        }
+
+        /**
+         * Sets the factor the limit is multiplied with when the host is overloaded.
+         *
+         * @param value ratio between 0 and 1
+         * @return this builder for method chaining
+         */
+        public Builder backoffRatio(double value) {
+            Assert.isTrue(value > 0.0 && value < 1.0, "backoffRatio must be between 0 and 1.");
+            backoffRatio = value;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of requests waiting per host.
+         *
+         * @param value queue size (0 rejects requests beyond the limit immediately)
+         * @return this builder for method chaining
+         */
+        public Builder maxQueue(int value) {
+            Assert.isTrue(value >= 0, "maxQueue must be greater than or equal to zero.");
+            maxQueue = value;
+            return this;
+        }
+
+        /**
+         * Sets the maximum time a request waits for a free slot.
+         *
+         * @param value maximum wait
+         * @return this builder for method chaining
+         */
+        public Builder maxWait(Duration value) {
+            Assert.notNull(value, "maxWait cannot be null");
+            Assert.isFalse(value.isNegative(), "maxWait cannot be negative.");
+            maxWait = value;
+            return this;
+        }
+
+        /**
+         * Creates the policy from the configured values.
+         *
+         * @return new concurrency limit policy
+         * @throws IllegalArgumentException if the limits are inconsistent
+         */
+        public ConcurrencyLimitPolicy build() {
+            Assert.isTrue(minLimit <= maxLimit, "minLimit must be less than or equal to maxLimit.");
+            Assert.isTrue(initialLimit >= minLimit && initialLimit <= maxLimit, "initialLimit must be between minLimit and maxLimit.");
+            return new ConcurrencyLimitPolicy(this);
+        }
+    }
+}
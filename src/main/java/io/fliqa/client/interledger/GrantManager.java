@@ -0,0 +1,386 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger;
+
+import io.fliqa.client.interledger.model.AccessAction;
+import io.fliqa.client.interledger.model.AccessGrant;
+import io.fliqa.client.interledger.model.AccessItemType;
+import io.fliqa.client.interledger.model.AccessToken;
+import io.fliqa.client.interledger.model.PaymentPointer;
+import io.fliqa.client.interledger.utils.Assert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Reuses non-interactive GNAP grants (access tokens) across calls.
+ *
+ * <p>Grants are cached per (wallet, access type, actions) until shortly before the access token expires
+ * ({@code expires_in} minus the configured refresh margin). An expiring token with a {@code manage} URL is
+ * rotated, otherwise (or if the rotation fails) a new grant is requested. Concurrent callers asking for the
+ * same grant share a single request to the authorization server.
+ *
+ * <p>Callers never get the cached grant itself but a copy of it. Rotating a token invalidates the previous
+ * value, so every call made with a copy looks up the current token of the cached grant ({@link #getToken}).
+ * A token rejected by a resource server (401) is invalidated and the grant renewed ({@link #renew}),
+ * the client then repeats the call once with the new token.
+ * On {@link #close()} all cached tokens are revoked.
+ *
+ * <h3>Thread Safety</h3>
+ * <p>This class is thread-safe.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see InterledgerClientOptions#grantReuse
+ * @since 1.0
+ */
+public class GrantManager implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GrantManager.class);
+
+    private final InterledgerApiClientImpl client;
+    private final Duration refreshMargin;
+    private final Duration closeTimeout;
+    private final Clock clock;
+
+    private final ConcurrentHashMap<GrantKey, ManagedGrant> grants = new ConcurrentHashMap<>();
+
+    /**
+     * Copies handed to callers (by identity), dropped once the caller no longer holds the copy
+     */
+    private final Map<AccessGrant, Holder> holders = Collections.synchronizedMap(new WeakHashMap<>());
+
+    GrantManager(InterledgerApiClientImpl client, InterledgerClientOptions options) {
+        this(client, options, Clock.systemUTC());
+    }
+
+    GrantManager(InterledgerApiClientImpl client, InterledgerClientOptions options, Clock clock) {
+        Assert.notNull(client, "InterledgerApiClientImpl cannot be null");
+        Assert.notNull(options, "InterledgerClientOptions cannot be null");
+        Assert.notNull(clock, "Clock cannot be null");
+
+        this.client = client;
+        this.refreshMargin = Duration.ofSeconds(options.grantRefreshMarginInSeconds);
+        this.closeTimeout = Duration.ofSeconds(options.timeOutInSeconds);
+        this.clock = clock;
+    }
+
+    /**
+     * Gets a cached grant or obtains a new one (rotating the cached token when possible).
+     *
+     * @param wallet    wallet the grant is requested for
+     * @param type      access type
+     * @param actions   access actions
+     * @param requester requests a new grant from the authorization server
+     * @return future completed with a copy of a valid grant, owned by the caller
+     */
+    CompletableFuture<AccessGrant> getGrant(PaymentPointer wallet,
+                                            AccessItemType type,
+                                            Set<AccessAction> actions,
+                                            Supplier<CompletableFuture<AccessGrant>> requester) {
+
+        Holder holder = new Holder(new GrantKey(wallet.address, type, actions), requester);
+        return getGrant(holder).thenApply(grant -> handOut(grant, holder));
+    }
+
+    private CompletableFuture<AccessGrant> getGrant(Holder holder) {
+        GrantKey key = holder.key;
+        Instant now = clock.instant();
+
+        // only a placeholder is installed while the map entry is locked, the request is sent once compute returned:
+        // a transport completing synchronously may invalidate (and so update the map) before the request returns
+        ManagedGrant[] created = new ManagedGrant[1];
+        ManagedGrant managed = grants.compute(key, (k, current) -> {
+            if (current != null && current.isValid(now)) {
+                return current;
+            }
+
+            created[0] = new ManagedGrant(holder, current != null && current.isRotatable() ? current.getGrant() : null);
+            return created[0];
+        });
+
+        if (created[0] != null) {
+            request(key, created[0], holder.requester);
+        }
+
+        return managed.future;
+    }
+
+    private AccessGrant handOut(AccessGrant grant, Holder holder) {
+        AccessGrant copy = new AccessGrant();
+        copy.accessContinue = grant.accessContinue;
+        if (grant.access != null) {
+            copy.access = new AccessToken();
+            copy.access.token = grant.access.token;
+            copy.access.manage = grant.access.manage;
+            copy.access.expiresIn = grant.access.expiresIn;
+            copy.access.access = grant.access.access;
+        }
+
+        holders.put(copy, holder);
+        return copy;
+    }
+
+    /**
+     * Gets the access token to send with a grant, the current token of the cached grant for copies handed out
+     * (the token of the copy itself may have been rotated since).
+     *
+     * @param grant grant given by the caller
+     * @return access token value
+     */
+    String getToken(AccessGrant grant) {
+        Holder holder = holders.get(grant);
+        ManagedGrant managed = holder != null ? grants.get(holder.key) : null;
+        String token = managed != null ? managed.getToken() : null;
+        return token != null ? token : grant.access.token;
+    }
+
+    /**
+     * Invalidates a rejected access token and obtains a new grant for it (rotated or requested).
+     *
+     * @param token rejected access token value
+     * @return future completed once the grant is renewed, or null if the token was not handed out by this manager
+     */
+    CompletableFuture<?> renew(String token) {
+        if (token == null) {
+            return null;
+        }
+
+        Holder holder = null;
+        synchronized (holders) {
+            for (Map.Entry<AccessGrant, Holder> entry : holders.entrySet()) {
+                AccessGrant copy = entry.getKey();
+                if (copy != null && copy.access != null && token.equals(copy.access.token)) {
+                    holder = entry.getValue();
+                    break;
+                }
+            }
+        }
+
+        if (holder == null) {
+            for (Map.Entry<GrantKey, ManagedGrant> entry : grants.entrySet()) {
+                if (token.equals(entry.getValue().getToken())) {
+                    holder = entry.getValue().holder;
+                    break;
+                }
+            }
+        }
+
+        if (holder == null) {
+            return null;
+        }
+
+        invalidate(token);
+        return getGrant(holder);
+    }
+
+    /**
+     * Rotates the expiring token of the grant or requests a new grant, and completes the placeholder with the outcome.
+     */
+    private void request(GrantKey key, ManagedGrant managed, Supplier<CompletableFuture<AccessGrant>> requester) {
+        CompletableFuture<AccessGrant> request;
+        try {
+            if (managed.expiring != null) {
+                LOGGER.debug("Rotating access token for: {}", key);
+                request = client.rotateTokenAsync(managed.expiring)
+                        .exceptionallyCompose(e -> {
+                            LOGGER.warn("Failed to rotate access token for: {}, requesting new grant.", key, e);
+                            return requester.get();
+                        });
+            } else {
+                LOGGER.debug("Requesting new grant for: {}", key);
+                request = requester.get();
+            }
+        } catch (RuntimeException e) {
+            request = CompletableFuture.failedFuture(e);
+        }
+
+        request.whenComplete((grant, throwable) -> {
+            if (throwable != null) {
+                managed.source.completeExceptionally(throwable);
+            } else {
+                managed.source.complete(grant);
+            }
+        });
+    }
+
+    /**
+     * Removes the grant holding the given access token (i.e. after the token was rejected).
+     *
+     * @param token access token value
+     */
+    public void invalidate(String token) {
+        if (token == null) {
+            return;
+        }
+
+        grants.entrySet().removeIf(entry -> token.equals(entry.getValue().getToken()));
+    }
+
+    /**
+     * @return number of cached grants (including grants being requested)
+     */
+    public int size() {
+        return grants.size();
+    }
+
+    /**
+     * Revokes all cached access tokens (best effort) and clears the cache.
+     */
+    @Override
+    public void close() {
+        List<CompletableFuture<Void>> revocations = new ArrayList<>();
+        for (GrantKey key : grants.keySet()) {
+            ManagedGrant managed = grants.remove(key);
+            AccessGrant grant = managed != null ? managed.getGrant() : null;
+            if (grant != null && grant.access != null && grant.access.manage != null) {
+                revocations.add(client.revokeTokenAsync(grant)
+                        .exceptionally(e -> {
+                            LOGGER.warn("Failed to revoke access token for: {}", key, e);
+                            return null;
+                        }));
+            }
+        }
+
+        if (revocations.isEmpty()) {
+            return;
+        }
+
+        try {
+            CompletableFuture.allOf(revocations.toArray(CompletableFuture<?>[]::new))
+                    .get(closeTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            LOGGER.warn("Failed to revoke all access tokens in: {}", closeTimeout, e);
+        }
+    }
+
+    private Instant getRefreshAt(AccessGrant grant) {
+        if (grant.access == null || grant.access.expiresIn == null) {
+            return Instant.MAX; // no expiration given, reused until rejected or closed
+        }
+
+        return clock.instant()
+                .plusSeconds(grant.access.expiresIn)
+                .minus(refreshMargin);
+    }
+
+    /**
+     * Grant as requested or rotated, valid until refreshAt
+     */
+    private class ManagedGrant {
+
+        private final CompletableFuture<AccessGrant> source = new CompletableFuture<>();
+        private final CompletableFuture<AccessGrant> future;
+        private final Holder holder;
+        private final AccessGrant expiring;
+        private volatile Instant refreshAt;
+
+        /**
+         * @param holder   key and requester of the grant
+         * @param expiring grant whose token is rotated, or null to request a new grant
+         */
+        private ManagedGrant(Holder holder, AccessGrant expiring) {
+            this.holder = holder;
+            this.expiring = expiring;
+            // refreshAt is set before the future completes
+            this.future = source.thenApply(grant -> {
+                refreshAt = getRefreshAt(grant);
+                return grant;
+            });
+        }
+
+        private boolean isValid(Instant now) {
+            if (!future.isDone()) {
+                return true; // in flight, share the request
+            }
+
+            return !future.isCompletedExceptionally() && now.isBefore(refreshAt);
+        }
+
+        private boolean isRotatable() {
+            AccessGrant grant = getGrant();
+            return grant != null && grant.access != null && grant.access.manage != null;
+        }
+
+        private AccessGrant getGrant() {
+            return future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+        }
+
+        private String getToken() {
+            AccessGrant grant = getGrant();
+            return grant != null && grant.access != null ? grant.access.token : null;
+        }
+    }
+
+    /**
+     * Key and requester of the grant a copy was handed out for
+     */
+    private static class Holder {
+
+        private final GrantKey key;
+        private final Supplier<CompletableFuture<AccessGrant>> requester;
+
+        private Holder(GrantKey key, Supplier<CompletableFuture<AccessGrant>> requester) {
+            this.key = key;
+            this.requester = requester;
+        }
+    }
+
+    private static class GrantKey {
+
+        private final URI wallet;
+        private final AccessItemType type;
+        private final Set<AccessAction> actions;
+
+        private GrantKey(URI wallet, AccessItemType type, Set<AccessAction> actions) {
+            this.wallet = wallet;
+            this.type = type;
+            this.actions = Set.copyOf(actions);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof GrantKey other)) return false;
+            return Objects.equals(wallet, other.wallet) && type == other.type && actions.equals(other.actions);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(wallet, type, actions);
+        }
+
+        @Override
+        public String toString() {
+            return wallet + " " + type + " " + actions;
+        }
+    }
+}
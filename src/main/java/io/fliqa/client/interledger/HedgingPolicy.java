@@ -0,0 +1,208 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger;
+
+import io.fliqa.client.interledger.utils.Assert;
+
+import java.time.Duration;
+
+/**
+ * Configuration of hedged requests for idempotent reads (GET).
+ *
+ * <p>When a GET has not completed after the {@link #percentile} latency recently observed for its host,
+ * a second, freshly signed copy is sent. The first response wins and the other attempt is cancelled.
+ * This cuts the tail latency of calls like resolving a wallet or polling an incoming payment, at the
+ * cost of a few extra requests:
+ * <ul>
+ *   <li>The delay is clamped between {@link #minDelay} and {@link #maxDelay}</li>
+ *   <li>Hosts with fewer than {@link #minSamples} recorded latencies are not hedged</li>
+ *   <li>At most {@link #budget} (i.e. 0.1 = 10%) extra requests are sent on top of the hedgeable requests</li>
+ * </ul>
+ *
+ * <p>Requests with any other method (i.e. creating incoming or outgoing payments) are never hedged.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see InterledgerClientOptions#hedging
+ * @see RequestHedger
+ * @since 1.0
+ */
+public class HedgingPolicy {
+
+    /**
+     * Requests are not hedged (default).
+     */
+    public static final HedgingPolicy DISABLED = builder().enabled(false).build();
+
+    /**
+     * Hedge after the 95th percentile latency (10ms - 2s), after 20 samples, with at most 10% extra requests.
+     */
+    public static final HedgingPolicy DEFAULT = builder().build();
+
+    /**
+     * True if GET requests are hedged.
+     */
+    public final boolean enabled;
+
+    /**
+     * Latency percentile (0 - 1) of the host after which the hedge is sent.
+     */
+    public final double percentile;
+
+    /**
+     * Lowest hedge delay.
+     */
+    public final Duration minDelay;
+
+    /**
+     * Highest hedge delay.
+     */
+    public final Duration maxDelay;
+
+    /**
+     * Number of recorded latencies of a host required before its requests are hedged.
+     */
+    public final int minSamples;
+
+    /**
+     * Maximum ratio (0 - 1) of extra requests sent as hedges.
+     */
+    public final double budget;
+
+    private HedgingPolicy(Builder builder) {
+        this.enabled = builder.enabled;
+        this.percentile = builder.percentile;
+        this.minDelay = builder.minDelay;
+        this.maxDelay = builder.maxDelay;
+        this.minSamples = builder.minSamples;
+        this.budget = builder.budget;
+    }
+
+    /**
+     * Creates a builder initialized with the {@link #DEFAULT} values.
+     *
+     * @return new policy builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("HedgingPolicy{enabled=%s, percentile=%s, minDelay=%s, maxDelay=%s, minSamples=%d, budget=%s}",
+                enabled, percentile, minDelay, maxDelay, minSamples, budget);
+    }
+
+    /**
+     * Builder for {@link HedgingPolicy}.
+     */
+    public static class Builder {
+
+        private boolean enabled = true;
+        private double percentile = 0.95;
+        private Duration minDelay = Duration.ofMillis(10);
+        private Duration maxDelay = Duration.ofSeconds(2);
+        private int minSamples = 20;
+        private double budget = 0.1;
+
+        private Builder() {
+        }
+
+        /**
+         * Enables or disables hedging.
+         *
+         * @param value false to never hedge
+         * @return this builder for method chaining
+         */
+        public Builder enabled(boolean value) {
+            enabled = value;
+            return this;
+        }
+
+        /**
+         * Sets the latency percentile of the host after which the hedge is sent.
+         *
+         * @param value percentile between 0 and 1, i.e. 0.95
+         * @return this builder for method chaining
+         */
+        public Builder percentile(double value) {
+            Assert.isTrue(value > 0.0 && value < 1.0, "percentile must be between 0 and 1.");
+            percentile = value;
+            return this;
+        }
+
+        /**
+         * Sets the lowest hedge delay.
+         *
+         * @param value minimum delay
+         * @return this builder for method chaining
+         */
+        public Builder minDelay(Duration value) {
+            Assert.notNull(value, "minDelay cannot be null");
+            Assert.isFalse(value.isNegative(), "minDelay cannot be negative.");
+            minDelay = value;
+            return this;
+        }
+
+        /**
+         * Sets the highest hedge delay.
+         *
+         * @param value maximum delay
+         * @return this builder for method chaining
+         */
+        public Builder maxDelay(Duration value) {
+            Assert.notNull(value, "maxDelay cannot be null");
+            Assert.isFalse(value.isNegative(), "maxDelay cannot be negative.");
+            maxDelay = value;
+            return this;
+        }
+
+        /**
+         * Sets the number of recorded latencies of a host required before its requests are hedged.
+         *
+         * @param value minimum number of samples
+         * @return this builder for method chaining
+         */
+        public Builder minSamples(int value) {
+            Assert.isTrue(value >= 1, "minSamples must be greater than or equal to 1.");
+            minSamples = value;
+            return this;
+        }
+
+        /**
+         * Sets the maximum ratio of extra requests sent as hedges.
+         *
+         * @param value budget between 0 and 1, i.e. 0.1 for at most 10% extra requests
+         * @return this builder for method chaining
+         */
+        public Builder budget(double value) {
+            Assert.isTrue(value > 0.0 && value <= 1.0, "budget must be greater than 0 and at most 1.");
+            budget = value;
+            return this;
+        }
+
+        /**
+         * Creates the policy from the configured values.
+         *
+         * @return new hedging policy
+         * @throws IllegalArgumentException if minDelay is greater than maxDelay
+         */
+        public HedgingPolicy build() {
+            Assert.isTrue(minDelay.compareTo(maxDelay) <= 0, "minDelay must be less than or equal to maxDelay.");
+            return new HedgingPolicy(this);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger;
+
+import io.fliqa.client.interledger.model.PaymentPointer;
+import io.fliqa.client.interledger.utils.Assert;
+
+import java.math.BigDecimal;
+
+/**
+ * Single incoming payment of a {@link InterledgerApiClient#createIncomingPayments(java.util.List)} batch.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @since 1.0
+ */
+public class IncomingPaymentItem {
+
+    /**
+     * The wallet that will receive the payment.
+     */
+    public final PaymentPointer receiver;
+
+    /**
+     * The payment amount with two decimal places precision.
+     */
+    public final BigDecimal amount;
+
+    /**
+     * @param receiver the wallet that will receive the payment
+     * @param amount   the payment amount with two decimal places precision
+     * @throws IllegalArgumentException if receiver or amount is null
+     */
+    public IncomingPaymentItem(PaymentPointer receiver, BigDecimal amount) {
+        Assert.notNull(receiver, "PaymentPointer receiver cannot be null");
+        Assert.notNull(amount, "BigDecimal amount cannot be null");
+
+        this.receiver = receiver;
+        this.amount = amount;
+    }
+
+    @Override
+    public String toString() {
+        return receiver + " for: " + amount;
+    }
+}
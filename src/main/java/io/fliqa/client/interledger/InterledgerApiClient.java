@@ -20,6 +20,8 @@ import io.fliqa.client.interledger.model.*;
 
 import java.math.BigDecimal;
 import java.net.URI;
+import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Client interface for communicating with Interledger Open Payments protocol servers.
@@ -59,7 +61,7 @@ import java.net.URI;
  * @since 1.0
  * @see InterledgerApiClientImpl
  */
-public interface InterledgerApiClient {
+public interface InterledgerApiClient extends AutoCloseable {
 
     int INTERNAL_SERVER_ERROR = 500;
 
@@ -70,6 +72,9 @@ public interface InterledgerApiClient {
      * the wallet's supported assets, authorization server, and resource server endpoints.
      * The wallet information is essential for subsequent grant requests and payment operations.
      * 
+     * <p>When the wallet cache is enabled ({@link InterledgerClientOptions#walletCacheSize}) a previously
+     * resolved wallet is returned without contacting the wallet address server.
+     * 
      * @param address the wallet address that facilitates, sends, or receives payments
      * @return wallet information including asset details, authorization server, and resource server URLs
      * @throws InterledgerClientException if the wallet cannot be found or accessed
@@ -78,6 +83,27 @@ public interface InterledgerApiClient {
      */
     PaymentPointer getWallet(WalletAddress address) throws InterledgerClientException;
 
+    /**
+     * Starts a payment, running all steps up to the user interaction (steps 1 - 5) with maximum parallelism.
+     * 
+     * <p>Wallet discovery of receiver and sender runs in parallel and the sender's quote grant is requested
+     * while the receiver's grant and incoming payment are created, every other step starts as soon as the
+     * steps it depends on are completed. See {@link PaymentFlow} for the dependency graph.
+     * 
+     * <p>The returned flow holds the redirect URL for the user interaction and completes the payment
+     * (steps 6 and 7) with the interaction reference once the user has approved the payment.
+     * 
+     * @param receiver the wallet address of the receiver
+     * @param sender the wallet address of the sender
+     * @param amount the payment amount with two decimal places precision
+     * @param returnUrl URI where the user will be redirected after payment authorization
+     * @param nonce unique identifier to prevent replay attacks and maintain state
+     * @return payment flow waiting for the user interaction
+     * @throws InterledgerClientException if any of the steps fails
+     * @see PaymentFlow
+     */
+    PaymentFlow startPayment(WalletAddress receiver, WalletAddress sender, BigDecimal amount, URI returnUrl, String nonce) throws InterledgerClientException;
+
     /**
      * Creates a pending grant for a receiving wallet to enable incoming payment creation.
      * 
@@ -87,6 +113,9 @@ public interface InterledgerApiClient {
      * 
      * <p><strong>Step 1</strong> in the payment flow (Receiver side).
      * 
+     * <p>With {@link InterledgerClientOptions#grantReuse} enabled a previously obtained, still valid
+     * grant for the same wallet is returned instead of requesting a new one.
+     * 
      * @param receiver the wallet that will receive the payment
      * @return access grant containing tokens and permissions for incoming payments
      * @throws InterledgerClientException if the grant cannot be created or the wallet rejects the request
@@ -114,6 +143,24 @@ public interface InterledgerApiClient {
      */
     IncomingPayment createIncomingPayment(PaymentPointer receiver, AccessGrant pendingGrant, BigDecimal amount) throws InterledgerClientException;
 
+    /**
+     * Creates many incoming payments, possibly on different receiver wallets, concurrently.
+     * 
+     * <p>One pending grant is obtained per receiver (reused grant when {@link InterledgerClientOptions#grantReuse}
+     * is enabled) and shared by all payments of that receiver. Requests are sent concurrently, up to
+     * {@link InterledgerClientOptions#batchConcurrency} at once, over the shared connections and subject to the
+     * per-host concurrency and rate limits of the client.
+     * 
+     * <p>A failing item doesn't fail the batch, its error is returned in its {@link BatchResult} instead.
+     * 
+     * @param items incoming payments to create (receiver and amount)
+     * @return results in the order of the given items
+     * @throws IllegalArgumentException if items is null or contains null
+     * @throws InterledgerClientException if the thread is interrupted while waiting for the results
+     * @see #createIncomingPayment(PaymentPointer, AccessGrant, BigDecimal)
+     */
+    List<BatchResult<IncomingPayment>> createIncomingPayments(List<IncomingPaymentItem> items) throws InterledgerClientException;
+
     /**
      * Creates a quote request grant for the sender's wallet.
      * 
@@ -123,6 +170,9 @@ public interface InterledgerApiClient {
      * 
      * <p><strong>Step 3</strong> in the payment flow (Sender side).
      * 
+     * <p>With {@link InterledgerClientOptions#grantReuse} enabled a previously obtained, still valid
+     * grant for the same wallet is returned instead of requesting a new one.
+     * 
      * @param sender the wallet that will send the payment
      * @return access grant for creating quotes on the sender's wallet
      * @throws InterledgerClientException if the quote request grant cannot be created
@@ -150,6 +200,24 @@ public interface InterledgerApiClient {
      */
     Quote createQuote(String quoteToken, PaymentPointer sender, IncomingPayment incomingPayment) throws InterledgerClientException;
 
+    /**
+     * Creates many quotes, possibly on different sender wallets, concurrently.
+     * 
+     * <p>One quote grant is obtained per sender (reused grant when {@link InterledgerClientOptions#grantReuse}
+     * is enabled) and shared by all quotes of that sender. Requests are sent concurrently, up to
+     * {@link InterledgerClientOptions#batchConcurrency} at once, over the shared connections and subject to the
+     * per-host concurrency and rate limits of the client.
+     * 
+     * <p>A failing item doesn't fail the batch, its error is returned in its {@link BatchResult} instead.
+     * 
+     * @param items quotes to create (sender and incoming payment)
+     * @return results in the order of the given items
+     * @throws IllegalArgumentException if items is null or contains null
+     * @throws InterledgerClientException if the thread is interrupted while waiting for the results
+     * @see #createQuote(String, PaymentPointer, IncomingPayment)
+     */
+    List<BatchResult<Quote>> createQuotes(List<QuoteItem> items) throws InterledgerClientException;
+
     /**
      * Creates a pending outgoing payment that requires user interaction for authorization.
      * 
@@ -223,4 +291,63 @@ public interface InterledgerApiClient {
      * @see AccessGrant
      */
     IncomingPayment getIncomingPayment(IncomingPayment incomingPayment, AccessGrant grantRequest) throws InterledgerClientException;
+
+    /**
+     * Lists all incoming payments of a wallet ({@code list-incoming-payments}).
+     * 
+     * <p>The stream is lazy: pages of {@link InterledgerClientOptions#listPageSize} payments are requested while
+     * the stream is consumed, the next page is prefetched while the current one is processed. At most two pages
+     * are held in memory, so wallets with any number of payments can be iterated. Close the stream when it is
+     * not consumed to the end.
+     * 
+     * @param wallet the wallet to list incoming payments of
+     * @param grant the access grant that provides permission to list the payments ({@code list} or {@code list-all} action)
+     * @return lazy stream of all incoming payments of the wallet, failed page requests are thrown as
+     * {@link io.fliqa.client.interledger.exception.UncheckedInterledgerException} while consuming the stream
+     * @throws IllegalArgumentException if wallet or grant is null or the grant holds no access token
+     * @see IncomingPaymentPage
+     */
+    Stream<IncomingPayment> listIncomingPayments(PaymentPointer wallet, AccessGrant grant);
+
+    /**
+     * Lists all outgoing payments of a wallet ({@code list-outgoing-payments}).
+     * 
+     * <p>The stream is lazy and prefetches the next page, see {@link #listIncomingPayments(PaymentPointer, AccessGrant)}.
+     * 
+     * @param wallet the wallet to list outgoing payments of
+     * @param grant the access grant that provides permission to list the payments ({@code list} or {@code list-all} action)
+     * @return lazy stream of all outgoing payments of the wallet, failed page requests are thrown as
+     * {@link io.fliqa.client.interledger.exception.UncheckedInterledgerException} while consuming the stream
+     * @throws IllegalArgumentException if wallet or grant is null or the grant holds no access token
+     * @see OutgoingPaymentPage
+     */
+    Stream<Payment> listOutgoingPayments(PaymentPointer wallet, AccessGrant grant);
+
+    /**
+     * Rotates the access token of a grant.
+     * 
+     * <p>A new access token with the same access rights is obtained from the token management URL,
+     * the current token is no longer valid afterward.
+     * 
+     * @param grant the grant holding the access token to rotate
+     * @return grant holding the new access token
+     * @throws InterledgerClientException if the token cannot be rotated
+     * @see AccessToken#manage
+     */
+    AccessGrant rotateToken(AccessGrant grant) throws InterledgerClientException;
+
+    /**
+     * Revokes the access token of a grant.
+     * 
+     * @param grant the grant holding the access token to revoke
+     * @throws InterledgerClientException if the token cannot be revoked
+     * @see AccessToken#manage
+     */
+    void revokeToken(AccessGrant grant) throws InterledgerClientException;
+
+    /**
+     * Releases resources held by the client, revoking access tokens of reused grants.
+     */
+    @Override
+    void close();
 }
@@ -15,10 +15,30 @@
  */
 package io.fliqa.client.interledger;
 
+import io.fliqa.client.interledger.cache.WalletCache;
+import io.fliqa.client.interledger.exception.InterledgerCircuitOpenException;
 import io.fliqa.client.interledger.exception.InterledgerClientException;
+import io.fliqa.client.interledger.exception.InterledgerConcurrencyLimitException;
+import io.fliqa.client.interledger.exception.InterledgerConnectionException;
+import io.fliqa.client.interledger.exception.InterledgerRateLimitException;
+import io.fliqa.client.interledger.logging.ExchangeCapture;
 import io.fliqa.client.interledger.logging.HttpLogger;
+import io.fliqa.client.interledger.metrics.ExchangeEvent;
+import io.fliqa.client.interledger.metrics.InterledgerMetricsListener;
 import io.fliqa.client.interledger.model.*;
+import io.fliqa.client.interledger.signature.RequestSigner;
 import io.fliqa.client.interledger.signature.SignatureRequestBuilder;
+import io.fliqa.client.interledger.transport.ApiRequest;
+import io.fliqa.client.interledger.transport.CircuitBreakerOpenException;
+import io.fliqa.client.interledger.transport.CircuitBreakerTransport;
+import io.fliqa.client.interledger.transport.CoalescingTransport;
+import io.fliqa.client.interledger.transport.ConcurrencyLimitExceededException;
+import io.fliqa.client.interledger.transport.ConcurrencyLimitTransport;
+import io.fliqa.client.interledger.transport.HttpClientTransport;
+import io.fliqa.client.interledger.transport.InterledgerResponse;
+import io.fliqa.client.interledger.transport.InterledgerTransport;
+import io.fliqa.client.interledger.transport.RateLimitExceededException;
+import io.fliqa.client.interledger.transport.RateLimitTransport;
 import io.fliqa.client.interledger.utils.Assert;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -26,12 +46,25 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.net.URI;
+import java.net.URLEncoder;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.security.PrivateKey;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static io.fliqa.client.interledger.exception.InterledgerClientException.getApiException;
 import static io.fliqa.client.interledger.signature.SignatureRequestBuilder.ACCEPT_HEADER;
@@ -48,11 +81,16 @@ import static java.time.temporal.ChronoUnit.SECONDS;
  *
  * <h2>Features</h2>
  * <ul>
- *   <li>Cryptographic request signing using Ed25519 private keys</li>
- *   <li>HTTP/2 client with configurable timeouts and connection limits</li>
+ *   <li>Cryptographic request signing using Ed25519 private keys, with signature and digest instances reused by a shared {@link RequestSigner}</li>
+ *   <li>HTTP/2 client with configurable timeouts, executor (including virtual threads), protocol version and priority</li>
+ *   <li>Pluggable {@link InterledgerTransport} for custom HTTP stacks or in-memory exchanges</li>
+ *   <li>Optional {@link WalletCache} for resolved wallets honoring Cache-Control / Expires</li>
+ *   <li>Optional reuse, rotation and revocation of access tokens by the {@link GrantManager}</li>
+ *   <li>Optional coalescing of identical concurrent GET requests ({@link CoalescingTransport})</li>
  *   <li>Comprehensive error handling with structured exception types</li>
  *   <li>Request/response logging for debugging and auditing</li>
  *   <li>Input validation for all public methods</li>
+ *   <li>Non-blocking request execution used by {@link InterledgerAsyncApiClientImpl}</li>
  * </ul>
  *
  * <h3>Thread Safety</h3>
@@ -83,14 +121,32 @@ public class InterledgerApiClientImpl implements InterledgerApiClient {
     private static final Logger LOGGER = LoggerFactory.getLogger(InterledgerApiClientImpl.class);
     private static final String ILP_METHOD = "ilp"; // NOTE: this is currently hardcoded (might be an argument / not sure)
 
+    private static final Set<AccessAction> INCOMING_PAYMENT_ACTIONS = Set.of(AccessAction.read, AccessAction.complete, AccessAction.create);
+    private static final Set<AccessAction> QUOTE_ACTIONS = Set.of(AccessAction.read, AccessAction.create);
+
+    private static final int UNAUTHORIZED = 401;
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String GNAP_PREFIX = "GNAP ";
+
     private final WalletAddress clientWallet;
-    private final PrivateKey privateKey;
-    private final String keyId;
+    private final RequestSigner signer;
 
-    private final HttpClient client;
+    private final InterledgerTransport transport;
+    private final CoalescingTransport coalescingTransport;
+    private final CircuitBreakerTransport circuitBreakerTransport;
+    private final ConcurrencyLimitTransport concurrencyLimitTransport;
+    private final RateLimitTransport rateLimitTransport;
     private final InterledgerClientOptions options;
-    private final InterledgerObjectMapper mapper = new InterledgerObjectMapper();
+    private final WalletCache walletCache;
+    private final GrantManager grantManager;
+    private final RetryPolicy retryPolicy;
+    private final RequestHedger hedger;
+    private final InterledgerObjectMapper mapper = InterledgerObjectMapper.DEFAULT;
     private final HttpLogger httpLogger;
+    private final InterledgerMetricsListener metricsListener;
+    private final ExchangeCapture exchangeCapture;
+    private final boolean observed; // exchanges are reported to the metrics listener or capture
+    private volatile PaymentWatcher paymentWatcher; // created on first use
 
     /**
      * Creates a new Interledger API client with custom configuration options.
@@ -110,18 +166,53 @@ public class InterledgerApiClientImpl implements InterledgerApiClient {
                                     String keyId,
                                     InterledgerClientOptions options) {
 
+        this(clientWallet, privateKey, keyId, options, null);
+    }
+
+    /**
+     * Creates a new Interledger API client exchanging requests through a custom transport.
+     *
+     * <p>Requests are still built, signed and logged by the client and responses mapped to model objects
+     * or exceptions, only the delivery is delegated to the transport (e.g. an in-memory transport for
+     * load tests or a tuned HTTP stack).
+     *
+     * @param clientWallet the wallet address of the payment facilitator (Fliqa)
+     * @param privateKey   Ed25519 private key for signing requests
+     * @param keyId        identifier for the private key, used in signature headers
+     * @param options      client configuration including timeouts
+     * @param transport    transport used to exchange requests, or null for the default {@link HttpClientTransport}
+     * @throws IllegalArgumentException if any parameter except transport is null or keyId is empty
+     * @see InterledgerTransport
+     */
+    public InterledgerApiClientImpl(WalletAddress clientWallet,
+                                    PrivateKey privateKey,
+                                    String keyId,
+                                    InterledgerClientOptions options,
+                                    InterledgerTransport transport) {
+
         Assert.notNull(clientWallet, "WalletAddress cannot be null");
         Assert.notNull(privateKey, "PrivateKey cannot be null");
         Assert.notNullOrEmpty(keyId, "KeyId cannot be null or empty");
         Assert.notNull(options, "InterledgerClientOptions cannot be null");
 
         this.clientWallet = clientWallet;
-        this.privateKey = privateKey;
-        this.keyId = keyId;
+        this.signer = new RequestSigner(privateKey, keyId);
         this.options = options;
 
-        client = createDefaultHttpClient(options);
-        httpLogger = new HttpLogger(LOGGER);
+        InterledgerTransport httpTransport = transport != null ? transport : new HttpClientTransport(options);
+        this.circuitBreakerTransport = new CircuitBreakerTransport(httpTransport, options.circuitBreaker);
+        this.concurrencyLimitTransport = new ConcurrencyLimitTransport(circuitBreakerTransport, options.concurrencyLimit);
+        this.rateLimitTransport = new RateLimitTransport(concurrencyLimitTransport, options.rateLimit);
+        this.coalescingTransport = new CoalescingTransport(rateLimitTransport, options.coalesceRequests);
+        this.transport = coalescingTransport;
+        this.walletCache = new WalletCache(options.walletCacheSize, options.walletCacheTtlInSeconds);
+        this.grantManager = options.grantReuse ? new GrantManager(this, options) : null;
+        this.retryPolicy = options.retryPolicy;
+        this.hedger = new RequestHedger(options.hedging);
+        this.metricsListener = options.metricsListener;
+        this.exchangeCapture = new ExchangeCapture(options.capture);
+        this.observed = metricsListener != InterledgerMetricsListener.NONE || exchangeCapture.isEnabled();
+        httpLogger = new HttpLogger(LOGGER, options.httpLogBufferSize, options.httpLogMaxBodySize);
     }
 
     /**
@@ -143,44 +234,469 @@ public class InterledgerApiClientImpl implements InterledgerApiClient {
     }
 
     protected static HttpClient createDefaultHttpClient(InterledgerClientOptions options) {
-        return HttpClient.newBuilder()
-                .connectTimeout(Duration.ofSeconds(options.connectTimeOutInSeconds))  // Connect timeout
-                .build();
+        return HttpClientTransport.createHttpClient(options);
+    }
+
+    /**
+     * Gets the transport coalescing identical concurrent GET requests, i.e. to read the number of saved calls.
+     *
+     * @return coalescing transport (passing all requests through when {@link InterledgerClientOptions#coalesceRequests} is disabled)
+     */
+    public CoalescingTransport getCoalescingTransport() {
+        return coalescingTransport;
+    }
+
+    /**
+     * Gets the transport guarding each host with a circuit breaker, i.e. to expose breaker states as metrics.
+     *
+     * @return circuit breaker transport (passing all requests through when {@link InterledgerClientOptions#circuitBreaker} is disabled)
+     */
+    public CircuitBreakerTransport getCircuitBreakerTransport() {
+        return circuitBreakerTransport;
+    }
+
+    /**
+     * Gets the transport limiting concurrent requests per host, i.e. to expose current limits and queue depths as metrics.
+     *
+     * @return concurrency limit transport (passing all requests through when {@link InterledgerClientOptions#concurrencyLimit} is disabled)
+     */
+    public ConcurrencyLimitTransport getConcurrencyLimitTransport() {
+        return concurrencyLimitTransport;
+    }
+
+    /**
+     * Gets the transport applying client side rate limits, i.e. to expose available permits as metrics.
+     *
+     * @return rate limit transport (passing all requests through when {@link InterledgerClientOptions#rateLimit} is disabled)
+     */
+    public RateLimitTransport getRateLimitTransport() {
+        return rateLimitTransport;
+    }
+
+    /**
+     * Gets the hedger of idempotent reads, i.e. to expose the number of hedges and hedge delays as metrics.
+     *
+     * @return request hedger (hedging no requests when {@link InterledgerClientOptions#hedging} is disabled)
+     */
+    public RequestHedger getRequestHedger() {
+        return hedger;
+    }
+
+    /**
+     * Gets the cache of resolved wallets.
+     *
+     * @return wallet cache (disabled when {@link InterledgerClientOptions#walletCacheSize} is 0)
+     */
+    public WalletCache getWalletCache() {
+        return walletCache;
+    }
+
+    /**
+     * Gets the logger of HTTP requests and responses, i.e. to expose the number of dropped log records as a metric.
+     *
+     * @return HTTP logger (logging nothing unless DEBUG is enabled for this class)
+     */
+    public HttpLogger getHttpLogger() {
+        return httpLogger;
+    }
+
+    /**
+     * Gets the store of captured exchanges, i.e. to dump them from an admin endpoint.
+     *
+     * @return exchange capture (capturing nothing unless {@link InterledgerClientOptions#capture} is set)
+     */
+    public ExchangeCapture getExchangeCapture() {
+        return exchangeCapture;
+    }
+
+    /**
+     * Gets the watcher polling incoming payments until they are completed, started on first use.
+     *
+     * @return payment watcher configured by {@link InterledgerClientOptions#paymentWatch}, closed with the client
+     */
+    public PaymentWatcher getPaymentWatcher() {
+        PaymentWatcher watcher = paymentWatcher;
+        if (watcher == null) {
+            synchronized (this) {
+                watcher = paymentWatcher;
+                if (watcher == null) {
+                    watcher = new PaymentWatcher(this, options.paymentWatch);
+                    paymentWatcher = watcher;
+                }
+            }
+        }
+        return watcher;
     }
 
     @Override
     public PaymentPointer getWallet(WalletAddress address) throws InterledgerClientException {
+        PaymentPointer cached = getCachedWallet(address);
+        if (cached != null) {
+            return cached;
+        }
+
+        InterledgerResponse response = exchange(ApiOperation.GET_WALLET, () -> getWalletRequest(address));
+        PaymentPointer wallet = readResponse(response, PaymentPointer.class);
+        walletCache.put(address.paymentPointer, wallet, response.headers);
+        return wallet;
+    }
+
+    /**
+     * Non-blocking variant of {@link #getWallet(WalletAddress)} sharing the same wallet cache.
+     *
+     * @param address the wallet address that facilitates, sends, or receives payments
+     * @return future completed with wallet information
+     */
+    protected CompletableFuture<PaymentPointer> getWalletAsync(WalletAddress address) {
+        PaymentPointer cached = getCachedWallet(address);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        return exchangeAsync(ApiOperation.GET_WALLET, () -> getWalletRequest(address))
+                .thenApply(response -> {
+                    PaymentPointer wallet = readResponseAsync(response, PaymentPointer.class);
+                    walletCache.put(address.paymentPointer, wallet, response.headers);
+                    return wallet;
+                });
+    }
+
+    private PaymentPointer getCachedWallet(WalletAddress address) {
+        Assert.notNull(address, "WalletAddress cannot be null");
+
+        PaymentPointer cached = walletCache.get(address.paymentPointer);
+        if (cached != null) {
+            LOGGER.debug("getWallet: {} (cached)", address);
+        }
+        return cached;
+    }
+
+    @Override
+    public PaymentFlow startPayment(WalletAddress receiver, WalletAddress sender, BigDecimal amount, URI returnUrl, String nonce) throws InterledgerClientException {
+        return await(startPaymentAsync(receiver, sender, amount, returnUrl, nonce));
+    }
+
+    /**
+     * Non-blocking variant of {@link #startPayment(WalletAddress, WalletAddress, BigDecimal, URI, String)}.
+     *
+     * @param receiver  wallet address of the receiver
+     * @param sender    wallet address of the sender
+     * @param amount    the payment amount with two decimal places precision
+     * @param returnUrl URI where the user will be redirected after payment authorization
+     * @param nonce     unique identifier to prevent replay attacks and maintain state
+     * @return future completed with the flow waiting for the user interaction
+     */
+    protected CompletableFuture<PaymentFlow> startPaymentAsync(WalletAddress receiver, WalletAddress sender, BigDecimal amount, URI returnUrl, String nonce) {
+        LOGGER.debug("startPayment: {} to: {} for: {}", sender, receiver, amount);
+        return PaymentFlow.start(this, receiver, sender, amount, returnUrl, nonce);
+    }
+
+    @Override
+    public AccessGrant createPendingGrant(PaymentPointer receiver) throws InterledgerClientException {
+        if (grantManager != null) {
+            return await(createPendingGrantAsync(receiver));
+        }
+
+        return send(ApiOperation.CREATE_PENDING_GRANT, () -> createPendingGrantRequest(receiver), AccessGrant.class);
+    }
+
+    /**
+     * Non-blocking variant of {@link #createPendingGrant(PaymentPointer)}, reusing grants when enabled.
+     *
+     * @param receiver the wallet that will receive the payment
+     * @return future completed with the access grant for incoming payments
+     */
+    protected CompletableFuture<AccessGrant> createPendingGrantAsync(PaymentPointer receiver) {
+        if (grantManager != null) {
+            Assert.notNull(receiver, "PaymentPointer receiver cannot be null");
+            return grantManager.getGrant(receiver, AccessItemType.incomingPayment, INCOMING_PAYMENT_ACTIONS,
+                    () -> sendAsync(ApiOperation.CREATE_PENDING_GRANT, () -> createPendingGrantRequest(receiver), AccessGrant.class));
+        }
+
+        return sendAsync(ApiOperation.CREATE_PENDING_GRANT, () -> createPendingGrantRequest(receiver), AccessGrant.class);
+    }
+
+    @Override
+    public IncomingPayment createIncomingPayment(PaymentPointer receiver, AccessGrant pendingGrant, BigDecimal amount) throws InterledgerClientException {
+        return send(ApiOperation.CREATE_INCOMING_PAYMENT, () -> createIncomingPaymentRequest(receiver, pendingGrant, amount), IncomingPayment.class);
+    }
+
+    @Override
+    public List<BatchResult<IncomingPayment>> createIncomingPayments(List<IncomingPaymentItem> items) throws InterledgerClientException {
+        return await(createIncomingPaymentsAsync(items));
+    }
+
+    /**
+     * Non-blocking variant of {@link #createIncomingPayments(List)}.
+     *
+     * @param items incoming payments to create
+     * @return future completed with the results in the order of the items
+     */
+    protected CompletableFuture<List<BatchResult<IncomingPayment>>> createIncomingPaymentsAsync(List<IncomingPaymentItem> items) {
+        Assert.notNull(items, "IncomingPaymentItem list cannot be null");
+        Assert.isTrue(items.stream().noneMatch(Objects::isNull), "IncomingPaymentItem cannot be null");
+        LOGGER.debug("createIncomingPayments: {} items", items.size());
+
+        // one grant per receiver, shared by all items of the receiver
+        Map<URI, CompletableFuture<AccessGrant>> grants = new ConcurrentHashMap<>();
+        return BatchExecutor.run(items, options.batchConcurrency, item ->
+                grants.computeIfAbsent(item.receiver.address, address -> createPendingGrantAsync(item.receiver))
+                        .thenCompose(grant -> sendAsync(ApiOperation.CREATE_INCOMING_PAYMENT, () -> createIncomingPaymentRequest(item.receiver, grant, item.amount), IncomingPayment.class)));
+    }
+
+    @Override
+    public AccessGrant createQuoteRequest(PaymentPointer sender) throws InterledgerClientException {
+        if (grantManager != null) {
+            return await(createQuoteRequestAsync(sender));
+        }
+
+        return send(ApiOperation.CREATE_QUOTE_REQUEST, () -> createQuoteRequestRequest(sender), AccessGrant.class);
+    }
+
+    /**
+     * Non-blocking variant of {@link #createQuoteRequest(PaymentPointer)}, reusing grants when enabled.
+     *
+     * @param sender the wallet that will send the payment
+     * @return future completed with the access grant for creating quotes
+     */
+    protected CompletableFuture<AccessGrant> createQuoteRequestAsync(PaymentPointer sender) {
+        if (grantManager != null) {
+            Assert.notNull(sender, "PaymentPointer sender cannot be null");
+            return grantManager.getGrant(sender, AccessItemType.quote, QUOTE_ACTIONS,
+                    () -> sendAsync(ApiOperation.CREATE_QUOTE_REQUEST, () -> createQuoteRequestRequest(sender), AccessGrant.class));
+        }
+
+        return sendAsync(ApiOperation.CREATE_QUOTE_REQUEST, () -> createQuoteRequestRequest(sender), AccessGrant.class);
+    }
+
+    @Override
+    public Quote createQuote(String quoteToken, PaymentPointer sender, IncomingPayment incomingPayment) throws InterledgerClientException {
+        return send(ApiOperation.CREATE_QUOTE, () -> createQuoteRequest(quoteToken, sender, incomingPayment), Quote.class);
+    }
+
+    @Override
+    public List<BatchResult<Quote>> createQuotes(List<QuoteItem> items) throws InterledgerClientException {
+        return await(createQuotesAsync(items));
+    }
+
+    /**
+     * Non-blocking variant of {@link #createQuotes(List)}.
+     *
+     * @param items quotes to create
+     * @return future completed with the results in the order of the items
+     */
+    protected CompletableFuture<List<BatchResult<Quote>>> createQuotesAsync(List<QuoteItem> items) {
+        Assert.notNull(items, "QuoteItem list cannot be null");
+        Assert.isTrue(items.stream().noneMatch(Objects::isNull), "QuoteItem cannot be null");
+        LOGGER.debug("createQuotes: {} items", items.size());
+
+        // one quote grant per sender, shared by all items of the sender
+        Map<URI, CompletableFuture<AccessGrant>> grants = new ConcurrentHashMap<>();
+        return BatchExecutor.run(items, options.batchConcurrency, item ->
+                grants.computeIfAbsent(item.sender.address, address -> createQuoteRequestAsync(item.sender))
+                        .thenCompose(grant -> sendAsync(ApiOperation.CREATE_QUOTE, () -> createQuoteRequest(extractAccessToken(grant), item.sender, item.incomingPayment), Quote.class)));
+    }
+
+    @Override
+    public OutgoingPayment continueGrant(PaymentPointer sender, Quote quote, URI returnUrl, String nonce) throws InterledgerClientException {
+        return send(ApiOperation.CONTINUE_GRANT, () -> continueGrantRequest(sender, quote, returnUrl, nonce), OutgoingPayment.class);
+    }
+
+    @Override
+    public AccessGrant finalizeGrant(OutgoingPayment outgoingPayment, String interactRef) throws InterledgerClientException {
+        return send(ApiOperation.FINALIZE_GRANT, () -> finalizeGrantRequest(outgoingPayment, interactRef), AccessGrant.class);
+    }
+
+    @Override
+    public Payment finalizePayment(AccessGrant finalizedGrant, PaymentPointer senderWallet, Quote quote) throws InterledgerClientException {
+        return send(ApiOperation.FINALIZE_PAYMENT, () -> finalizePaymentRequest(finalizedGrant, senderWallet, quote), Payment.class);
+    }
+
+    @Override
+    public IncomingPayment getIncomingPayment(IncomingPayment payment, AccessGrant grant) throws InterledgerClientException {
+        return send(ApiOperation.GET_INCOMING_PAYMENT, () -> getIncomingPaymentRequest(payment, grant), IncomingPayment.class);
+    }
+
+    @Override
+    public Stream<IncomingPayment> listIncomingPayments(PaymentPointer wallet, AccessGrant grant) {
+        validateList(wallet, grant);
+        return PageIterator.stream(cursor -> listIncomingPaymentsAsync(wallet, grant, cursor));
+    }
+
+    /**
+     * Non-blocking variant of {@link #listIncomingPayments(PaymentPointer, AccessGrant)}.
+     *
+     * @param wallet the wallet to list incoming payments of
+     * @param grant  the access grant that provides permission to list the payments
+     * @return publisher of all incoming payments of the wallet
+     */
+    protected Flow.Publisher<IncomingPayment> publishIncomingPayments(PaymentPointer wallet, AccessGrant grant) {
+        validateList(wallet, grant);
+        return new PagePublisher<>(cursor -> listIncomingPaymentsAsync(wallet, grant, cursor));
+    }
+
+    /**
+     * Requests a single page of incoming payments.
+     *
+     * @param wallet the wallet to list incoming payments of
+     * @param grant  the access grant that provides permission to list the payments
+     * @param cursor end cursor of the previous page, or null for the first page
+     * @return future completed with the page
+     */
+    protected CompletableFuture<IncomingPaymentPage> listIncomingPaymentsAsync(PaymentPointer wallet, AccessGrant grant, String cursor) {
+        return sendAsync(ApiOperation.LIST_INCOMING_PAYMENTS, () -> listPaymentsRequest(wallet, grant, "/incoming-payments", cursor), IncomingPaymentPage.class);
+    }
+
+    @Override
+    public Stream<Payment> listOutgoingPayments(PaymentPointer wallet, AccessGrant grant) {
+        validateList(wallet, grant);
+        return PageIterator.stream(cursor -> listOutgoingPaymentsAsync(wallet, grant, cursor));
+    }
+
+    /**
+     * Non-blocking variant of {@link #listOutgoingPayments(PaymentPointer, AccessGrant)}.
+     *
+     * @param wallet the wallet to list outgoing payments of
+     * @param grant  the access grant that provides permission to list the payments
+     * @return publisher of all outgoing payments of the wallet
+     */
+    protected Flow.Publisher<Payment> publishOutgoingPayments(PaymentPointer wallet, AccessGrant grant) {
+        validateList(wallet, grant);
+        return new PagePublisher<>(cursor -> listOutgoingPaymentsAsync(wallet, grant, cursor));
+    }
+
+    /**
+     * Requests a single page of outgoing payments.
+     *
+     * @param wallet the wallet to list outgoing payments of
+     * @param grant  the access grant that provides permission to list the payments
+     * @param cursor end cursor of the previous page, or null for the first page
+     * @return future completed with the page
+     */
+    protected CompletableFuture<OutgoingPaymentPage> listOutgoingPaymentsAsync(PaymentPointer wallet, AccessGrant grant, String cursor) {
+        return sendAsync(ApiOperation.LIST_OUTGOING_PAYMENTS, () -> listPaymentsRequest(wallet, grant, "/outgoing-payments", cursor), OutgoingPaymentPage.class);
+    }
+
+    private void validateList(PaymentPointer wallet, AccessGrant grant) {
+        Assert.notNull(wallet, "PaymentPointer wallet cannot be null");
+        extractAccessToken(grant);
+    }
+
+    @Override
+    public AccessGrant rotateToken(AccessGrant grant) throws InterledgerClientException {
+        AccessGrant rotated = send(ApiOperation.ROTATE_TOKEN, () -> rotateTokenRequest(grant), AccessGrant.class);
+        return withContinue(rotated, grant);
+    }
+
+    /**
+     * Non-blocking variant of {@link #rotateToken(AccessGrant)}.
+     *
+     * @param grant the grant holding the access token to rotate
+     * @return future completed with the grant holding the new access token
+     */
+    protected CompletableFuture<AccessGrant> rotateTokenAsync(AccessGrant grant) {
+        return sendAsync(ApiOperation.ROTATE_TOKEN, () -> rotateTokenRequest(grant), AccessGrant.class)
+                .thenApply(rotated -> withContinue(rotated, grant));
+    }
+
+    @Override
+    public void revokeToken(AccessGrant grant) throws InterledgerClientException {
+        send(ApiOperation.REVOKE_TOKEN, () -> revokeTokenRequest(grant), Void.class);
+    }
+
+    /**
+     * Non-blocking variant of {@link #revokeToken(AccessGrant)}.
+     *
+     * @param grant the grant holding the access token to revoke
+     * @return future completed once the token is revoked
+     */
+    protected CompletableFuture<Void> revokeTokenAsync(AccessGrant grant) {
+        return sendAsync(ApiOperation.REVOKE_TOKEN, () -> revokeTokenRequest(grant), Void.class);
+    }
+
+    /**
+     * Revokes access tokens of reused grants (when {@link InterledgerClientOptions#grantReuse} is enabled)
+     * and stops the {@link PaymentWatcher}, cancelling all watches. Buffered HTTP log records are written.
+     * The transport and its connections are released once the client is no longer referenced.
+     */
+    @Override
+    public void close() {
+        PaymentWatcher watcher = paymentWatcher;
+        if (watcher != null) {
+            watcher.close();
+        }
+        if (grantManager != null) {
+            grantManager.close();
+        }
+        httpLogger.close();
+    }
+
+    /**
+     * The rotation response holds only the access token, continuation stays the same.
+     */
+    private static AccessGrant withContinue(AccessGrant rotated, AccessGrant original) {
+        if (rotated.accessContinue == null) {
+            rotated.accessContinue = original.accessContinue;
+        }
+        return rotated;
+    }
+
+    /**
+     * Waits for the result of a non-blocking call.
+     *
+     * @param future future to wait for
+     * @param <T>    type of result
+     * @return result
+     * @throws InterledgerClientException in case the future completed exceptionally or the thread was interrupted
+     */
+    private static <T> T await(CompletableFuture<T> future) throws InterledgerClientException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterledgerClientException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof InterledgerClientException exception) {
+                throw exception;
+            }
+            throw new InterledgerClientException(cause);
+        }
+    }
+
+    /*
+     * Request factories
+     *
+     * Each API call is split into building the (signed) request and sending it, so the blocking
+     * and the asynchronous client share the same validation, signing and logging.
+     */
+
+    protected HttpRequest getWalletRequest(WalletAddress address) {
         Assert.notNull(address, "WalletAddress cannot be null");
         LOGGER.debug("getWallet: {}", address);
 
-        var request = HttpRequest.newBuilder(address.paymentPointer)
+        return HttpRequest.newBuilder(address.paymentPointer)
                 .GET()
                 .header(ACCEPT_HEADER.toLowerCase(), APPLICATION_JSON)
                 .timeout(Duration.of(options.timeOutInSeconds, SECONDS))
                 .build();
-
-        return send(request, PaymentPointer.class);
     }
 
-    @Override
-    public AccessGrant createPendingGrant(PaymentPointer receiver) throws InterledgerClientException {
+    protected HttpRequest createPendingGrantRequest(PaymentPointer receiver) {
         Assert.notNull(receiver, "PaymentPointer receiver cannot be null");
         LOGGER.debug("createPendingGrant: {}", receiver);
 
         GrantAccessRequest accessRequest = GrantAccessRequest.build(clientWallet,
                 AccessItemType.incomingPayment,
-                Set.of(AccessAction.read, AccessAction.complete, AccessAction.create));
+                INCOMING_PAYMENT_ACTIONS);
 
-        HttpRequest request = new SignatureRequestBuilder(privateKey, keyId, mapper)
+        return new SignatureRequestBuilder(signer, mapper)
                 .POST(accessRequest)
                 .target(receiver.authServer)
                 .getRequest(options);
-
-        return send(request, AccessGrant.class);
     }
 
-    @Override
-    public IncomingPayment createIncomingPayment(PaymentPointer receiver, AccessGrant pendingGrant, BigDecimal amount) throws InterledgerClientException {
+    protected HttpRequest createIncomingPaymentRequest(PaymentPointer receiver, AccessGrant pendingGrant, BigDecimal amount) {
         Assert.notNull(receiver, "PaymentPointer receiver cannot be null");
         Assert.notNull(pendingGrant, "AccessGrant pendingGrant cannot be null");
         Assert.notNull(amount, "BigDecimal amount cannot be null");
@@ -189,34 +705,28 @@ public class InterledgerApiClientImpl implements InterledgerApiClient {
 
         PaymentRequest paymentRequest = PaymentRequest.build(receiver, amount, options.transactionExpirationInSeconds);
 
-        HttpRequest request = new SignatureRequestBuilder(privateKey, keyId, mapper)
+        return new SignatureRequestBuilder(signer, mapper)
                 .POST(paymentRequest)
                 .target(buildResourceUrl(receiver.resourceServer, "/incoming-payments"))
                 .accessToken(extractAccessToken(pendingGrant))
                 .getRequest(options);
-
-        return send(request, IncomingPayment.class);
     }
 
-    @Override
-    public AccessGrant createQuoteRequest(PaymentPointer sender) throws InterledgerClientException {
+    protected HttpRequest createQuoteRequestRequest(PaymentPointer sender) {
         Assert.notNull(sender, "PaymentPointer sender cannot be null");
         LOGGER.debug("createQuoteRequest: {}", sender);
 
         GrantAccessRequest accessRequest = GrantAccessRequest.build(clientWallet,
                 AccessItemType.quote,
-                Set.of(AccessAction.read, AccessAction.create));
+                QUOTE_ACTIONS);
 
-        HttpRequest request = new SignatureRequestBuilder(privateKey, keyId, mapper)
+        return new SignatureRequestBuilder(signer, mapper)
                 .POST(accessRequest)
                 .target(sender.authServer)
                 .getRequest(options);
-
-        return send(request, AccessGrant.class);
     }
 
-    @Override
-    public Quote createQuote(String quoteToken, PaymentPointer sender, IncomingPayment incomingPayment) throws InterledgerClientException {
+    protected HttpRequest createQuoteRequest(String quoteToken, PaymentPointer sender, IncomingPayment incomingPayment) {
         Assert.notNullOrEmpty(quoteToken, "Quote token cannot be null or empty");
         Assert.notNull(sender, "PaymentPointer sender cannot be null");
         Assert.notNull(incomingPayment, "IncomingPayment cannot be null");
@@ -226,17 +736,14 @@ public class InterledgerApiClientImpl implements InterledgerApiClient {
                 incomingPayment.id.toString(),
                 ILP_METHOD);
 
-        HttpRequest request = new SignatureRequestBuilder(privateKey, keyId, mapper)
+        return new SignatureRequestBuilder(signer, mapper)
                 .POST(quoteRequest)
                 .target(buildResourceUrl(sender.resourceServer, "/quotes"))
                 .accessToken(quoteToken)
                 .getRequest(options);
-
-        return send(request, Quote.class);
     }
 
-    @Override
-    public OutgoingPayment continueGrant(PaymentPointer sender, Quote quote, URI returnUrl, String nonce) throws InterledgerClientException {
+    protected HttpRequest continueGrantRequest(PaymentPointer sender, Quote quote, URI returnUrl, String nonce) {
         Assert.notNull(sender, "PaymentPointer sender cannot be null");
         Assert.notNull(quote, "Quote cannot be null");
         Assert.notNull(returnUrl, "Return URL cannot be null");
@@ -249,33 +756,27 @@ public class InterledgerApiClientImpl implements InterledgerApiClient {
                         sender.address, quote.debitAmount)
                 .redirectInteract(returnUrl, nonce);
 
-        HttpRequest request = new SignatureRequestBuilder(privateKey, keyId, mapper)
+        return new SignatureRequestBuilder(signer, mapper)
                 .POST(accessRequest)
                 .target(sender.authServer)
                 .getRequest(options);
-
-        return send(request, OutgoingPayment.class);
     }
 
-    @Override
-    public AccessGrant finalizeGrant(OutgoingPayment outgoingPayment, String interactRef) throws InterledgerClientException {
+    protected HttpRequest finalizeGrantRequest(OutgoingPayment outgoingPayment, String interactRef) {
         Assert.notNull(outgoingPayment, "OutgoingPayment cannot be null");
         Assert.notNullOrEmpty(interactRef, "Interact reference cannot be null or empty");
         LOGGER.debug("finalizeGrant: {} for: {}", outgoingPayment, interactRef);
 
         InteractRef ref = InteractRef.build(interactRef);
 
-        HttpRequest request = new SignatureRequestBuilder(privateKey, keyId, mapper)
+        return new SignatureRequestBuilder(signer, mapper)
                 .POST(ref)
                 .target(outgoingPayment.paymentContinue.uri)
                 .accessToken(extractContinueAccessToken(outgoingPayment))
                 .getRequest(options);
-
-        return send(request, AccessGrant.class);
     }
 
-    @Override
-    public Payment finalizePayment(AccessGrant finalizedGrant, PaymentPointer senderWallet, Quote quote) throws InterledgerClientException {
+    protected HttpRequest finalizePaymentRequest(AccessGrant finalizedGrant, PaymentPointer senderWallet, Quote quote) {
         Assert.notNull(finalizedGrant, "AccessGrant finalizedGrant cannot be null");
         Assert.notNull(senderWallet, "PaymentPointer senderWallet cannot be null");
         Assert.notNull(quote, "Quote cannot be null");
@@ -285,28 +786,63 @@ public class InterledgerApiClientImpl implements InterledgerApiClient {
         outgoingPayment.quoteId = quote.id;
         outgoingPayment.walletAddress = senderWallet.address;
 
-        HttpRequest request = new SignatureRequestBuilder(privateKey, keyId, mapper)
+        return new SignatureRequestBuilder(signer, mapper)
                 .POST(outgoingPayment)
                 .target(buildResourceUrl(senderWallet.resourceServer, "/outgoing-payments"))
                 .accessToken(extractAccessToken(finalizedGrant))
                 .getRequest(options);
-
-        return send(request, Payment.class);
     }
 
-    @Override
-    public IncomingPayment getIncomingPayment(IncomingPayment payment, AccessGrant grant) throws InterledgerClientException {
+    protected HttpRequest getIncomingPaymentRequest(IncomingPayment payment, AccessGrant grant) {
         Assert.notNull(payment, "IncomingPayment cannot be null");
         Assert.notNull(grant, "AccessGrant cannot be null");
         LOGGER.debug("getIncomingPayment: {}", payment);
 
-        HttpRequest request = new SignatureRequestBuilder(privateKey, keyId, mapper)
+        return new SignatureRequestBuilder(signer, mapper)
                 .GET()
                 .target(payment.id)
                 .accessToken(extractAccessToken(grant))
                 .getRequest(options);
+    }
+
+    protected HttpRequest listPaymentsRequest(PaymentPointer wallet, AccessGrant grant, String path, String cursor) {
+        Assert.notNull(wallet, "PaymentPointer wallet cannot be null");
+        LOGGER.debug("listPayments: {}{} after: {}", wallet, path, cursor);
 
-        return send(request, IncomingPayment.class);
+        StringBuilder query = new StringBuilder(path)
+                .append("?wallet-address=").append(URLEncoder.encode(wallet.address.toString(), StandardCharsets.UTF_8))
+                .append("&first=").append(options.listPageSize);
+        if (cursor != null) {
+            query.append("&cursor=").append(URLEncoder.encode(cursor, StandardCharsets.UTF_8));
+        }
+
+        return new SignatureRequestBuilder(signer, mapper)
+                .GET()
+                .target(buildResourceUrl(wallet.resourceServer, query.toString()))
+                .accessToken(extractAccessToken(grant))
+                .getRequest(options);
+    }
+
+    protected HttpRequest rotateTokenRequest(AccessGrant grant) {
+        Assert.notNull(grant, "AccessGrant cannot be null");
+        LOGGER.debug("rotateToken: {}", grant);
+
+        return new SignatureRequestBuilder(signer, mapper)
+                .POST()
+                .target(extractManageUrl(grant))
+                .accessToken(extractAccessToken(grant))
+                .getRequest(options);
+    }
+
+    protected HttpRequest revokeTokenRequest(AccessGrant grant) {
+        Assert.notNull(grant, "AccessGrant cannot be null");
+        LOGGER.debug("revokeToken: {}", grant);
+
+        return new SignatureRequestBuilder(signer, mapper)
+                .DELETE()
+                .target(extractManageUrl(grant))
+                .accessToken(extractAccessToken(grant))
+                .getRequest(options);
     }
 
     /**
@@ -316,11 +852,12 @@ public class InterledgerApiClientImpl implements InterledgerApiClient {
      * @return the access token string
      * @throws IllegalArgumentException if grant, grant.access, or grant.access.token is null
      */
-    private String extractAccessToken(AccessGrant grant) {
+    String extractAccessToken(AccessGrant grant) {
         Assert.notNull(grant, "AccessGrant cannot be null");
         Assert.notNull(grant.access, "AccessGrant.access cannot be null");
         Assert.notNull(grant.access.token, "AccessGrant.access.token cannot be null");
-        return grant.access.token;
+        // reused grants are looked up for every call, the token may have been rotated since the grant was handed out
+        return grantManager != null ? grantManager.getToken(grant) : grant.access.token;
     }
 
     /**
@@ -338,6 +875,19 @@ public class InterledgerApiClientImpl implements InterledgerApiClient {
         return outgoingPayment.paymentContinue.access.token;
     }
 
+    /**
+     * Extracts the token management URL from an access grant.
+     *
+     * @param grant the access grant
+     * @return the token management URL
+     * @throws IllegalArgumentException if grant, access, or manage URL is null
+     */
+    private URI extractManageUrl(AccessGrant grant) {
+        Assert.notNull(grant.access, "AccessGrant.access cannot be null");
+        Assert.notNull(grant.access.manage, "AccessGrant.access.manage cannot be null");
+        return grant.access.manage;
+    }
+
     /**
      * Safely builds a resource URL by appending a path to a base URI
      *
@@ -363,6 +913,9 @@ public class InterledgerApiClientImpl implements InterledgerApiClient {
     /**
      * Sends an HTTP request and processes the response to return the desired type.
      *
+     * <p>Transient failures are retried according to {@link InterledgerClientOptions#retryPolicy}, resending the
+     * given request as is. Use {@link #send(Supplier, Class)} to sign the request again for each attempt.
+     *
      * @param <T>          represents the type of the response object to be returned after deserialization.
      * @param request      the HTTP request to be sent
      * @param responseType the class type of the response object to be returned
@@ -371,26 +924,533 @@ public class InterledgerApiClientImpl implements InterledgerApiClient {
      *                                    or deserialization process
      */
     public <T> T send(HttpRequest request, Class<T> responseType) throws InterledgerClientException {
+        return send(ApiOperation.OTHER, () -> request, responseType);
+    }
+
+    /**
+     * Builds, sends an HTTP request and processes the response to return the desired type.
+     *
+     * <p>The request is built immediately (so invalid arguments are reported to the caller), and built again
+     * for every retry of a transient failure, so each attempt is signed with a fresh timestamp.
+     *
+     * @param <T>            represents the type of the response object to be returned after deserialization.
+     * @param requestBuilder builds the (signed) HTTP request to be sent
+     * @param responseType   the class type of the response object to be returned
+     * @return the deserialized response of type T
+     * @throws InterledgerClientException if an error occurs during the request, response handling,
+     *                                    or deserialization process
+     */
+    public <T> T send(Supplier<HttpRequest> requestBuilder, Class<T> responseType) throws InterledgerClientException {
+        return send(ApiOperation.OTHER, requestBuilder, responseType);
+    }
+
+    /**
+     * Builds, sends an HTTP request of an API call and processes the response to return the desired type.
+     *
+     * <p>Same as {@link #send(Supplier, Class)}, the exchanges are reported to the metrics listener and capture
+     * under the given operation.
+     *
+     * @param <T>            represents the type of the response object to be returned after deserialization.
+     * @param operation      API call the request is sent for
+     * @param requestBuilder builds the (signed) HTTP request to be sent
+     * @param responseType   the class type of the response object to be returned
+     * @return the deserialized response of type T
+     * @throws InterledgerClientException if an error occurs during the request, response handling,
+     *                                    or deserialization process
+     */
+    public <T> T send(ApiOperation operation, Supplier<HttpRequest> requestBuilder, Class<T> responseType) throws InterledgerClientException {
+        HttpRequest request = requestBuilder.get();
+        InterledgerResponse response = exchange(operation, request, requestBuilder);
+
+        CompletableFuture<?> renewal = renewRejectedGrant(operation, request, response);
+        if (renewal != null && renewed(renewal)) {
+            request = requestBuilder.get();
+            response = exchange(operation, request, requestBuilder);
+            checkRejectedToken(request, response);
+        }
+        return readResponse(response, responseType);
+    }
+
+    /**
+     * Sends an HTTP request without blocking the calling thread.
+     *
+     * <p>The request is logged, sent with {@link InterledgerTransport#exchangeAsync} and the response is checked and
+     * deserialized exactly as in {@link #send(HttpRequest, Class)}. Failures complete the returned future
+     * exceptionally with an {@link InterledgerClientException}.
+     *
+     * @param <T>          represents the type of the response object to be returned after deserialization.
+     * @param request      the HTTP request to be sent
+     * @param responseType the class type of the response object to be returned
+     * @return future completed with the deserialized response of type T
+     */
+    public <T> CompletableFuture<T> sendAsync(HttpRequest request, Class<T> responseType) {
+        return sendAsync(ApiOperation.OTHER, () -> request, responseType);
+    }
+
+    /**
+     * Builds and sends an HTTP request without blocking the calling thread.
+     *
+     * <p>Same as {@link #send(Supplier, Class)}, retries are scheduled after the backoff delay without holding a thread.
+     *
+     * @param <T>            represents the type of the response object to be returned after deserialization.
+     * @param requestBuilder builds the (signed) HTTP request to be sent
+     * @param responseType   the class type of the response object to be returned
+     * @return future completed with the deserialized response of type T
+     */
+    public <T> CompletableFuture<T> sendAsync(Supplier<HttpRequest> requestBuilder, Class<T> responseType) {
+        return sendAsync(ApiOperation.OTHER, requestBuilder, responseType);
+    }
+
+    /**
+     * Builds and sends an HTTP request of an API call without blocking the calling thread.
+     *
+     * <p>Same as {@link #sendAsync(Supplier, Class)}, the exchanges are reported to the metrics listener and capture
+     * under the given operation.
+     *
+     * @param <T>            represents the type of the response object to be returned after deserialization.
+     * @param operation      API call the request is sent for
+     * @param requestBuilder builds the (signed) HTTP request to be sent
+     * @param responseType   the class type of the response object to be returned
+     * @return future completed with the deserialized response of type T
+     */
+    public <T> CompletableFuture<T> sendAsync(ApiOperation operation, Supplier<HttpRequest> requestBuilder, Class<T> responseType) {
+        HttpRequest request = requestBuilder.get();
+        return exchangeAsync(operation, request, requestBuilder)
+                .thenCompose(response -> {
+                    CompletableFuture<?> renewal = renewRejectedGrant(operation, request, response);
+                    if (renewal == null) {
+                        return CompletableFuture.completedFuture(response);
+                    }
+
+                    return renewal.handle((grant, throwable) -> {
+                                if (throwable != null) {
+                                    LOGGER.warn("Failed to renew rejected grant.", throwable);
+                                }
+                                return throwable == null;
+                            })
+                            .thenCompose(renewed -> renewed ? resendAsync(operation, requestBuilder) : CompletableFuture.completedFuture(response));
+                })
+                .thenApply(response -> readResponseAsync(response, responseType));
+    }
+
+    private CompletableFuture<InterledgerResponse> resendAsync(ApiOperation operation, Supplier<HttpRequest> requestBuilder) {
+        HttpRequest request = requestBuilder.get();
+        return exchangeAsync(operation, request, requestBuilder)
+                .thenApply(response -> {
+                    checkRejectedToken(request, response);
+                    return response;
+                });
+    }
+
+    /**
+     * Renews a reused grant once its access token is rejected by a resource server, so the call can be repeated.
+     *
+     * @return future completed once the grant is renewed, or null if the call is not repeated
+     */
+    private CompletableFuture<?> renewRejectedGrant(ApiOperation operation, HttpRequest request, InterledgerResponse response) {
+        String token = getRejectedToken(request, response);
+        if (token == null) {
+            return null;
+        }
+
+        // token management calls are part of the renewal itself, repeating them would wait for their own outcome
+        if (operation == ApiOperation.ROTATE_TOKEN || operation == ApiOperation.REVOKE_TOKEN) {
+            grantManager.invalidate(token);
+            return null;
+        }
+
+        return grantManager.renew(token);
+    }
+
+    private boolean renewed(CompletableFuture<?> renewal) throws InterledgerClientException {
         try {
-            httpLogger.logRequest(request);
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-            httpLogger.logResponse(response);
+            renewal.get();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterledgerClientException(e);
+        } catch (ExecutionException e) {
+            LOGGER.warn("Failed to renew rejected grant.", e.getCause());
+            return false;
+        }
+    }
+
+    /**
+     * Invalidates a reused grant once its access token is rejected, so the next call obtains a new grant.
+     */
+    private void checkRejectedToken(HttpRequest request, InterledgerResponse response) {
+        String token = getRejectedToken(request, response);
+        if (token != null) {
+            grantManager.invalidate(token);
+        }
+    }
+
+    private String getRejectedToken(HttpRequest request, InterledgerResponse response) {
+        if (grantManager == null || response.statusCode != UNAUTHORIZED) {
+            return null;
+        }
+
+        return request.headers().firstValue(AUTHORIZATION_HEADER)
+                .filter(value -> value.startsWith(GNAP_PREFIX))
+                .map(value -> value.substring(GNAP_PREFIX.length()))
+                .orElse(null);
+    }
+
+    /**
+     * Builds and sends the request, retrying transient failures according to the {@link RetryPolicy}.
+     *
+     * @param operation      API call the request is sent for
+     * @param requestBuilder builds the (signed) HTTP request, called again for every attempt
+     * @return received response (any status code)
+     * @throws InterledgerClientException in case the request could not be sent or was interrupted
+     */
+    protected InterledgerResponse exchange(ApiOperation operation, Supplier<HttpRequest> requestBuilder) throws InterledgerClientException {
+        return exchange(operation, requestBuilder.get(), requestBuilder);
+    }
 
-            if (response.statusCode() < 200 || response.statusCode() >= 300) {
-                handleHttpError(response);
+    private InterledgerResponse exchange(ApiOperation operation, HttpRequest request, Supplier<HttpRequest> requestBuilder) throws InterledgerClientException {
+        if (!retryPolicy.isEnabled()) {
+            return exchangeAttempt(operation, request, requestBuilder, 1);
+        }
+
+        long start = System.nanoTime();
+        for (int attempt = 1; ; attempt++) {
+            Duration delay;
+            try {
+                InterledgerResponse response = exchangeAttempt(operation, request, requestBuilder, attempt);
+                delay = retryPolicy.getDelay(request.method(), attempt, elapsedSince(start), response);
+                if (delay == null) {
+                    return response;
+                }
+                logRetry(request, attempt, delay, "status " + response.statusCode);
+
+            } catch (InterledgerClientException e) {
+                delay = retryPolicy.getDelay(request.method(), attempt, elapsedSince(start), e);
+                if (delay == null) {
+                    throw e;
+                }
+                logRetry(request, attempt, delay, e.getMessage());
+            }
+
+            try {
+                Thread.sleep(delay.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterledgerClientException(e);
             }
 
-            // deserialize
-            return mapper.readValue(response.body(), responseType);
+            request = requestBuilder.get();
+        }
+    }
 
-        } catch (IOException e) {
+    /**
+     * Sends a single attempt, reporting it to the {@link InterledgerMetricsListener} and {@link ExchangeCapture} (if any).
+     */
+    private InterledgerResponse exchangeAttempt(ApiOperation operation, HttpRequest request, Supplier<HttpRequest> requestBuilder, int attempt) throws InterledgerClientException {
+        if (!observed) {
+            return exchangeAttempt(operation, request, requestBuilder);
+        }
+
+        long start = System.nanoTime();
+        try {
+            InterledgerResponse response = exchangeAttempt(operation, request, requestBuilder);
+            recordExchange(operation, request, attempt, start, response, null);
+            return response;
+        } catch (InterledgerClientException e) {
+            recordExchange(operation, request, attempt, start, null, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Sends a single attempt, hedged if the request is an idempotent read and hedging is enabled.
+     */
+    private InterledgerResponse exchangeAttempt(ApiOperation operation, HttpRequest request, Supplier<HttpRequest> requestBuilder) throws InterledgerClientException {
+        if (!hedger.isHedged(request)) {
+            return exchange(operation, request);
+        }
+
+        CompletableFuture<InterledgerResponse> hedged = exchangeAttemptAsync(operation, request, requestBuilder);
+        try {
+            return hedged.get();
+        } catch (InterruptedException e) {
+            hedged.cancel(true);
+            Thread.currentThread().interrupt();
             throw new InterledgerClientException(e);
+        } catch (ExecutionException e) {
+            throw (InterledgerClientException) e.getCause(); // exchangeAsync fails with InterledgerClientException only
+        }
+    }
+
+    /**
+     * Sends a single attempt without blocking, reporting it to the {@link InterledgerMetricsListener} and {@link ExchangeCapture} (if any).
+     */
+    private CompletableFuture<InterledgerResponse> exchangeAttemptAsync(ApiOperation operation, HttpRequest request, Supplier<HttpRequest> requestBuilder, int attempt) {
+        if (!observed) {
+            return exchangeAttemptAsync(operation, request, requestBuilder);
+        }
+
+        long start = System.nanoTime();
+        return exchangeAttemptAsync(operation, request, requestBuilder)
+                .whenComplete((response, throwable) -> recordExchange(operation, request, attempt, start, response, throwable));
+    }
+
+    /**
+     * Reports an exchange to the metrics listener and capture, a failing listener never fails the call.
+     */
+    private void recordExchange(ApiOperation operation, HttpRequest request, int attempt, long start, InterledgerResponse response, Throwable failure) {
+        long duration = System.nanoTime() - start;
+        InterledgerClientException error = failure != null ? asClientException(failure) : null;
+
+        if (metricsListener != InterledgerMetricsListener.NONE) {
+            try {
+                long bytesSent = request.bodyPublisher().map(HttpRequest.BodyPublisher::contentLength).orElse(0L);
+                metricsListener.onExchange(new ExchangeEvent(operation,
+                        request.method(),
+                        request.uri(),
+                        attempt,
+                        response != null ? response.statusCode : 0,
+                        Math.max(bytesSent, 0),
+                        response != null ? response.body.length : 0,
+                        duration,
+                        error));
+            } catch (RuntimeException e) {
+                LOGGER.warn("Metrics listener failed to record exchange: {} {}", request.method(), request.uri(), e);
+            }
+        }
+
+        try {
+            exchangeCapture.onExchange(operation, request, attempt, duration, response, error);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to capture exchange: {} {}", request.method(), request.uri(), e);
+        }
+    }
+
+    /**
+     * Sends a single attempt without blocking, hedged if the request is an idempotent read and hedging is enabled.
+     * Hedges bypass request coalescing, otherwise they would join the in-flight request they should race.
+     */
+    private CompletableFuture<InterledgerResponse> exchangeAttemptAsync(ApiOperation operation, HttpRequest request, Supplier<HttpRequest> requestBuilder) {
+        if (!hedger.isHedged(request)) {
+            return exchangeAsync(operation, request, transport);
+        }
+
+        return hedger.exchange(request, requestBuilder,
+                first -> exchangeAsync(operation, first, transport),
+                hedge -> exchangeAsync(operation, hedge, rateLimitTransport));
+    }
+
+    /**
+     * Logs and sends the request through the transport.
+     *
+     * @param request the HTTP request to be sent
+     * @return received response (any status code)
+     * @throws InterledgerClientException in case the request was interrupted, an {@link InterledgerConnectionException}
+     *                                    if the request could not be exchanged or an {@link InterledgerCircuitOpenException}
+     *                                    if it was rejected by an open circuit breaker
+     */
+    protected InterledgerResponse exchange(HttpRequest request) throws InterledgerClientException {
+        return exchange(ApiOperation.OTHER, request);
+    }
+
+    /**
+     * Logs and sends the request through the transport, tagged with the API call it is sent for.
+     */
+    private InterledgerResponse exchange(ApiOperation operation, HttpRequest request) throws InterledgerClientException {
+        try {
+            httpLogger.logRequest(request);
+            return transport.exchange(new ApiRequest(operation, request));
+
+        } catch (IOException e) {
+            throw asExchangeException(e);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             throw new InterledgerClientException(e);
         }
     }
 
+    /**
+     * Builds and sends the request without blocking the calling thread,
+     * retrying transient failures according to the {@link RetryPolicy}.
+     *
+     * @param operation      API call the request is sent for
+     * @param requestBuilder builds the (signed) HTTP request, called again for every attempt
+     * @return future completed with the received response (any status code),
+     * or exceptionally with an {@link InterledgerClientException} if the request could not be sent
+     */
+    protected CompletableFuture<InterledgerResponse> exchangeAsync(ApiOperation operation, Supplier<HttpRequest> requestBuilder) {
+        return exchangeAsync(operation, requestBuilder.get(), requestBuilder);
+    }
+
+    private CompletableFuture<InterledgerResponse> exchangeAsync(ApiOperation operation, HttpRequest request, Supplier<HttpRequest> requestBuilder) {
+        if (!retryPolicy.isEnabled()) {
+            return exchangeAttemptAsync(operation, request, requestBuilder, 1);
+        }
+
+        return exchangeAsync(operation, request, requestBuilder, 1, System.nanoTime());
+    }
+
+    private CompletableFuture<InterledgerResponse> exchangeAsync(ApiOperation operation, HttpRequest request, Supplier<HttpRequest> requestBuilder, int attempt, long start) {
+        return exchangeAttemptAsync(operation, request, requestBuilder, attempt)
+                .handle((response, throwable) -> {
+                    Duration delay;
+                    if (throwable == null) {
+                        delay = retryPolicy.getDelay(request.method(), attempt, elapsedSince(start), response);
+                        if (delay == null) {
+                            return CompletableFuture.completedFuture(response);
+                        }
+                        logRetry(request, attempt, delay, "status " + response.statusCode);
+
+                    } else {
+                        CompletionException failure = asCompletionException(throwable);
+                        InterledgerClientException cause = (InterledgerClientException) failure.getCause();
+                        delay = retryPolicy.getDelay(request.method(), attempt, elapsedSince(start), cause);
+                        if (delay == null) {
+                            return CompletableFuture.<InterledgerResponse>failedFuture(failure);
+                        }
+                        logRetry(request, attempt, delay, cause.getMessage());
+                    }
+
+                    Executor delayed = CompletableFuture.delayedExecutor(delay.toMillis(), TimeUnit.MILLISECONDS);
+                    return CompletableFuture.supplyAsync(requestBuilder, delayed)
+                            .thenCompose(next -> exchangeAsync(operation, next, requestBuilder, attempt + 1, start));
+                })
+                .thenCompose(future -> future);
+    }
+
+    /**
+     * Logs and sends the request through the transport without blocking the calling thread.
+     *
+     * @param request the HTTP request to be sent
+     * @return future completed with the received response (any status code),
+     * or exceptionally with an {@link InterledgerConnectionException} if the request could not be exchanged
+     * (or {@link InterledgerCircuitOpenException} if it was rejected by an open circuit breaker)
+     */
+    protected CompletableFuture<InterledgerResponse> exchangeAsync(HttpRequest request) {
+        return exchangeAsync(ApiOperation.OTHER, request, transport);
+    }
+
+    private CompletableFuture<InterledgerResponse> exchangeAsync(ApiOperation operation, HttpRequest request, InterledgerTransport via) {
+        httpLogger.logRequest(request);
+
+        CompletableFuture<InterledgerResponse> exchange = via.exchangeAsync(new ApiRequest(operation, request));
+        // i.e. a lost hedge is cancelled, the transport must release its slot and breaker permit
+        return InterledgerTransport.cancelling(exchange.handle((response, throwable) -> {
+            if (throwable != null) {
+                Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+                throw asCompletionException(cause instanceof IOException ioException ? asExchangeException(ioException) : cause);
+            }
+
+            return response;
+        }), exchange);
+    }
+
+    /**
+     * Maps a failed exchange to the matching exception type.
+     *
+     * @param e transport failure
+     * @return {@link InterledgerCircuitOpenException} if the request was rejected by an open circuit breaker,
+     * {@link InterledgerConcurrencyLimitException} or {@link InterledgerRateLimitException} if it was rejected by a limit,
+     * {@link InterledgerConnectionException} otherwise
+     */
+    private static InterledgerClientException asExchangeException(IOException e) {
+        if (e instanceof CircuitBreakerOpenException rejected) {
+            return new InterledgerCircuitOpenException(rejected);
+        }
+
+        if (e instanceof ConcurrencyLimitExceededException rejected) {
+            return new InterledgerConcurrencyLimitException(rejected);
+        }
+
+        if (e instanceof RateLimitExceededException rejected) {
+            return new InterledgerRateLimitException(rejected);
+        }
+
+        return new InterledgerConnectionException(e);
+    }
+
+    private static Duration elapsedSince(long start) {
+        return Duration.ofNanos(System.nanoTime() - start);
+    }
+
+    private static void logRetry(HttpRequest request, int attempt, Duration delay, String reason) {
+        LOGGER.info("Retrying {} {} in {} ms (attempt {} failed: {})", request.method(), request.uri(), delay.toMillis(), attempt, reason);
+    }
+
+    /**
+     * Checks the response and deserializes the body.
+     *
+     * @param response     received response
+     * @param responseType the class type of the response object to be returned
+     * @param <T>          represents the type of the response object
+     * @return the deserialized response of type T
+     * @throws InterledgerClientException in case of an error response or invalid body
+     */
+    protected <T> T readResponse(InterledgerResponse response, Class<T> responseType) throws InterledgerClientException {
+        try {
+            return handleResponse(response, responseType);
+        } catch (IOException e) {
+            throw new InterledgerClientException(e);
+        }
+    }
+
+    /**
+     * Same as {@link #readResponse(InterledgerResponse, Class)} for use in future stages,
+     * failures are thrown as {@link CompletionException} with an {@link InterledgerClientException} as cause.
+     */
+    private <T> T readResponseAsync(InterledgerResponse response, Class<T> responseType) {
+        try {
+            return handleResponse(response, responseType);
+        } catch (InterledgerClientException | IOException e) {
+            throw asCompletionException(e);
+        }
+    }
+
+    /**
+     * Logs the response, maps non 2xx status codes to exceptions and deserializes the body.
+     * The body is parsed directly from the received bytes, it is only decoded to a String on errors.
+     *
+     * @param response     received HTTP response
+     * @param responseType the class type of the response object to be returned
+     * @param <T>          represents the type of the response object
+     * @return the deserialized response of type T
+     */
+    private <T> T handleResponse(InterledgerResponse response, Class<T> responseType) throws InterledgerClientException, IOException {
+        httpLogger.logResponse(response);
+
+        if (!response.isSuccess()) {
+            handleHttpError(response);
+        }
+
+        if (responseType == Void.class) {
+            return null; // no content expected (i.e. 204 on delete)
+        }
+
+        // deserialize
+        return mapper.readValue(response.body, responseType);
+    }
+
+    /**
+     * Wraps a failure of an asynchronous call so the future completes with an {@link InterledgerClientException}.
+     *
+     * @param throwable failure as reported by the HTTP client or the response handling
+     * @return completion exception with an {@link InterledgerClientException} as cause
+     */
+    private static CompletionException asCompletionException(Throwable throwable) {
+        return new CompletionException(asClientException(throwable));
+    }
+
+    /**
+     * Unwraps the failure of a future, wrapping anything but an {@link InterledgerClientException}.
+     *
+     * @param throwable failure of a future, possibly wrapped into a {@link CompletionException}
+     * @return failure as client exception
+     */
+    static InterledgerClientException asClientException(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+        return cause instanceof InterledgerClientException exception ? exception : new InterledgerClientException(cause);
+    }
+
     /**
      * Handles HTTP error responses with different logging and error handling strategies
      * based on status code ranges
@@ -398,9 +1458,9 @@ public class InterledgerApiClientImpl implements InterledgerApiClient {
      * @param response the HTTP response with error status code
      * @throws InterledgerClientException wrapping the appropriate error information
      */
-    private void handleHttpError(HttpResponse<String> response) throws InterledgerClientException, IOException {
-        int statusCode = response.statusCode();
-        ApiError error = mapper.readError(response.body(), statusCode);
+    private void handleHttpError(InterledgerResponse response) throws InterledgerClientException, IOException {
+        int statusCode = response.statusCode;
+        ApiError error = mapper.readError(response.body, statusCode);
 
         if (statusCode >= 400 && statusCode < 500) {
             // 4xx - Client errors (bad request, unauthorized, forbidden, not found, etc.)
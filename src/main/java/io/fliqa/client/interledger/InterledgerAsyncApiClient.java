@@ -0,0 +1,246 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger;
+
+import io.fliqa.client.interledger.exception.InterledgerClientException;
+import io.fliqa.client.interledger.model.*;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * Non-blocking variant of the {@link InterledgerApiClient}.
+ *
+ * <p>Every method mirrors its counterpart in {@link InterledgerApiClient} but returns immediately with a
+ * {@link CompletableFuture}. Requests are signed, logged and mapped to errors exactly as in the blocking
+ * client, the only difference is that no thread is held while waiting for the Interledger server to respond.
+ * This allows thousands of concurrent Open Payments calls to be in flight without one thread per call.
+ *
+ * <h2>Error Handling</h2>
+ * <ul>
+ *   <li>Invalid arguments are rejected immediately with an {@link IllegalArgumentException}</li>
+ *   <li>Network, HTTP and deserialization errors complete the future exceptionally with an
+ *   {@link InterledgerClientException} (wrapped into a {@link java.util.concurrent.CompletionException}
+ *   when calling {@link CompletableFuture#join()})</li>
+ * </ul>
+ *
+ * <h3>Usage Example</h3>
+ * <pre>{@code
+ * InterledgerAsyncApiClient client = new InterledgerAsyncApiClientImpl(clientWallet, privateKey, keyId);
+ *
+ * client.getWallet(receiverAddress)
+ *     .thenCompose(receiver -> client.createPendingGrant(receiver)
+ *         .thenCompose(grant -> client.createIncomingPayment(receiver, grant, amount)))
+ *     .thenAccept(payment -> ...);
+ * }</pre>
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see InterledgerApiClient
+ * @see InterledgerAsyncApiClientImpl
+ * @since 1.0
+ */
+public interface InterledgerAsyncApiClient extends AutoCloseable {
+
+    /**
+     * Retrieves wallet information from an Interledger payment pointer.
+     *
+     * @param address the wallet address that facilitates, sends, or receives payments
+     * @return future completed with wallet information including asset details, authorization server, and resource server URLs
+     * @see InterledgerApiClient#getWallet(WalletAddress)
+     */
+    CompletableFuture<PaymentPointer> getWallet(WalletAddress address);
+
+    /**
+     * Starts a payment, running all steps up to the user interaction with maximum parallelism.
+     *
+     * @param receiver  wallet address of the receiver
+     * @param sender    wallet address of the sender
+     * @param amount    the payment amount with two decimal places precision
+     * @param returnUrl URI where the user will be redirected after payment authorization
+     * @param nonce     unique identifier to prevent replay attacks and maintain state
+     * @return future completed with the flow waiting for the user interaction
+     * @see InterledgerApiClient#startPayment(WalletAddress, WalletAddress, BigDecimal, URI, String)
+     */
+    CompletableFuture<PaymentFlow> startPayment(WalletAddress receiver, WalletAddress sender, BigDecimal amount, URI returnUrl, String nonce);
+
+    /**
+     * Creates a pending grant for a receiving wallet to enable incoming payment creation.
+     *
+     * @param receiver the wallet that will receive the payment
+     * @return future completed with the access grant for incoming payments
+     * @see InterledgerApiClient#createPendingGrant(PaymentPointer)
+     */
+    CompletableFuture<AccessGrant> createPendingGrant(PaymentPointer receiver);
+
+    /**
+     * Creates an incoming payment request on the receiver's wallet.
+     *
+     * @param receiver     the wallet that will receive the payment
+     * @param pendingGrant access grant obtained from {@link #createPendingGrant(PaymentPointer)}
+     * @param amount       the payment amount with two decimal places precision
+     * @return future completed with the incoming payment request
+     * @see InterledgerApiClient#createIncomingPayment(PaymentPointer, AccessGrant, BigDecimal)
+     */
+    CompletableFuture<IncomingPayment> createIncomingPayment(PaymentPointer receiver, AccessGrant pendingGrant, BigDecimal amount);
+
+    /**
+     * Creates many incoming payments concurrently, using one pending grant per receiver.
+     *
+     * @param items incoming payments to create (receiver and amount)
+     * @return future completed with the results in the order of the given items, once all items completed
+     * @see InterledgerApiClient#createIncomingPayments(List)
+     */
+    CompletableFuture<List<BatchResult<IncomingPayment>>> createIncomingPayments(List<IncomingPaymentItem> items);
+
+    /**
+     * Creates a quote request grant for the sender's wallet.
+     *
+     * @param sender the wallet that will send the payment
+     * @return future completed with the access grant for creating quotes on the sender's wallet
+     * @see InterledgerApiClient#createQuoteRequest(PaymentPointer)
+     */
+    CompletableFuture<AccessGrant> createQuoteRequest(PaymentPointer sender);
+
+    /**
+     * Creates a quote that calculates the exact cost for the sender to complete the payment.
+     *
+     * @param quoteToken      access token from the quote request grant
+     * @param sender          the wallet that will send the payment
+     * @param incomingPayment the target payment request created on the receiver's wallet
+     * @return future completed with the quote
+     * @see InterledgerApiClient#createQuote(String, PaymentPointer, IncomingPayment)
+     */
+    CompletableFuture<Quote> createQuote(String quoteToken, PaymentPointer sender, IncomingPayment incomingPayment);
+
+    /**
+     * Creates many quotes concurrently, using one quote grant per sender.
+     *
+     * @param items quotes to create (sender and incoming payment)
+     * @return future completed with the results in the order of the given items, once all items completed
+     * @see InterledgerApiClient#createQuotes(List)
+     */
+    CompletableFuture<List<BatchResult<Quote>>> createQuotes(List<QuoteItem> items);
+
+    /**
+     * Creates a pending outgoing payment that requires user interaction for authorization.
+     *
+     * @param sender    the wallet that will send the payment
+     * @param quote     the quote generated for this payment
+     * @param returnUrl URI where the user will be redirected after payment authorization
+     * @param nonce     unique identifier to prevent replay attacks and maintain state
+     * @return future completed with the outgoing payment including the redirect URL
+     * @see InterledgerApiClient#continueGrant(PaymentPointer, Quote, URI, String)
+     */
+    CompletableFuture<OutgoingPayment> continueGrant(PaymentPointer sender, Quote quote, URI returnUrl, String nonce);
+
+    /**
+     * Finalizes the grant after the user has approved the payment.
+     *
+     * @param outgoingPayment the pending payment to be finalized
+     * @param interactRef     interaction reference returned from the user's wallet after authorization
+     * @return future completed with the finalized access grant
+     * @see InterledgerApiClient#finalizeGrant(OutgoingPayment, String)
+     */
+    CompletableFuture<AccessGrant> finalizeGrant(OutgoingPayment outgoingPayment, String interactRef);
+
+    /**
+     * Executes the final payment using the finalized grant.
+     *
+     * @param finalized    the finalized access grant obtained from {@link #finalizeGrant(OutgoingPayment, String)}
+     * @param senderWallet the wallet that will send the payment
+     * @param quote        the quote that determines payment amounts and fees
+     * @return future completed with the payment details
+     * @see InterledgerApiClient#finalizePayment(AccessGrant, PaymentPointer, Quote)
+     */
+    CompletableFuture<Payment> finalizePayment(AccessGrant finalized, PaymentPointer senderWallet, Quote quote);
+
+    /**
+     * Retrieves the current status of an incoming payment.
+     *
+     * @param incomingPayment the incoming payment to check
+     * @param grantRequest    the access grant that provides permission to read the payment
+     * @return future completed with the current payment status
+     * @see InterledgerApiClient#getIncomingPayment(IncomingPayment, AccessGrant)
+     */
+    CompletableFuture<IncomingPayment> getIncomingPayment(IncomingPayment incomingPayment, AccessGrant grantRequest);
+
+    /**
+     * Waits for an incoming payment to be completed, without holding a thread while waiting.
+     *
+     * <p>The payment is polled by the client's {@link PaymentWatcher} with growing intervals until it is completed
+     * or expired, polls of many watched payments share one scheduler thread.
+     *
+     * @param incomingPayment the incoming payment to wait for
+     * @param grantRequest    the access grant that provides permission to read the payment
+     * @return future completed with the completed payment, or exceptionally with an
+     * {@link io.fliqa.client.interledger.exception.InterledgerPaymentExpiredException} once the payment expired
+     * @see PaymentWatcher#watch(IncomingPayment, AccessGrant)
+     */
+    CompletableFuture<IncomingPayment> watchIncomingPayment(IncomingPayment incomingPayment, AccessGrant grantRequest);
+
+    /**
+     * Lists all incoming payments of a wallet, delivering them as requested by the subscriber.
+     *
+     * <p>Pages are requested on demand and the next page is prefetched, at most two pages are held in memory
+     * per subscription. A failing page request terminates the subscription with an {@link InterledgerClientException}.
+     *
+     * @param wallet the wallet to list incoming payments of
+     * @param grant  the access grant that provides permission to list the payments
+     * @return publisher of all incoming payments of the wallet, every subscription lists the payments again
+     * @see InterledgerApiClient#listIncomingPayments(PaymentPointer, AccessGrant)
+     */
+    Flow.Publisher<IncomingPayment> listIncomingPayments(PaymentPointer wallet, AccessGrant grant);
+
+    /**
+     * Lists all outgoing payments of a wallet, delivering them as requested by the subscriber.
+     *
+     * @param wallet the wallet to list outgoing payments of
+     * @param grant  the access grant that provides permission to list the payments
+     * @return publisher of all outgoing payments of the wallet, every subscription lists the payments again
+     * @see InterledgerApiClient#listOutgoingPayments(PaymentPointer, AccessGrant)
+     */
+    Flow.Publisher<Payment> listOutgoingPayments(PaymentPointer wallet, AccessGrant grant);
+
+    /**
+     * Rotates the access token of a grant.
+     *
+     * @param grant the grant holding the access token to rotate
+     * @return future completed with the grant holding the new access token
+     * @see InterledgerApiClient#rotateToken(AccessGrant)
+     */
+    CompletableFuture<AccessGrant> rotateToken(AccessGrant grant);
+
+    /**
+     * Revokes the access token of a grant.
+     *
+     * @param grant the grant holding the access token to revoke
+     * @return future completed once the token is revoked
+     * @see InterledgerApiClient#revokeToken(AccessGrant)
+     */
+    CompletableFuture<Void> revokeToken(AccessGrant grant);
+
+    /**
+     * Releases resources held by the client, revoking access tokens of reused grants.
+     *
+     * @see InterledgerApiClient#close()
+     */
+    @Override
+    void close();
+}
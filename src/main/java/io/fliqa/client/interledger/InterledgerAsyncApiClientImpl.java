@@ -0,0 +1,182 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger;
+
+import io.fliqa.client.interledger.model.*;
+import io.fliqa.client.interledger.utils.Assert;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.security.PrivateKey;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * Default implementation of the {@link InterledgerAsyncApiClient} interface.
+ *
+ * <p>Requests are built and signed by an {@link InterledgerApiClientImpl} and sent with
+ * {@link io.fliqa.client.interledger.transport.InterledgerTransport#exchangeAsync}, so signing, logging
+ * and error mapping are identical to the blocking client. A blocking and an asynchronous client can share
+ * the same underlying {@link InterledgerApiClientImpl} (and with it the transport and its connection pool).
+ *
+ * <h3>Thread Safety</h3>
+ * <p>This implementation is thread-safe and can be used concurrently from multiple threads.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see InterledgerAsyncApiClient
+ * @see InterledgerApiClientImpl
+ * @since 1.0
+ */
+public class InterledgerAsyncApiClientImpl implements InterledgerAsyncApiClient {
+
+    private final InterledgerApiClientImpl client;
+
+    /**
+     * Creates a new asynchronous client sharing request signing and the HTTP client with the given blocking client.
+     *
+     * @param client blocking client used to build, sign and send requests
+     * @throws IllegalArgumentException if client is null
+     */
+    public InterledgerAsyncApiClientImpl(InterledgerApiClientImpl client) {
+        Assert.notNull(client, "InterledgerApiClientImpl cannot be null");
+        this.client = client;
+    }
+
+    /**
+     * Creates a new asynchronous Interledger API client with custom configuration options.
+     *
+     * @param clientWallet the wallet address of the payment facilitator (Fliqa)
+     * @param privateKey   Ed25519 private key for signing requests
+     * @param keyId        identifier for the private key, used in signature headers
+     * @param options      HTTP client configuration including timeouts and connection limits
+     * @throws IllegalArgumentException if any parameter is null or keyId is empty
+     */
+    public InterledgerAsyncApiClientImpl(WalletAddress clientWallet,
+                                         PrivateKey privateKey,
+                                         String keyId,
+                                         InterledgerClientOptions options) {
+        this(new InterledgerApiClientImpl(clientWallet, privateKey, keyId, options));
+    }
+
+    /**
+     * Creates a new asynchronous Interledger API client with default configuration options.
+     *
+     * @param clientWallet the wallet address of the payment facilitator (Fliqa)
+     * @param privateKey   Ed25519 private key for signing requests
+     * @param keyId        identifier for the private key, used in signature headers
+     * @throws IllegalArgumentException if any parameter is null or keyId is empty
+     */
+    public InterledgerAsyncApiClientImpl(WalletAddress clientWallet,
+                                         PrivateKey privateKey,
+                                         String keyId) {
+        this(clientWallet, privateKey, keyId, InterledgerClientOptions.DEFAULT);
+    }
+
+    @Override
+    public CompletableFuture<PaymentPointer> getWallet(WalletAddress address) {
+        return client.getWalletAsync(address);
+    }
+
+    @Override
+    public CompletableFuture<PaymentFlow> startPayment(WalletAddress receiver, WalletAddress sender, BigDecimal amount, URI returnUrl, String nonce) {
+        return client.startPaymentAsync(receiver, sender, amount, returnUrl, nonce);
+    }
+
+    @Override
+    public CompletableFuture<AccessGrant> createPendingGrant(PaymentPointer receiver) {
+        return client.createPendingGrantAsync(receiver);
+    }
+
+    @Override
+    public CompletableFuture<IncomingPayment> createIncomingPayment(PaymentPointer receiver, AccessGrant pendingGrant, BigDecimal amount) {
+        return client.sendAsync(ApiOperation.CREATE_INCOMING_PAYMENT, () -> client.createIncomingPaymentRequest(receiver, pendingGrant, amount), IncomingPayment.class);
+    }
+
+    @Override
+    public CompletableFuture<List<BatchResult<IncomingPayment>>> createIncomingPayments(List<IncomingPaymentItem> items) {
+        return client.createIncomingPaymentsAsync(items);
+    }
+
+    @Override
+    public CompletableFuture<AccessGrant> createQuoteRequest(PaymentPointer sender) {
+        return client.createQuoteRequestAsync(sender);
+    }
+
+    @Override
+    public CompletableFuture<Quote> createQuote(String quoteToken, PaymentPointer sender, IncomingPayment incomingPayment) {
+        return client.sendAsync(ApiOperation.CREATE_QUOTE, () -> client.createQuoteRequest(quoteToken, sender, incomingPayment), Quote.class);
+    }
+
+    @Override
+    public CompletableFuture<List<BatchResult<Quote>>> createQuotes(List<QuoteItem> items) {
+        return client.createQuotesAsync(items);
+    }
+
+    @Override
+    public CompletableFuture<OutgoingPayment> continueGrant(PaymentPointer sender, Quote quote, URI returnUrl, String nonce) {
+        return client.sendAsync(ApiOperation.CONTINUE_GRANT, () -> client.continueGrantRequest(sender, quote, returnUrl, nonce), OutgoingPayment.class);
+    }
+
+    @Override
+    public CompletableFuture<AccessGrant> finalizeGrant(OutgoingPayment outgoingPayment, String interactRef) {
+        return client.sendAsync(ApiOperation.FINALIZE_GRANT, () -> client.finalizeGrantRequest(outgoingPayment, interactRef), AccessGrant.class);
+    }
+
+    @Override
+    public CompletableFuture<Payment> finalizePayment(AccessGrant finalized, PaymentPointer senderWallet, Quote quote) {
+        return client.sendAsync(ApiOperation.FINALIZE_PAYMENT, () -> client.finalizePaymentRequest(finalized, senderWallet, quote), Payment.class);
+    }
+
+    @Override
+    public CompletableFuture<IncomingPayment> getIncomingPayment(IncomingPayment incomingPayment, AccessGrant grantRequest) {
+        return client.sendAsync(ApiOperation.GET_INCOMING_PAYMENT, () -> client.getIncomingPaymentRequest(incomingPayment, grantRequest), IncomingPayment.class);
+    }
+
+    @Override
+    public CompletableFuture<IncomingPayment> watchIncomingPayment(IncomingPayment incomingPayment, AccessGrant grantRequest) {
+        return client.getPaymentWatcher().watch(incomingPayment, grantRequest);
+    }
+
+    @Override
+    public Flow.Publisher<IncomingPayment> listIncomingPayments(PaymentPointer wallet, AccessGrant grant) {
+        return client.publishIncomingPayments(wallet, grant);
+    }
+
+    @Override
+    public Flow.Publisher<Payment> listOutgoingPayments(PaymentPointer wallet, AccessGrant grant) {
+        return client.publishOutgoingPayments(wallet, grant);
+    }
+
+    @Override
+    public CompletableFuture<AccessGrant> rotateToken(AccessGrant grant) {
+        return client.rotateTokenAsync(grant);
+    }
+
+    @Override
+    public CompletableFuture<Void> revokeToken(AccessGrant grant) {
+        return client.revokeTokenAsync(grant);
+    }
+
+    /**
+     * Closes the underlying client (shared with any blocking client created on top of it).
+     */
+    @Override
+    public void close() {
+        client.close();
+    }
+}
@@ -15,6 +15,13 @@
  */
 package io.fliqa.client.interledger;
 
+import io.fliqa.client.interledger.logging.HttpLogger;
+import io.fliqa.client.interledger.metrics.InterledgerMetricsListener;
+import io.fliqa.client.interledger.utils.Assert;
+
+import java.net.http.HttpClient;
+import java.util.concurrent.Executor;
+
 /**
  * Configuration options for the Interledger API client.
  *
@@ -29,14 +36,70 @@ package io.fliqa.client.interledger;
  *   <li><strong>Transaction Expiration</strong> - How long pending payments remain valid</li>
  * </ul>
  *
+ * <h3>Threading and Protocol Settings</h3>
+ * <ul>
+ *   <li><strong>Executor</strong> - Executor used by the HTTP client for asynchronous tasks and response processing</li>
+ *   <li><strong>Virtual Threads</strong> - Use a virtual-thread-per-task executor instead of the JDK default cached thread pool</li>
+ *   <li><strong>HTTP Version</strong> - Force HTTP/2 or HTTP/1.1 (JDK default is HTTP/2 with fallback to HTTP/1.1)</li>
+ *   <li><strong>Priority</strong> - HTTP/2 stream priority (1 - 256) for requests sent by the client</li>
+ *   <li><strong>Batch Concurrency</strong> - Maximum number of requests of one batch call (i.e. {@code createIncomingPayments}) in flight</li>
+ *   <li><strong>List Page Size</strong> - Number of payments requested per page when listing payments, the next page is prefetched</li>
+ * </ul>
+ *
+ * <h3>Caching</h3>
+ * <ul>
+ *   <li><strong>Wallet Cache Size</strong> - Maximum number of resolved wallets kept in memory (0 disables caching)</li>
+ *   <li><strong>Wallet Cache TTL</strong> - How long a wallet is cached when the server sends no Cache-Control or Expires header</li>
+ *   <li><strong>Grant Reuse</strong> - Reuse incoming payment and quote grants until shortly before their access token expires</li>
+ *   <li><strong>Request Coalescing</strong> - Share one in-flight exchange between concurrent identical GET requests</li>
+ * </ul>
+ *
+ * <h3>Resilience</h3>
+ * <ul>
+ *   <li><strong>Retry Policy</strong> - Retries transient failures with exponential backoff, jitter and Retry-After support</li>
+ *   <li><strong>Circuit Breaker</strong> - Rejects calls to a failing or slow host immediately instead of waiting for timeouts</li>
+ *   <li><strong>Concurrency Limit</strong> - Limits concurrent calls per host, adapting the limit to the latency of the host</li>
+ *   <li><strong>Rate Limit</strong> - Token buckets per host and operation, holding back requests beyond a provider's quota</li>
+ *   <li><strong>Hedging</strong> - Sends a second copy of a slow GET after the host's percentile latency, the first response wins</li>
+ *   <li><strong>Payment Watch</strong> - Polling intervals and limits of the {@link PaymentWatcher} waiting for incoming payments to complete</li>
+ * </ul>
+ *
+ * <h3>Monitoring</h3>
+ * <ul>
+ *   <li><strong>Metrics Listener</strong> - Receives operation, host, status, attempt, sizes and duration of every exchange,
+ *   i.e. {@link io.fliqa.client.interledger.metrics.InterledgerMetrics} for latency percentiles per operation and host</li>
+ *   <li><strong>HTTP Log Buffer</strong> - Records held until written by the background logging thread, and the logged body size</li>
+ *   <li><strong>Capture</strong> - Keeps sampled, slow and failed exchanges with headers and bodies in a bounded store,
+ *   see {@link io.fliqa.client.interledger.logging.ExchangeCapture}</li>
+ * </ul>
+ *
  * <h3>Default Configuration</h3>
  * <p>The default configuration provides reasonable timeouts for most use cases:
  * <ul>
  *   <li>10 second connection timeout</li>
  *   <li>10 seconds request timeout</li>
  *   <li>10 minutes transaction expiration</li>
+ *   <li>JDK default executor, HTTP version and priority</li>
+ *   <li>Up to 32 concurrent requests per batch call</li>
+ *   <li>Payments listed in pages of 100</li>
+ *   <li>Wallet cache, grant reuse and request coalescing disabled</li>
+ *   <li>No retries ({@link RetryPolicy#NONE}), circuit breakers ({@link CircuitBreakerPolicy#DISABLED}),
+ *   concurrency limits ({@link ConcurrencyLimitPolicy#DISABLED}), rate limits ({@link RateLimitPolicy#DISABLED})
+ *   or hedged requests ({@link HedgingPolicy#DISABLED})</li>
+ *   <li>Watched payments polled from every second up to every 30 seconds ({@link WatchPolicy#DEFAULT})</li>
+ *   <li>No metrics collected ({@link InterledgerMetricsListener#NONE})</li>
+ *   <li>Up to 1024 buffered HTTP log records, bodies logged up to 4 KiB</li>
  * </ul>
  *
+ * <h3>Usage Example</h3>
+ * <pre>{@code
+ * InterledgerClientOptions options = InterledgerClientOptions.builder()
+ *     .timeOutInSeconds(5)
+ *     .virtualThreads(true)
+ *     .httpVersion(HttpClient.Version.HTTP_2)
+ *     .build();
+ * }</pre>
+ *
  * @author Fliqa
  * @version 1.0
  * @see InterledgerApiClientImpl
@@ -44,6 +107,36 @@ package io.fliqa.client.interledger;
  */
 public class InterledgerClientOptions {
 
+    /**
+     * Lowest HTTP/2 stream priority accepted by {@link HttpClient.Builder#priority(int)}
+     */
+    public static final int MIN_PRIORITY = 1;
+
+    /**
+     * Highest HTTP/2 stream priority accepted by {@link HttpClient.Builder#priority(int)}
+     */
+    public static final int MAX_PRIORITY = 256;
+
+    /**
+     * Default time wallets are cached when the server doesn't provide caching headers (5 minutes).
+     */
+    public static final int DEFAULT_WALLET_CACHE_TTL_IN_SECONDS = 5 * 60;
+
+    /**
+     * Default time before expiration a reused access token is rotated or replaced (30 seconds).
+     */
+    public static final int DEFAULT_GRANT_REFRESH_MARGIN_IN_SECONDS = 30;
+
+    /**
+     * Default maximum number of requests of one batch call in flight.
+     */
+    public static final int DEFAULT_BATCH_CONCURRENCY = 32;
+
+    /**
+     * Default number of payments requested per page when listing payments.
+     */
+    public static final int DEFAULT_LIST_PAGE_SIZE = 100;
+
     /**
      * Timeout for establishing HTTP connections, in seconds.
      */
@@ -60,6 +153,112 @@ public class InterledgerClientOptions {
      */
     public final int transactionExpirationInSeconds;
 
+    /**
+     * Executor used by the HTTP client for asynchronous tasks, or null to use the JDK default.
+     */
+    public final Executor executor;
+
+    /**
+     * When true (and no executor is given) the HTTP client runs every task on a new virtual thread.
+     */
+    public final boolean virtualThreads;
+
+    /**
+     * Forced HTTP protocol version, or null to use the JDK default (HTTP/2 with fallback to HTTP/1.1).
+     */
+    public final HttpClient.Version httpVersion;
+
+    /**
+     * HTTP/2 stream priority between {@link #MIN_PRIORITY} and {@link #MAX_PRIORITY}, or 0 to use the JDK default.
+     */
+    public final int priority;
+
+    /**
+     * Maximum number of requests of one batch call in flight, further items are sent as earlier ones complete.
+     */
+    public final int batchConcurrency;
+
+    /**
+     * Number of payments requested per page when listing payments ({@code first} query parameter).
+     */
+    public final int listPageSize;
+
+    /**
+     * Maximum number of wallets (payment pointers) kept in the wallet cache, or 0 to disable caching.
+     */
+    public final int walletCacheSize;
+
+    /**
+     * Time a wallet is cached when the wallet address server sends no Cache-Control or Expires header, in seconds.
+     */
+    public final int walletCacheTtlInSeconds;
+
+    /**
+     * When true, non-interactive grants (incoming payment and quote grants) are reused until shortly
+     * before their access token expires, and revoked when the client is closed.
+     */
+    public final boolean grantReuse;
+
+    /**
+     * Time before access token expiration a reused grant is rotated or replaced, in seconds.
+     */
+    public final int grantRefreshMarginInSeconds;
+
+    /**
+     * When true, concurrent identical GET requests (same target URI and access token) share one in-flight exchange.
+     */
+    public final boolean coalesceRequests;
+
+    /**
+     * Policy for retrying transient failures, {@link RetryPolicy#NONE} to never retry.
+     */
+    public final RetryPolicy retryPolicy;
+
+    /**
+     * Per-host circuit breaker configuration, {@link CircuitBreakerPolicy#DISABLED} to never reject calls.
+     */
+    public final CircuitBreakerPolicy circuitBreaker;
+
+    /**
+     * Adaptive per-host concurrency limit configuration, {@link ConcurrencyLimitPolicy#DISABLED} for no limits.
+     */
+    public final ConcurrencyLimitPolicy concurrencyLimit;
+
+    /**
+     * Client side rate limits per host and operation, {@link RateLimitPolicy#DISABLED} for no limits.
+     */
+    public final RateLimitPolicy rateLimit;
+
+    /**
+     * Hedging of idempotent reads, {@link HedgingPolicy#DISABLED} to never hedge.
+     */
+    public final HedgingPolicy hedging;
+
+    /**
+     * Polling of incoming payments watched by the {@link PaymentWatcher}.
+     */
+    public final WatchPolicy paymentWatch;
+
+    /**
+     * Receives an event for every exchange, {@link InterledgerMetricsListener#NONE} to collect no metrics.
+     */
+    public final InterledgerMetricsListener metricsListener;
+
+    /**
+     * Number of HTTP log records held until written by the logging thread, further records are dropped.
+     */
+    public final int httpLogBufferSize;
+
+    /**
+     * Number of request and response body bytes logged (at TRACE level), longer bodies are truncated.
+     */
+    public final int httpLogMaxBodySize;
+
+    /**
+     * Exchanges captured with headers and bodies, {@link CapturePolicy#DISABLED} to capture none.
+     */
+    public final CapturePolicy capture;
+
     /**
      * Creates a new configuration with custom timeout settings.
      *
@@ -73,6 +272,54 @@ public class InterledgerClientOptions {
         this.connectTimeOutInSeconds = connectTimeoutInSeconds;
         this.timeOutInSeconds = timeoutInSeconds;
         this.transactionExpirationInSeconds = transactionExpirationInSeconds;
+        this.executor = null;
+        this.virtualThreads = false;
+        this.httpVersion = null;
+        this.priority = 0;
+        this.batchConcurrency = DEFAULT_BATCH_CONCURRENCY;
+        this.listPageSize = DEFAULT_LIST_PAGE_SIZE;
+        this.walletCacheSize = 0;
+        this.walletCacheTtlInSeconds = DEFAULT_WALLET_CACHE_TTL_IN_SECONDS;
+        this.grantReuse = false;
+        this.grantRefreshMarginInSeconds = DEFAULT_GRANT_REFRESH_MARGIN_IN_SECONDS;
+        this.coalesceRequests = false;
+        this.retryPolicy = RetryPolicy.NONE;
+        this.circuitBreaker = CircuitBreakerPolicy.DISABLED;
+        this.concurrencyLimit = ConcurrencyLimitPolicy.DISABLED;
+        this.rateLimit = RateLimitPolicy.DISABLED;
+        this.hedging = HedgingPolicy.DISABLED;
+        this.paymentWatch = WatchPolicy.DEFAULT;
+        this.metricsListener = InterledgerMetricsListener.NONE;
+        this.httpLogBufferSize = HttpLogger.DEFAULT_BUFFER_SIZE;
+        this.httpLogMaxBodySize = HttpLogger.DEFAULT_MAX_BODY_SIZE;
+        this.capture = CapturePolicy.DISABLED;
+    }
+
+    private InterledgerClientOptions(Builder builder) {
+        this.connectTimeOutInSeconds = builder.connectTimeOutInSeconds;
+        this.timeOutInSeconds = builder.timeOutInSeconds;
+        this.transactionExpirationInSeconds = builder.transactionExpirationInSeconds;
+        this.executor = builder.executor;
+        this.virtualThreads = builder.virtualThreads;
+        this.httpVersion = builder.httpVersion;
+        this.priority = builder.priority;
+        this.batchConcurrency = builder.batchConcurrency;
+        this.listPageSize = builder.listPageSize;
+        this.walletCacheSize = builder.walletCacheSize;
+        this.walletCacheTtlInSeconds = builder.walletCacheTtlInSeconds;
+        this.grantReuse = builder.grantReuse;
+        this.grantRefreshMarginInSeconds = builder.grantRefreshMarginInSeconds;
+        this.coalesceRequests = builder.coalesceRequests;
+        this.retryPolicy = builder.retryPolicy;
+        this.circuitBreaker = builder.circuitBreaker;
+        this.concurrencyLimit = builder.concurrencyLimit;
+        this.rateLimit = builder.rateLimit;
+        this.hedging = builder.hedging;
+        this.paymentWatch = builder.paymentWatch;
+        this.metricsListener = builder.metricsListener;
+        this.httpLogBufferSize = builder.httpLogBufferSize;
+        this.httpLogMaxBodySize = builder.httpLogMaxBodySize;
+        this.capture = builder.capture;
     }
 
     /**
@@ -81,4 +328,347 @@ public class InterledgerClientOptions {
      */
     public static final InterledgerClientOptions DEFAULT =
             new InterledgerClientOptions(10, 10, 10 * 60);
-}
\ No newline at end of file
+
+    /**
+     * Creates a builder initialized with the {@link #DEFAULT} values.
+     *
+     * @return new options builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for {@link InterledgerClientOptions}, all values default to {@link #DEFAULT}.
+     */
+    public static class Builder {
+
+        private int connectTimeOutInSeconds = DEFAULT.connectTimeOutInSeconds;
+        private int timeOutInSeconds = DEFAULT.timeOutInSeconds;
+        private int transactionExpirationInSeconds = DEFAULT.transactionExpirationInSeconds;
+        private Executor executor;
+        private boolean virtualThreads;
+        private HttpClient.Version httpVersion;
+        private int priority;
+        private int batchConcurrency = DEFAULT.batchConcurrency;
+        private int listPageSize = DEFAULT.listPageSize;
+        private int walletCacheSize = DEFAULT.walletCacheSize;
+        private int walletCacheTtlInSeconds = DEFAULT.walletCacheTtlInSeconds;
+        private boolean grantReuse = DEFAULT.grantReuse;
+        private int grantRefreshMarginInSeconds = DEFAULT.grantRefreshMarginInSeconds;
+        private boolean coalesceRequests = DEFAULT.coalesceRequests;
+        private RetryPolicy retryPolicy = DEFAULT.retryPolicy;
+        private CircuitBreakerPolicy circuitBreaker = DEFAULT.circuitBreaker;
+        private ConcurrencyLimitPolicy concurrencyLimit = DEFAULT.concurrencyLimit;
+        private RateLimitPolicy rateLimit = DEFAULT.rateLimit;
+        private HedgingPolicy hedging = DEFAULT.hedging;
+        private WatchPolicy paymentWatch = DEFAULT.paymentWatch;
+        private InterledgerMetricsListener metricsListener = DEFAULT.metricsListener;
+        private int httpLogBufferSize = DEFAULT.httpLogBufferSize;
+        private int httpLogMaxBodySize = DEFAULT.httpLogMaxBodySize;
+        private CapturePolicy capture = DEFAULT.capture;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the timeout for establishing HTTP connections.
+         *
+         * @param value timeout for establishing HTTP connections, in seconds
+         * @return this builder for method chaining
+         */
+        public Builder connectTimeOutInSeconds(int value) {
+            Assert.isTrue(value > 0, "connectTimeOutInSeconds must be greater than zero.");
+            connectTimeOutInSeconds = value;
+            return this;
+        }
+
+        /**
+         * Sets the general timeout for HTTP operations.
+         *
+         * @param value general timeout for HTTP operations, in seconds
+         * @return this builder for method chaining
+         */
+        public Builder timeOutInSeconds(int value) {
+            Assert.isTrue(value > 0, "timeOutInSeconds must be greater than zero.");
+            timeOutInSeconds = value;
+            return this;
+        }
+
+        /**
+         * Sets the expiration time of pending transactions (incoming payments).
+         *
+         * @param value expiration time for pending transactions, in seconds
+         * @return this builder for method chaining
+         */
+        public Builder transactionExpirationInSeconds(int value) {
+            Assert.isTrue(value > 0, "transactionExpirationInSeconds must be greater than zero.");
+            transactionExpirationInSeconds = value;
+            return this;
+        }
+
+        /**
+         * Sets the executor used by the HTTP client for asynchronous tasks and response processing.
+         * The executor is not shut down by the client.
+         *
+         * @param value executor to use, or null for the JDK default
+         * @return this builder for method chaining
+         */
+        public Builder executor(Executor value) {
+            executor = value;
+            return this;
+        }
+
+        /**
+         * Runs the HTTP client tasks on virtual threads (one per task) instead of the JDK default thread pool.
+         * Ignored when an {@link #executor(Executor)} is given.
+         *
+         * @param value true to use virtual threads
+         * @return this builder for method chaining
+         */
+        public Builder virtualThreads(boolean value) {
+            virtualThreads = value;
+            return this;
+        }
+
+        /**
+         * Forces the HTTP protocol version used by the HTTP client.
+         *
+         * @param value HTTP protocol version to use, or null for the JDK default
+         * @return this builder for method chaining
+         */
+        public Builder httpVersion(HttpClient.Version value) {
+            httpVersion = value;
+            return this;
+        }
+
+        /**
+         * Sets the HTTP/2 stream priority of requests sent by the client.
+         *
+         * @param value HTTP/2 stream priority between {@link #MIN_PRIORITY} and {@link #MAX_PRIORITY}, or 0 for the JDK default
+         * @return this builder for method chaining
+         */
+        public Builder priority(int value) {
+            Assert.isTrue(value == 0 || (value >= MIN_PRIORITY && value <= MAX_PRIORITY),
+                    String.format("priority must be between %d and %d, but was: %d.", MIN_PRIORITY, MAX_PRIORITY, value));
+            priority = value;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of requests of one batch call in flight.
+         *
+         * @param value maximum number of concurrent requests per batch call
+         * @return this builder for method chaining
+         */
+        public Builder batchConcurrency(int value) {
+            Assert.isTrue(value > 0, "batchConcurrency must be greater than zero.");
+            batchConcurrency = value;
+            return this;
+        }
+
+        /**
+         * Sets the number of payments requested per page when listing payments. Besides the page being
+         * processed one prefetched page is held in memory.
+         *
+         * @param value number of payments per page
+         * @return this builder for method chaining
+         */
+        public Builder listPageSize(int value) {
+            Assert.isTrue(value > 0, "listPageSize must be greater than zero.");
+            listPageSize = value;
+            return this;
+        }
+
+        /**
+         * Enables the wallet cache holding up to the given number of resolved wallets.
+         * When full, the oldest entries are evicted first.
+         *
+         * @param value maximum number of cached wallets, or 0 to disable caching
+         * @return this builder for method chaining
+         */
+        public Builder walletCacheSize(int value) {
+            Assert.isTrue(value >= 0, "walletCacheSize must be greater than or equal to zero.");
+            walletCacheSize = value;
+            return this;
+        }
+
+        /**
+         * Sets the time a wallet is cached when the wallet address server sends no Cache-Control or Expires header.
+         *
+         * @param value fallback time to live of cached wallets, in seconds
+         * @return this builder for method chaining
+         */
+        public Builder walletCacheTtlInSeconds(int value) {
+            Assert.isTrue(value > 0, "walletCacheTtlInSeconds must be greater than zero.");
+            walletCacheTtlInSeconds = value;
+            return this;
+        }
+
+        /**
+         * Reuses non-interactive grants (incoming payment and quote grants) until shortly before
+         * their access token expires. Reused tokens are revoked when the client is closed.
+         *
+         * @param value true to reuse grants
+         * @return this builder for method chaining
+         */
+        public Builder grantReuse(boolean value) {
+            grantReuse = value;
+            return this;
+        }
+
+        /**
+         * Sets the time before access token expiration a reused grant is rotated or replaced.
+         *
+         * @param value refresh margin, in seconds
+         * @return this builder for method chaining
+         */
+        public Builder grantRefreshMarginInSeconds(int value) {
+            Assert.isTrue(value >= 0, "grantRefreshMarginInSeconds must be greater than or equal to zero.");
+            grantRefreshMarginInSeconds = value;
+            return this;
+        }
+
+        /**
+         * Coalesces concurrent identical GET requests (same target URI and access token) into one exchange,
+         * all callers receive the same response or failure.
+         *
+         * @param value true to coalesce requests
+         * @return this builder for method chaining
+         */
+        public Builder coalesceRequests(boolean value) {
+            coalesceRequests = value;
+            return this;
+        }
+
+        /**
+         * Sets the policy for retrying transient failures (connection failures, 429 and temporary 5xx responses).
+         *
+         * @param value retry policy, {@link RetryPolicy#NONE} to never retry
+         * @return this builder for method chaining
+         */
+        public Builder retryPolicy(RetryPolicy value) {
+            Assert.notNull(value, "retryPolicy cannot be null");
+            retryPolicy = value;
+            return this;
+        }
+
+        /**
+         * Sets the per-host circuit breaker configuration.
+         *
+         * @param value circuit breaker policy, {@link CircuitBreakerPolicy#DISABLED} to never reject calls
+         * @return this builder for method chaining
+         */
+        public Builder circuitBreaker(CircuitBreakerPolicy value) {
+            Assert.notNull(value, "circuitBreaker cannot be null");
+            circuitBreaker = value;
+            return this;
+        }
+
+        /**
+         * Sets the adaptive per-host concurrency limit configuration.
+         *
+         * @param value concurrency limit policy, {@link ConcurrencyLimitPolicy#DISABLED} for no limits
+         * @return this builder for method chaining
+         */
+        public Builder concurrencyLimit(ConcurrencyLimitPolicy value) {
+            Assert.notNull(value, "concurrencyLimit cannot be null");
+            concurrencyLimit = value;
+            return this;
+        }
+
+        /**
+         * Sets the client side rate limits per host and operation.
+         *
+         * @param value rate limit policy, {@link RateLimitPolicy#DISABLED} for no limits
+         * @return this builder for method chaining
+         */
+        public Builder rateLimit(RateLimitPolicy value) {
+            Assert.notNull(value, "rateLimit cannot be null");
+            rateLimit = value;
+            return this;
+        }
+
+        /**
+         * Sets the hedging of idempotent reads (GET), requests with other methods are never hedged.
+         *
+         * @param value hedging policy, {@link HedgingPolicy#DISABLED} to never hedge
+         * @return this builder for method chaining
+         */
+        public Builder hedging(HedgingPolicy value) {
+            Assert.notNull(value, "hedging cannot be null");
+            hedging = value;
+            return this;
+        }
+
+        /**
+         * Sets the polling of incoming payments watched by the {@link PaymentWatcher}.
+         *
+         * @param value watch policy
+         * @return this builder for method chaining
+         */
+        public Builder paymentWatch(WatchPolicy value) {
+            Assert.notNull(value, "paymentWatch cannot be null");
+            paymentWatch = value;
+            return this;
+        }
+
+        /**
+         * Sets the listener receiving an event for every exchange (including retries and hedged requests).
+         *
+         * @param value metrics listener, i.e. {@link io.fliqa.client.interledger.metrics.InterledgerMetrics}
+         * @return this builder for method chaining
+         */
+        public Builder metricsListener(InterledgerMetricsListener value) {
+            Assert.notNull(value, "metricsListener cannot be null");
+            metricsListener = value;
+            return this;
+        }
+
+        /**
+         * Sets the number of HTTP log records held until written by the logging thread.
+         * When the buffer is full, further records are dropped (and counted) instead of delaying the call.
+         *
+         * @param value number of buffered log records
+         * @return this builder for method chaining
+         */
+        public Builder httpLogBufferSize(int value) {
+            Assert.isTrue(value > 0, "httpLogBufferSize must be greater than zero.");
+            httpLogBufferSize = value;
+            return this;
+        }
+
+        /**
+         * Sets the number of request and response body bytes logged at TRACE level.
+         *
+         * @param value maximum logged body size, in bytes
+         * @return this builder for method chaining
+         */
+        public Builder httpLogMaxBodySize(int value) {
+            Assert.isTrue(value > 0, "httpLogMaxBodySize must be greater than zero.");
+            httpLogMaxBodySize = value;
+            return this;
+        }
+
+        /**
+         * Sets which exchanges are captured with headers and bodies (sampled, slow or failed ones).
+         *
+         * @param value capture policy
+         * @return this builder for method chaining
+         */
+        public Builder capture(CapturePolicy value) {
+            Assert.notNull(value, "capture cannot be null");
+            capture = value;
+            return this;
+        }
+
+        /**
+         * Creates the options from the configured values.
+         *
+         * @return new options instance
+         */
+        public InterledgerClientOptions build() {
+            return new InterledgerClientOptions(this);
+        }
+    }
+}
@@ -16,28 +16,46 @@
 package io.fliqa.client.interledger;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.datatype.jsr310.deser.InstantDeserializer;
 import io.fliqa.client.interledger.exception.InterledgerClientException;
-import io.fliqa.client.interledger.model.ApiError;
+import io.fliqa.client.interledger.model.*;
 import io.fliqa.client.interledger.serializer.InstantSerializer;
+import io.fliqa.client.interledger.serializer.JsonCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static io.fliqa.client.interledger.InterledgerApiClient.INTERNAL_SERVER_ERROR;
 
 /**
- * Wrapper around ObjectMapper to provide default mapping and catch serialization/deserialization exceptions
- * We have two mappers:
- * - mapper       - standard mapper
- * - unwrapMapper - deserializes content of root JSON element
+ * Wrapper around ObjectMapper to provide default mapping and catch serialization/deserialization exceptions.
+ *
+ * <p>Values are read and written with immutable {@link ObjectReader}s and {@link ObjectWriter}s kept per type,
+ * so Jackson resolves the root (de)serializer of a type once instead of on every call. Readers and writers of
+ * all model types are built (and their (de)serializers resolved) when the mapper is created, other types are
+ * added on first use. Error responses are read with a reader of the same mapper unwrapping the root element.
+ *
+ * <p>Creating a mapper is expensive and an instance is thread-safe, all clients and request builders share
+ * {@link #DEFAULT} unless given another instance.
  */
 public class InterledgerObjectMapper {
 
@@ -49,25 +67,66 @@ public class InterledgerObjectMapper {
             "unauthorized",
             "forbidden");
 
-    private final ObjectMapper mapper;
-    private final ObjectMapper unwrapMapper;
+    /**
+     * Module generated at build time, registering the streaming codecs of the model package (see {@link JsonCodec}).
+     */
+    static final String CODEC_MODULE = "io.fliqa.client.interledger.model.JsonCodecModule";
+
+    /**
+     * Types sent to or received from Open Payments servers, readers and writers are built upfront.
+     */
+    static final List<Class<?>> MODEL_TYPES = List.of(
+            // requests
+            GrantAccessRequest.class,
+            PaymentRequest.class,
+            QuoteRequest.class,
+            OutgoingPaymentRequest.class,
+            InteractRef.class,
+            // responses
+            PaymentPointer.class,
+            AccessGrant.class,
+            IncomingPayment.class,
+            IncomingPaymentPage.class,
+            Quote.class,
+            Payment.class,
+            OutgoingPaymentPage.class,
+            OutgoingPayment.class);
 
     private static final Logger LOGGER = LoggerFactory.getLogger(InterledgerObjectMapper.class);
 
+    private static final Class<?> CODEC_MODULE_CLASS = findCodecModule();
+
+    /**
+     * Shared, pre-warmed instance used by all clients and request builders.
+     */
+    public static final InterledgerObjectMapper DEFAULT = new InterledgerObjectMapper();
+
+    private final ObjectMapper mapper;
+    private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+    private final ObjectWriter nullWriter;
+    private final ObjectReader errorReader;
+
     /**
-     * Constructs a new {@code InterledgerObjectMapper} instance by initializing
-     * two {@link ObjectMapper} objects:
-     * <p>
-     * 1. A default {@link ObjectMapper}, configured via the {@code get()} method.
-     * 2. An unwrap-specific {@link ObjectMapper}, configured via the {@code getUnwrapMapper()} method.
-     * <p>
-     * These mappers are used for JSON serialization and deserialization, providing
-     * preconfigured behavior such as support for {@link Instant} handling,
-     * consistent map entry ordering, and additional unwrap functionality.
+     * Constructs a new {@code InterledgerObjectMapper} with an {@link ObjectMapper} configured via {@link #get()},
+     * building the readers and writers of all model types.
+     *
+     * <p>Prefer the shared {@link #DEFAULT} instance, a new mapper resolves all (de)serializers again.
      */
     public InterledgerObjectMapper() {
         mapper = get();
-        unwrapMapper = getUnwrapMapper();
+        nullWriter = mapper.writer();
+
+        // same configuration as the main mapper, only the root "error" element is unwrapped and
+        // unknown properties fail (falling back to the raw response body as message)
+        errorReader = mapper.readerFor(ApiError.class)
+                .with(DeserializationFeature.UNWRAP_ROOT_VALUE, DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+        // readerFor / writerFor resolve the root (de)serializer eagerly
+        for (Class<?> type : MODEL_TYPES) {
+            getReader(type);
+            getWriter(type);
+        }
     }
 
     /**
@@ -76,9 +135,19 @@ public class InterledgerObjectMapper {
      * {@link Instant} serialization and deserialization, and omits null values during serialization.
      * It is also configured to ignore unknown properties when deserializing JSON.
      *
+     * <p>When the streaming codecs generated for the model package are present, they replace reflective
+     * (de)serialization of the model classes, producing byte-identical JSON.
+     *
      * @return a preconfigured {@link ObjectMapper} instance.
      */
     public static ObjectMapper get() {
+        return get(true);
+    }
+
+    /**
+     * @param codecs true to use the generated model codecs (if present), false for reflective (de)serialization only
+     */
+    static ObjectMapper get(boolean codecs) {
         ObjectMapper mapper = new ObjectMapper();
 
         // make sure map fields are always in the same order
@@ -94,27 +163,102 @@ public class InterledgerObjectMapper {
         // don't fail on unknown fields
         mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
         mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+        // generated codecs assume the configuration above (i.e. NON_NULL inclusion)
+        if (codecs && CODEC_MODULE_CLASS != null) {
+            try {
+                mapper.registerModule((Module) CODEC_MODULE_CLASS.getDeclaredConstructor().newInstance());
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Failed to create: " + CODEC_MODULE, e);
+            }
+        }
         return mapper;
     }
 
-    private static ObjectMapper getUnwrapMapper() {
-        ObjectMapper mapper = new ObjectMapper();
-        mapper.enable(DeserializationFeature.UNWRAP_ROOT_VALUE);  // Enable root value handling
-        return mapper;
+    /**
+     * @return true if the model classes are (de)serialized by generated codecs
+     */
+    public static boolean hasCodecs() {
+        return CODEC_MODULE_CLASS != null;
+    }
+
+    private static Class<?> findCodecModule() {
+        try {
+            return Class.forName(CODEC_MODULE);
+        } catch (ClassNotFoundException e) {
+            LOGGER.debug("Generated JSON codecs not found, model classes are (de)serialized by reflection.");
+            return null;
+        }
+    }
+
+    /**
+     * Gets the reader of the given type, created on first use.
+     *
+     * @param valueType type to read
+     * @return immutable reader of the type
+     */
+    public ObjectReader getReader(Class<?> valueType) {
+        return readers.computeIfAbsent(valueType, mapper::readerFor);
+    }
+
+    /**
+     * Gets the writer of the given type, created on first use.
+     *
+     * @param valueType type to write
+     * @return immutable writer of the type
+     */
+    public ObjectWriter getWriter(Class<?> valueType) {
+        return writers.computeIfAbsent(valueType, mapper::writerFor);
+    }
+
+    private ObjectWriter writerOf(Object value) {
+        return value == null ? nullWriter : getWriter(value.getClass());
     }
 
     public String writeValueAsString(Object value) throws InterledgerClientException {
         try {
-            return mapper.writeValueAsString(value);
+            return writerOf(value).writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new InterledgerClientException(String.format("Failed to serialize value: '%s' to JSON.", value),
+                    e, INTERNAL_SERVER_ERROR, null, value != null ? value.toString() : null);
+        }
+    }
+
+    /**
+     * Serializes the value to UTF-8 encoded JSON without creating an intermediate String.
+     *
+     * @param value value to serialize
+     * @return UTF-8 encoded JSON
+     * @throws InterledgerClientException if the value can not be serialized
+     */
+    public byte[] writeValueAsBytes(Object value) throws InterledgerClientException {
+        try {
+            return writerOf(value).writeValueAsBytes(value);
         } catch (JsonProcessingException e) {
             throw new InterledgerClientException(String.format("Failed to serialize value: '%s' to JSON.", value),
                     e, INTERNAL_SERVER_ERROR, null, value != null ? value.toString() : null);
         }
     }
 
+    /**
+     * Serializes the value as UTF-8 encoded JSON to the given stream, the stream is not closed.
+     *
+     * @param out   target stream
+     * @param value value to serialize
+     * @throws InterledgerClientException if the value can not be serialized or written
+     */
+    public void writeValue(OutputStream out, Object value) throws InterledgerClientException {
+        try {
+            writerOf(value).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(out, value);
+        } catch (IOException e) {
+            throw new InterledgerClientException(String.format("Failed to serialize value: '%s' to JSON.", value),
+                    e, INTERNAL_SERVER_ERROR, null, value != null ? value.toString() : null);
+        }
+    }
+
     public <T> T readValue(String content, Class<T> valueType) throws InterledgerClientException {
         try {
-            return mapper.readValue(content, valueType);
+            return getReader(valueType).readValue(content);
         } catch (JsonProcessingException e) {
             // String message, Throwable throwable, int code, HttpHeaders responseHeaders, String responseBody
             throw new InterledgerClientException(String.format("Failed to deserialize response to: '%s'.", valueType.getName()),
@@ -122,6 +266,57 @@ public class InterledgerObjectMapper {
         }
     }
 
+    /**
+     * Deserializes a UTF-8 encoded JSON response body without decoding it to a String first.
+     *
+     * <p>The body is only converted to a String when deserialization fails, so it can be attached to the exception.
+     *
+     * @param content   UTF-8 encoded JSON
+     * @param valueType type to deserialize to
+     * @param <T>       type of the deserialized value
+     * @return deserialized value
+     * @throws InterledgerClientException if the content can not be deserialized
+     */
+    public <T> T readValue(byte[] content, Class<T> valueType) throws InterledgerClientException {
+        try {
+            return getReader(valueType).readValue(content);
+        } catch (IOException e) {
+            throw new InterledgerClientException(String.format("Failed to deserialize response to: '%s'.", valueType.getName()),
+                    e, INTERNAL_SERVER_ERROR, null, new String(content, StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Deserializes UTF-8 encoded JSON from the given stream, the stream is not closed.
+     *
+     * @param content   stream of UTF-8 encoded JSON
+     * @param valueType type to deserialize to
+     * @param <T>       type of the deserialized value
+     * @return deserialized value
+     * @throws InterledgerClientException if the content can not be read or deserialized
+     */
+    public <T> T readValue(InputStream content, Class<T> valueType) throws InterledgerClientException {
+        try {
+            return getReader(valueType).without(JsonParser.Feature.AUTO_CLOSE_SOURCE).readValue(content);
+        } catch (IOException e) {
+            throw new InterledgerClientException(String.format("Failed to deserialize response to: '%s'.", valueType.getName()),
+                    e, INTERNAL_SERVER_ERROR, null, null);
+        }
+    }
+
+    /**
+     * Deserializes an UTF-8 encoded error response body, see {@link #readError(String, int)}.
+     *
+     * @param content          UTF-8 encoded error response body
+     * @param httpResponseCode HTTP status code of the response
+     * @return deserialized error
+     * @throws InterledgerClientException if the body is not a JSON error
+     */
+    public ApiError readError(byte[] content, int httpResponseCode) throws InterledgerClientException {
+        // error path only, decoding the body is fine here
+        return readError(new String(content, StandardCharsets.UTF_8), httpResponseCode);
+    }
+
     public ApiError readError(String content, int httpResponseCode) throws InterledgerClientException {
 
         // This is just a dumb way to mitigate the fact that not all errors are returned in JSON format
@@ -130,7 +325,7 @@ public class InterledgerObjectMapper {
         }
 
         try {
-            return unwrapMapper.readValue(content, ApiError.class);
+            return errorReader.readValue(content);
         } catch (JsonProcessingException e) {
             LOGGER.warn("Failed to deserialize response: '{}' to: '{}'.", content, ApiError.class.getName());
 
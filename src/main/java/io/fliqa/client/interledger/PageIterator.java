@@ -0,0 +1,129 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger;
+
+import io.fliqa.client.interledger.exception.InterledgerClientException;
+import io.fliqa.client.interledger.exception.UncheckedInterledgerException;
+import io.fliqa.client.interledger.model.Page;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazy iterator over all resources of a cursor paginated list.
+ *
+ * <p>The first page is requested on the first call to {@link #hasNext()}. As soon as a page is received the
+ * next one is requested, so it is transferred while the caller processes the current page. At most the
+ * current and one prefetched page are held in memory, regardless of the number of listed resources.
+ *
+ * <p>Failures are thrown as {@link UncheckedInterledgerException} when the failed page is reached.
+ *
+ * @param <T> type of the listed resource
+ * @author Fliqa
+ * @version 1.0
+ * @see PagePublisher
+ * @since 1.0
+ */
+class PageIterator<T> implements Iterator<T>, AutoCloseable {
+
+    private final Function<String, CompletableFuture<? extends Page<T>>> fetch;
+
+    private Iterator<T> current = Collections.emptyIterator();
+    private CompletableFuture<? extends Page<T>> next;
+    private boolean started;
+
+    /**
+     * @param fetch requests the page starting after the given cursor (null for the first page)
+     */
+    PageIterator(Function<String, CompletableFuture<? extends Page<T>>> fetch) {
+        this.fetch = fetch;
+    }
+
+    /**
+     * Creates a sequential stream over all resources, closing the stream cancels a prefetched page.
+     *
+     * @param fetch requests the page starting after the given cursor (null for the first page)
+     * @param <T>   type of the listed resource
+     * @return lazy stream of all resources
+     */
+    static <T> Stream<T> stream(Function<String, CompletableFuture<? extends Page<T>>> fetch) {
+        PageIterator<T> iterator = new PageIterator<>(fetch);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::close);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!started) {
+            started = true;
+            next = fetch.apply(null);
+        }
+
+        while (!current.hasNext()) {
+            if (next == null) {
+                return false;
+            }
+
+            Page<T> page = await(next);
+            String cursor = page.getNextCursor();
+            next = cursor != null ? fetch.apply(cursor) : null; // prefetch while the page is processed
+            current = page.result != null ? page.result.iterator() : Collections.emptyIterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * Stops the iteration, a prefetched page is discarded.
+     */
+    @Override
+    public void close() {
+        started = true;
+        current = Collections.emptyIterator();
+        if (next != null) {
+            next.cancel(true);
+            next = null;
+        }
+    }
+
+    private Page<T> await(CompletableFuture<? extends Page<T>> page) {
+        try {
+            return page.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            next = null;
+            throw new UncheckedInterledgerException(new InterledgerClientException(e));
+        } catch (ExecutionException e) {
+            next = null;
+            throw new UncheckedInterledgerException(InterledgerApiClientImpl.asClientException(e.getCause()));
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger;
+
+import io.fliqa.client.interledger.model.Page;
+import io.fliqa.client.interledger.utils.Assert;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Publisher of all resources of a cursor paginated list, honoring the demand of the subscriber.
+ *
+ * <p>Every subscription iterates the list on its own. The first page is requested on the first
+ * {@link Flow.Subscription#request(long)}, the next page as soon as a page is received. At most the page being
+ * delivered and one prefetched page are held in memory, items are only delivered as requested. No thread is
+ * blocked while waiting for a page.
+ *
+ * <p>A failing page request terminates the subscription with {@link Flow.Subscriber#onError(Throwable)} and an
+ * {@link io.fliqa.client.interledger.exception.InterledgerClientException}.
+ *
+ * @param <T> type of the listed resource
+ * @author Fliqa
+ * @version 1.0
+ * @see PageIterator
+ * @since 1.0
+ */
+class PagePublisher<T> implements Flow.Publisher<T> {
+
+    private final Function<String, CompletableFuture<? extends Page<T>>> fetch;
+
+    /**
+     * @param fetch requests the page starting after the given cursor (null for the first page)
+     */
+    PagePublisher(Function<String, CompletableFuture<? extends Page<T>>> fetch) {
+        this.fetch = fetch;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Assert.notNull(subscriber, "Subscriber cannot be null");
+        PageSubscription subscription = new PageSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    /**
+     * Delivers items from a single thread at a time (work-in-progress counter), either the thread requesting
+     * items or the thread completing a page request.
+     */
+    private class PageSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super T> subscriber;
+
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+
+        // guarded by wip
+        private Iterator<T> current = Collections.emptyIterator();
+        private CompletableFuture<? extends Page<T>> next;
+        private boolean started;
+
+        private volatile boolean done;
+
+        private PageSubscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                cancel();
+                subscriber.onError(new IllegalArgumentException("Requested items must be greater than zero, but was: " + n + "."));
+                return;
+            }
+
+            requested.getAndAccumulate(n, (current, add) -> current + add < 0 ? Long.MAX_VALUE : current + add);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            done = true;
+            drain(); // releases the prefetched page
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return; // the draining thread picks up the change
+            }
+
+            int missed = 1;
+            do {
+                deliver();
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void deliver() {
+            while (!done) {
+                if (current.hasNext()) {
+                    if (requested.get() == 0) {
+                        return;
+                    }
+
+                    T item = current.next();
+                    if (requested.get() != Long.MAX_VALUE) {
+                        requested.decrementAndGet();
+                    }
+                    subscriber.onNext(item);
+                    continue;
+                }
+
+                if (!started) {
+                    if (requested.get() == 0) {
+                        return;
+                    }
+
+                    started = true;
+                    next = request(null);
+                }
+
+                if (next == null) {
+                    done = true;
+                    subscriber.onComplete();
+                    return;
+                }
+
+                if (!next.isDone()) {
+                    return; // drained again once the page is received
+                }
+
+                Page<T> page;
+                try {
+                    page = next.join();
+                } catch (CompletionException | CancellationException e) {
+                    done = true;
+                    next = null;
+                    subscriber.onError(InterledgerApiClientImpl.asClientException(e));
+                    return;
+                }
+
+                String cursor = page.getNextCursor();
+                next = cursor != null ? request(cursor) : null; // prefetch while the page is delivered
+                current = page.result != null ? page.result.iterator() : Collections.emptyIterator();
+            }
+
+            // cancelled or terminated, drop buffered items
+            current = Collections.emptyIterator();
+            if (next != null) {
+                next.cancel(true);
+                next = null;
+            }
+        }
+
+        private CompletableFuture<? extends Page<T>> request(String cursor) {
+            CompletableFuture<? extends Page<T>> page;
+            try {
+                page = fetch.apply(cursor);
+            } catch (RuntimeException e) {
+                page = CompletableFuture.failedFuture(e);
+            }
+
+            page.whenComplete((result, throwable) -> drain());
+            return page;
+        }
+    }
+}
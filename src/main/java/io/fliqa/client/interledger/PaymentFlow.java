@@ -0,0 +1,185 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger;
+
+import io.fliqa.client.interledger.exception.InterledgerClientException;
+import io.fliqa.client.interledger.model.*;
+import io.fliqa.client.interledger.utils.Assert;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Handle of a payment flow started with {@link InterledgerApiClient#startPayment}, waiting for the user to approve
+ * the payment in the sender's wallet.
+ *
+ * <p>Starting a payment runs the non-interactive steps of the Open Payments flow as a dependency graph, each
+ * step is sent as soon as the steps it depends on are completed:
+ * <pre>
+ *   getWallet(receiver) ──▶ createPendingGrant ──▶ createIncomingPayment ──┐
+ *                                                                          ├──▶ createQuote ──▶ continueGrant
+ *   getWallet(sender) ────▶ createQuoteRequest ────────────────────────────┘
+ * </pre>
+ * <p>Both wallet lookups run in parallel and the sender's quote grant overlaps with the receiver's grant and
+ * incoming payment, so starting a payment takes five dependent round trips (the receiver's path above) instead of
+ * seven sequential ones.
+ *
+ * <p>Once the user has been redirected to {@link #getRedirect()} and returned with an interaction reference,
+ * {@link #complete(String)} finalizes the grant and executes the payment. The incoming payment can be monitored
+ * with {@link InterledgerApiClient#getIncomingPayment(IncomingPayment, AccessGrant)} using {@link #receiverGrant}.
+ *
+ * <h3>Usage Example</h3>
+ * <pre>{@code
+ * PaymentFlow flow = client.startPayment(receiverAddress, senderAddress, amount, returnUrl, nonce);
+ * redirectUserTo(flow.getRedirect());
+ *
+ * // ... user returns with interact_ref
+ * Payment payment = flow.complete(interactRef);
+ * }</pre>
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see InterledgerApiClient#startPayment(WalletAddress, WalletAddress, BigDecimal, URI, String)
+ * @see InterledgerAsyncApiClient#startPayment(WalletAddress, WalletAddress, BigDecimal, URI, String)
+ * @since 1.0
+ */
+public class PaymentFlow {
+
+    /**
+     * The wallet receiving the payment.
+     */
+    public final PaymentPointer receiverWallet;
+
+    /**
+     * The wallet sending the payment.
+     */
+    public final PaymentPointer senderWallet;
+
+    /**
+     * Grant for the incoming payment on the receiver's wallet, used to monitor the payment.
+     */
+    public final AccessGrant receiverGrant;
+
+    /**
+     * The incoming payment created on the receiver's wallet.
+     */
+    public final IncomingPayment incomingPayment;
+
+    /**
+     * The quote of the payment on the sender's wallet.
+     */
+    public final Quote quote;
+
+    /**
+     * The pending outgoing payment holding the interaction redirect.
+     */
+    public final OutgoingPayment outgoingPayment;
+
+    private final InterledgerApiClientImpl client;
+
+    private PaymentFlow(InterledgerApiClientImpl client,
+                        PaymentPointer receiverWallet,
+                        PaymentPointer senderWallet,
+                        AccessGrant receiverGrant,
+                        IncomingPayment incomingPayment,
+                        Quote quote,
+                        OutgoingPayment outgoingPayment) {
+        this.client = client;
+        this.receiverWallet = receiverWallet;
+        this.senderWallet = senderWallet;
+        this.receiverGrant = receiverGrant;
+        this.incomingPayment = incomingPayment;
+        this.quote = quote;
+        this.outgoingPayment = outgoingPayment;
+    }
+
+    /**
+     * Runs the steps up to the user interaction, each as soon as its dependencies are completed.
+     *
+     * @return future completed with the flow waiting for the user interaction, or completed exceptionally
+     * with the first failing step
+     */
+    static CompletableFuture<PaymentFlow> start(InterledgerApiClientImpl client,
+                                                WalletAddress receiver,
+                                                WalletAddress sender,
+                                                BigDecimal amount,
+                                                URI returnUrl,
+                                                String nonce) {
+
+        Assert.notNull(receiver, "WalletAddress receiver cannot be null");
+        Assert.notNull(sender, "WalletAddress sender cannot be null");
+        Assert.notNull(amount, "BigDecimal amount cannot be null");
+        Assert.notNull(returnUrl, "Return URL cannot be null");
+        Assert.notNullOrEmpty(nonce, "Nonce cannot be null or empty");
+
+        // receiver side
+        CompletableFuture<PaymentPointer> receiverWallet = client.getWalletAsync(receiver);
+        CompletableFuture<AccessGrant> receiverGrant = receiverWallet.thenCompose(client::createPendingGrantAsync);
+        CompletableFuture<IncomingPayment> incomingPayment = receiverGrant.thenCompose(grant ->
+                client.sendAsync(ApiOperation.CREATE_INCOMING_PAYMENT, () -> client.createIncomingPaymentRequest(receiverWallet.join(), grant, amount), IncomingPayment.class));
+
+        // sender side, overlapping with the receiver side
+        CompletableFuture<PaymentPointer> senderWallet = client.getWalletAsync(sender);
+        CompletableFuture<AccessGrant> quoteGrant = senderWallet.thenCompose(client::createQuoteRequestAsync);
+
+        // joins of completed dependencies only
+        CompletableFuture<Quote> quote = quoteGrant.thenCombine(incomingPayment, (grant, payment) -> grant)
+                .thenCompose(grant -> client.sendAsync(ApiOperation.CREATE_QUOTE, () -> client.createQuoteRequest(client.extractAccessToken(grant), senderWallet.join(), incomingPayment.join()), Quote.class));
+
+        return quote.thenCompose(created ->
+                        client.sendAsync(ApiOperation.CONTINUE_GRANT, () -> client.continueGrantRequest(senderWallet.join(), created, returnUrl, nonce), OutgoingPayment.class))
+                .thenApply(outgoing -> new PaymentFlow(client,
+                        receiverWallet.join(),
+                        senderWallet.join(),
+                        receiverGrant.join(),
+                        incomingPayment.join(),
+                        quote.join(),
+                        outgoing));
+    }
+
+    /**
+     * Gets the URL the user must visit to approve the payment in the sender's wallet.
+     *
+     * @return interaction redirect URL
+     */
+    public URI getRedirect() {
+        return outgoingPayment.interact != null ? outgoingPayment.interact.redirect : null;
+    }
+
+    /**
+     * Finalizes the grant with the interaction reference and executes the payment.
+     *
+     * @param interactRef interaction reference returned from the user's wallet after authorization
+     * @return the executed payment
+     * @throws InterledgerClientException if the grant cannot be finalized or the payment fails
+     */
+    public Payment complete(String interactRef) throws InterledgerClientException {
+        AccessGrant finalized = client.finalizeGrant(outgoingPayment, interactRef);
+        return client.finalizePayment(finalized, senderWallet, quote);
+    }
+
+    /**
+     * Non-blocking variant of {@link #complete(String)}.
+     *
+     * @param interactRef interaction reference returned from the user's wallet after authorization
+     * @return future completed with the executed payment
+     */
+    public CompletableFuture<Payment> completeAsync(String interactRef) {
+        return client.sendAsync(ApiOperation.FINALIZE_GRANT, () -> client.finalizeGrantRequest(outgoingPayment, interactRef), AccessGrant.class)
+                .thenCompose(finalized -> client.sendAsync(ApiOperation.FINALIZE_PAYMENT, () -> client.finalizePaymentRequest(finalized, senderWallet, quote), Payment.class));
+    }
+}
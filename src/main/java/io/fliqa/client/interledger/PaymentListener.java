@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger;
+
+import io.fliqa.client.interledger.exception.InterledgerClientException;
+import io.fliqa.client.interledger.model.IncomingPayment;
+
+/**
+ * Receives the outcome of an incoming payment watched by a {@link PaymentWatcher}.
+ *
+ * <p>Exactly one method is called per watch. Callbacks run on a thread of the HTTP client (or the watcher's
+ * scheduler thread) and must not block.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see PaymentWatcher#watch(IncomingPayment, io.fliqa.client.interledger.model.AccessGrant, PaymentListener)
+ * @since 1.0
+ */
+public interface PaymentListener {
+
+    /**
+     * Called once the payment is completed.
+     *
+     * @param payment the completed payment
+     */
+    void onCompleted(IncomingPayment payment);
+
+    /**
+     * Called once the payment expired without being completed.
+     *
+     * @param payment last polled state of the payment
+     */
+    void onExpired(IncomingPayment payment);
+
+    /**
+     * Called when the payment can no longer be polled (i.e. the grant was revoked or the payment is unknown),
+     * or the watch was cancelled. Transient failures are retried and not reported.
+     *
+     * @param payment the watched payment
+     * @param error   reason the watch was stopped
+     */
+    default void onError(IncomingPayment payment, InterledgerClientException error) {
+    }
+}
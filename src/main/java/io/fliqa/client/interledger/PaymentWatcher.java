@@ -0,0 +1,372 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger;
+
+import io.fliqa.client.interledger.exception.InterledgerClientException;
+import io.fliqa.client.interledger.exception.InterledgerPaymentExpiredException;
+import io.fliqa.client.interledger.model.AccessGrant;
+import io.fliqa.client.interledger.model.IncomingPayment;
+import io.fliqa.client.interledger.transport.InterledgerTransport;
+import io.fliqa.client.interledger.utils.Assert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Watches many incoming payments until they are completed or expired, using a single scheduler thread.
+ *
+ * <p>Instead of one thread polling {@link InterledgerApiClient#getIncomingPayment} in a sleep loop per payment,
+ * all watched payments are kept in a {@link TimerWheel}. A single scheduler thread advances the wheel every
+ * {@link WatchPolicy#tickDuration} and sends the polls that are due without waiting for the responses, which are
+ * handled on the threads of the HTTP client. Memory and CPU per watched payment are constant, so hundreds of
+ * thousands of payments can be watched with a fixed number of threads.
+ *
+ * <h3>Polling</h3>
+ * <ul>
+ *   <li>The first poll is sent after {@link WatchPolicy#initialInterval}, every further interval grows by
+ *   {@link WatchPolicy#multiplier} up to {@link WatchPolicy#maxInterval} (with jitter)</li>
+ *   <li>The last poll is sent when the payment expires ({@code expiresAt}), or after {@link WatchPolicy#maxDuration}
+ *   for payments without expiration</li>
+ *   <li>Polls due at the same resource server are sent together in one tick, sharing the host's connection,
+ *   at most {@link WatchPolicy#maxPollsPerHost} at once</li>
+ *   <li>Transient failures (network, 429, 5xx, client side limits) are retried with the next poll, other client
+ *   errors (i.e. 401, 404) stop the watch</li>
+ * </ul>
+ *
+ * <h3>Outcome</h3>
+ * <p>The future returned by {@link #watch(IncomingPayment, AccessGrant)} is completed with the completed payment,
+ * or exceptionally with an {@link InterledgerPaymentExpiredException} (holding the last polled state) or the
+ * error stopping the watch. Cancelling the future stops watching the payment. Alternatively a
+ * {@link PaymentListener} can be given.
+ *
+ * <h3>Usage Example</h3>
+ * <pre>{@code
+ * PaymentWatcher watcher = client.getPaymentWatcher();
+ * watcher.watch(incomingPayment, grant)
+ *     .thenAccept(completed -> markPaid(completed.id));
+ * }</pre>
+ *
+ * <h3>Thread Safety</h3>
+ * <p>This class is thread-safe.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see WatchPolicy
+ * @see InterledgerApiClientImpl#getPaymentWatcher()
+ * @since 1.0
+ */
+public class PaymentWatcher implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PaymentWatcher.class);
+
+    /**
+     * Buckets of the timer wheel, one round covers 51.2 seconds with the default 100ms ticks.
+     */
+    static final int WHEEL_SIZE = 512;
+
+    private final InterledgerApiClientImpl client;
+    private final WatchPolicy policy;
+    private final LongSupplier nanoTime;
+    private final long tickNanos;
+
+    private final ScheduledExecutorService scheduler;
+    private final TimerWheel<Watch> wheel; // owned by the scheduler thread
+    private final ConcurrentLinkedQueue<Watch> scheduled = new ConcurrentLinkedQueue<>(); // handed over to the wheel on the next tick
+
+    private final ConcurrentHashMap<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+    private final AtomicInteger watched = new AtomicInteger();
+    private final LongAdder polls = new LongAdder();
+
+    private volatile boolean closed;
+
+    PaymentWatcher(InterledgerApiClientImpl client, WatchPolicy policy) {
+        this(client, policy, System::nanoTime);
+    }
+
+    PaymentWatcher(InterledgerApiClientImpl client, WatchPolicy policy, LongSupplier nanoTime) {
+        Assert.notNull(client, "InterledgerApiClientImpl cannot be null");
+        Assert.notNull(policy, "WatchPolicy cannot be null");
+        Assert.notNull(nanoTime, "nanoTime cannot be null");
+
+        this.client = client;
+        this.policy = policy;
+        this.nanoTime = nanoTime;
+        this.tickNanos = policy.tickDuration.toNanos();
+        this.wheel = new TimerWheel<>(tickNanos, WHEEL_SIZE, nanoTime.getAsLong());
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "interledger-payment-watcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::tick, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Watches an incoming payment until it is completed or expired.
+     *
+     * @param payment the incoming payment to watch
+     * @param grant   the access grant that provides permission to read the payment
+     * @return future completed with the completed payment, or exceptionally with an
+     * {@link InterledgerPaymentExpiredException} or the error stopping the watch; cancel to stop watching
+     * @throws IllegalArgumentException if payment or grant is null, or the grant holds no access token
+     * @throws IllegalStateException    if the watcher is closed
+     */
+    public CompletableFuture<IncomingPayment> watch(IncomingPayment payment, AccessGrant grant) {
+        Assert.notNull(payment, "IncomingPayment cannot be null");
+        Assert.notNull(payment.id, "IncomingPayment.id cannot be null");
+        client.extractAccessToken(grant);
+        Assert.isFalse(closed, () -> new IllegalStateException("PaymentWatcher is closed"));
+
+        CompletableFuture<IncomingPayment> future = new CompletableFuture<>();
+        if (payment.completed) {
+            future.complete(payment);
+            return future;
+        }
+
+        long now = nanoTime.getAsLong();
+        Watch watch = new Watch(payment, grant, future, getDeadline(payment, now));
+        watched.incrementAndGet();
+        future.whenComplete((result, throwable) -> watched.decrementAndGet());
+
+        schedule(watch, now + jitter(watch.interval));
+        if (closed) {
+            future.cancel(false); // closed concurrently, the watch might never be polled
+        }
+        return future;
+    }
+
+    /**
+     * Watches an incoming payment, reporting the outcome to the given listener.
+     *
+     * @param payment  the incoming payment to watch
+     * @param grant    the access grant that provides permission to read the payment
+     * @param listener receives the outcome
+     * @return future of the watch, cancel to stop watching
+     * @throws IllegalArgumentException if any parameter is null, or the grant holds no access token
+     * @throws IllegalStateException    if the watcher is closed
+     */
+    public CompletableFuture<IncomingPayment> watch(IncomingPayment payment, AccessGrant grant, PaymentListener listener) {
+        Assert.notNull(listener, "PaymentListener cannot be null");
+
+        CompletableFuture<IncomingPayment> future = watch(payment, grant);
+        future.whenComplete((completed, throwable) -> {
+            if (throwable == null) {
+                listener.onCompleted(completed);
+                return;
+            }
+
+            InterledgerClientException error = InterledgerApiClientImpl.asClientException(throwable);
+            if (error instanceof InterledgerPaymentExpiredException expired) {
+                listener.onExpired(expired.getPayment());
+            } else {
+                listener.onError(payment, error);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * @return number of payments currently watched
+     */
+    public int size() {
+        return watched.get();
+    }
+
+    /**
+     * @return number of polls sent
+     */
+    public long getPolls() {
+        return polls.sum();
+    }
+
+    /**
+     * Stops the scheduler and cancels all watches.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        scheduler.execute(() -> {
+            drainScheduled();
+            wheel.clear(watch -> watch.future.cancel(false));
+        });
+        scheduler.shutdown(); // runs the cancellation, periodic ticks are stopped
+    }
+
+    /**
+     * Single scheduler thread: moves (re)scheduled watches into the wheel and sends the polls that are due.
+     */
+    private void tick() {
+        try {
+            long now = nanoTime.getAsLong();
+            drainScheduled();
+
+            Map<String, List<Watch>> due = new HashMap<>();
+            wheel.advance(now, watch -> {
+                if (!watch.future.isDone()) { // cancelled watches are dropped
+                    due.computeIfAbsent(watch.host, host -> new ArrayList<>()).add(watch);
+                }
+            });
+
+            due.forEach((host, watches) -> poll(host, watches, now));
+        } catch (RuntimeException e) {
+            LOGGER.error("Failed to poll watched payments.", e); // must not stop the periodic tick
+        }
+    }
+
+    private void drainScheduled() {
+        Watch watch;
+        while ((watch = scheduled.poll()) != null) {
+            wheel.schedule(watch, watch.due);
+        }
+    }
+
+    /**
+     * Sends the due polls of one resource server together, polls beyond the host's limit wait for the next tick.
+     */
+    private void poll(String host, List<Watch> watches, long now) {
+        AtomicInteger hostPolls = inFlight.computeIfAbsent(host, key -> new AtomicInteger());
+        for (Watch watch : watches) {
+            if (hostPolls.get() >= policy.maxPollsPerHost) {
+                wheel.schedule(watch, now + tickNanos);
+                continue;
+            }
+
+            hostPolls.incrementAndGet();
+            polls.increment();
+
+            CompletableFuture<IncomingPayment> poll;
+            try {
+                poll = client.sendAsync(ApiOperation.GET_INCOMING_PAYMENT, () -> client.getIncomingPaymentRequest(watch.payment, watch.grant), IncomingPayment.class);
+            } catch (RuntimeException e) {
+                poll = CompletableFuture.failedFuture(e);
+            }
+
+            poll.whenComplete((polled, throwable) -> {
+                hostPolls.decrementAndGet();
+                onPolled(watch, polled, throwable);
+            });
+        }
+    }
+
+    private void onPolled(Watch watch, IncomingPayment polled, Throwable throwable) {
+        if (watch.future.isDone()) {
+            return; // cancelled while polling
+        }
+
+        if (closed) {
+            watch.future.cancel(false);
+            return;
+        }
+
+        if (throwable == null) {
+            watch.payment = polled;
+            if (polled.completed) {
+                watch.future.complete(polled);
+                return;
+            }
+        } else {
+            InterledgerClientException error = InterledgerApiClientImpl.asClientException(throwable);
+            if (isFatal(error)) {
+                watch.future.completeExceptionally(error);
+                return;
+            }
+            LOGGER.debug("Failed to poll incoming payment: {}, polling again.", watch.payment.id, error);
+        }
+
+        long now = nanoTime.getAsLong();
+        if (now - watch.deadline >= 0) {
+            watch.future.completeExceptionally(new InterledgerPaymentExpiredException(watch.payment));
+            return;
+        }
+
+        watch.interval = policy.nextInterval(watch.interval);
+        schedule(watch, now + jitter(watch.interval));
+    }
+
+    /**
+     * @return true for client errors other than 429, further polls would fail the same way
+     */
+    private static boolean isFatal(InterledgerClientException error) {
+        int code = error.getCode();
+        return code >= 400 && code < 500 && code != 429;
+    }
+
+    /**
+     * Hands the watch over to the scheduler thread, the poll is due at the given time or the payment's deadline.
+     */
+    private void schedule(Watch watch, long dueNanos) {
+        watch.due = dueNanos - watch.deadline < 0 ? dueNanos : watch.deadline;
+        scheduled.add(watch);
+    }
+
+    private long getDeadline(IncomingPayment payment, long now) {
+        if (payment.expiresAt == null) {
+            return now + policy.maxDuration.toNanos();
+        }
+
+        long remaining = Duration.between(Instant.now(), payment.expiresAt).toMillis();
+        return now + TimeUnit.MILLISECONDS.toNanos(Math.max(remaining, 0)); // saturated for far away expiration
+    }
+
+    private long jitter(long interval) {
+        if (policy.jitter == 0.0) {
+            return interval;
+        }
+
+        double spread = policy.jitter * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+        return (long) (interval * (1 + spread));
+    }
+
+    /**
+     * Watched payment, handed between the scheduler thread and the HTTP client threads through the
+     * scheduled queue and the poll future (both establishing happens-before).
+     */
+    private class Watch {
+
+        private final AccessGrant grant;
+        private final CompletableFuture<IncomingPayment> future;
+        private final String host;
+        private final long deadline;
+
+        private IncomingPayment payment; // last polled state
+        private long interval;
+        private long due;
+
+        private Watch(IncomingPayment payment, AccessGrant grant, CompletableFuture<IncomingPayment> future, long deadline) {
+            this.payment = payment;
+            this.grant = grant;
+            this.future = future;
+            this.host = InterledgerTransport.getHost(payment.id);
+            this.deadline = deadline;
+            this.interval = policy.initialInterval.toNanos();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger;
+
+import io.fliqa.client.interledger.model.IncomingPayment;
+import io.fliqa.client.interledger.model.PaymentPointer;
+import io.fliqa.client.interledger.utils.Assert;
+
+/**
+ * Single quote of a {@link InterledgerApiClient#createQuotes(java.util.List)} batch.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @since 1.0
+ */
+public class QuoteItem {
+
+    /**
+     * The wallet that will send the payment.
+     */
+    public final PaymentPointer sender;
+
+    /**
+     * The target payment request created on the receiver's wallet.
+     */
+    public final IncomingPayment incomingPayment;
+
+    /**
+     * @param sender          the wallet that will send the payment
+     * @param incomingPayment the target payment request created on the receiver's wallet
+     * @throws IllegalArgumentException if sender or incomingPayment is null
+     */
+    public QuoteItem(PaymentPointer sender, IncomingPayment incomingPayment) {
+        Assert.notNull(sender, "PaymentPointer sender cannot be null");
+        Assert.notNull(incomingPayment, "IncomingPayment cannot be null");
+
+        this.sender = sender;
+        this.incomingPayment = incomingPayment;
+    }
+
+    @Override
+    public String toString() {
+        return incomingPayment.id + " from: " + sender;
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger;
+
+import io.fliqa.client.interledger.utils.Assert;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration of client side rate limits, applied per host and {@link ApiOperation}.
+ *
+ * <p>Each host (scheme, host and port of the request URI) has its own token bucket per limited operation,
+ * so requests beyond a provider's quota are held back before they are signed and sent, instead of
+ * being answered with 429. Limits are configured per operation for all hosts, and can be overridden
+ * for single hosts. Operations without a limit are not rate limited.
+ *
+ * <p>A request that would have to wait longer than {@link #maxWait} for a token is rejected.
+ * When a host answers with 429 and a {@code Retry-After} header, the bucket of the operation
+ * hands out no tokens until the requested time has passed.
+ *
+ * <h3>Usage Example</h3>
+ * <pre>{@code
+ * RateLimitPolicy rateLimits = RateLimitPolicy.builder()
+ *     .limit(ApiOperation.CREATE_QUOTE, 10, 20)                               // all hosts
+ *     .limit("https://ilp.provider.dev", ApiOperation.CREATE_QUOTE, 2, 2)     // single host
+ *     .maxWait(Duration.ofSeconds(2))
+ *     .build();
+ * }</pre>
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see InterledgerClientOptions#rateLimit
+ * @see io.fliqa.client.interledger.transport.RateLimitTransport
+ * @since 1.0
+ */
+public class RateLimitPolicy {
+
+    /**
+     * No rate limits (default).
+     */
+    public static final RateLimitPolicy DISABLED = builder().build();
+
+    /**
+     * Limits per operation for all hosts.
+     */
+    public final Map<ApiOperation, Limit> limits;
+
+    /**
+     * Limits per operation overridden for single hosts (keyed by {@code scheme://host[:port]}).
+     */
+    public final Map<String, Map<ApiOperation, Limit>> hostLimits;
+
+    /**
+     * Maximum time a request waits for a token.
+     */
+    public final Duration maxWait;
+
+    private RateLimitPolicy(Builder builder) {
+        this.limits = Collections.unmodifiableMap(new EnumMap<>(builder.limits));
+
+        Map<String, Map<ApiOperation, Limit>> hosts = new HashMap<>();
+        builder.hostLimits.forEach((host, limits) -> hosts.put(host, Collections.unmodifiableMap(new EnumMap<>(limits))));
+        this.hostLimits = Collections.unmodifiableMap(hosts);
+
+        this.maxWait = builder.maxWait;
+    }
+
+    /**
+     * Creates a builder without limits.
+     *
+     * @return new policy builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return true if any limit is configured
+     */
+    public boolean isEnabled() {
+        return !limits.isEmpty() || !hostLimits.isEmpty();
+    }
+
+    /**
+     * Gets the limit of an operation on a host.
+     *
+     * @param host      host as {@code scheme://host[:port]}
+     * @param operation operation type
+     * @return host specific limit, limit for all hosts, or null if the operation is not limited
+     */
+    public Limit getLimit(String host, ApiOperation operation) {
+        Map<ApiOperation, Limit> overrides = hostLimits.get(host);
+        if (overrides != null) {
+            Limit limit = overrides.get(operation);
+            if (limit != null) {
+                return limit;
+            }
+        }
+
+        return limits.get(operation);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RateLimitPolicy{limits=%s, hostLimits=%s, maxWait=%s}", limits, hostLimits, maxWait);
+    }
+
+    /**
+     * Rate of a token bucket.
+     */
+    public static class Limit {
+
+        /**
+         * Sustained number of requests per second.
+         */
+        public final double permitsPerSecond;
+
+        /**
+         * Number of requests that can be sent at once after the bucket was idle.
+         */
+        public final int burst;
+
+        /**
+         * Creates a new limit.
+         *
+         * @param permitsPerSecond sustained number of requests per second
+         * @param burst            number of requests that can be sent at once
+         * @throws IllegalArgumentException if permitsPerSecond is not positive or burst is less than 1
+         */
+        public Limit(double permitsPerSecond, int burst) {
+            Assert.isTrue(permitsPerSecond > 0.0, "permitsPerSecond must be greater than zero.");
+            Assert.isTrue(burst >= 1, "burst must be greater than or equal to 1.");
+            this.permitsPerSecond = permitsPerSecond;
+            this.burst = burst;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s/s (burst %d)", permitsPerSecond, burst);
+        }
+    }
+
+    /**
+     * Builder for {@link RateLimitPolicy}.
+     */
+    public static class Builder {
+
+        private final Map<ApiOperation, Limit> limits = new EnumMap<>(ApiOperation.class);
+        private final Map<String, Map<ApiOperation, Limit>> hostLimits = new HashMap<>();
+        private Duration maxWait = Duration.ofSeconds(1);
+
+        private Builder() {
+        }
+
+        /**
+         * Limits an operation on every host.
+         *
+         * @param operation        operation type
+         * @param permitsPerSecond sustained number of requests per second
+         * @param burst            number of requests that can be sent at once
+         * @return this builder for method chaining
+         */
+        public Builder limit(ApiOperation operation, double permitsPerSecond, int burst) {
+            Assert.notNull(operation, "ApiOperation cannot be null");
+            limits.put(operation, new Limit(permitsPerSecond, burst));
+            return this;
+        }
+
+        /**
+         * Limits an operation on a single host, overriding the limit for all hosts.
+         *
+         * @param host             host as {@code scheme://host[:port]}, i.e. {@code https://ilp.provider.dev}
+         * @param operation        operation type
+         * @param permitsPerSecond sustained number of requests per second
+         * @param burst            number of requests that can be sent at once
+         * @return this builder for method chaining
+         */
+        public Builder limit(String host, ApiOperation operation, double permitsPerSecond, int burst) {
+            Assert.notNullOrEmpty(host, "host cannot be null or empty");
+            Assert.notNull(operation, "ApiOperation cannot be null");
+            hostLimits.computeIfAbsent(host, key -> new EnumMap<>(ApiOperation.class))
+                    .put(operation, new Limit(permitsPerSecond, burst));
+            return this;
+        }
+
+        /**
+         * Sets the maximum time a request waits for a token.
+         *
+         * @param value maximum wait (zero rejects requests when no token is available)
+         * @return this builder for method chaining
+         */
+        public Builder maxWait(Duration value) {
+            Assert.notNull(value, "maxWait cannot be null");
+            Assert.isFalse(value.isNegative(), "maxWait cannot be negative.");
+            maxWait = value;
+            return this;
+        }
+
+        /**
+         * Creates the policy from the configured limits.
+         *
+         * @return new rate limit policy
+         */
+        public RateLimitPolicy build() {
+            return new RateLimitPolicy(this);
+        }
+    }
+}
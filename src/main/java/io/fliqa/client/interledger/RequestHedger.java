@@ -0,0 +1,322 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger;
+
+import io.fliqa.client.interledger.transport.InterledgerResponse;
+import io.fliqa.client.interledger.transport.InterledgerTransport;
+import io.fliqa.client.interledger.utils.Assert;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Sends hedged requests for idempotent reads according to the {@link HedgingPolicy}.
+ *
+ * <p>Latencies are recorded per host in a ring of recent samples, the hedge delay (percentile of the samples)
+ * is recomputed every {@link #RECOMPUTE_INTERVAL} samples, so the hot path only reads a volatile value.
+ * The hedge budget is kept as lock-free credit: every hedgeable request earns {@link HedgingPolicy#budget}
+ * of a credit, every hedge spends one.
+ *
+ * <h3>Thread Safety</h3>
+ * <p>This class is thread-safe.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see HedgingPolicy
+ * @since 1.0
+ */
+public class RequestHedger {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RequestHedger.class);
+
+    /**
+     * Number of recent latencies kept per host.
+     */
+    static final int WINDOW_SIZE = 128;
+
+    /**
+     * Number of samples after which the hedge delay is recomputed.
+     */
+    static final int RECOMPUTE_INTERVAL = 16;
+
+    private static final long CREDIT = 1_000_000L;
+    private static final long MAX_CREDIT = 10 * CREDIT;
+
+    private final HedgingPolicy policy;
+    private final long creditPerRequest;
+
+    private final ConcurrentHashMap<String, HostLatency> latencies = new ConcurrentHashMap<>();
+    private final AtomicLong credit = new AtomicLong();
+
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+
+    /**
+     * Creates a new hedger.
+     *
+     * @param policy hedging configuration
+     * @throws IllegalArgumentException if policy is null
+     */
+    public RequestHedger(HedgingPolicy policy) {
+        Assert.notNull(policy, "HedgingPolicy cannot be null");
+        this.policy = policy;
+        this.creditPerRequest = Math.round(policy.budget * CREDIT);
+    }
+
+    /**
+     * Tells if a request is hedged, only GET and HEAD requests are.
+     *
+     * @param request HTTP request
+     * @return true if hedging is enabled and the request is idempotent
+     */
+    public boolean isHedged(HttpRequest request) {
+        if (!policy.enabled) {
+            return false;
+        }
+
+        String method = request.method();
+        return "GET".equals(method) || "HEAD".equals(method);
+    }
+
+    /**
+     * @return number of hedges sent
+     */
+    public long getHedges() {
+        return hedges.sum();
+    }
+
+    /**
+     * @return number of calls answered by the hedge rather than the first request
+     */
+    public long getHedgeWins() {
+        return hedgeWins.sum();
+    }
+
+    /**
+     * Gets the current hedge delay of a host.
+     *
+     * @param host host as {@code scheme://host[:port]}
+     * @return delay or null if requests to the host are not hedged (yet)
+     */
+    public Duration getHedgeDelay(String host) {
+        HostLatency latency = latencies.get(host);
+        if (latency == null || latency.hedgeDelay < 0) {
+            return null;
+        }
+        return Duration.ofNanos(latency.hedgeDelay);
+    }
+
+    /**
+     * Sends the request and, if it has not completed after the hedge delay of the host, a second copy.
+     *
+     * @param request        the HTTP request to be sent
+     * @param requestBuilder builds a freshly signed copy for the hedge
+     * @param first          sends the first request
+     * @param hedge          sends the hedge
+     * @return future completed with the first response received (any status code),
+     * or exceptionally once all attempts failed
+     */
+    public CompletableFuture<InterledgerResponse> exchange(HttpRequest request,
+                                                           Supplier<HttpRequest> requestBuilder,
+                                                           Function<HttpRequest, CompletableFuture<InterledgerResponse>> first,
+                                                           Function<HttpRequest, CompletableFuture<InterledgerResponse>> hedge) {
+
+        HostLatency latency = getLatency(InterledgerTransport.getHost(request.uri()));
+        earnCredit();
+
+        long delay = latency.hedgeDelay;
+        CompletableFuture<InterledgerResponse> primary = latency.track(System.nanoTime(), first.apply(request));
+        if (delay < 0) {
+            return primary;
+        }
+
+        Race race = new Race();
+        race.begin();
+        race.add(primary, false);
+
+        CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS).execute(() -> {
+            if (race.result.isDone() || !spendCredit()) {
+                return;
+            }
+
+            HttpRequest copy;
+            try {
+                copy = requestBuilder.get();
+            } catch (RuntimeException e) {
+                LOGGER.warn("Failed to build hedge of: {} {}", request.method(), request.uri(), e);
+                return;
+            }
+
+            hedges.increment();
+            LOGGER.debug("Hedging {} {} after {} ms", request.method(), request.uri(), TimeUnit.NANOSECONDS.toMillis(delay));
+            race.begin(); // before sending, so a failing first attempt waits for the hedge
+            race.add(latency.track(System.nanoTime(), hedge.apply(copy)), true);
+        });
+
+        return race.result;
+    }
+
+    private HostLatency getLatency(String host) {
+        HostLatency latency = latencies.get(host);
+        if (latency != null) {
+            return latency;
+        }
+
+        return latencies.computeIfAbsent(host, key -> new HostLatency());
+    }
+
+    private void earnCredit() {
+        long current;
+        do {
+            current = credit.get();
+            if (current >= MAX_CREDIT) {
+                return;
+            }
+        } while (!credit.compareAndSet(current, Math.min(MAX_CREDIT, current + creditPerRequest)));
+    }
+
+    private boolean spendCredit() {
+        long current;
+        do {
+            current = credit.get();
+            if (current < CREDIT) {
+                return false;
+            }
+        } while (!credit.compareAndSet(current, current - CREDIT));
+        return true;
+    }
+
+    /**
+     * First response of the attempts wins, the others are cancelled.
+     */
+    private class Race {
+
+        private final CompletableFuture<InterledgerResponse> result = new CompletableFuture<>();
+        private final List<CompletableFuture<InterledgerResponse>> attempts = new CopyOnWriteArrayList<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicBoolean won = new AtomicBoolean();
+
+        Race() {
+            result.whenComplete((response, throwable) -> attempts.forEach(attempt -> attempt.cancel(true)));
+        }
+
+        /**
+         * Registers an attempt about to be sent.
+         */
+        void begin() {
+            pending.incrementAndGet();
+        }
+
+        void add(CompletableFuture<InterledgerResponse> attempt, boolean isHedge) {
+            attempts.add(attempt);
+            if (result.isDone()) {
+                attempt.cancel(true); // lost before it started
+            }
+
+            attempt.whenComplete((response, throwable) -> {
+                if (throwable == null) {
+                    if (won.compareAndSet(false, true)) {
+                        // count the win and cancel losers before completing, the caller may continue right away
+                        if (isHedge) {
+                            hedgeWins.increment();
+                        }
+                        attempts.forEach(other -> {
+                            if (other != attempt) {
+                                other.cancel(true);
+                            }
+                        });
+                        result.complete(response);
+                    }
+                } else if (pending.decrementAndGet() == 0) {
+                    result.completeExceptionally(throwable);
+                }
+            });
+        }
+    }
+
+    /**
+     * Recent latencies of a host and the resulting hedge delay.
+     */
+    private class HostLatency {
+
+        private final AtomicLongArray samples = new AtomicLongArray(WINDOW_SIZE);
+        private final AtomicLong count = new AtomicLong();
+
+        private volatile long hedgeDelay = -1;
+
+        /**
+         * Records the latency of every attempt, also of failed ones and of losers cancelled after the race was won:
+         * their elapsed time is a lower bound of the latency. Sampling only the fast winners would let the
+         * hedge delay drift down to {@link HedgingPolicy#minDelay}.
+         *
+         * <p>The returned future completes once the latency is recorded, cancelling it cancels the attempt.
+         * A cancelled dependent skips its action when the attempt completes, so cancellation records the latency itself.
+         */
+        CompletableFuture<InterledgerResponse> track(long start, CompletableFuture<InterledgerResponse> attempt) {
+            AtomicBoolean recorded = new AtomicBoolean();
+            Runnable sample = () -> {
+                if (recorded.compareAndSet(false, true)) {
+                    record(System.nanoTime() - start);
+                }
+            };
+
+            CompletableFuture<InterledgerResponse> tracked = attempt.whenComplete((response, throwable) -> sample.run());
+            tracked.whenComplete((response, throwable) -> {
+                if (tracked.isCancelled()) {
+                    sample.run();
+                    attempt.cancel(true);
+                }
+            });
+            return tracked;
+        }
+
+        void record(long latencyNanos) {
+            long n = count.getAndIncrement();
+            samples.set((int) (n % WINDOW_SIZE), latencyNanos);
+
+            long recorded = n + 1;
+            if (recorded >= policy.minSamples && recorded % RECOMPUTE_INTERVAL == 0 || recorded == policy.minSamples) {
+                hedgeDelay = computeDelay((int) Math.min(recorded, WINDOW_SIZE));
+            }
+        }
+
+        private long computeDelay(int size) {
+            long[] sorted = new long[size];
+            for (int i = 0; i < size; i++) {
+                sorted[i] = samples.get(i);
+            }
+            Arrays.sort(sorted);
+
+            long value = sorted[(int) Math.min(size - 1, Math.ceil(policy.percentile * size) - 1)];
+            return Math.max(policy.minDelay.toNanos(), Math.min(policy.maxDelay.toNanos(), value));
+        }
+    }
+}
@@ -0,0 +1,327 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger;
+
+import io.fliqa.client.interledger.exception.InterledgerClientException;
+import io.fliqa.client.interledger.exception.InterledgerConnectionException;
+import io.fliqa.client.interledger.exception.InterledgerServerException;
+import io.fliqa.client.interledger.exception.InterledgerTooManyRequestsException;
+import io.fliqa.client.interledger.transport.InterledgerResponse;
+import io.fliqa.client.interledger.utils.Assert;
+import io.fliqa.client.interledger.utils.RetryAfter;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Policy deciding if and when a failed Open Payments call is repeated.
+ *
+ * <p>Only transient failures are retried, and only when repeating the request can not have side effects:
+ * <ul>
+ *   <li><strong>GET / HEAD</strong> - retried on connection failures, 429 and temporary server errors (500, 502, 503, 504)</li>
+ *   <li><strong>Other methods</strong> - retried only when the connection could not be established,
+ *   so no byte of the request reached the server</li>
+ * </ul>
+ *
+ * <h3>Delay</h3>
+ * <p>The delay grows exponentially from {@link #initialBackoff} by {@link #multiplier} up to {@link #maxBackoff},
+ * and is randomly reduced by up to {@link #jitter} (0 - 1) of its value, so clients failing at the same time
+ * don't retry at the same time. A {@code Retry-After} header sent with 429 or 503 replaces the computed delay.
+ *
+ * <h3>Limits</h3>
+ * <p>A call is attempted at most {@link #maxAttempts} times (including the first attempt) and is not retried
+ * when the next attempt would start after {@link #maxElapsed} from the first attempt.
+ *
+ * <p>Every retry builds and signs the request again, so each attempt carries a fresh signature timestamp.
+ *
+ * <h3>Usage Example</h3>
+ * <pre>{@code
+ * InterledgerClientOptions options = InterledgerClientOptions.builder()
+ *     .retryPolicy(RetryPolicy.builder()
+ *         .maxAttempts(4)
+ *         .initialBackoff(Duration.ofMillis(100))
+ *         .build())
+ *     .build();
+ * }</pre>
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see InterledgerClientOptions#retryPolicy
+ * @see InterledgerClientException#isRetryable()
+ * @since 1.0
+ */
+public class RetryPolicy {
+
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD");
+    private static final Set<Integer> RETRYABLE_STATUS = Set.of(InterledgerTooManyRequestsException.TOO_MANY_REQUESTS, 500, 502, 503, 504);
+    private static final int SERVICE_UNAVAILABLE = 503;
+
+    /**
+     * Calls are never retried (default).
+     */
+    public static final RetryPolicy NONE = builder().maxAttempts(1).build();
+
+    /**
+     * Up to 3 attempts, 200ms initial backoff doubling up to 5 seconds, 50% jitter, 30 seconds total.
+     */
+    public static final RetryPolicy DEFAULT = builder().build();
+
+    /**
+     * Maximum number of attempts, including the first one (1 disables retries).
+     */
+    public final int maxAttempts;
+
+    /**
+     * Delay before the first retry.
+     */
+    public final Duration initialBackoff;
+
+    /**
+     * Factor the delay is multiplied with after each retry.
+     */
+    public final double multiplier;
+
+    /**
+     * Upper bound of the computed delay.
+     */
+    public final Duration maxBackoff;
+
+    /**
+     * Part of the delay (0 - 1) randomly subtracted from the computed delay.
+     */
+    public final double jitter;
+
+    /**
+     * Time after the first attempt no further attempt is started.
+     */
+    public final Duration maxElapsed;
+
+    private RetryPolicy(Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.initialBackoff = builder.initialBackoff;
+        this.multiplier = builder.multiplier;
+        this.maxBackoff = builder.maxBackoff;
+        this.jitter = builder.jitter;
+        this.maxElapsed = builder.maxElapsed;
+    }
+
+    /**
+     * Creates a builder initialized with the {@link #DEFAULT} values.
+     *
+     * @return new policy builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return true if calls can be retried at all
+     */
+    public boolean isEnabled() {
+        return maxAttempts > 1;
+    }
+
+    /**
+     * Decides if a received response is retried.
+     *
+     * @param method   HTTP method of the request
+     * @param attempt  number of the failed attempt (starting with 1)
+     * @param elapsed  time since the first attempt was started
+     * @param response received response
+     * @return delay before the next attempt or null if the response is returned to the caller
+     */
+    public Duration getDelay(String method, int attempt, Duration elapsed, InterledgerResponse response) {
+        if (response.isSuccess() ||
+                !IDEMPOTENT_METHODS.contains(method) ||
+                !RETRYABLE_STATUS.contains(response.statusCode)) {
+            return null;
+        }
+
+        Duration retryAfter = null;
+        if (response.statusCode == InterledgerTooManyRequestsException.TOO_MANY_REQUESTS ||
+                response.statusCode == SERVICE_UNAVAILABLE) {
+            retryAfter = RetryAfter.parse(response.headers);
+        }
+
+        return getDelay(attempt, elapsed, retryAfter);
+    }
+
+    /**
+     * Decides if a failed call is retried.
+     *
+     * @param method  HTTP method of the request
+     * @param attempt number of the failed attempt (starting with 1)
+     * @param elapsed time since the first attempt was started
+     * @param failure failure of the attempt
+     * @return delay before the next attempt or null if the failure is reported to the caller
+     */
+    public Duration getDelay(String method, int attempt, Duration elapsed, InterledgerClientException failure) {
+        if (failure == null || !failure.isRetryable()) {
+            return null;
+        }
+
+        boolean idempotent = IDEMPOTENT_METHODS.contains(method);
+        Duration retryAfter = null;
+
+        if (failure instanceof InterledgerConnectionException connection) {
+            if (!idempotent && connection.isRequestSent()) {
+                return null;
+            }
+        } else if (!idempotent) {
+            return null;
+        } else if (failure instanceof InterledgerTooManyRequestsException tooMany) {
+            retryAfter = tooMany.getRetryAfter();
+        } else if (failure instanceof InterledgerServerException server) {
+            retryAfter = server.getRetryAfter();
+        }
+
+        return getDelay(attempt, elapsed, retryAfter);
+    }
+
+    private Duration getDelay(int attempt, Duration elapsed, Duration retryAfter) {
+        if (attempt >= maxAttempts) {
+            return null;
+        }
+
+        Duration delay = retryAfter != null ? retryAfter : getBackoff(attempt, ThreadLocalRandom.current().nextDouble());
+        if (elapsed.plus(delay).compareTo(maxElapsed) > 0) {
+            return null; // would exceed the time budget (or server asked to wait longer)
+        }
+
+        return delay;
+    }
+
+    /**
+     * Computes the exponential backoff with jitter.
+     *
+     * @param attempt number of the failed attempt (starting with 1)
+     * @param random  random value between 0 and 1
+     * @return delay before the next attempt
+     */
+    Duration getBackoff(int attempt, double random) {
+        double millis = initialBackoff.toMillis() * Math.pow(multiplier, attempt - 1);
+        millis = Math.min(millis, maxBackoff.toMillis());
+        millis = millis * (1 - jitter * random);
+        return Duration.ofMillis(Math.round(millis));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RetryPolicy{maxAttempts=%d, initialBackoff=%s, multiplier=%s, maxBackoff=%s, jitter=%s, maxElapsed=%s}",
+                maxAttempts, initialBackoff, multiplier, maxBackoff, jitter, maxElapsed);
+    }
+
+    /**
+     * Builder for {@link RetryPolicy}.
+     */
+    public static class Builder {
+
+        private int maxAttempts = 3;
+        private Duration initialBackoff = Duration.ofMillis(200);
+        private double multiplier = 2.0;
+        private Duration maxBackoff = Duration.ofSeconds(5);
+        private double jitter = 0.5;
+        private Duration maxElapsed = Duration.ofSeconds(30);
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the maximum number of attempts, including the first one.
+         *
+         * @param value number of attempts (1 disables retries)
+         * @return this builder for method chaining
+         */
+        public Builder maxAttempts(int value) {
+            Assert.isTrue(value >= 1, "maxAttempts must be greater than or equal to 1.");
+            maxAttempts = value;
+            return this;
+        }
+
+        /**
+         * Sets the delay before the first retry.
+         *
+         * @param value initial delay
+         * @return this builder for method chaining
+         */
+        public Builder initialBackoff(Duration value) {
+            Assert.notNull(value, "initialBackoff cannot be null");
+            Assert.isFalse(value.isNegative(), "initialBackoff cannot be negative.");
+            initialBackoff = value;
+            return this;
+        }
+
+        /**
+         * Sets the factor the delay is multiplied with after each retry.
+         *
+         * @param value multiplier (1 for constant delay)
+         * @return this builder for method chaining
+         */
+        public Builder multiplier(double value) {
+            Assert.isTrue(value >= 1.0, "multiplier must be greater than or equal to 1.");
+            multiplier = value;
+            return this;
+        }
+
+        /**
+         * Sets the upper bound of the computed delay.
+         *
+         * @param value maximum delay
+         * @return this builder for method chaining
+         */
+        public Builder maxBackoff(Duration value) {
+            Assert.notNull(value, "maxBackoff cannot be null");
+            Assert.isFalse(value.isNegative(), "maxBackoff cannot be negative.");
+            maxBackoff = value;
+            return this;
+        }
+
+        /**
+         * Sets the part of the delay randomly subtracted from the computed delay.
+         *
+         * @param value jitter between 0 (none) and 1 (full jitter)
+         * @return this builder for method chaining
+         */
+        public Builder jitter(double value) {
+            Assert.isTrue(value >= 0.0 && value <= 1.0, "jitter must be between 0 and 1.");
+            jitter = value;
+            return this;
+        }
+
+        /**
+         * Sets the time after the first attempt no further attempt is started.
+         *
+         * @param value total time budget
+         * @return this builder for method chaining
+         */
+        public Builder maxElapsed(Duration value) {
+            Assert.notNull(value, "maxElapsed cannot be null");
+            Assert.isFalse(value.isNegative(), "maxElapsed cannot be negative.");
+            maxElapsed = value;
+            return this;
+        }
+
+        /**
+         * Creates the policy from the configured values.
+         *
+         * @return new retry policy
+         */
+        public RetryPolicy build() {
+            return new RetryPolicy(this);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger;
+
+import io.fliqa.client.interledger.utils.Assert;
+
+import java.util.ArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timer wheel holding a large number of timers at constant cost per timer.
+ *
+ * <p>Time is divided into ticks, a timer due in tick {@code t} is kept in bucket {@code t % size}. Advancing the
+ * wheel by one tick only visits the timers of a single bucket, timers of later rounds stay in place. Scheduling
+ * and expiring a timer is O(1), no matter how many timers are held.
+ *
+ * <h3>Thread Safety</h3>
+ * <p>Not thread-safe, the wheel is owned by a single scheduler thread.
+ *
+ * @param <T> type of timer
+ * @author Fliqa
+ * @version 1.0
+ * @see PaymentWatcher
+ * @since 1.0
+ */
+class TimerWheel<T> {
+
+    private final long tickNanos;
+    private final int mask;
+    private final ArrayList<Timer<T>>[] buckets;
+
+    private long tick; // last processed tick
+    private int size;
+
+    /**
+     * @param tickNanos tick duration, in nanoseconds
+     * @param wheelSize number of buckets (rounded up to a power of two)
+     * @param startNanos time of tick 0, in nanoseconds
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    TimerWheel(long tickNanos, int wheelSize, long startNanos) {
+        Assert.isTrue(tickNanos > 0, "tickNanos must be greater than zero.");
+        Assert.isTrue(wheelSize > 0 && wheelSize <= 1 << 20, "wheelSize must be between 1 and 2^20.");
+
+        int buckets = Integer.highestOneBit(wheelSize);
+        if (buckets < wheelSize) {
+            buckets <<= 1;
+        }
+        this.tickNanos = tickNanos;
+        this.mask = buckets - 1;
+        this.buckets = new ArrayList[buckets];
+        for (int i = 0; i < buckets; i++) {
+            this.buckets[i] = new ArrayList<>();
+        }
+        this.tick = Math.floorDiv(startNanos, tickNanos);
+    }
+
+    /**
+     * Schedules a timer, expiring at the first tick at or after the given time.
+     *
+     * @param item     timer
+     * @param dueNanos time the timer is due, in nanoseconds (same origin as {@link #advance})
+     */
+    void schedule(T item, long dueNanos) {
+        long due = Math.max(ceilDiv(dueNanos, tickNanos), tick + 1); // never in an already processed tick
+        buckets[(int) (due & mask)].add(new Timer<>(item, due));
+        size++;
+    }
+
+    /**
+     * Expires all timers due up to the given time, in the order of their ticks.
+     *
+     * @param nowNanos current time, in nanoseconds
+     * @param expired  receives every expired timer
+     */
+    void advance(long nowNanos, Consumer<T> expired) {
+        long now = Math.floorDiv(nowNanos, tickNanos);
+        ArrayList<T> due = new ArrayList<>();
+        while (tick < now) {
+            tick++;
+            ArrayList<Timer<T>> bucket = buckets[(int) (tick & mask)];
+            if (bucket.isEmpty()) {
+                continue;
+            }
+
+            // remove due timers by moving the remaining ones to the front
+            int kept = 0;
+            for (int i = 0; i < bucket.size(); i++) {
+                Timer<T> timer = bucket.get(i);
+                if (timer.due <= tick) {
+                    due.add(timer.item);
+                } else {
+                    bucket.set(kept++, timer);
+                }
+            }
+            bucket.subList(kept, bucket.size()).clear();
+            size -= due.size();
+
+            // expired timers may be scheduled again
+            due.forEach(expired);
+            due.clear();
+        }
+    }
+
+    /**
+     * Removes all timers.
+     *
+     * @param removed receives every removed timer
+     */
+    void clear(Consumer<T> removed) {
+        for (ArrayList<Timer<T>> bucket : buckets) {
+            bucket.forEach(timer -> removed.accept(timer.item));
+            bucket.clear();
+        }
+        size = 0;
+    }
+
+    /**
+     * @return number of scheduled timers
+     */
+    int size() {
+        return size;
+    }
+
+    private static long ceilDiv(long x, long y) {
+        return -Math.floorDiv(-x, y);
+    }
+
+    private static class Timer<T> {
+
+        private final T item;
+        private final long due; // tick
+
+        private Timer(T item, long due) {
+            this.item = item;
+            this.due = due;
+        }
+    }
+}
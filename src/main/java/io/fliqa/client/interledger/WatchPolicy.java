@@ -0,0 +1,231 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger;
+
+import io.fliqa.client.interledger.utils.Assert;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the {@link PaymentWatcher} polling incoming payments until they are completed or expired.
+ *
+ * <p>Each watched payment is polled after {@link #initialInterval}, every further poll waits {@link #multiplier}
+ * times longer up to {@link #maxInterval}, randomized by {@link #jitter} so payments created together are not
+ * polled in bursts. The last poll happens when the payment expires ({@code expiresAt}), payments without
+ * expiration are watched for at most {@link #maxDuration}.
+ *
+ * <p>All polls are scheduled on a single thread using a timer wheel with a resolution of {@link #tickDuration}.
+ * Polls due at the same resource server are sent together, at most {@link #maxPollsPerHost} at once.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see InterledgerClientOptions#paymentWatch
+ * @see PaymentWatcher
+ * @since 1.0
+ */
+public class WatchPolicy {
+
+    /**
+     * Poll after 1s, backing off by 1.5 up to 30s with 10% jitter, 100ms ticks, 16 polls per host at once.
+     */
+    public static final WatchPolicy DEFAULT = builder().build();
+
+    /**
+     * Delay of the first poll.
+     */
+    public final Duration initialInterval;
+
+    /**
+     * Factor the poll interval grows by after each poll.
+     */
+    public final double multiplier;
+
+    /**
+     * Longest poll interval.
+     */
+    public final Duration maxInterval;
+
+    /**
+     * Random spread (0 - 1) of each poll interval, i.e. 0.1 for +/- 10%.
+     */
+    public final double jitter;
+
+    /**
+     * Resolution of the timer wheel.
+     */
+    public final Duration tickDuration;
+
+    /**
+     * Maximum number of polls in flight per resource server, further due polls wait for the next tick.
+     */
+    public final int maxPollsPerHost;
+
+    /**
+     * Longest time a payment without expiration is watched.
+     */
+    public final Duration maxDuration;
+
+    private WatchPolicy(Builder builder) {
+        this.initialInterval = builder.initialInterval;
+        this.multiplier = builder.multiplier;
+        this.maxInterval = builder.maxInterval;
+        this.jitter = builder.jitter;
+        this.tickDuration = builder.tickDuration;
+        this.maxPollsPerHost = builder.maxPollsPerHost;
+        this.maxDuration = builder.maxDuration;
+    }
+
+    /**
+     * Creates a builder initialized with the {@link #DEFAULT} values.
+     *
+     * @return new policy builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Gets the interval after the given one.
+     *
+     * @param interval current interval, in nanoseconds
+     * @return next interval (without jitter), in nanoseconds
+     */
+    long nextInterval(long interval) {
+        return Math.min((long) (interval * multiplier), maxInterval.toNanos());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("WatchPolicy{initialInterval=%s, multiplier=%s, maxInterval=%s, jitter=%s, tickDuration=%s, maxPollsPerHost=%d, maxDuration=%s}",
+                initialInterval, multiplier, maxInterval, jitter, tickDuration, maxPollsPerHost, maxDuration);
+    }
+
+    /**
+     * Builder for {@link WatchPolicy}.
+     */
+    public static class Builder {
+
+        private Duration initialInterval = Duration.ofSeconds(1);
+        private double multiplier = 1.5;
+        private Duration maxInterval = Duration.ofSeconds(30);
+        private double jitter = 0.1;
+        private Duration tickDuration = Duration.ofMillis(100);
+        private int maxPollsPerHost = 16;
+        private Duration maxDuration = Duration.ofMinutes(10);
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the delay of the first poll.
+         *
+         * @param value initial poll interval
+         * @return this builder for method chaining
+         */
+        public Builder initialInterval(Duration value) {
+            Assert.notNull(value, "initialInterval cannot be null");
+            Assert.isTrue(value.compareTo(Duration.ZERO) > 0, "initialInterval must be greater than zero.");
+            initialInterval = value;
+            return this;
+        }
+
+        /**
+         * Sets the factor the poll interval grows by after each poll.
+         *
+         * @param value multiplier, at least 1
+         * @return this builder for method chaining
+         */
+        public Builder multiplier(double value) {
+            Assert.isTrue(value >= 1.0, "multiplier must be greater than or equal to 1.");
+            multiplier = value;
+            return this;
+        }
+
+        /**
+         * Sets the longest poll interval.
+         *
+         * @param value maximum poll interval
+         * @return this builder for method chaining
+         */
+        public Builder maxInterval(Duration value) {
+            Assert.notNull(value, "maxInterval cannot be null");
+            Assert.isTrue(value.compareTo(Duration.ZERO) > 0, "maxInterval must be greater than zero.");
+            maxInterval = value;
+            return this;
+        }
+
+        /**
+         * Sets the random spread of each poll interval.
+         *
+         * @param value jitter between 0 (none) and 1
+         * @return this builder for method chaining
+         */
+        public Builder jitter(double value) {
+            Assert.isTrue(value >= 0.0 && value <= 1.0, "jitter must be between 0 and 1.");
+            jitter = value;
+            return this;
+        }
+
+        /**
+         * Sets the resolution of the timer wheel, polls are due at most one tick late.
+         *
+         * @param value tick duration
+         * @return this builder for method chaining
+         */
+        public Builder tickDuration(Duration value) {
+            Assert.notNull(value, "tickDuration cannot be null");
+            Assert.isTrue(value.toMillis() >= 1, "tickDuration must be at least 1ms.");
+            tickDuration = value;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of polls in flight per resource server.
+         *
+         * @param value maximum concurrent polls per host
+         * @return this builder for method chaining
+         */
+        public Builder maxPollsPerHost(int value) {
+            Assert.isTrue(value > 0, "maxPollsPerHost must be greater than zero.");
+            maxPollsPerHost = value;
+            return this;
+        }
+
+        /**
+         * Sets the longest time a payment without expiration is watched.
+         *
+         * @param value maximum watch duration
+         * @return this builder for method chaining
+         */
+        public Builder maxDuration(Duration value) {
+            Assert.notNull(value, "maxDuration cannot be null");
+            Assert.isTrue(value.compareTo(Duration.ZERO) > 0, "maxDuration must be greater than zero.");
+            maxDuration = value;
+            return this;
+        }
+
+        /**
+         * Creates the policy from the configured values.
+         *
+         * @return new watch policy
+         * @throws IllegalArgumentException if initialInterval is greater than maxInterval
+         */
+        public WatchPolicy build() {
+            Assert.isTrue(initialInterval.compareTo(maxInterval) <= 0, "initialInterval must be less than or equal to maxInterval.");
+            return new WatchPolicy(this);
+        }
+    }
+}
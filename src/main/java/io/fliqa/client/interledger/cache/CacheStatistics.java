@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.cache;
+
+/**
+ * Point in time snapshot of cache statistics.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see WalletCache#getStatistics()
+ * @since 1.0
+ */
+public class CacheStatistics {
+
+    /**
+     * Number of lookups answered from the cache.
+     */
+    public final long hits;
+
+    /**
+     * Number of lookups not found in the cache (or expired).
+     */
+    public final long misses;
+
+    /**
+     * Number of entries removed to keep the cache within its maximum size.
+     */
+    public final long evictions;
+
+    /**
+     * Number of entries currently held (including expired entries not yet replaced).
+     */
+    public final int size;
+
+    /**
+     * Creates a new statistics snapshot.
+     *
+     * @param hits      number of cache hits
+     * @param misses    number of cache misses
+     * @param evictions number of evicted entries
+     * @param size      current number of entries
+     */
+    public CacheStatistics(long hits, long misses, long evictions, int size) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.size = size;
+    }
+
+    /**
+     * Gets the ratio of lookups answered from the cache.
+     *
+     * @return hit rate between 0 and 1, or 0 if there were no lookups
+     */
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStatistics{" +
+                "hits=" + hits +
+                ", misses=" + misses +
+                ", evictions=" + evictions +
+                ", size=" + size +
+                '}';
+    }
+}
@@ -0,0 +1,284 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.cache;
+
+import io.fliqa.client.interledger.model.PaymentPointer;
+import io.fliqa.client.interledger.utils.Assert;
+
+import java.net.URI;
+import java.net.http.HttpHeaders;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded in-memory cache of resolved wallets ({@link PaymentPointer}) keyed by wallet address URI.
+ *
+ * <p>Wallet details (auth server, resource server, asset code and scale) rarely change, so resolving the same
+ * wallet for every payment flow is an avoidable round trip. Entries are kept for:
+ * <ol>
+ *   <li>{@code Cache-Control: max-age} (or {@code s-maxage}) as sent by the wallet address server</li>
+ *   <li>{@code Expires} relative to the {@code Date} header (or the local time if not given)</li>
+ *   <li>the configured fallback time to live when neither header is present</li>
+ * </ol>
+ * Responses with {@code Cache-Control: no-store}, {@code no-cache} or {@code private} are not cached.
+ *
+ * <p>When the cache is full, the oldest entries are evicted first. Lookups are lock-free, updates
+ * (put, invalidate, eviction) hold a lock to keep the entries and their insertion order in step.
+ *
+ * <h3>Thread Safety</h3>
+ * <p>This class is thread-safe.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see io.fliqa.client.interledger.InterledgerClientOptions#walletCacheSize
+ * @since 1.0
+ */
+public class WalletCache {
+
+    private static final String CACHE_CONTROL_HEADER = "Cache-Control";
+    private static final String EXPIRES_HEADER = "Expires";
+    private static final String DATE_HEADER = "Date";
+
+    private final int maxSize;
+    private final Duration defaultTtl;
+    private final Clock clock;
+
+    private final ConcurrentHashMap<URI, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Insertion order of keys present in {@link #entries} (each key is present exactly once), guarded by {@link #lock}
+     */
+    private final LinkedHashSet<URI> order = new LinkedHashSet<>();
+    private final Object lock = new Object();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a new wallet cache.
+     *
+     * @param maxSize           maximum number of cached wallets, 0 disables the cache
+     * @param defaultTtlSeconds time to live when the server sends no caching headers, in seconds
+     * @throws IllegalArgumentException if maxSize is negative or defaultTtlSeconds is not positive
+     */
+    public WalletCache(int maxSize, long defaultTtlSeconds) {
+        this(maxSize, defaultTtlSeconds, Clock.systemUTC());
+    }
+
+    WalletCache(int maxSize, long defaultTtlSeconds, Clock clock) {
+        Assert.isTrue(maxSize >= 0, "maxSize must be greater than or equal to zero.");
+        Assert.isTrue(defaultTtlSeconds > 0, "defaultTtlSeconds must be greater than zero.");
+        Assert.notNull(clock, "clock cannot be null.");
+
+        this.maxSize = maxSize;
+        this.defaultTtl = Duration.ofSeconds(defaultTtlSeconds);
+        this.clock = clock;
+    }
+
+    /**
+     * @return true if wallets are cached (max size greater than zero)
+     */
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    /**
+     * Gets a cached wallet.
+     *
+     * @param address wallet address URI
+     * @return cached wallet or null if not cached or expired
+     */
+    public PaymentPointer get(URI address) {
+        if (!isEnabled()) {
+            return null;
+        }
+
+        Entry entry = entries.get(address);
+        if (entry == null || !entry.expiresAt.isAfter(clock.instant())) {
+            // expired entries are left in place and replaced by the next put
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        return entry.wallet;
+    }
+
+    /**
+     * Caches a wallet as resolved from the wallet address server.
+     *
+     * @param address wallet address URI
+     * @param wallet  resolved wallet
+     * @param headers response headers used to determine the time to live (Cache-Control / Expires)
+     */
+    public void put(URI address, PaymentPointer wallet, HttpHeaders headers) {
+        if (!isEnabled() || wallet == null) {
+            return;
+        }
+
+        Instant now = clock.instant();
+        Duration ttl = getTtl(headers, now);
+        if (ttl.isZero() || ttl.isNegative()) {
+            invalidate(address);
+            return;
+        }
+
+        synchronized (lock) {
+            entries.put(address, new Entry(wallet, now.plus(ttl)));
+            if (order.add(address)) {
+                evict();
+            }
+        }
+    }
+
+    /**
+     * Removes a wallet from the cache (i.e. after the wallet has been found to be stale).
+     *
+     * @param address wallet address URI
+     */
+    public void invalidate(URI address) {
+        synchronized (lock) {
+            entries.remove(address);
+            order.remove(address);
+        }
+    }
+
+    /**
+     * Removes all cached wallets, statistics are preserved.
+     */
+    public void clear() {
+        synchronized (lock) {
+            entries.clear();
+            order.clear();
+        }
+    }
+
+    /**
+     * Gets the current number of cached wallets (including expired entries not yet replaced).
+     *
+     * @return number of cached wallets
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Gets a snapshot of cache hit / miss / eviction statistics.
+     *
+     * @return cache statistics
+     */
+    public CacheStatistics getStatistics() {
+        return new CacheStatistics(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+    }
+
+    private void evict() {
+        Iterator<URI> oldest = order.iterator();
+        while (order.size() > maxSize) {
+            entries.remove(oldest.next());
+            oldest.remove();
+            evictions.increment();
+        }
+    }
+
+    /**
+     * Determines the time to live from the response caching headers.
+     *
+     * @param headers response headers
+     * @param now     current time
+     * @return time to live, zero if the response must not be cached
+     */
+    Duration getTtl(HttpHeaders headers, Instant now) {
+        if (headers == null) {
+            return defaultTtl;
+        }
+
+        Optional<String> cacheControl = headers.firstValue(CACHE_CONTROL_HEADER);
+        if (cacheControl.isPresent()) {
+            Long maxAge = null;
+            Long sharedMaxAge = null;
+
+            for (String directive : cacheControl.get().toLowerCase(Locale.ROOT).split(",")) {
+                String value = directive.trim();
+                if (value.equals("no-store") || value.equals("no-cache") || value.equals("private")) {
+                    return Duration.ZERO;
+                }
+
+                if (value.startsWith("max-age=")) {
+                    maxAge = parseSeconds(value.substring("max-age=".length()));
+                } else if (value.startsWith("s-maxage=")) {
+                    sharedMaxAge = parseSeconds(value.substring("s-maxage=".length()));
+                }
+            }
+
+            // shared caches (such as this client) prefer s-maxage
+            Long seconds = sharedMaxAge != null ? sharedMaxAge : maxAge;
+            if (seconds != null) {
+                return Duration.ofSeconds(seconds);
+            }
+        }
+
+        Optional<String> expires = headers.firstValue(EXPIRES_HEADER);
+        if (expires.isPresent()) {
+            Instant expiresAt = parseDate(expires.get());
+            if (expiresAt == null) {
+                return Duration.ZERO; // invalid dates represent a time in the past
+            }
+
+            Instant date = headers.firstValue(DATE_HEADER).map(WalletCache::parseDate).orElse(null);
+            return Duration.between(date != null ? date : now, expiresAt);
+        }
+
+        return defaultTtl;
+    }
+
+    private static Long parseSeconds(String value) {
+        try {
+            return Math.max(0, Long.parseLong(value.replace("\"", "").trim()));
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private static Instant parseDate(String value) {
+        try {
+            return ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static class Entry {
+
+        private final PaymentPointer wallet;
+        private final Instant expiresAt;
+
+        private Entry(PaymentPointer wallet, Instant expiresAt) {
+            this.wallet = wallet;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.exception;
+
+import io.fliqa.client.interledger.transport.CircuitBreakerOpenException;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when a call is rejected without being sent, because the circuit breaker
+ * of the target auth or resource server is open.
+ *
+ * <p>The failure is not retryable, the call should be reported as failed (or routed elsewhere)
+ * until the breaker lets calls through again.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see io.fliqa.client.interledger.CircuitBreakerPolicy
+ * @since 1.0
+ */
+public class InterledgerCircuitOpenException extends InterledgerClientException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String host;
+    private final Duration retryIn;
+
+    /**
+     * Creates a new exception from the transport rejection.
+     *
+     * @param cause rejection of the circuit breaker transport
+     */
+    public InterledgerCircuitOpenException(CircuitBreakerOpenException cause) {
+        super(cause.getMessage(), cause, 0, null, null);
+        this.host = cause.getHost();
+        this.retryIn = cause.getRetryIn();
+    }
+
+    /**
+     * @return host the breaker guards
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * @return time until trial calls are let through again
+     */
+    public Duration getRetryIn() {
+        return retryIn;
+    }
+}
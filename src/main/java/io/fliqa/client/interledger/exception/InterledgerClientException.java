@@ -16,9 +16,11 @@
 package io.fliqa.client.interledger.exception;
 
 import io.fliqa.client.interledger.model.ApiError;
+import io.fliqa.client.interledger.transport.InterledgerResponse;
 
 import java.net.http.HttpHeaders;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Exception thrown when errors occur during Interledger API operations.
@@ -35,6 +37,14 @@ import java.net.http.HttpResponse;
  *   <li><strong>Server Errors (5xx)</strong> - Interledger server internal errors, service unavailable</li>
  * </ul>
  *
+ * <h3>Typed Exceptions</h3>
+ * <ul>
+ *   <li>{@link InterledgerServerException} - server errors (5xx)</li>
+ *   <li>{@link InterledgerTooManyRequestsException} - rate limited (429), with the requested retry delay</li>
+ *   <li>{@link InterledgerConnectionException} - network failures, telling if the request could have been sent</li>
+ * </ul>
+ * <p>Use {@link #isRetryable()} to tell transient from fatal failures.
+ *
  * <h3>Usage</h3>
  * <p>When catching this exception, applications can inspect the HTTP status code to determine
  * the appropriate response:
@@ -170,6 +180,19 @@ public class InterledgerClientException extends Exception {
         this.responseBody = responseBody;
     }
 
+    /**
+     * Tells if the failed call may succeed when repeated (i.e. temporary server or network failures).
+     *
+     * <p>Retryable failures are reported with the subclasses {@link InterledgerServerException} (5xx),
+     * {@link InterledgerTooManyRequestsException} (429) and {@link InterledgerConnectionException}
+     * (network failures). All other failures (invalid requests, authorization errors ...) are fatal.
+     *
+     * @return true if the call can be retried
+     */
+    public boolean isRetryable() {
+        return false;
+    }
+
     /**
      * Get the HTTP status code.
      *
@@ -216,7 +239,48 @@ public class InterledgerClientException extends Exception {
             body = response.body();
         }
 
-        return new InterledgerClientException(response.statusCode(), message, response.headers(), body);
+        return getApiException(response.statusCode(), message, response.headers(), body);
+    }
+
+    /**
+     * Creates an exception from an Interledger API error response received through a transport.
+     *
+     * @param error    the parsed API error from the response body
+     * @param response the transport response containing error details
+     * @return a new exception with formatted error message and response details
+     */
+    public static InterledgerClientException getApiException(ApiError error, InterledgerResponse response) {
+        final String message = formatExceptionMessage(error, response.statusCode);
+        final String body;
+        if (response.body.length == 0) {
+            body = "[no body]";
+        } else {
+            body = new String(response.body, StandardCharsets.UTF_8);
+        }
+
+        return getApiException(response.statusCode, message, response.headers, body);
+    }
+
+    /**
+     * Creates the exception type matching the status code.
+     *
+     * @param code    HTTP status code
+     * @param message error message
+     * @param headers response headers
+     * @param body    response body
+     * @return typed exception, {@link InterledgerServerException} for 5xx,
+     * {@link InterledgerTooManyRequestsException} for 429 or {@link InterledgerClientException} otherwise
+     */
+    private static InterledgerClientException getApiException(int code, String message, HttpHeaders headers, String body) {
+        if (code == InterledgerTooManyRequestsException.TOO_MANY_REQUESTS) {
+            return new InterledgerTooManyRequestsException(message, headers, body);
+        }
+
+        if (code >= 500 && code < 600) {
+            return new InterledgerServerException(code, message, headers, body);
+        }
+
+        return new InterledgerClientException(code, message, headers, body);
     }
 
     /**
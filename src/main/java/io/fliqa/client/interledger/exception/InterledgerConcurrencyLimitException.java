@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.exception;
+
+import io.fliqa.client.interledger.transport.ConcurrencyLimitExceededException;
+
+/**
+ * Exception thrown when a call is rejected without being sent, because the concurrency limit
+ * of the target auth or resource server was reached.
+ *
+ * <p>The failure is not retryable, the host is already overloaded and the call has waited for the
+ * configured maximum time.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see io.fliqa.client.interledger.ConcurrencyLimitPolicy
+ * @since 1.0
+ */
+public class InterledgerConcurrencyLimitException extends InterledgerClientException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String host;
+    private final int limit;
+
+    /**
+     * Creates a new exception from the transport rejection.
+     *
+     * @param cause rejection of the concurrency limit transport
+     */
+    public InterledgerConcurrencyLimitException(ConcurrencyLimitExceededException cause) {
+        super(cause.getMessage(), cause, 0, null, null);
+        this.host = cause.getHost();
+        this.limit = cause.getLimit();
+    }
+
+    /**
+     * @return host the limit applies to
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * @return concurrency limit at the time of rejection
+     */
+    public int getLimit() {
+        return limit;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.exception;
+
+import java.net.ConnectException;
+import java.net.http.HttpConnectTimeoutException;
+import java.nio.channels.UnresolvedAddressException;
+
+/**
+ * Exception thrown when a request could not be exchanged with an Interledger server
+ * (connection refused, DNS failure, timeout, connection reset ...).
+ *
+ * <p>The exception tells whether the request could have reached the server. Failures while establishing
+ * the connection guarantee the request was not sent, so even non-idempotent requests can be retried.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see InterledgerClientException#isRetryable()
+ * @since 1.0
+ */
+public class InterledgerConnectionException extends InterledgerClientException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final boolean requestSent;
+
+    /**
+     * Creates a new connection exception, determining from the cause if the request could have been sent.
+     *
+     * @param throwable the underlying I/O failure
+     */
+    public InterledgerConnectionException(Throwable throwable) {
+        this(throwable, !isConnectFailure(throwable));
+    }
+
+    /**
+     * Creates a new connection exception.
+     *
+     * @param throwable   the underlying I/O failure
+     * @param requestSent false if the failure occurred before any byte of the request was sent
+     */
+    public InterledgerConnectionException(Throwable throwable, boolean requestSent) {
+        super(throwable);
+        this.requestSent = requestSent;
+    }
+
+    /**
+     * @return false if the failure occurred before any byte of the request was sent, true if the request might have been processed
+     */
+    public boolean isRequestSent() {
+        return requestSent;
+    }
+
+    /**
+     * @return always true, the failure might be transient
+     */
+    @Override
+    public boolean isRetryable() {
+        return true;
+    }
+
+    /**
+     * Checks if the failure occurred while establishing the connection (before the request was sent).
+     *
+     * @param throwable failure
+     * @return true for connect failures and timeouts
+     */
+    static boolean isConnectFailure(Throwable throwable) {
+        Throwable cause = throwable;
+        while (cause != null) {
+            if (cause instanceof ConnectException ||
+                    cause instanceof HttpConnectTimeoutException ||
+                    cause instanceof UnresolvedAddressException) {
+                return true;
+            }
+            cause = cause.getCause();
+        }
+        return false;
+    }
+}
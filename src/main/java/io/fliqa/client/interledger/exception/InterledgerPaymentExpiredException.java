@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.exception;
+
+import io.fliqa.client.interledger.model.IncomingPayment;
+
+/**
+ * Exception completing a watch of an incoming payment that expired (or was watched for the maximum time)
+ * without being completed.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see io.fliqa.client.interledger.PaymentWatcher
+ * @since 1.0
+ */
+public class InterledgerPaymentExpiredException extends InterledgerClientException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient IncomingPayment payment;
+
+    /**
+     * @param payment last polled state of the payment
+     */
+    public InterledgerPaymentExpiredException(IncomingPayment payment) {
+        super(String.format("Incoming payment: '%s' expired without being completed.", payment.id));
+        this.payment = payment;
+    }
+
+    /**
+     * @return last polled state of the payment, i.e. holding the amount received so far
+     */
+    public IncomingPayment getPayment() {
+        return payment;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.exception;
+
+import io.fliqa.client.interledger.ApiOperation;
+import io.fliqa.client.interledger.transport.RateLimitExceededException;
+
+/**
+ * Exception thrown when a call is rejected without being sent, because the client side rate limit
+ * of the target host and operation was reached.
+ *
+ * <p>The failure is not retryable, the call has already waited for the configured maximum time.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see io.fliqa.client.interledger.RateLimitPolicy
+ * @since 1.0
+ */
+public class InterledgerRateLimitException extends InterledgerClientException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String host;
+    private final ApiOperation operation;
+
+    /**
+     * Creates a new exception from the transport rejection.
+     *
+     * @param cause rejection of the rate limit transport
+     */
+    public InterledgerRateLimitException(RateLimitExceededException cause) {
+        super(cause.getMessage(), cause, 0, null, null);
+        this.host = cause.getHost();
+        this.operation = cause.getOperation();
+    }
+
+    /**
+     * @return host the limit applies to
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * @return operation the limit applies to
+     */
+    public ApiOperation getOperation() {
+        return operation;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.exception;
+
+import io.fliqa.client.interledger.utils.RetryAfter;
+
+import java.net.http.HttpHeaders;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Exception thrown when an Interledger server responds with a server error (5xx).
+ *
+ * <p>Server errors caused by temporary conditions (500, 502, 503, 504) are considered retryable.
+ * Servers may indicate when to retry with a {@code Retry-After} header (typically with 503).
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see InterledgerClientException#isRetryable()
+ * @since 1.0
+ */
+public class InterledgerServerException extends InterledgerClientException {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final Set<Integer> RETRYABLE = Set.of(500, 502, 503, 504);
+
+    /**
+     * Creates a new server error exception.
+     *
+     * @param code            the HTTP status code (5xx)
+     * @param message         the error message describing the exception
+     * @param responseHeaders the HTTP response headers returned by the server
+     * @param responseBody    the HTTP response body as a string
+     */
+    public InterledgerServerException(int code, String message, HttpHeaders responseHeaders, String responseBody) {
+        super(code, message, responseHeaders, responseBody);
+    }
+
+    /**
+     * @return true for temporary server errors (500, 502, 503, 504)
+     */
+    @Override
+    public boolean isRetryable() {
+        return RETRYABLE.contains(getCode());
+    }
+
+    /**
+     * Gets the time the server asked to wait before retrying.
+     *
+     * @return time to wait or null if no (valid) Retry-After header was given
+     */
+    public Duration getRetryAfter() {
+        return RetryAfter.parse(getResponseHeaders());
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.exception;
+
+import io.fliqa.client.interledger.utils.RetryAfter;
+
+import java.net.http.HttpHeaders;
+import java.time.Duration;
+
+/**
+ * Exception thrown when an Interledger server rejects a request because of rate limiting (429).
+ *
+ * <p>The request was not processed and can be retried, preferably after the time given
+ * with the {@code Retry-After} header.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see InterledgerClientException#isRetryable()
+ * @since 1.0
+ */
+public class InterledgerTooManyRequestsException extends InterledgerClientException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * HTTP status code for too many requests
+     */
+    public static final int TOO_MANY_REQUESTS = 429;
+
+    /**
+     * Creates a new rate limiting exception.
+     *
+     * @param message         the error message describing the exception
+     * @param responseHeaders the HTTP response headers returned by the server
+     * @param responseBody    the HTTP response body as a string
+     */
+    public InterledgerTooManyRequestsException(String message, HttpHeaders responseHeaders, String responseBody) {
+        super(TOO_MANY_REQUESTS, message, responseHeaders, responseBody);
+    }
+
+    /**
+     * @return always true, the request was not processed by the server
+     */
+    @Override
+    public boolean isRetryable() {
+        return true;
+    }
+
+    /**
+     * Gets the time the server asked to wait before retrying.
+     *
+     * @return time to wait or null if no (valid) Retry-After header was given
+     */
+    public Duration getRetryAfter() {
+        return RetryAfter.parse(getResponseHeaders());
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.exception;
+
+import java.util.Objects;
+
+/**
+ * Wraps an {@link InterledgerClientException} where a checked exception can not be thrown, i.e. while
+ * iterating a lazily fetched {@link java.util.stream.Stream} of payments.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see java.io.UncheckedIOException
+ * @since 1.0
+ */
+public class UncheckedInterledgerException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * @param cause the wrapped exception (must not be null)
+     */
+    public UncheckedInterledgerException(InterledgerClientException cause) {
+        super(Objects.requireNonNull(cause).getMessage(), cause);
+    }
+
+    /**
+     * @return the wrapped exception
+     */
+    @Override
+    public synchronized InterledgerClientException getCause() {
+        return (InterledgerClientException) super.getCause();
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.logging;
+
+import io.fliqa.client.interledger.ApiOperation;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Full request and response of one exchange, captured by an {@link ExchangeCapture}.
+ *
+ * <p>Sensitive header values are redacted and bodies are truncated as configured by the
+ * {@link io.fliqa.client.interledger.CapturePolicy}.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see ExchangeCapture
+ * @since 1.0
+ */
+public class CapturedExchange {
+
+    /**
+     * Why an exchange was captured.
+     */
+    public enum Reason {
+
+        /**
+         * Every n-th exchange of the operation
+         */
+        SAMPLED,
+
+        /**
+         * Took longer than the slow threshold
+         */
+        SLOW,
+
+        /**
+         * Failed without a response or with a non 2xx status code
+         */
+        ERROR
+    }
+
+    /**
+     * Sequence number of the capture, increasing with every captured exchange.
+     */
+    public final long sequence;
+
+    /**
+     * Time the exchange completed.
+     */
+    public final Instant timestamp;
+
+    /**
+     * Why the exchange was captured (errors take precedence over slow exchanges, slow over sampled ones).
+     */
+    public final Reason reason;
+
+    /**
+     * API call the exchange belongs to.
+     */
+    public final ApiOperation operation;
+
+    /**
+     * HTTP method.
+     */
+    public final String method;
+
+    /**
+     * Target of the request.
+     */
+    public final URI uri;
+
+    /**
+     * Attempt of the call, starting with 1.
+     */
+    public final int attempt;
+
+    /**
+     * HTTP status code, or 0 if no response was received.
+     */
+    public final int statusCode;
+
+    /**
+     * Duration of the exchange, in nanoseconds.
+     */
+    public final long durationNanos;
+
+    /**
+     * Request headers (redacted).
+     */
+    public final Map<String, List<String>> requestHeaders;
+
+    /**
+     * Request body (truncated), or null if the request has no (readable) body.
+     */
+    public final String requestBody;
+
+    /**
+     * Response headers (redacted), empty if no response was received.
+     */
+    public final Map<String, List<String>> responseHeaders;
+
+    /**
+     * Response body (truncated), or null if no response or an empty one was received.
+     */
+    public final String responseBody;
+
+    /**
+     * Failure message, or null if a response was received.
+     */
+    public final String failure;
+
+    CapturedExchange(long sequence,
+                     Instant timestamp,
+                     Reason reason,
+                     ApiOperation operation,
+                     String method,
+                     URI uri,
+                     int attempt,
+                     int statusCode,
+                     long durationNanos,
+                     Map<String, List<String>> requestHeaders,
+                     String requestBody,
+                     Map<String, List<String>> responseHeaders,
+                     String responseBody,
+                     String failure) {
+        this.sequence = sequence;
+        this.timestamp = timestamp;
+        this.reason = reason;
+        this.operation = operation;
+        this.method = method;
+        this.uri = uri;
+        this.attempt = attempt;
+        this.statusCode = statusCode;
+        this.durationNanos = durationNanos;
+        this.requestHeaders = requestHeaders;
+        this.requestBody = requestBody;
+        this.responseHeaders = responseHeaders;
+        this.responseBody = responseBody;
+        this.failure = failure;
+    }
+
+    /**
+     * Formats the exchange in the layout of the HTTP log.
+     *
+     * @return multi-line description of request and response
+     */
+    @Override
+    public String toString() {
+        String newLine = System.lineSeparator();
+        StringBuilder out = new StringBuilder();
+        out.append("#").append(sequence).append(" ").append(timestamp).append(" ").append(reason)
+                .append(" ").append(operation).append(" attempt ").append(attempt)
+                .append(" (").append(durationNanos / 1_000_000).append(" ms)").append(newLine);
+
+        out.append("HTTP Request:  ").append(method).append(" ").append(uri);
+        appendHeaders(requestHeaders, out);
+        appendBody(requestBody, out);
+        out.append(newLine);
+
+        if (failure != null) {
+            out.append("Failed: ").append(failure);
+            return out.toString();
+        }
+
+        out.append("HTTP Response: ").append(statusCode).append(" ").append(uri);
+        appendHeaders(responseHeaders, out);
+        appendBody(responseBody, out);
+        return out.toString();
+    }
+
+    private static void appendHeaders(Map<String, List<String>> headers, StringBuilder out) {
+        headers.forEach((name, values) -> out.append(System.lineSeparator())
+                .append("    ").append(name).append(": ").append(String.join(", ", values)));
+    }
+
+    private static void appendBody(String body, StringBuilder out) {
+        out.append(System.lineSeparator()).append("    ").append(body != null ? "body: " + body : "<no body>");
+    }
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.logging;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.fliqa.client.interledger.ApiOperation;
+import io.fliqa.client.interledger.CapturePolicy;
+import io.fliqa.client.interledger.exception.InterledgerClientException;
+import io.fliqa.client.interledger.signature.SignedHttpRequest;
+import io.fliqa.client.interledger.transport.InterledgerResponse;
+import io.fliqa.client.interledger.utils.Assert;
+import io.fliqa.client.interledger.utils.Utf8;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded in-memory store of fully captured exchanges, selected by a {@link CapturePolicy}.
+ *
+ * <p>Once an exchange completed the policy decides whether it is captured (sampled, slow or failed).
+ * Exchanges not captured cost one counter increment and a few comparisons, nothing is copied or
+ * formatted. Captured exchanges (headers redacted, bodies truncated) are kept in a ring of
+ * {@link CapturePolicy#capacity} slots, the newest capture replaces the oldest one.
+ *
+ * <p>Grant and token rotation bodies carry access tokens ({@code access_token.value} and
+ * {@code continue.access_token.value}), the value of every {@code access_token} in a captured body is redacted.
+ *
+ * <h3>Usage Example</h3>
+ * <pre>{@code
+ * ExchangeCapture capture = client.getExchangeCapture();
+ * ...
+ * capture.dump(System.out); // i.e. from an admin endpoint or on an alert
+ * }</pre>
+ *
+ * <h3>Thread Safety</h3>
+ * <p>This class is thread-safe, exchanges are captured without locks.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see CapturePolicy
+ * @see CapturedExchange
+ * @since 1.0
+ */
+public class ExchangeCapture {
+
+    private static final List<String> REDACTED = List.of("<redacted>");
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final byte[] ACCESS_TOKEN = "\"access_token\"".getBytes(StandardCharsets.UTF_8);
+
+    private final CapturePolicy policy;
+    private final boolean enabled;
+    private final long slowNanos;
+    private final int[] sampleRates; // indexed by operation
+    private final AtomicLongArray exchanges; // per operation, for sampling
+
+    private final AtomicReferenceArray<CapturedExchange> slots;
+    private final AtomicLong captured = new AtomicLong();
+
+    /**
+     * Creates a new capture store.
+     *
+     * @param policy selects the captured exchanges
+     * @throws IllegalArgumentException if policy is null
+     */
+    public ExchangeCapture(CapturePolicy policy) {
+        Assert.notNull(policy, "CapturePolicy cannot be null");
+
+        this.policy = policy;
+        this.enabled = policy.isEnabled();
+        this.slowNanos = policy.slowThreshold != null ? policy.slowThreshold.toNanos() : Long.MAX_VALUE;
+
+        ApiOperation[] operations = ApiOperation.values();
+        this.sampleRates = new int[operations.length];
+        for (ApiOperation operation : operations) {
+            sampleRates[operation.ordinal()] = policy.getSampleRate(operation);
+        }
+        this.exchanges = new AtomicLongArray(operations.length);
+        this.slots = new AtomicReferenceArray<>(policy.capacity);
+    }
+
+    /**
+     * @return true if the policy can capture any exchange
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Captures the exchange if selected by the policy.
+     *
+     * @param operation     API call the exchange belongs to
+     * @param request       sent request
+     * @param attempt       attempt of the call, starting with 1
+     * @param durationNanos duration of the exchange, in nanoseconds
+     * @param response      received response, or null if the exchange failed
+     * @param failure       failure of the exchange, or null if a response was received
+     * @return true if captured
+     */
+    public boolean onExchange(ApiOperation operation, HttpRequest request, int attempt, long durationNanos, InterledgerResponse response, InterledgerClientException failure) {
+        if (!enabled) {
+            return false;
+        }
+
+        CapturedExchange.Reason reason = getReason(operation, durationNanos, response, failure);
+        if (reason == null) {
+            return false;
+        }
+
+        long sequence = captured.incrementAndGet();
+        slots.set((int) ((sequence - 1) % slots.length()), new CapturedExchange(sequence,
+                Instant.now(),
+                reason,
+                operation,
+                request.method(),
+                request.uri(),
+                attempt,
+                response != null ? response.statusCode : 0,
+                durationNanos,
+                requestHeaders(request),
+                requestBody(request),
+                response != null && response.headers != null ? redact(response.headers.map()) : Map.of(),
+                response != null ? body(response.body) : null,
+                failure != null ? failure.getMessage() : null));
+        return true;
+    }
+
+    private CapturedExchange.Reason getReason(ApiOperation operation, long durationNanos, InterledgerResponse response, InterledgerClientException failure) {
+        int rate = sampleRates[operation.ordinal()];
+        boolean sampled = rate > 0 && exchanges.incrementAndGet(operation.ordinal()) % rate == 0;
+
+        if (policy.captureErrors && (failure != null || response == null || !response.isSuccess())) {
+            return CapturedExchange.Reason.ERROR;
+        }
+        if (durationNanos > slowNanos) {
+            return CapturedExchange.Reason.SLOW;
+        }
+        return sampled ? CapturedExchange.Reason.SAMPLED : null;
+    }
+
+    /**
+     * Gets the captured exchanges still held.
+     *
+     * @return captured exchanges, oldest first
+     */
+    public List<CapturedExchange> getCaptured() {
+        List<CapturedExchange> exchanges = new ArrayList<>(slots.length());
+        for (int i = 0; i < slots.length(); i++) {
+            CapturedExchange exchange = slots.get(i);
+            if (exchange != null) {
+                exchanges.add(exchange);
+            }
+        }
+
+        exchanges.sort(Comparator.comparingLong(exchange -> exchange.sequence));
+        return exchanges;
+    }
+
+    /**
+     * Gets the number of exchanges captured since the store was created, including replaced ones.
+     *
+     * @return number of captured exchanges
+     */
+    public long getCapturedCount() {
+        return captured.get();
+    }
+
+    /**
+     * Writes all captured exchanges still held, oldest first.
+     *
+     * @param out target, i.e. {@link System#out} or a {@link java.io.Writer}
+     * @throws UncheckedIOException if writing fails
+     */
+    public void dump(Appendable out) {
+        Assert.notNull(out, "Appendable cannot be null");
+        try {
+            for (CapturedExchange exchange : getCaptured()) {
+                out.append(exchange.toString()).append(System.lineSeparator()).append(System.lineSeparator());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Formats all captured exchanges still held, oldest first.
+     *
+     * @return dump of captured exchanges
+     */
+    public String dump() {
+        StringBuilder out = new StringBuilder();
+        dump(out);
+        return out.toString();
+    }
+
+    /**
+     * Removes all captured exchanges.
+     */
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+
+    private Map<String, List<String>> requestHeaders(HttpRequest request) {
+        if (!(request instanceof SignedHttpRequest signed)) {
+            return redact(request.headers().map());
+        }
+
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        signed.getSignedHeaders().forEach((name, value) -> headers.put(name, policy.isRedacted(name) ? REDACTED : List.of(value)));
+        return Collections.unmodifiableMap(headers);
+    }
+
+    private String requestBody(HttpRequest request) {
+        return request instanceof SignedHttpRequest signed ? body(signed.getBodyBytes()) : null;
+    }
+
+    private Map<String, List<String>> redact(Map<String, List<String>> headers) {
+        Map<String, List<String>> redacted = new LinkedHashMap<>();
+        headers.forEach((name, values) -> redacted.put(name, policy.isRedacted(name) ? REDACTED : values));
+        return Collections.unmodifiableMap(redacted);
+    }
+
+    private String body(byte[] body) {
+        if (body == null || body.length == 0) {
+            return null;
+        }
+
+        body = redactTokens(body);
+
+        if (body.length <= policy.maxBodySize) {
+            return new String(body, StandardCharsets.UTF_8);
+        }
+        return new String(body, 0, Utf8.prefixLength(body, policy.maxBodySize), StandardCharsets.UTF_8) + "... (" + body.length + " bytes)";
+    }
+
+    /**
+     * Replaces the value of every {@code access_token} (single or list) in the body, bodies not parsed as JSON are dropped.
+     */
+    static byte[] redactTokens(byte[] body) {
+        if (!contains(body, ACCESS_TOKEN)) {
+            return body;
+        }
+
+        try {
+            JsonNode root = JSON.readTree(body);
+            redactTokens(root);
+            return JSON.writeValueAsBytes(root);
+        } catch (IOException e) {
+            return REDACTED.get(0).getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void redactTokens(JsonNode node) {
+        if (node instanceof ObjectNode object) {
+            object.properties().forEach(property -> {
+                if ("access_token".equals(property.getKey())) {
+                    redactToken(property.getValue());
+                } else {
+                    redactTokens(property.getValue());
+                }
+            });
+        } else if (node.isArray()) {
+            node.forEach(ExchangeCapture::redactTokens);
+        }
+    }
+
+    private static void redactToken(JsonNode token) {
+        if (token instanceof ObjectNode object) {
+            if (object.has("value")) {
+                object.put("value", REDACTED.get(0));
+            }
+        } else if (token.isArray()) {
+            token.forEach(ExchangeCapture::redactToken);
+        }
+    }
+
+    private static boolean contains(byte[] body, byte[] value) {
+        for (int i = 0; i <= body.length - value.length; i++) {
+            if (Arrays.equals(body, i, i + value.length, value, 0, value.length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -15,16 +15,21 @@
  */
 package io.fliqa.client.interledger.logging;
 
+import io.fliqa.client.interledger.signature.SignedHttpRequest;
+import io.fliqa.client.interledger.transport.InterledgerResponse;
 import io.fliqa.client.interledger.utils.Assert;
+import io.fliqa.client.interledger.utils.Utf8;
 import org.slf4j.Logger;
 
-import java.net.http.HttpHeaders;
+import java.net.URI;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
-import java.util.concurrent.Flow;
-import java.util.function.Consumer;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Specialized HTTP request and response logger for debugging and monitoring API communications.
@@ -71,11 +76,23 @@ import java.util.function.Consumer;
  *   <li>Signature header verification</li>
  * </ul>
  *
+ * <h3>Asynchronous Logging</h3>
+ * <p>Logging must not add latency to payment calls, so the request thread does as little as possible:
+ * <ul>
+ *   <li>With DEBUG disabled nothing is allocated, the level is checked before anything else</li>
+ *   <li>Otherwise a lightweight record (references to method, URI, headers and the capped body) is published
+ *   into a bounded lock-free {@link LogRingBuffer}, the message is formatted and written by a background
+ *   thread ({@code interledger-http-logger}, started on first use)</li>
+ *   <li>When the buffer is full the record is dropped and counted ({@link #getDropped()}), the request thread
+ *   never waits, the number of dropped records is logged as a warning</li>
+ *   <li>Bodies are logged up to a maximum size, longer bodies are truncated</li>
+ * </ul>
+ *
  * <h3>Request Body Handling</h3>
- * <p>Unlike standard HTTP loggers, this implementation uses a custom subscriber to capture
- * request bodies from the Java 11+ HTTP client's reactive streams API. This is necessary
- * because request bodies are consumed as they're sent, making them unavailable for
- * standard logging approaches.
+ * <p>The body of an {@link HttpRequest} is only available by subscribing to its body publisher, which
+ * publishes the body once more. Requests created by the client are {@link SignedHttpRequest}s keeping the
+ * serialized body and the signed headers, these are logged directly (the exact bytes sent and signed).
+ * For other requests only the body length is logged.
  *
  * @author Fliqa
  * @version 1.0
@@ -84,26 +101,69 @@ import java.util.function.Consumer;
  * @see org.slf4j.Logger
  * @since 1.0
  */
-public class HttpLogger {
+public class HttpLogger implements AutoCloseable {
+
+    /**
+     * Default number of records the buffer holds before new records are dropped.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1024;
+
+    /**
+     * Default number of body bytes logged.
+     */
+    public static final int DEFAULT_MAX_BODY_SIZE = 4 * 1024;
 
     private static final String LOG_SPACE = "    ";
     private static final String LOG_BODY = "body: ";
     private static final String LOG_NO_BODY = "<no body>";
+    private static final String LOG_REQUEST = "HTTP Request:  ";
+    private static final String LOG_RESPONSE = "HTTP Response: ";
+
+    /**
+     * Time the drain thread waits for new records when the buffer is empty (if not woken up earlier).
+     */
+    private static final long IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
 
     /**
      * SLF4J logger instance for outputting HTTP request/response information.
      */
     private final Logger LOGGER;
 
+    private final int maxBodySize;
+    private final LogRingBuffer<LogRecord> buffer;
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile Thread drainer; // started on first published record
+    private volatile boolean idle;
+    private volatile boolean closed;
+    private long reportedDrops; // drain thread only
+
     /**
-     * Creates a new HTTP logger with the specified SLF4J logger.
+     * Creates a new HTTP logger with the specified SLF4J logger and default buffer and body sizes.
      *
      * @param logger SLF4J logger instance to use for output
      * @throws IllegalArgumentException if logger is null
      */
     public HttpLogger(Logger logger) {
+        this(logger, DEFAULT_BUFFER_SIZE, DEFAULT_MAX_BODY_SIZE);
+    }
+
+    /**
+     * Creates a new HTTP logger with the specified SLF4J logger.
+     *
+     * @param logger      SLF4J logger instance to use for output
+     * @param bufferSize  number of records held until written, further records are dropped
+     * @param maxBodySize number of body bytes logged, longer bodies are truncated
+     * @throws IllegalArgumentException if logger is null or a size is not greater than zero
+     */
+    public HttpLogger(Logger logger, int bufferSize, int maxBodySize) {
         Assert.notNull(logger, "Logger must not be null");
+        Assert.isTrue(bufferSize > 0, "bufferSize must be greater than zero.");
+        Assert.isTrue(maxBodySize > 0, "maxBodySize must be greater than zero.");
+
         this.LOGGER = logger;
+        this.maxBodySize = maxBodySize;
+        this.buffer = new LogRingBuffer<>(bufferSize);
     }
 
     /**
@@ -115,56 +175,31 @@ public class HttpLogger {
      *   <li><strong>TRACE level:</strong> Logs complete request including headers and body</li>
      * </ul>
      *
-     * <p>For requests with bodies, this method uses a custom subscriber to capture
-     * the request body content as it's being sent, since the Java HTTP client
-     * consumes the body stream during transmission.
+     * <p>For {@link SignedHttpRequest}s the serialized body and the signed headers are logged as held by the
+     * request, the body publisher is never read.
      *
      * @param req HTTP request to log
      */
     public void logRequest(HttpRequest req) {
-
         Assert.notNull(req, "HTTP request must not be null");
-        StringBuilder logMessage = new StringBuilder();
-        logMessage.append("HTTP Request:  ").append(req.method()).append(" ").append(req.uri());
-
-        if (LOGGER.isTraceEnabled()) {  // log request details only if trace level is enabled
-            logHeaders(req.headers(), logMessage);
-            // define a consumer for how you want to log
-            if (req.bodyPublisher().isPresent()) {
-                Consumer<String> bodyConsumer = body -> {
-                    if (body != null && !body.isBlank()) {
-                        logMessage.append(System.lineSeparator()).append(LOG_SPACE).append(LOG_BODY).append(body);
-                    }
-
-                    LOGGER.trace(logMessage.toString());
-                };
-
-                req.bodyPublisher().get().subscribe(new HttpBodySubscriber(bodyConsumer));
-            } else {
-                logMessage.append(System.lineSeparator()).append(LOG_SPACE).append(LOG_NO_BODY);
-                LOGGER.trace(logMessage.toString());
-            }
-        } else {
-            LOGGER.debug(logMessage.toString());
+        if (!LOGGER.isDebugEnabled()) { // nothing is allocated when disabled
+            return;
         }
-    }
 
-    /**
-     * Appends HTTP headers to the log message in a formatted manner.
-     *
-     * <p>Headers are formatted as "name: value1, value2" with proper indentation.
-     * The ":status" pseudo-header is excluded since status codes are logged separately.
-     *
-     * @param headers    HTTP headers to log
-     * @param logMessage StringBuilder to append formatted headers to
-     */
-    private static void logHeaders(HttpHeaders headers, StringBuilder logMessage) {
-        headers.map().forEach((name, values) -> {
-            if (!":status".equalsIgnoreCase(name)) { // ignore :status header (we already log this)
-                logMessage.append(System.lineSeparator())
-                        .append(LOG_SPACE).append(name).append(": ").append(String.join(", ", values));
-            }
-        });
+        if (!LOGGER.isTraceEnabled()) {
+            publish(new LogRecord(false, LOG_REQUEST, req.method(), req.uri(), null, null, 0));
+            return;
+        }
+
+        if (req instanceof SignedHttpRequest signed) {
+            byte[] body = signed.getBodyBytes();
+            publish(new LogRecord(true, LOG_REQUEST, req.method(), req.uri(), signed.getSignedHeaders(), cap(body), body != null ? body.length : 0));
+            return;
+        }
+
+        // body of a foreign request is not readable without publishing it again, log its length only
+        long length = req.bodyPublisher().map(HttpRequest.BodyPublisher::contentLength).orElse(0L);
+        publish(new LogRecord(true, LOG_REQUEST, req.method(), req.uri(), req.headers().map(), null, (int) Math.max(length, 0)));
     }
 
     /**
@@ -184,93 +219,242 @@ public class HttpLogger {
      */
     public void logResponse(HttpResponse<String> res) {
         Assert.notNull(res, "HTTP response must not be null");
+        if (!LOGGER.isDebugEnabled()) {
+            return;
+        }
 
-        StringBuilder logMessage = new StringBuilder();
-        logMessage.append("HTTP Response: ").append(res.statusCode()).append(" ").append(res.uri());
+        String status = String.valueOf(res.statusCode());
+        if (!LOGGER.isTraceEnabled()) {
+            publish(new LogRecord(false, LOG_RESPONSE, status, res.uri(), null, null, 0));
+            return;
+        }
 
-        if (LOGGER.isTraceEnabled()) {
-            logHeaders(res.headers(), logMessage);
+        byte[] body = res.body() != null ? res.body().getBytes(StandardCharsets.UTF_8) : null;
+        publish(new LogRecord(true, LOG_RESPONSE, status, res.uri(), res.headers().map(), cap(body), body != null ? body.length : 0));
+    }
 
-            String body = res.body() != null ? res.body() : LOG_NO_BODY;
-            logMessage.append(System.lineSeparator())
-                    .append(LOG_SPACE)
-                    .append(LOG_BODY)
-                    .append(body);
+    /**
+     * Logs a raw response received through an {@link InterledgerResponse transport}, with the same
+     * detail levels as {@link #logResponse(HttpResponse)}.
+     *
+     * @param res transport response to log
+     */
+    public void logResponse(InterledgerResponse res) {
+        Assert.notNull(res, "HTTP response must not be null");
+        if (!LOGGER.isDebugEnabled()) {
+            return;
+        }
 
-            LOGGER.trace(logMessage.toString());
-        } else {
-            LOGGER.debug(logMessage.toString());
+        String status = String.valueOf(res.statusCode);
+        if (!LOGGER.isTraceEnabled()) {
+            publish(new LogRecord(false, LOG_RESPONSE, status, res.uri, null, null, 0));
+            return;
         }
+
+        publish(new LogRecord(true, LOG_RESPONSE, status, res.uri, res.headers.map(), cap(res.body), res.body.length));
     }
 
     /**
-     * Custom subscriber for capturing HTTP request body content from reactive streams.
-     *
-     * <p>This subscriber is necessary because the Java 11+ HTTP client uses reactive
-     * streams for request bodies, and the body content is consumed as it's sent to
-     * the server. Standard logging approaches can't access the body content after
-     * it has been consumed.
+     * Gets the number of records dropped because the buffer was full.
      *
-     * <p>The subscriber converts ByteBuffer chunks to UTF-8 strings and passes them
-     * to a consumer function for logging. This allows us to capture and log request
-     * bodies without interfering with the actual HTTP request transmission.
+     * @return number of dropped records
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Gets the number of records waiting to be written.
      *
-     * @see java.util.concurrent.Flow.Subscriber
-     * @see java.nio.ByteBuffer
+     * @return approximate number of buffered records
      */
-    protected static class HttpBodySubscriber implements Flow.Subscriber<ByteBuffer> {
-
-        /**
-         * Consumer function that processes the captured body content.
-         */
-        private final Consumer<String> consumer;
-
-        /**
-         * Creates a new body subscriber with the specified consumer.
-         *
-         * @param consumer function to process captured body content
-         */
-        public HttpBodySubscriber(Consumer<String> consumer) {
-            this.consumer = consumer;
+    public int getPending() {
+        return buffer.size();
+    }
+
+    /**
+     * Writes all buffered records and stops the background thread, records logged afterwards are
+     * written on the calling thread.
+     */
+    @Override
+    public void close() {
+        closed = true;
+
+        Thread thread = drainer;
+        if (thread != null && thread != Thread.currentThread()) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        flush();
+    }
+
+    /**
+     * Hands the record to the drain thread, drops it when the buffer is full.
+     */
+    private void publish(LogRecord record) {
+        if (closed) {
+            write(record);
+            return;
+        }
+
+        if (!buffer.offer(record)) {
+            dropped.increment();
+            return;
+        }
+
+        Thread thread = drainer;
+        if (thread == null) {
+            startDrainer();
+        } else if (idle) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private synchronized void startDrainer() {
+        if (drainer != null) {
+            return;
+        }
+
+        Thread thread = new Thread(this::drain, "interledger-http-logger");
+        thread.setDaemon(true);
+        drainer = thread;
+        thread.start();
+    }
+
+    /**
+     * Drain thread: writes records as they arrive, waits when the buffer is empty.
+     * A record published just before waiting is picked up at the latest after {@link #IDLE_WAIT_NANOS}.
+     */
+    private void drain() {
+        while (!closed) {
+            LogRecord record = buffer.poll();
+            if (record != null) {
+                write(record);
+                continue;
+            }
+
+            reportDrops();
+            idle = true;
+            if (buffer.size() == 0 && !closed) {
+                LockSupport.parkNanos(this, IDLE_WAIT_NANOS);
+            }
+            idle = false;
+        }
+
+        flush();
+    }
+
+    private void flush() {
+        LogRecord record;
+        while ((record = buffer.poll()) != null) {
+            write(record);
+        }
+        reportDrops();
+    }
+
+    private synchronized void reportDrops() {
+        long total = dropped.sum();
+        if (total > reportedDrops) {
+            LOGGER.warn("HTTP log buffer full, dropped {} log records.", total - reportedDrops);
+            reportedDrops = total;
         }
+    }
 
-        /**
-         * Called when the subscription is established. Requests all available data.
-         *
-         * @param subscription the subscription for controlling data flow
-         */
-        @Override
-        public void onSubscribe(Flow.Subscription subscription) {
-            subscription.request(Long.MAX_VALUE);
+    private void write(LogRecord record) {
+        try {
+            if (record.trace) {
+                LOGGER.trace(record.format(maxBodySize));
+            } else {
+                LOGGER.debug(record.format(maxBodySize));
+            }
+        } catch (RuntimeException e) {
+            // never let a failing appender stop the drain thread
+            LOGGER.warn("Failed to write HTTP log record: {} {}", record.prefix, record.uri, e);
         }
+    }
 
-        /**
-         * Called for each chunk of body data. Converts ByteBuffer to UTF-8 string
-         * and passes it to the consumer for logging.
-         *
-         * @param item ByteBuffer containing body data chunk
-         */
-        @Override
-        public void onNext(ByteBuffer item) {
-            consumer.accept(new String(item.array(), StandardCharsets.UTF_8));
+    /**
+     * @return the body, or at most its first {@link #maxBodySize} bytes ending on a character boundary if longer
+     */
+    private byte[] cap(byte[] body) {
+        if (body == null || body.length <= maxBodySize) {
+            return body;
         }
+        return Arrays.copyOf(body, Utf8.prefixLength(body, maxBodySize));
+    }
+
+    /**
+     * Appends HTTP headers to the log message in a formatted manner.
+     *
+     * <p>Headers are formatted as "name: value1, value2" with proper indentation.
+     * The ":status" pseudo-header is excluded since status codes are logged separately.
+     *
+     * @param headers    HTTP headers to log, single values or lists of values
+     * @param logMessage StringBuilder to append formatted headers to
+     */
+    @SuppressWarnings("unchecked")
+    private static void logHeaders(Map<String, ?> headers, StringBuilder logMessage) {
+        headers.forEach((name, values) -> {
+            if (!":status".equalsIgnoreCase(name)) { // ignore :status header (we already log this)
+                logMessage.append(System.lineSeparator())
+                        .append(LOG_SPACE).append(name).append(": ")
+                        .append(values instanceof Iterable<?> list ? String.join(", ", (Iterable<String>) list) : values);
+            }
+        });
+    }
 
-        /**
-         * Called when an error occurs during body streaming.
-         * Currently, does not perform any error handling.
-         *
-         * @param throwable the error that occurred
-         */
-        @Override
-        public void onError(Throwable throwable) {
+    /**
+     * Request or response waiting to be logged, formatted by the drain thread.
+     * Holds only references (headers are immutable, bodies are capped copies or never modified).
+     */
+    private static class LogRecord {
+
+        private final boolean trace;
+        private final String prefix;
+        private final String methodOrStatus;
+        private final URI uri;
+        private final Map<String, ?> headers;
+        private final byte[] body;
+        private final int bodyLength;
+
+        private LogRecord(boolean trace, String prefix, String methodOrStatus, URI uri, Map<String, ?> headers, byte[] body, int bodyLength) {
+            this.trace = trace;
+            this.prefix = prefix;
+            this.methodOrStatus = methodOrStatus;
+            this.uri = uri;
+            this.headers = headers;
+            this.body = body;
+            this.bodyLength = bodyLength;
         }
 
-        /**
-         * Called when the body streaming is complete.
-         * Currently, does not perform any completion handling.
-         */
-        @Override
-        public void onComplete() {
+        private String format(int maxBodySize) {
+            StringBuilder logMessage = new StringBuilder();
+            logMessage.append(prefix).append(methodOrStatus).append(" ").append(uri);
+            if (!trace) {
+                return logMessage.toString();
+            }
+
+            logHeaders(headers, logMessage);
+            logMessage.append(System.lineSeparator()).append(LOG_SPACE);
+            if (body == null || body.length == 0) {
+                if (bodyLength > 0) {
+                    logMessage.append(LOG_BODY).append("<").append(bodyLength).append(" bytes>");
+                } else {
+                    logMessage.append(LOG_NO_BODY);
+                }
+                return logMessage.toString();
+            }
+
+            logMessage.append(LOG_BODY).append(new String(body, 0, Math.min(body.length, maxBodySize), StandardCharsets.UTF_8));
+            if (bodyLength > maxBodySize) {
+                logMessage.append("... (").append(bodyLength).append(" bytes)");
+            }
+            return logMessage.toString();
         }
     }
 }
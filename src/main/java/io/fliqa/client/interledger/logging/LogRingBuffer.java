@@ -0,0 +1,133 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.logging;
+
+import io.fliqa.client.interledger.utils.Assert;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free multi-producer queue backed by a ring of slots.
+ *
+ * <p>Every slot carries a sequence number telling producers and consumers whether it is free or filled
+ * for the current round, so {@link #offer} and {@link #poll} only need a single compare-and-set on the
+ * tail or head counter. A full buffer rejects the item instead of blocking the producer.
+ *
+ * <h3>Thread Safety</h3>
+ * <p>This class is thread-safe for any number of producers and consumers.
+ *
+ * @param <T> type of item
+ * @author Fliqa
+ * @version 1.0
+ * @see HttpLogger
+ * @since 1.0
+ */
+class LogRingBuffer<T> {
+
+    private final int mask;
+    private final AtomicReferenceArray<T> items;
+    private final AtomicLongArray sequences;
+
+    private final AtomicLong tail = new AtomicLong(); // next position to write
+    private final AtomicLong head = new AtomicLong(); // next position to read
+
+    /**
+     * @param capacity maximum number of items held (rounded up to a power of two)
+     */
+    LogRingBuffer(int capacity) {
+        Assert.isTrue(capacity > 0 && capacity <= 1 << 24, "capacity must be between 1 and 2^24.");
+
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+
+        this.mask = size - 1;
+        this.items = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds an item without blocking.
+     *
+     * @param item item to add
+     * @return true if added, false if the buffer is full
+     */
+    boolean offer(T item) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long available = sequences.get(index) - position;
+            if (available == 0) { // slot free in this round
+                if (tail.compareAndSet(position, position + 1)) {
+                    items.lazySet(index, item);
+                    sequences.set(index, position + 1); // publishes the item
+                    return true;
+                }
+                position = tail.get();
+            } else if (available < 0) { // slot still holds the item of the previous round
+                return false;
+            } else {
+                position = tail.get(); // another producer took the slot
+            }
+        }
+    }
+
+    /**
+     * Removes the oldest item without blocking.
+     *
+     * @return oldest item, or null if the buffer is empty
+     */
+    T poll() {
+        long position = head.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long filled = sequences.get(index) - (position + 1);
+            if (filled == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    T item = items.get(index);
+                    items.lazySet(index, null);
+                    sequences.set(index, position + mask + 1); // frees the slot for the next round
+                    return item;
+                }
+                position = head.get();
+            } else if (filled < 0) { // not written yet
+                return null;
+            } else {
+                position = head.get(); // another consumer took the item
+            }
+        }
+    }
+
+    /**
+     * @return approximate number of items held
+     */
+    int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    /**
+     * @return maximum number of items held
+     */
+    int capacity() {
+        return mask + 1;
+    }
+}
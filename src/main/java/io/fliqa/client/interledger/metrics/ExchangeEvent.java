@@ -0,0 +1,150 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.metrics;
+
+import io.fliqa.client.interledger.ApiOperation;
+import io.fliqa.client.interledger.exception.InterledgerClientException;
+import io.fliqa.client.interledger.transport.InterledgerTransport;
+import io.fliqa.client.interledger.utils.Assert;
+
+import java.net.URI;
+
+/**
+ * Single HTTP exchange (attempt) of the Interledger client, as reported to an {@link InterledgerMetricsListener}.
+ *
+ * <p>Every retry and every hedged request race is reported as a separate exchange, so {@link #attempt}
+ * is greater than 1 for retries.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see InterledgerMetricsListener
+ * @since 1.0
+ */
+public class ExchangeEvent {
+
+    /**
+     * API call the exchange belongs to.
+     */
+    public final ApiOperation operation;
+
+    /**
+     * HTTP method.
+     */
+    public final String method;
+
+    /**
+     * Target of the request.
+     */
+    public final URI uri;
+
+    /**
+     * Target host as {@code scheme://host[:port]}.
+     */
+    public final String host;
+
+    /**
+     * Attempt of the call, starting with 1.
+     */
+    public final int attempt;
+
+    /**
+     * HTTP status code, or 0 if no response was received.
+     */
+    public final int statusCode;
+
+    /**
+     * Size of the request body, in bytes.
+     */
+    public final long bytesSent;
+
+    /**
+     * Size of the response body, in bytes (0 if no response was received).
+     */
+    public final long bytesReceived;
+
+    /**
+     * Time from sending the request to receiving the response (or the failure), in nanoseconds.
+     */
+    public final long durationNanos;
+
+    /**
+     * Failure of the exchange, or null if a response was received.
+     */
+    public final InterledgerClientException failure;
+
+    /**
+     * Creates a new exchange event.
+     *
+     * @param operation     API call
+     * @param method        HTTP method
+     * @param uri           target of the request
+     * @param attempt       attempt of the call, starting with 1
+     * @param statusCode    HTTP status code, or 0 if no response was received
+     * @param bytesSent     size of the request body
+     * @param bytesReceived size of the response body
+     * @param durationNanos duration of the exchange, in nanoseconds
+     * @param failure       failure of the exchange, or null
+     * @throws IllegalArgumentException if operation, method or uri is null
+     */
+    public ExchangeEvent(ApiOperation operation,
+                         String method,
+                         URI uri,
+                         int attempt,
+                         int statusCode,
+                         long bytesSent,
+                         long bytesReceived,
+                         long durationNanos,
+                         InterledgerClientException failure) {
+        Assert.notNull(operation, "ApiOperation cannot be null");
+        Assert.notNull(method, "Method cannot be null");
+        Assert.notNull(uri, "URI cannot be null");
+
+        this.operation = operation;
+        this.method = method;
+        this.uri = uri;
+        this.host = InterledgerTransport.getHost(uri);
+        this.attempt = attempt;
+        this.statusCode = statusCode;
+        this.bytesSent = bytesSent;
+        this.bytesReceived = bytesReceived;
+        this.durationNanos = durationNanos;
+        this.failure = failure;
+    }
+
+    /**
+     * Checks if the exchange failed, either without a response or with an error status code.
+     *
+     * @return true if no response was received or the status code is not 2xx
+     */
+    public boolean isError() {
+        return failure != null || statusCode < 200 || statusCode > 299;
+    }
+
+    @Override
+    public String toString() {
+        return "ExchangeEvent{" +
+                "operation=" + operation +
+                ", method='" + method + '\'' +
+                ", uri=" + uri +
+                ", attempt=" + attempt +
+                ", statusCode=" + statusCode +
+                ", bytesSent=" + bytesSent +
+                ", bytesReceived=" + bytesReceived +
+                ", durationNanos=" + durationNanos +
+                ", failure=" + (failure != null ? failure.getMessage() : null) +
+                '}';
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.metrics;
+
+/**
+ * Receives an event for every HTTP exchange (attempt) of the Interledger client.
+ *
+ * <p>Implementations bridge the events to a metrics library (Micrometer, OpenTelemetry, Prometheus ...)
+ * without the client depending on one, or use the built-in {@link InterledgerMetrics}.
+ *
+ * <h3>Implementation Notes</h3>
+ * <ul>
+ *   <li>Events are delivered on the thread completing the exchange (caller or HTTP client thread),
+ *   implementations must be thread-safe and should return quickly</li>
+ *   <li>Exceptions thrown by the listener are logged and otherwise ignored</li>
+ *   <li>With {@link #NONE} no events are created and no time is taken</li>
+ * </ul>
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see io.fliqa.client.interledger.InterledgerClientOptions#metricsListener
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface InterledgerMetricsListener {
+
+    /**
+     * Listener ignoring all events, metrics are not collected.
+     */
+    InterledgerMetricsListener NONE = event -> {
+    };
+
+    /**
+     * Called once an exchange completed, with a response (any status code) or a failure.
+     *
+     * @param event exchange details
+     */
+    void onExchange(ExchangeEvent event);
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.metrics;
+
+import io.fliqa.client.interledger.ApiOperation;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and latency histogram of one operation (on one host, or on all hosts).
+ *
+ * <h3>Thread Safety</h3>
+ * <p>This class is thread-safe, counters are updated without locks.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see InterledgerMetrics
+ * @since 1.0
+ */
+public class OperationMetrics {
+
+    private final ApiOperation operation;
+
+    private final LongAdder exchanges = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder bytesSent = new LongAdder();
+    private final LongAdder bytesReceived = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    OperationMetrics(ApiOperation operation) {
+        this.operation = operation;
+    }
+
+    void record(ExchangeEvent event) {
+        exchanges.increment();
+        if (event.failure != null) {
+            failures.increment();
+        }
+        if (event.isError()) {
+            errors.increment();
+        }
+        if (event.attempt > 1) {
+            retries.increment();
+        }
+        bytesSent.add(event.bytesSent);
+        bytesReceived.add(event.bytesReceived);
+        latency.record(event.durationNanos);
+    }
+
+    /**
+     * @return API call
+     */
+    public ApiOperation getOperation() {
+        return operation;
+    }
+
+    /**
+     * @return number of exchanges (including retries)
+     */
+    public long getExchanges() {
+        return exchanges.sum();
+    }
+
+    /**
+     * @return number of exchanges failed without a response or with a non 2xx status code
+     */
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    /**
+     * @return number of exchanges failed without a response (connection failures, rejected by client side limits)
+     */
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    /**
+     * @return number of exchanges that were retries of an earlier attempt
+     */
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    /**
+     * @return total size of request bodies sent, in bytes
+     */
+    public long getBytesSent() {
+        return bytesSent.sum();
+    }
+
+    /**
+     * @return total size of response bodies received, in bytes
+     */
+    public long getBytesReceived() {
+        return bytesReceived.sum();
+    }
+
+    /**
+     * @return latencies of all exchanges
+     */
+    public LatencyHistogram getLatency() {
+        return latency;
+    }
+
+    @Override
+    public String toString() {
+        return "OperationMetrics{" +
+                "operation=" + operation +
+                ", exchanges=" + getExchanges() +
+                ", errors=" + getErrors() +
+                ", failures=" + getFailures() +
+                ", retries=" + getRetries() +
+                ", bytesSent=" + getBytesSent() +
+                ", bytesReceived=" + getBytesReceived() +
+                ", latency=" + latency +
+                '}';
+    }
+}
@@ -17,6 +17,7 @@ package io.fliqa.client.interledger.model;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.fliqa.client.interledger.serializer.JsonCodec;
 
 import java.net.URI;
 
@@ -38,6 +39,7 @@ import java.net.URI;
  * @see AccessToken
  * @see AccessGrant
  */
+@JsonCodec
 public class AccessContinue {
 
     /**
@@ -78,5 +80,5 @@ public class AccessContinue {
      */
     @JsonProperty(value = "wait")
     @JsonInclude(JsonInclude.Include.NON_NULL)
-    private Integer wait;
+    Integer wait;
 }
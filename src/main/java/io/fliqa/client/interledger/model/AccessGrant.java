@@ -17,6 +17,7 @@ package io.fliqa.client.interledger.model;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.fliqa.client.interledger.serializer.JsonCodec;
 
 /**
  * Represents a complete access grant response from the authorization server.
@@ -38,6 +39,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
  * @see AccessContinue
  * @see GrantAccessRequest
  */
+@JsonCodec
 public class AccessGrant {
 
     /**
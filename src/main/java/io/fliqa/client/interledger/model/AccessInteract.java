@@ -17,6 +17,7 @@ package io.fliqa.client.interledger.model;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.fliqa.client.interledger.serializer.JsonCodec;
 
 import java.util.List;
 
@@ -42,6 +43,7 @@ import java.util.List;
  * @see InteractFinish
  * @see GrantAccessRequest
  */
+@JsonCodec
 public class AccessInteract {
 
     /**
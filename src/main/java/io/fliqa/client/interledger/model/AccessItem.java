@@ -18,6 +18,7 @@ package io.fliqa.client.interledger.model;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import io.fliqa.client.interledger.serializer.JsonCodec;
 import io.fliqa.client.interledger.serializer.OrderedSetSerializer;
 import io.fliqa.client.interledger.utils.Assert;
 
@@ -42,6 +43,7 @@ import java.util.Set;
  * @version 1.0
  * @since 1.0
  */
+@JsonCodec
 public class AccessItem {
 
     /**
@@ -17,6 +17,7 @@ package io.fliqa.client.interledger.model;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.fliqa.client.interledger.serializer.JsonCodec;
 
 import java.net.URI;
 import java.util.Set;
@@ -46,6 +47,7 @@ import java.util.Set;
  * @see AccessGrant
  * @see AccessContinue
  */
+@JsonCodec
 public class AccessToken {
 
     /**
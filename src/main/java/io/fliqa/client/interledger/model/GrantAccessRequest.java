@@ -17,6 +17,7 @@ package io.fliqa.client.interledger.model;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.fliqa.client.interledger.serializer.JsonCodec;
 import io.fliqa.client.interledger.utils.Assert;
 
 import java.net.URI;
@@ -63,6 +64,7 @@ import java.util.Set;
  * @see AccessGrant
  * @since 1.0
  */
+@JsonCodec
 public class GrantAccessRequest {
 
     /**
@@ -17,6 +17,7 @@ package io.fliqa.client.interledger.model;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.fliqa.client.interledger.serializer.JsonCodec;
 
 import java.net.URI;
 import java.time.Instant;
@@ -38,6 +39,7 @@ import java.util.Set;
  * @see PaymentPointer
  * @see InterledgerAmount
  */
+@JsonCodec
 public class IncomingPayment {
 
     /**
@@ -16,6 +16,7 @@
 package io.fliqa.client.interledger.model;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.fliqa.client.interledger.serializer.JsonCodec;
 
 import java.net.URI;
 
@@ -40,6 +41,7 @@ import java.net.URI;
  * @see InteractFinish
  * @see OutgoingPayment
  */
+@JsonCodec
 public class InteractContinue {
 
     /**
@@ -16,6 +16,7 @@
 package io.fliqa.client.interledger.model;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.fliqa.client.interledger.serializer.JsonCodec;
 
 import java.net.URI;
 
@@ -45,6 +46,7 @@ import java.net.URI;
  * @see InteractContinue
  * @see GrantAccessRequest
  */
+@JsonCodec
 public class InteractFinish {
 
     /**
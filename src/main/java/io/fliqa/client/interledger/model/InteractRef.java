@@ -16,6 +16,7 @@
 package io.fliqa.client.interledger.model;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.fliqa.client.interledger.serializer.JsonCodec;
 import io.fliqa.client.interledger.utils.Assert;
 
 /**
@@ -42,6 +43,7 @@ import io.fliqa.client.interledger.utils.Assert;
  * @see InteractContinue
  * @see InteractFinish
  */
+@JsonCodec
 public class InteractRef {
 
     /**
@@ -16,6 +16,7 @@
 package io.fliqa.client.interledger.model;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.fliqa.client.interledger.serializer.JsonCodec;
 import io.fliqa.client.interledger.utils.Assert;
 
 import java.math.BigDecimal;
@@ -44,6 +45,7 @@ import java.text.DecimalFormat;
  * @version 1.0
  * @since 1.0
  */
+@JsonCodec
 public class InterledgerAmount {
 
     /**
@@ -16,6 +16,7 @@
 package io.fliqa.client.interledger.model;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.fliqa.client.interledger.serializer.JsonCodec;
 
 /**
  * Represents an Interledger payment method for establishing STREAM connections.
@@ -35,6 +36,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
  * @version 1.0
  * @since 1.0
  */
+@JsonCodec
 public class InterledgerMethod {
 
     /**
@@ -17,6 +17,7 @@ package io.fliqa.client.interledger.model;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.fliqa.client.interledger.serializer.JsonCodec;
 
 import java.net.URI;
 
@@ -36,6 +37,7 @@ import java.net.URI;
  * @version 1.0
  * @since 1.0
  */
+@JsonCodec
 public class Limits {
 
     /**
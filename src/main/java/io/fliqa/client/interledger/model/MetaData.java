@@ -17,6 +17,7 @@ package io.fliqa.client.interledger.model;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.fliqa.client.interledger.serializer.JsonCodec;
 
 import java.util.Set;
 
@@ -35,6 +36,7 @@ import java.util.Set;
  * @version 1.0
  * @since 1.0
  */
+@JsonCodec
 public class MetaData {
 
     /**
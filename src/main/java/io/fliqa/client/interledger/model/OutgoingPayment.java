@@ -16,6 +16,7 @@
 package io.fliqa.client.interledger.model;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.fliqa.client.interledger.serializer.JsonCodec;
 
 /**
  * Represents the response from creating an outgoing payment request.
@@ -43,6 +44,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
  * @see InteractContinue
  * @see OutgoingPaymentRequest
  */
+@JsonCodec
 public class OutgoingPayment {
 
     /**
@@ -17,6 +17,7 @@ package io.fliqa.client.interledger.model;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.fliqa.client.interledger.serializer.JsonCodec;
 
 import java.net.URI;
 
@@ -33,6 +34,7 @@ import java.net.URI;
  * @see OutgoingPayment
  * @see InterledgerAmount
  */
+@JsonCodec
 public class OutgoingPaymentRequest {
 
     /**
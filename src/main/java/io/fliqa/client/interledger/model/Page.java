@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Single page of a list response of the resource server.
+ *
+ * @param <T> type of the listed resource
+ * @author Fliqa
+ * @version 1.0
+ * @since 1.0
+ * @see IncomingPaymentPage
+ * @see OutgoingPaymentPage
+ */
+public abstract class Page<T> {
+
+    /**
+     * Pagination information, telling if and how the next page can be requested.
+     */
+    @JsonProperty(value = "pagination", required = true)
+    public PageInfo pagination;
+
+    /**
+     * Resources of this page.
+     */
+    @JsonProperty(value = "result", required = true)
+    public List<T> result;
+
+    /**
+     * @return cursor to request the next page with, or null if this is the last page
+     */
+    public String getNextCursor() {
+        return pagination != null && pagination.hasNextPage ? pagination.endCursor : null;
+    }
+}
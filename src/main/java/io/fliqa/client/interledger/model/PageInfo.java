@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Cursor pagination information of a list response of the resource server.
+ *
+ * <p>The next page is requested with {@link #endCursor} as {@code cursor} query parameter as long as
+ * {@link #hasNextPage} is true.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @since 1.0
+ * @see Page
+ */
+public class PageInfo {
+
+    /**
+     * Cursor of the first item of the page.
+     */
+    @JsonProperty("startCursor")
+    public String startCursor;
+
+    /**
+     * Cursor of the last item of the page, used to request the next page.
+     */
+    @JsonProperty("endCursor")
+    public String endCursor;
+
+    /**
+     * True if there are items after the last item of this page.
+     */
+    @JsonProperty(value = "hasNextPage", required = true)
+    public boolean hasNextPage;
+
+    /**
+     * True if there are items before the first item of this page.
+     */
+    @JsonProperty(value = "hasPreviousPage", required = true)
+    public boolean hasPreviousPage;
+}
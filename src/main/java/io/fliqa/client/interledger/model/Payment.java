@@ -17,6 +17,7 @@ package io.fliqa.client.interledger.model;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.fliqa.client.interledger.serializer.JsonCodec;
 
 import java.net.URI;
 import java.time.Instant;
@@ -49,6 +50,7 @@ import java.time.Instant;
  * @see InterledgerAmount
  * @see MetaData
  */
+@JsonCodec
 public class Payment {
 
     /**
@@ -17,12 +17,14 @@ package io.fliqa.client.interledger.model;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.fliqa.client.interledger.serializer.JsonCodec;
 import io.fliqa.client.interledger.utils.Assert;
 
 import java.math.BigDecimal;
 import java.net.URI;
 import java.time.Instant;
 
+@JsonCodec
 public class PaymentRequest {
 
     @JsonProperty(value = "walletAddress", required = true)
@@ -16,6 +16,7 @@
 package io.fliqa.client.interledger.model;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.fliqa.client.interledger.serializer.JsonCodec;
 
 import java.net.URI;
 import java.time.Instant;
@@ -42,6 +43,7 @@ import java.time.Instant;
  * @see OutgoingPayment
  * @since 1.0
  */
+@JsonCodec
 public class Quote {
 
     /**
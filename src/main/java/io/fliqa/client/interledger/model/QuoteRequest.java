@@ -16,6 +16,7 @@
 package io.fliqa.client.interledger.model;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.fliqa.client.interledger.serializer.JsonCodec;
 import io.fliqa.client.interledger.utils.Assert;
 
 import java.net.URI;
@@ -43,6 +44,7 @@ import java.net.URI;
  * @see InterledgerAmount
  * @since 1.0
  */
+@JsonCodec
 public class QuoteRequest {
 
     /**
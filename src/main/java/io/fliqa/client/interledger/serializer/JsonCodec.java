@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.serializer;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates a streaming JSON codec for the annotated model class at compile time.
+ *
+ * <p>For every annotated class the {@code JsonCodecProcessor} (build source set {@code codegen}) emits a
+ * {@code <Class>Codec} with a {@link com.fasterxml.jackson.databind.JsonSerializer} writing the properties
+ * directly to the {@link com.fasterxml.jackson.core.JsonGenerator} and, when the class has a no-argument
+ * constructor, a {@link com.fasterxml.jackson.databind.JsonDeserializer} reading them from the
+ * {@link com.fasterxml.jackson.core.JsonParser}. All codecs of a package are registered by a generated
+ * {@code JsonCodecModule}, which {@link io.fliqa.client.interledger.InterledgerObjectMapper} picks up when
+ * present. This avoids bean introspection on first use and reflective field access on every call.
+ *
+ * <h3>Compatibility</h3>
+ * <p>The codecs mirror Jackson's handling of the class, so output stays byte-identical (and request
+ * signatures over {@code Content-Digest} unchanged):
+ * <ul>
+ *   <li>properties are {@code @JsonProperty} fields and public fields, written in declaration order</li>
+ *   <li>null values are omitted (the default inclusion of {@code InterledgerObjectMapper}), unless the
+ *   field is annotated with {@code @JsonInclude(ALWAYS)}</li>
+ *   <li>strings, numbers and booleans are written and read directly, all other values (URIs, instants,
+ *   enums, collections, nested models) by the serializer and deserializer Jackson resolves for their type</li>
+ *   <li>{@code @JsonSerialize(using = ...)} and {@code @JsonDeserialize(using = ...)} on fields are honored</li>
+ * </ul>
+ *
+ * <p>Anything the generator can not mirror (private or final properties, getters, setters, super classes,
+ * other Jackson annotations) fails the build instead of silently changing the JSON.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @since 1.0
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface JsonCodec {
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.signature;
+
+import io.fliqa.client.interledger.utils.Assert;
+
+import java.security.*;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Long-lived, thread-safe signer holding the client key and reusable cryptographic primitives.
+ *
+ * <p>Looking up a {@link Signature} or {@link MessageDigest} provider and initializing the signature
+ * with the private key is considerably more expensive than signing a short signature base. A single
+ * signer is therefore created per client and shared by all {@link SignatureRequestBuilder}s:
+ * <ul>
+ *   <li>Ed25519 {@link Signature} instances are initialized once and reused from a pool</li>
+ *   <li>SHA-512 {@link MessageDigest} instances are reused from a pool</li>
+ *   <li>The constant {@code ;keyid="..."} signature parameter is built once</li>
+ * </ul>
+ *
+ * <p>Pools are used instead of thread locals so primitives are also reused when requests are
+ * signed on short-lived virtual threads. A pool never holds more than {@link #MAX_POOL_SIZE}
+ * idle instances, additional instances are created on demand and discarded after use.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see SignatureRequestBuilder
+ * @since 1.0
+ */
+public class RequestSigner {
+
+    /**
+     * Maximum number of idle instances kept per pool.
+     */
+    static final int MAX_POOL_SIZE = 64;
+
+    private final PrivateKey privateKey;
+    private final String keyId;
+    private final String keyIdParameter;
+
+    private final Pool<Signature> signatures = new Pool<>();
+    private final Pool<MessageDigest> digests = new Pool<>();
+
+    /**
+     * Creates a new signer.
+     *
+     * @param privateKey Ed25519 private key for signing requests (must not be null)
+     * @param keyId      identifier for the private key (must not be null or blank)
+     * @throws IllegalArgumentException if privateKey is null, keyId is null/blank or the key can not be used for Ed25519 signatures
+     */
+    public RequestSigner(PrivateKey privateKey, String keyId) {
+
+        Assert.notNull(privateKey, "PrivateKey cannot be null");
+        Assert.notNullOrEmpty(keyId, "KeyId cannot be null or empty");
+
+        this.privateKey = privateKey;
+        this.keyId = keyId;
+        this.keyIdParameter = String.format(";keyid=\"%s\"", keyId);
+
+        // fail fast on an unusable key and warm up the pools
+        signatures.release(newSignature());
+        digests.release(newDigest());
+    }
+
+    /**
+     * Gets the identifier of the signing key.
+     *
+     * @return key identifier
+     */
+    public String getKeyId() {
+        return keyId;
+    }
+
+    /**
+     * Gets the key identifier signature parameter.
+     *
+     * @return the {@code ;keyid="<keyId>"} part of the signature parameters
+     */
+    public String getKeyIdParameter() {
+        return keyIdParameter;
+    }
+
+    /**
+     * Signs the given data with the Ed25519 private key.
+     *
+     * @param data data to sign (signature base)
+     * @return signature bytes
+     * @throws IllegalStateException if the signature can not be generated
+     */
+    public byte[] sign(byte[] data) {
+        Signature signature = signatures.acquire();
+        if (signature == null) {
+            signature = newSignature();
+        }
+
+        try {
+            signature.update(data);
+            byte[] out = signature.sign(); // resets the signature to the initialized state
+            signatures.release(signature);
+            return out;
+        } catch (SignatureException ex) {
+            // don't return an instance in an unknown state to the pool
+            throw new IllegalStateException("Failed to generate signature!", ex);
+        }
+    }
+
+    /**
+     * Signs the given data and returns the Base64 encoded signature.
+     *
+     * @param data data to sign (signature base)
+     * @return Base64 encoded signature
+     */
+    public String signBase64(byte[] data) {
+        return Base64.getEncoder().encodeToString(sign(data));
+    }
+
+    /**
+     * Calculates the SHA-512 digest of the given content.
+     *
+     * @param content content to digest
+     * @return digest bytes
+     */
+    public byte[] digest(byte[] content) {
+        MessageDigest digest = digests.acquire();
+        if (digest == null) {
+            digest = newDigest();
+        }
+
+        byte[] out = digest.digest(content); // resets the digest
+        digests.release(digest);
+        return out;
+    }
+
+    /**
+     * Calculates the SHA-512 digest of the given content and returns it Base64 encoded.
+     *
+     * @param content content to digest
+     * @return Base64 encoded digest
+     */
+    public String digestBase64(byte[] content) {
+        return Base64.getEncoder().encodeToString(digest(content));
+    }
+
+    private Signature newSignature() {
+        try {
+            Signature signature = Signature.getInstance(SignatureRequestBuilder.SIGNATURE_ALGORITHM);
+            signature.initSign(privateKey);
+            return signature;
+        } catch (NoSuchAlgorithmException | InvalidKeyException ex) {
+            throw new IllegalArgumentException(String.format("Private key can not be used for %s signatures!", SignatureRequestBuilder.SIGNATURE_ALGORITHM), ex);
+        }
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(SignatureRequestBuilder.DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(String.format("%s digest is not available!", SignatureRequestBuilder.DIGEST_ALGORITHM), ex);
+        }
+    }
+
+    /**
+     * Lock-free bounded pool of idle instances.
+     */
+    private static class Pool<T> {
+
+        private final ConcurrentLinkedQueue<T> idle = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+
+        /**
+         * @return idle instance or null if none is available
+         */
+        T acquire() {
+            T item = idle.poll();
+            if (item != null) {
+                size.decrementAndGet();
+            }
+            return item;
+        }
+
+        void release(T item) {
+            if (size.incrementAndGet() <= MAX_POOL_SIZE) {
+                idle.offer(item);
+            } else {
+                size.decrementAndGet();
+            }
+        }
+    }
+}
@@ -80,6 +80,7 @@ import static java.time.temporal.ChronoUnit.SECONDS;
  *
  * @author Fliqa
  * @version 1.0
+ * @see RequestSigner
  * @see java.security.PrivateKey
  * @see java.net.http.HttpRequest
  * @since 1.0
@@ -124,14 +125,9 @@ public class SignatureRequestBuilder {
     static final Set<String> ALLOWED_METHODS = Set.of("GET", "POST", "PUT", "DELETE", "HEAD");
 
     /**
-     * Ed25519 private key used for signing requests.
+     * Signer holding the Ed25519 private key and key identifier (shared between builders).
      */
-    final PrivateKey privateKey;
-
-    /**
-     * Identifier for the private key, included in signature headers.
-     */
-    final String keyId;
+    final RequestSigner signer;
 
     /**
      * Unix timestamp when the signature was created / epoch in seconds (for replay protection).
@@ -150,28 +146,48 @@ public class SignatureRequestBuilder {
     private final InterledgerObjectMapper mapper;
 
     /**
-     * Request body content (typically JSON).
+     * Request body content (typically JSON), UTF-8 encoded exactly once.
+     * The same array is used for Content-Length, Content-Digest and the request body publisher.
      */
-    private String body;
+    private byte[] body;
+
+    /**
+     * Request body as String, decoded lazily (only needed for logging).
+     */
+    private String bodyString;
+
+    /**
+     * Creates a new signature request builder using a shared signer.
+     *
+     * <p>This is the preferred constructor when many requests are signed with the same key,
+     * as the signer reuses initialized signature and digest instances.
+     *
+     * @param signer signer holding the private key and key identifier (must not be null)
+     * @param mapper JSON mapper for serializing objects, uses the shared {@link InterledgerObjectMapper#DEFAULT} if null
+     * @throws IllegalArgumentException if signer is null
+     */
+    public SignatureRequestBuilder(RequestSigner signer,
+                                   InterledgerObjectMapper mapper) {
+
+        Assert.notNull(signer, "RequestSigner cannot be null");
+
+        this.signer = signer;
+        this.mapper = mapper == null ? InterledgerObjectMapper.DEFAULT : mapper;
+    }
 
     /**
      * Creates a new signature request builder with custom JSON mapper.
      *
      * @param privateKey Ed25519 private key for signing requests (must not be null)
      * @param keyId      identifier for the private key (must not be null or blank)
-     * @param mapper     JSON mapper for serializing objects, uses default if null
+     * @param mapper     JSON mapper for serializing objects, uses the shared {@link InterledgerObjectMapper#DEFAULT} if null
      * @throws AssertionError if privateKey is null or keyId is null/blank
      */
     public SignatureRequestBuilder(PrivateKey privateKey,
                                    String keyId,
                                    InterledgerObjectMapper mapper) {
 
-        Assert.notNull(privateKey, "PrivateKey cannot be null");
-        Assert.notNullOrEmpty(keyId, "KeyId cannot be null or empty");
-
-        this.privateKey = privateKey;
-        this.keyId = keyId;
-        this.mapper = mapper == null ? new InterledgerObjectMapper() : mapper;
+        this(new RequestSigner(privateKey, keyId), mapper);
     }
 
     /**
@@ -309,8 +325,8 @@ public class SignatureRequestBuilder {
     /**
      * Sets the request body by serializing an object to JSON.
      *
-     * <p>This method automatically serializes the provided object to JSON using
-     * the configured ObjectMapper and then calls {@link #json(String)} to set
+     * <p>This method automatically serializes the provided object to UTF-8 encoded JSON using
+     * the configured ObjectMapper and then calls {@link #json(byte[])} to set
      * all required headers.
      *
      * @param object object to serialize as JSON request body
@@ -320,7 +336,7 @@ public class SignatureRequestBuilder {
     public SignatureRequestBuilder json(Object object) {
 
         try {
-            String value = mapper.writeValueAsString(object);
+            byte[] value = mapper.writeValueAsBytes(object);
             return json(value);
         } catch (InterledgerClientException e) {
             throw new IllegalArgumentException(e.getMessage(), e);
@@ -345,7 +361,28 @@ public class SignatureRequestBuilder {
 
         Assert.notNullOrEmpty(json, "JSON cannot be null or empty!");
 
+        json(json.getBytes(StandardCharsets.UTF_8));
+        bodyString = json;
+        return this;
+    }
+
+    /**
+     * Sets the UTF-8 encoded JSON request body and calculates required headers.
+     *
+     * <p>The array is used as is for Content-Length, the Content-Digest and the request body,
+     * it must not be modified afterward.
+     *
+     * @param json UTF-8 encoded JSON to set as the request body
+     * @return this builder for method chaining
+     * @throws IllegalArgumentException if JSON is null or empty
+     * @see #json(String)
+     */
+    public SignatureRequestBuilder json(byte[] json) {
+
+        Assert.isTrue(json != null && json.length > 0, "JSON cannot be null or empty!");
+
         body = json;
+        bodyString = null;
         digest(json);
         length(json);
         parameters.put(CONTENT_TYPE_HEADER, APPLICATION_JSON);
@@ -374,18 +411,17 @@ public class SignatureRequestBuilder {
         return String.format("GNAP %s", token);
     }
 
-    private void length(String content) {
-        int contentLength = content.getBytes(StandardCharsets.UTF_8).length;
-        parameters.put(CONTENT_LENGTH_HEADER, contentLength);
+    private void length(byte[] content) {
+        parameters.put(CONTENT_LENGTH_HEADER, content.length);
     }
 
-    private void digest(String value) {
+    private void digest(byte[] value) {
         try {
-            String digest = digestContentSha512(value);
+            String digest = signer.digestBase64(value);
             String digestHeader = String.format("%s=:%s:", DIGEST_ALGORITHM.toLowerCase(), digest);
             parameters.put(CONTENT_DIGEST_HEADER, digestHeader);
         } catch (Exception e) {
-            throw new IllegalArgumentException(String.format("Failed to calculate %s digest for: '%s'.", DIGEST_ALGORITHM, value), e);
+            throw new IllegalArgumentException(String.format("Failed to calculate %s digest for: '%s'.", DIGEST_ALGORITHM, getBody()), e);
         }
     }
 
@@ -393,11 +429,14 @@ public class SignatureRequestBuilder {
 
         Assert.isTrue(created > 0, "Created timestamp must be set before calculating signature params!");
 
+        // rebuilding (i.e. re-signing with a new timestamp) must not include previous signature params
+        parameters.remove(SIGNATURE_PARAMS);
+
         String signatureParams = parameters.keySet().stream()
                 .map(item -> "\"" + item.toLowerCase() + "\"")  // Quote each item, need to be lower case
                 .collect(Collectors.joining(" "));
 
-        String params = String.format("(%s);keyid=\"%s\";created=%d", signatureParams, keyId, created);
+        String params = String.format("(%s)%s;created=%d", signatureParams, signer.getKeyIdParameter(), created);
         parameters.put(SIGNATURE_PARAMS, params);
     }
 
@@ -532,10 +571,23 @@ public class SignatureRequestBuilder {
     protected static String digestContentSha512(String content) throws NoSuchAlgorithmException {
 
         Assert.notNullOrEmpty(content, "Content must not be null or empty!");
+        return digestContentSha512(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Calculates SHA-512 content digest of the UTF-8 encoded request body.
+     *
+     * @param content UTF-8 encoded request body content to create digest for
+     * @return Base64-encoded SHA-512 digest of the content
+     * @throws IllegalArgumentException if content is null or empty
+     * @throws NoSuchAlgorithmException if SHA-512 algorithm is not available
+     */
+    protected static String digestContentSha512(byte[] content) throws NoSuchAlgorithmException {
+
+        Assert.isTrue(content != null && content.length > 0, "Content must not be null or empty!");
 
         MessageDigest digest = MessageDigest.getInstance(DIGEST_ALGORITHM.toUpperCase());
-        byte[] bodyBytes = content.getBytes(StandardCharsets.UTF_8);
-        byte[] hashedBytes = digest.digest(bodyBytes);
+        byte[] hashedBytes = digest.digest(content);
         return Base64.getEncoder().encodeToString(hashedBytes);
     }
 
@@ -546,15 +598,7 @@ public class SignatureRequestBuilder {
      * @return signature of request to be added as request header
      */
     protected String getSignature() {
-        try {
-            Signature signature = Signature.getInstance(SIGNATURE_ALGORITHM);
-            signature.initSign(privateKey);
-            signature.update(getSignatureBase().getBytes(StandardCharsets.UTF_8));
-            byte[] signatureBytes = signature.sign();
-            return Base64.getEncoder().encodeToString(signatureBytes);
-        } catch (NoSuchAlgorithmException | InvalidKeyException | SignatureException ex) {
-            throw new IllegalStateException("Failed to generate signature!", ex);
-        }
+        return signer.signBase64(getSignatureBase().getBytes(StandardCharsets.UTF_8));
     }
 
     String getSignatureHeader() {
@@ -603,9 +647,24 @@ public class SignatureRequestBuilder {
     /**
      * Retrieves the JSON body of the HTTP request.
      *
+     * <p>The String is decoded from the request body bytes on first access (typically only for logging).
+     *
      * @return the request body as a string, or null if no body is set
      */
     public String getBody() {
+        if (bodyString == null && body != null) {
+            bodyString = new String(body, StandardCharsets.UTF_8);
+        }
+
+        return bodyString;
+    }
+
+    /**
+     * Gets the UTF-8 encoded request body, the same array is used for the Content-Digest and the request body.
+     *
+     * @return request body bytes (must not be modified), or null if no body is set
+     */
+    public byte[] getBodyBytes() {
         return body;
     }
 
@@ -616,11 +675,18 @@ public class SignatureRequestBuilder {
      * information to create a complete HTTP request ready for execution. If the
      * signature has not been built yet, it will be built automatically.
      *
+     * <p>The returned request keeps the body bytes and signed headers, so they can be logged
+     * without reading the body publisher.
+     *
      * @param options client configuration including request timeouts
      * @return signed HTTP request ready for execution
      */
-    public HttpRequest getRequest(InterledgerClientOptions options) {
-        return getBuilder(options).build();
+    public SignedHttpRequest getRequest(InterledgerClientOptions options) {
+        prepare();
+
+        LinkedHashMap<String, String> headers = getHeaders();
+        HttpRequest request = getBuilder(options, headers).build();
+        return new SignedHttpRequest(request, body, Collections.unmodifiableMap(headers));
     }
 
     /**
@@ -632,22 +698,31 @@ public class SignatureRequestBuilder {
      * headers, body, and timeout.
      */
     public HttpRequest.Builder getBuilder(InterledgerClientOptions options) {
-        // build if not already
+        prepare();
+        return getBuilder(options, getHeaders());
+    }
+
+    /**
+     * Builds the signature parameters if not already built.
+     */
+    private void prepare() {
         if (parameters.get(SIGNATURE_PARAMS) == null) {
             build();
         }
 
         checkIsBuild();
+    }
 
+    private HttpRequest.Builder getBuilder(InterledgerClientOptions options, Map<String, String> headers) {
         HttpRequest.Builder builder = HttpRequest.newBuilder(getTarget());
-        for (Map.Entry<String, String> entry : getHeaders().entrySet()) {
+        for (Map.Entry<String, String> entry : headers.entrySet()) {
             builder.header(entry.getKey(), entry.getValue());
         }
 
-        if (body == null || body.isBlank()) {
+        if (body == null) {
             builder.method(getMethod(), HttpRequest.BodyPublishers.noBody());
         } else {
-            builder.method(getMethod(), HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8));
+            builder.method(getMethod(), HttpRequest.BodyPublishers.ofByteArray(body));
         }
 
         builder.timeout(Duration.of(options.timeOutInSeconds, SECONDS));
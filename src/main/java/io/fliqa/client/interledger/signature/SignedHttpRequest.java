@@ -0,0 +1,123 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.signature;
+
+import io.fliqa.client.interledger.utils.Assert;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Signed HTTP request as created by {@link SignatureRequestBuilder#getRequest}, keeping the serialized body
+ * and the signed headers next to the request.
+ *
+ * <p>The body publisher of an {@link HttpRequest} can only be read by subscribing to it, which publishes the
+ * body a second time. Loggers use {@link #getBodyBytes()} and {@link #getSignedHeaders()} instead, the very
+ * same array is sent, so what is logged is exactly what was signed. The request itself is a plain delegate
+ * and can be sent by any {@link HttpClient}.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see SignatureRequestBuilder
+ * @see io.fliqa.client.interledger.logging.HttpLogger
+ * @since 1.0
+ */
+public class SignedHttpRequest extends HttpRequest {
+
+    private final HttpRequest request;
+    private final byte[] body;
+    private final Map<String, String> signedHeaders;
+
+    /**
+     * Creates a new signed request.
+     *
+     * @param request       built request
+     * @param body          serialized request body (sent as is), or null if the request has no body
+     * @param signedHeaders headers in the order they were added
+     * @throws IllegalArgumentException if request or signedHeaders is null
+     */
+    SignedHttpRequest(HttpRequest request, byte[] body, Map<String, String> signedHeaders) {
+        Assert.notNull(request, "HttpRequest cannot be null");
+        Assert.notNull(signedHeaders, "Headers cannot be null");
+
+        this.request = request;
+        this.body = body;
+        this.signedHeaders = signedHeaders;
+    }
+
+    /**
+     * Gets the serialized request body, the same array is sent (must not be modified).
+     *
+     * @return request body, or null if the request has no body
+     */
+    public byte[] getBodyBytes() {
+        return body;
+    }
+
+    /**
+     * Gets the headers of the request as added by the builder (not modified by the HTTP client).
+     *
+     * @return unmodifiable, ordered map of header names and values
+     */
+    public Map<String, String> getSignedHeaders() {
+        return signedHeaders;
+    }
+
+    @Override
+    public Optional<BodyPublisher> bodyPublisher() {
+        return request.bodyPublisher();
+    }
+
+    @Override
+    public String method() {
+        return request.method();
+    }
+
+    @Override
+    public Optional<Duration> timeout() {
+        return request.timeout();
+    }
+
+    @Override
+    public boolean expectContinue() {
+        return request.expectContinue();
+    }
+
+    @Override
+    public URI uri() {
+        return request.uri();
+    }
+
+    @Override
+    public Optional<HttpClient.Version> version() {
+        return request.version();
+    }
+
+    @Override
+    public HttpHeaders headers() {
+        return request.headers();
+    }
+
+    @Override
+    public String toString() {
+        return request.toString();
+    }
+}
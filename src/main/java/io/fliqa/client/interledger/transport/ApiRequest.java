@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.transport;
+
+import io.fliqa.client.interledger.ApiOperation;
+import io.fliqa.client.interledger.utils.Assert;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * HTTP request handed to the transport together with the {@link ApiOperation} it is sent for.
+ *
+ * <p>Transports only see the request, so the client wraps it to let decorators apply policies per
+ * API call (i.e. {@link RateLimitTransport}) instead of guessing the call from method and path.
+ * The request itself is a plain delegate and can be sent by any {@link HttpClient}.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see RateLimitTransport
+ * @since 1.0
+ */
+public class ApiRequest extends HttpRequest {
+
+    private final ApiOperation operation;
+    private final HttpRequest request;
+
+    /**
+     * Creates a new request of an API call.
+     *
+     * @param operation API call the request is sent for
+     * @param request   request to be sent
+     * @throws IllegalArgumentException if operation or request is null
+     */
+    public ApiRequest(ApiOperation operation, HttpRequest request) {
+        Assert.notNull(operation, "ApiOperation cannot be null");
+        Assert.notNull(request, "HttpRequest cannot be null");
+        this.operation = operation;
+        this.request = request instanceof ApiRequest api ? api.request : request;
+    }
+
+    /**
+     * Gets the API call a request is sent for.
+     *
+     * @param request request as handed to the transport
+     * @return API call, or {@link ApiOperation#OTHER} if the request was not sent by the client
+     */
+    public static ApiOperation getOperation(HttpRequest request) {
+        return request instanceof ApiRequest api ? api.operation : ApiOperation.OTHER;
+    }
+
+    /**
+     * @return API call the request is sent for
+     */
+    public ApiOperation getOperation() {
+        return operation;
+    }
+
+    /**
+     * @return wrapped request, i.e. a {@link io.fliqa.client.interledger.signature.SignedHttpRequest}
+     */
+    public HttpRequest getRequest() {
+        return request;
+    }
+
+    @Override
+    public Optional<BodyPublisher> bodyPublisher() {
+        return request.bodyPublisher();
+    }
+
+    @Override
+    public String method() {
+        return request.method();
+    }
+
+    @Override
+    public Optional<Duration> timeout() {
+        return request.timeout();
+    }
+
+    @Override
+    public boolean expectContinue() {
+        return request.expectContinue();
+    }
+
+    @Override
+    public URI uri() {
+        return request.uri();
+    }
+
+    @Override
+    public Optional<HttpClient.Version> version() {
+        return request.version();
+    }
+
+    @Override
+    public HttpHeaders headers() {
+        return request.headers();
+    }
+
+    @Override
+    public String toString() {
+        return request.toString();
+    }
+}
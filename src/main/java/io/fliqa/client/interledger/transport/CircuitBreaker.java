@@ -0,0 +1,246 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.transport;
+
+import io.fliqa.client.interledger.CircuitBreakerPolicy;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker of a single host, tracking the outcome of the most recent calls in a count based sliding window.
+ *
+ * <p>The state is read without locking, so rejecting calls while the breaker is open costs a volatile read.
+ * Recording outcomes and state transitions are synchronized on the breaker.
+ *
+ * <h3>Thread Safety</h3>
+ * <p>This class is thread-safe.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see CircuitBreakerPolicy
+ * @see CircuitBreakerTransport
+ * @since 1.0
+ */
+public class CircuitBreaker {
+
+    /**
+     * State of a circuit breaker.
+     */
+    public enum State {
+        /**
+         * Calls pass, outcomes are recorded
+         */
+        CLOSED,
+        /**
+         * Calls are rejected
+         */
+        OPEN,
+        /**
+         * A limited number of trial calls pass
+         */
+        HALF_OPEN
+    }
+
+    private static final byte FAILED = 1;
+    private static final byte SLOW = 2;
+
+    private final String host;
+    private final CircuitBreakerPolicy policy;
+    private final LongSupplier nanoTime;
+    private final long slowCallNanos;
+
+    // sliding window of outcomes (FAILED | SLOW bits), guarded by this
+    private final byte[] window;
+    private int next;
+    private int calls;
+    private int failures;
+    private int slowCalls;
+
+    // half-open trial calls, guarded by this
+    private int trialPermits;
+
+    private volatile State state = State.CLOSED;
+    private volatile long openUntil;
+
+    private final LongAdder rejectedCalls = new LongAdder();
+
+    /**
+     * Creates a new circuit breaker.
+     *
+     * @param host   host the breaker guards
+     * @param policy circuit breaker configuration
+     */
+    public CircuitBreaker(String host, CircuitBreakerPolicy policy) {
+        this(host, policy, System::nanoTime);
+    }
+
+    CircuitBreaker(String host, CircuitBreakerPolicy policy, LongSupplier nanoTime) {
+        this.host = host;
+        this.policy = policy;
+        this.nanoTime = nanoTime;
+        this.slowCallNanos = policy.slowCallDuration.toNanos();
+        this.window = new byte[policy.slidingWindowSize];
+    }
+
+    /**
+     * @return host the breaker guards
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * @return current state
+     */
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * @return number of calls rejected while the breaker was open
+     */
+    public long getRejectedCalls() {
+        return rejectedCalls.sum();
+    }
+
+    /**
+     * @return failure rate (0 - 1) of the calls in the sliding window
+     */
+    public synchronized double getFailureRate() {
+        return calls == 0 ? 0.0 : (double) failures / calls;
+    }
+
+    /**
+     * @return slow call rate (0 - 1) of the calls in the sliding window
+     */
+    public synchronized double getSlowCallRate() {
+        return calls == 0 ? 0.0 : (double) slowCalls / calls;
+    }
+
+    /**
+     * Checks if a call may proceed, it must be followed by {@link #onResult(boolean, long)}
+     * or {@link #releasePermission()} if permitted.
+     *
+     * @throws CircuitBreakerOpenException if the breaker is open (or all trial calls are taken)
+     */
+    public void acquirePermission() throws CircuitBreakerOpenException {
+        State current = state;
+        if (current == State.CLOSED) {
+            return;
+        }
+
+        if (current == State.OPEN) {
+            long remaining = openUntil - nanoTime.getAsLong();
+            if (remaining > 0) {
+                reject(remaining);
+            }
+        }
+
+        synchronized (this) {
+            if (state == State.OPEN) {
+                long remaining = openUntil - nanoTime.getAsLong();
+                if (remaining > 0) {
+                    reject(remaining);
+                }
+                transition(State.HALF_OPEN);
+            }
+
+            if (state == State.HALF_OPEN) {
+                if (trialPermits <= 0) {
+                    reject(0);
+                }
+                trialPermits--;
+            }
+        }
+    }
+
+    /**
+     * Records the outcome of a permitted call.
+     *
+     * @param failed        true if the call failed (network failure or server error)
+     * @param durationNanos duration of the call
+     */
+    public synchronized void onResult(boolean failed, long durationNanos) {
+        if (state == State.OPEN) {
+            return; // late result of a call started before the breaker opened
+        }
+
+        byte outcome = (byte) ((failed ? FAILED : 0) | (durationNanos > slowCallNanos ? SLOW : 0));
+        if (calls == window.length) {
+            byte evicted = window[next];
+            failures -= evicted & FAILED;
+            slowCalls -= (evicted & SLOW) >> 1;
+        } else {
+            calls++;
+        }
+
+        window[next] = outcome;
+        next = (next + 1) % window.length;
+        failures += outcome & FAILED;
+        slowCalls += (outcome & SLOW) >> 1;
+
+        if (state == State.HALF_OPEN) {
+            if (exceedsThreshold()) {
+                transition(State.OPEN);
+            } else if (calls >= policy.halfOpenCalls) {
+                transition(State.CLOSED);
+            }
+        } else if (calls >= policy.minimumCalls && exceedsThreshold()) {
+            transition(State.OPEN);
+        }
+    }
+
+    /**
+     * Releases a permitted call without recording an outcome (i.e. the call was interrupted or cancelled).
+     */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN && trialPermits < policy.halfOpenCalls) {
+            trialPermits++;
+        }
+    }
+
+    private boolean exceedsThreshold() {
+        return failures >= policy.failureRateThreshold * calls ||
+                slowCalls >= policy.slowCallRateThreshold * calls;
+    }
+
+    private void transition(State newState) {
+        next = 0;
+        calls = 0;
+        failures = 0;
+        slowCalls = 0;
+
+        if (newState == State.OPEN) {
+            openUntil = nanoTime.getAsLong() + policy.openDuration.toNanos();
+        } else if (newState == State.HALF_OPEN) {
+            trialPermits = policy.halfOpenCalls;
+        }
+
+        state = newState;
+    }
+
+    private void reject(long remainingNanos) throws CircuitBreakerOpenException {
+        rejectedCalls.increment();
+        throw new CircuitBreakerOpenException(host, Duration.ofNanos(Math.max(0, remainingNanos)));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CircuitBreaker{host=%s, state=%s}", host, state);
+    }
+}
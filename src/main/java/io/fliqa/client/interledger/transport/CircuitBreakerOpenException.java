@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.transport;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Thrown by the {@link CircuitBreakerTransport} when a request is rejected without being sent,
+ * because the circuit breaker of the target host is open.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see CircuitBreakerTransport
+ * @since 1.0
+ */
+public class CircuitBreakerOpenException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String host;
+    private final Duration retryIn;
+
+    /**
+     * Creates a new exception.
+     *
+     * @param host    host the breaker guards
+     * @param retryIn time until trial calls are let through again
+     */
+    public CircuitBreakerOpenException(String host, Duration retryIn) {
+        super(String.format("Circuit breaker for: %s is open, calls are rejected for: %d ms", host, retryIn.toMillis()));
+        this.host = host;
+        this.retryIn = retryIn;
+    }
+
+    /**
+     * @return host the breaker guards
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * @return time until trial calls are let through again
+     */
+    public Duration getRetryIn() {
+        return retryIn;
+    }
+}
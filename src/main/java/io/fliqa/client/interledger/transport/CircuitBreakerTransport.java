@@ -0,0 +1,161 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.transport;
+
+import io.fliqa.client.interledger.CircuitBreakerPolicy;
+import io.fliqa.client.interledger.utils.Assert;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Transport decorator guarding every host (auth or resource server) with its own {@link CircuitBreaker}.
+ *
+ * <p>While the breaker of a host is open, requests to it fail immediately with a {@link CircuitBreakerOpenException}
+ * instead of waiting for the request timeout, so a degraded Account Servicing Entity can't tie up threads
+ * (and latency) of calls to all other hosts. Network failures and 5xx responses are recorded as failures.
+ *
+ * <h3>Thread Safety</h3>
+ * <p>This class is thread-safe.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see CircuitBreakerPolicy
+ * @see io.fliqa.client.interledger.InterledgerClientOptions#circuitBreaker
+ * @since 1.0
+ */
+public class CircuitBreakerTransport implements InterledgerTransport {
+
+    private final InterledgerTransport delegate;
+    private final CircuitBreakerPolicy policy;
+
+    private final ConcurrentHashMap<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new circuit breaker transport.
+     *
+     * @param delegate transport exchanging requests
+     * @param policy   circuit breaker configuration ({@link CircuitBreakerPolicy#DISABLED} passes all requests through)
+     * @throws IllegalArgumentException if delegate or policy is null
+     */
+    public CircuitBreakerTransport(InterledgerTransport delegate, CircuitBreakerPolicy policy) {
+        Assert.notNull(delegate, "InterledgerTransport cannot be null");
+        Assert.notNull(policy, "CircuitBreakerPolicy cannot be null");
+        this.delegate = delegate;
+        this.policy = policy;
+    }
+
+    /**
+     * @return true if requests are guarded by circuit breakers
+     */
+    public boolean isEnabled() {
+        return policy.enabled;
+    }
+
+    /**
+     * Gets the circuit breaker of a host.
+     *
+     * @param host host as {@code scheme://host[:port]}
+     * @return breaker or null if no request was sent to the host yet
+     */
+    public CircuitBreaker getCircuitBreaker(String host) {
+        return breakers.get(host);
+    }
+
+    /**
+     * Gets the state of all circuit breakers, i.e. to be exposed as metrics.
+     *
+     * @return state by host, sorted by host
+     */
+    public Map<String, CircuitBreaker.State> getStates() {
+        Map<String, CircuitBreaker.State> states = new TreeMap<>();
+        breakers.forEach((host, breaker) -> states.put(host, breaker.getState()));
+        return states;
+    }
+
+    @Override
+    public InterledgerResponse exchange(HttpRequest request) throws IOException, InterruptedException {
+        if (!policy.enabled) {
+            return delegate.exchange(request);
+        }
+
+        CircuitBreaker breaker = getBreaker(request.uri());
+        breaker.acquirePermission();
+
+        long start = System.nanoTime();
+        try {
+            InterledgerResponse response = delegate.exchange(request);
+            breaker.onResult(isFailure(response), System.nanoTime() - start);
+            return response;
+        } catch (IOException | RuntimeException e) {
+            breaker.onResult(true, System.nanoTime() - start);
+            throw e;
+        } catch (InterruptedException e) {
+            breaker.releasePermission();
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<InterledgerResponse> exchangeAsync(HttpRequest request) {
+        if (!policy.enabled) {
+            return delegate.exchangeAsync(request);
+        }
+
+        CircuitBreaker breaker = getBreaker(request.uri());
+        try {
+            breaker.acquirePermission();
+        } catch (CircuitBreakerOpenException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        long start = System.nanoTime();
+        CompletableFuture<InterledgerResponse> exchange;
+        try {
+            exchange = delegate.exchangeAsync(request);
+        } catch (RuntimeException e) {
+            exchange = CompletableFuture.failedFuture(e);
+        }
+
+        return InterledgerTransport.cancelling(exchange.whenComplete((response, throwable) -> {
+            if (throwable instanceof CancellationException) {
+                breaker.releasePermission();
+            } else {
+                breaker.onResult(throwable != null || isFailure(response), System.nanoTime() - start);
+            }
+        }), exchange);
+    }
+
+    private CircuitBreaker getBreaker(URI uri) {
+        String host = InterledgerTransport.getHost(uri);
+        CircuitBreaker breaker = breakers.get(host);
+        if (breaker != null) {
+            return breaker;
+        }
+
+        return breakers.computeIfAbsent(host, key -> new CircuitBreaker(key, policy));
+    }
+
+    private static boolean isFailure(InterledgerResponse response) {
+        return response.statusCode >= 500;
+    }
+}
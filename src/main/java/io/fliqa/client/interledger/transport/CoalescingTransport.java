@@ -0,0 +1,270 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.transport;
+
+import io.fliqa.client.interledger.utils.Assert;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Transport decorator sharing one in-flight exchange between concurrent identical reads (single flight).
+ *
+ * <p>GET and HEAD requests with the same target URI and Authorization header, issued while an identical request
+ * is still in flight, don't reach the delegate transport. They receive the response (or failure) of the request
+ * already in flight instead. Each caller decodes the shared response on its own, so callers never share model
+ * instances. Other methods are passed through as they are not idempotent. A shared exchange is cancelled
+ * only once all of its callers cancelled their futures.
+ *
+ * <p>In-flight requests are tracked in a {@link ConcurrentHashMap}, the hot path takes no locks.
+ *
+ * <h3>Thread Safety</h3>
+ * <p>This class is thread-safe.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see io.fliqa.client.interledger.InterledgerClientOptions#coalesceRequests
+ * @since 1.0
+ */
+public class CoalescingTransport implements InterledgerTransport {
+
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+
+    private final InterledgerTransport delegate;
+    private final boolean enabled;
+
+    private final ConcurrentHashMap<Key, Flight> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder savedCalls = new LongAdder();
+
+    /**
+     * Creates a new coalescing transport.
+     *
+     * @param delegate transport exchanging requests
+     * @param enabled  false to pass all requests through to the delegate
+     * @throws IllegalArgumentException if delegate is null
+     */
+    public CoalescingTransport(InterledgerTransport delegate, boolean enabled) {
+        Assert.notNull(delegate, "InterledgerTransport cannot be null");
+        this.delegate = delegate;
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return true if identical concurrent reads are coalesced
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Gets the number of calls answered with the response of an identical request already in flight.
+     *
+     * @return number of exchanges saved
+     */
+    public long getSavedCalls() {
+        return savedCalls.sum();
+    }
+
+    /**
+     * @return number of distinct requests currently in flight (coalesced requests only)
+     */
+    public int getInFlight() {
+        return inFlight.size();
+    }
+
+    @Override
+    public InterledgerResponse exchange(HttpRequest request) throws IOException, InterruptedException {
+        Key key = getKey(request);
+        if (key == null) {
+            return delegate.exchange(request);
+        }
+
+        Flight flight = new Flight();
+        Flight existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            if (!existing.join()) {
+                return delegate.exchange(request); // abandoned by all its callers, about to be cancelled
+            }
+            savedCalls.increment();
+            return await(existing.promise);
+        }
+
+        // leader, exchange on the calling thread and publish the outcome to the followers
+        try {
+            InterledgerResponse response = delegate.exchange(request);
+            inFlight.remove(key, flight);
+            flight.promise.complete(response);
+            return response;
+        } catch (Throwable e) {
+            inFlight.remove(key, flight);
+            flight.promise.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<InterledgerResponse> exchangeAsync(HttpRequest request) {
+        Key key = getKey(request);
+        if (key == null) {
+            return delegate.exchangeAsync(request);
+        }
+
+        Flight flight = new Flight();
+        Flight existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            if (!existing.join()) {
+                return delegate.exchangeAsync(request); // abandoned by all its callers, about to be cancelled
+            }
+            savedCalls.increment();
+            return subscribe(key, existing);
+        }
+
+        CompletableFuture<InterledgerResponse> exchange;
+        try {
+            exchange = delegate.exchangeAsync(request);
+        } catch (RuntimeException e) {
+            exchange = CompletableFuture.failedFuture(e);
+        }
+
+        flight.exchange = exchange;
+        exchange.whenComplete((response, throwable) -> {
+            inFlight.remove(key, flight);
+            if (throwable != null) {
+                flight.promise.completeExceptionally(throwable);
+            } else {
+                flight.promise.complete(response);
+            }
+        });
+
+        return subscribe(key, flight);
+    }
+
+    /**
+     * Gives the caller its own copy of the shared outcome, a caller cancelling its copy must not affect the others.
+     * The shared exchange is cancelled once the last of its callers cancelled.
+     */
+    private CompletableFuture<InterledgerResponse> subscribe(Key key, Flight flight) {
+        CompletableFuture<InterledgerResponse> copy = flight.promise.copy();
+        copy.whenComplete((response, throwable) -> {
+            if (copy.isCancelled() && flight.callers.decrementAndGet() == 0) {
+                inFlight.remove(key, flight);
+                CompletableFuture<InterledgerResponse> exchange = flight.exchange;
+                if (exchange != null) {
+                    exchange.cancel(true);
+                }
+            }
+        });
+        return copy;
+    }
+
+    private Key getKey(HttpRequest request) {
+        if (!enabled) {
+            return null;
+        }
+
+        String method = request.method();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            return null;
+        }
+
+        return new Key(method, request.uri(), request.headers().firstValue(AUTHORIZATION_HEADER).orElse(null));
+    }
+
+    private static InterledgerResponse await(CompletableFuture<InterledgerResponse> future) throws IOException, InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CompletionException && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Exchange in flight shared by its callers.
+     */
+    private static class Flight {
+
+        private final CompletableFuture<InterledgerResponse> promise = new CompletableFuture<>();
+        private final AtomicInteger callers = new AtomicInteger(1);
+
+        /**
+         * Exchange of the asynchronous leader, null if the leader exchanges on its calling thread.
+         */
+        private volatile CompletableFuture<InterledgerResponse> exchange;
+
+        /**
+         * Adds a caller, unless all callers already cancelled.
+         */
+        boolean join() {
+            int current;
+            do {
+                current = callers.get();
+                if (current == 0) {
+                    return false;
+                }
+            } while (!callers.compareAndSet(current, current + 1));
+            return true;
+        }
+    }
+
+    private static class Key {
+
+        private final String method;
+        private final URI uri;
+        private final String authorization;
+        private final int hash;
+
+        private Key(String method, URI uri, String authorization) {
+            this.method = method;
+            this.uri = uri;
+            this.authorization = authorization;
+            this.hash = Objects.hash(method, uri, authorization);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key other)) return false;
+            return hash == other.hash && method.equals(other.method) && uri.equals(other.uri) && Objects.equals(authorization, other.authorization);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
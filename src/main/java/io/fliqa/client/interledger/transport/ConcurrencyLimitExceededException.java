@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.transport;
+
+import java.io.IOException;
+
+/**
+ * Thrown by the {@link ConcurrencyLimitTransport} when a request is rejected without being sent,
+ * because the concurrency limit of the target host was reached and the request could not be queued
+ * or waited too long.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see ConcurrencyLimitTransport
+ * @since 1.0
+ */
+public class ConcurrencyLimitExceededException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String host;
+    private final int limit;
+
+    /**
+     * Creates a new exception.
+     *
+     * @param host  host the limit applies to
+     * @param limit concurrency limit at the time of rejection
+     */
+    public ConcurrencyLimitExceededException(String host, int limit) {
+        super(String.format("Concurrency limit: %d for: %s exceeded", limit, host));
+        this.host = host;
+        this.limit = limit;
+    }
+
+    /**
+     * @return host the limit applies to
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * @return concurrency limit at the time of rejection
+     */
+    public int getLimit() {
+        return limit;
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.transport;
+
+import io.fliqa.client.interledger.ConcurrencyLimitPolicy;
+import io.fliqa.client.interledger.utils.Assert;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Transport decorator limiting the number of concurrent requests per host (bulkhead),
+ * with limits adapted to the latency each host shows.
+ *
+ * <p>Smaller wallet providers are not overwhelmed under load: once a host slows down its limit shrinks
+ * and excess requests wait (bounded) or are rejected with a {@link ConcurrencyLimitExceededException},
+ * instead of piling up until they time out.
+ *
+ * <h3>Thread Safety</h3>
+ * <p>This class is thread-safe.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see ConcurrencyLimitPolicy
+ * @see io.fliqa.client.interledger.InterledgerClientOptions#concurrencyLimit
+ * @since 1.0
+ */
+public class ConcurrencyLimitTransport implements InterledgerTransport {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final int SERVICE_UNAVAILABLE = 503;
+
+    private final InterledgerTransport delegate;
+    private final ConcurrencyLimitPolicy policy;
+
+    private final ConcurrentHashMap<String, ConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new concurrency limiting transport.
+     *
+     * @param delegate transport exchanging requests
+     * @param policy   concurrency limit configuration ({@link ConcurrencyLimitPolicy#DISABLED} passes all requests through)
+     * @throws IllegalArgumentException if delegate or policy is null
+     */
+    public ConcurrencyLimitTransport(InterledgerTransport delegate, ConcurrencyLimitPolicy policy) {
+        Assert.notNull(delegate, "InterledgerTransport cannot be null");
+        Assert.notNull(policy, "ConcurrencyLimitPolicy cannot be null");
+        this.delegate = delegate;
+        this.policy = policy;
+    }
+
+    /**
+     * @return true if concurrent requests per host are limited
+     */
+    public boolean isEnabled() {
+        return policy.enabled;
+    }
+
+    /**
+     * Gets the limiter of a host.
+     *
+     * @param host host as {@code scheme://host[:port]}
+     * @return limiter or null if no request was sent to the host yet
+     */
+    public ConcurrencyLimiter getLimiter(String host) {
+        return limiters.get(host);
+    }
+
+    /**
+     * Gets the current limit of all hosts, i.e. to be exposed as metrics.
+     *
+     * @return limit by host, sorted by host
+     */
+    public Map<String, Integer> getLimits() {
+        Map<String, Integer> result = new TreeMap<>();
+        limiters.forEach((host, limiter) -> result.put(host, limiter.getLimit()));
+        return result;
+    }
+
+    /**
+     * Gets the number of waiting requests of all hosts, i.e. to be exposed as metrics.
+     *
+     * @return queue depth by host, sorted by host
+     */
+    public Map<String, Integer> getQueueDepths() {
+        Map<String, Integer> result = new TreeMap<>();
+        limiters.forEach((host, limiter) -> result.put(host, limiter.getQueueDepth()));
+        return result;
+    }
+
+    @Override
+    public InterledgerResponse exchange(HttpRequest request) throws IOException, InterruptedException {
+        if (!policy.enabled) {
+            return delegate.exchange(request);
+        }
+
+        ConcurrencyLimiter limiter = getOrCreateLimiter(request);
+        limiter.acquire();
+
+        long start = System.nanoTime();
+        try {
+            InterledgerResponse response = delegate.exchange(request);
+            limiter.release(System.nanoTime() - start, isDropped(response));
+            return response;
+        } catch (CircuitBreakerOpenException e) {
+            limiter.release();
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            limiter.release(System.nanoTime() - start, true);
+            throw e;
+        } catch (InterruptedException e) {
+            limiter.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public CompletableFuture<InterledgerResponse> exchangeAsync(HttpRequest request) {
+        if (!policy.enabled) {
+            return delegate.exchangeAsync(request);
+        }
+
+        ConcurrencyLimiter limiter = getOrCreateLimiter(request);
+        CompletableFuture<Void> permit = limiter.acquireAsync();
+        CompletableFuture<InterledgerResponse> result = new CompletableFuture<>();
+        AtomicReference<CompletableFuture<InterledgerResponse>> started = new AtomicReference<>();
+
+        // cancelling the result gives up the queued permit or cancels the exchange already sent
+        result.whenComplete((response, throwable) -> {
+            if (result.isCancelled()) {
+                permit.cancel(false);
+                CompletableFuture<InterledgerResponse> exchange = started.get();
+                if (exchange != null) {
+                    exchange.cancel(true);
+                }
+            }
+        });
+
+        permit.whenComplete((granted, failure) -> {
+            if (failure != null) {
+                result.completeExceptionally(failure);
+                return;
+            }
+
+            if (result.isDone()) {
+                limiter.release(); // cancelled while waiting for the slot
+                return;
+            }
+
+            long start = System.nanoTime();
+            CompletableFuture<InterledgerResponse> exchange;
+            try {
+                exchange = delegate.exchangeAsync(request);
+            } catch (RuntimeException e) {
+                exchange = CompletableFuture.failedFuture(e);
+            }
+
+            exchange.whenComplete((response, throwable) -> {
+                Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+                if (cause instanceof CancellationException || cause instanceof CircuitBreakerOpenException) {
+                    limiter.release();
+                } else {
+                    limiter.release(System.nanoTime() - start, cause != null || isDropped(response));
+                }
+
+                if (throwable != null) {
+                    result.completeExceptionally(throwable);
+                } else {
+                    result.complete(response);
+                }
+            });
+
+            started.set(exchange);
+            if (result.isCancelled()) {
+                exchange.cancel(true); // cancelled while sending
+            }
+        });
+
+        return result;
+    }
+
+    private ConcurrencyLimiter getOrCreateLimiter(HttpRequest request) {
+        String host = InterledgerTransport.getHost(request.uri());
+        ConcurrencyLimiter limiter = limiters.get(host);
+        if (limiter != null) {
+            return limiter;
+        }
+
+        return limiters.computeIfAbsent(host, key -> new ConcurrencyLimiter(key, policy));
+    }
+
+    private static boolean isDropped(InterledgerResponse response) {
+        return response.statusCode == TOO_MANY_REQUESTS || response.statusCode == SERVICE_UNAVAILABLE;
+    }
+}
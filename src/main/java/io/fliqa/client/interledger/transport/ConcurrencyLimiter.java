@@ -0,0 +1,266 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.transport;
+
+import io.fliqa.client.interledger.ConcurrencyLimitPolicy;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Adaptive (AIMD) concurrency limit of a single host with a bounded queue of waiting requests.
+ *
+ * <p>Waiting requests are represented by futures, so blocking callers wait on the future while asynchronous
+ * callers continue once a slot is free without holding a thread. Waiters are served in arrival order and
+ * rejected with a {@link ConcurrencyLimitExceededException} after {@link ConcurrencyLimitPolicy#maxWait}.
+ * Waiters are completed outside the lock, so dependent stages never run while holding it. Waiters granted while
+ * another thread completes waiters are handed over to that thread, so a dependent stage releasing its slot right
+ * away (i.e. a call rejected by an open circuit breaker) doesn't nest completions as deep as the queue is long.
+ *
+ * <h3>Thread Safety</h3>
+ * <p>This class is thread-safe.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see ConcurrencyLimitPolicy
+ * @see ConcurrencyLimitTransport
+ * @since 1.0
+ */
+public class ConcurrencyLimiter {
+
+    private final String host;
+    private final ConcurrencyLimitPolicy policy;
+    private final long latencyThresholdNanos;
+
+    // guarded by this
+    private final ArrayDeque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+    private final ArrayDeque<CompletableFuture<Void>> granted = new ArrayDeque<>();
+    private boolean completing;
+    private double limit;
+    private int inFlight;
+
+    private volatile int currentLimit;
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Creates a new limiter starting at {@link ConcurrencyLimitPolicy#initialLimit}.
+     *
+     * @param host   host the limit applies to
+     * @param policy concurrency limit configuration
+     */
+    public ConcurrencyLimiter(String host, ConcurrencyLimitPolicy policy) {
+        this.host = host;
+        this.policy = policy;
+        this.latencyThresholdNanos = policy.latencyThreshold.toNanos();
+        this.limit = policy.initialLimit;
+        this.currentLimit = policy.initialLimit;
+    }
+
+    /**
+     * @return host the limit applies to
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * @return current concurrency limit
+     */
+    public int getLimit() {
+        return currentLimit;
+    }
+
+    /**
+     * @return number of requests currently in flight
+     */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * @return number of requests waiting for a free slot
+     */
+    public synchronized int getQueueDepth() {
+        return waiters.size();
+    }
+
+    /**
+     * @return number of requests rejected because the queue was full or the wait too long
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * Waits for a free slot, blocking the calling thread. A granted slot must be released with
+     * {@link #release(long, boolean)} or {@link #release()}.
+     *
+     * @throws ConcurrencyLimitExceededException if the queue is full or no slot became free in time
+     * @throws InterruptedException              if the calling thread was interrupted while waiting
+     */
+    public void acquire() throws ConcurrencyLimitExceededException, InterruptedException {
+        CompletableFuture<Void> permit = acquireAsync();
+        try {
+            permit.get();
+        } catch (InterruptedException e) {
+            if (!permit.cancel(false) && !permit.isCompletedExceptionally()) {
+                release(); // slot was granted concurrently
+            }
+            throw e;
+        } catch (ExecutionException e) {
+            throw (ConcurrencyLimitExceededException) e.getCause();
+        }
+    }
+
+    /**
+     * Requests a free slot without blocking. A granted slot must be released with
+     * {@link #release(long, boolean)} or {@link #release()}.
+     *
+     * @return future completed once the slot is granted,
+     * or exceptionally with a {@link ConcurrencyLimitExceededException} if the queue is full or no slot became free in time
+     */
+    public CompletableFuture<Void> acquireAsync() {
+        CompletableFuture<Void> waiter;
+        synchronized (this) {
+            if (inFlight < (int) limit && waiters.isEmpty()) {
+                inFlight++;
+                return CompletableFuture.completedFuture(null);
+            }
+
+            if (waiters.size() >= policy.maxQueue || policy.maxWait.isZero()) {
+                rejected.increment();
+                return CompletableFuture.failedFuture(new ConcurrencyLimitExceededException(host, currentLimit));
+            }
+
+            waiter = new CompletableFuture<>();
+            waiters.add(waiter);
+        }
+
+        // cancelled waiters leave the queue right away, they must not count towards the queue size until they time out
+        waiter.whenComplete((granted, failure) -> {
+            if (waiter.isCancelled()) {
+                synchronized (this) {
+                    waiters.remove(waiter);
+                }
+            }
+        });
+        CompletableFuture.delayedExecutor(policy.maxWait.toNanos(), TimeUnit.NANOSECONDS)
+                .execute(() -> timeout(waiter));
+        return waiter;
+    }
+
+    /**
+     * Releases a slot and adapts the limit to the observed latency.
+     *
+     * @param latencyNanos duration of the call
+     * @param dropped      true if the host signalled overload (network failure, 429 or 503)
+     */
+    public void release(long latencyNanos, boolean dropped) {
+        synchronized (this) {
+            if (dropped || latencyNanos > latencyThresholdNanos) {
+                limit = Math.max(policy.minLimit, limit * policy.backoffRatio);
+            } else if (inFlight * 2 >= limit) {
+                // grow only when the limit is actually used
+                limit = Math.min(policy.maxLimit, limit + 1.0 / limit);
+            }
+
+            currentLimit = (int) limit;
+            inFlight--;
+            grant();
+        }
+
+        complete();
+    }
+
+    /**
+     * Releases a slot without adapting the limit (i.e. the call was interrupted or rejected before it was sent).
+     */
+    public void release() {
+        synchronized (this) {
+            inFlight--;
+            grant();
+        }
+
+        complete();
+    }
+
+    /**
+     * Moves waiters from the queue to the granted ones while slots are free, must be called holding the lock.
+     */
+    private void grant() {
+        while (inFlight < (int) limit && !waiters.isEmpty()) {
+            CompletableFuture<Void> waiter = waiters.poll();
+            if (waiter.isDone()) {
+                continue; // cancelled
+            }
+
+            inFlight++;
+            granted.add(waiter);
+        }
+    }
+
+    /**
+     * Completes granted waiters in a loop, unless another thread (or an outer call on this thread) already does.
+     */
+    private void complete() {
+        synchronized (this) {
+            if (completing || granted.isEmpty()) {
+                return;
+            }
+            completing = true;
+        }
+
+        while (true) {
+            CompletableFuture<Void> waiter;
+            synchronized (this) {
+                waiter = granted.poll();
+                if (waiter == null) {
+                    completing = false;
+                    return;
+                }
+            }
+
+            if (!waiter.complete(null)) {
+                // cancelled after it was granted
+                synchronized (this) {
+                    inFlight--;
+                    grant();
+                }
+            }
+        }
+    }
+
+    private void timeout(CompletableFuture<Void> waiter) {
+        synchronized (this) {
+            if (!waiters.remove(waiter)) {
+                return; // granted in the meantime
+            }
+        }
+
+        if (!waiter.isDone()) {
+            rejected.increment();
+            waiter.completeExceptionally(new ConcurrencyLimitExceededException(host, currentLimit));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ConcurrencyLimiter{host=%s, limit=%d}", host, currentLimit);
+    }
+}
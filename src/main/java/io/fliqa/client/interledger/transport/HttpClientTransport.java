@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.transport;
+
+import io.fliqa.client.interledger.InterledgerClientOptions;
+import io.fliqa.client.interledger.utils.Assert;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+/**
+ * Default {@link InterledgerTransport} backed by the JDK {@link HttpClient}.
+ *
+ * <p>The HTTP client is created from {@link InterledgerClientOptions} (connect timeout, executor,
+ * virtual threads, HTTP version and priority) or can be supplied directly.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see InterledgerTransport
+ * @since 1.0
+ */
+public class HttpClientTransport implements InterledgerTransport {
+
+    private static final String HTTP_THREAD_NAME = "interledger-http-";
+
+    private final HttpClient client;
+
+    /**
+     * Creates a transport using the given HTTP client.
+     *
+     * @param client HTTP client used to send requests
+     * @throws IllegalArgumentException if client is null
+     */
+    public HttpClientTransport(HttpClient client) {
+        Assert.notNull(client, "HttpClient cannot be null");
+        this.client = client;
+    }
+
+    /**
+     * Creates a transport with an HTTP client configured from the given options.
+     *
+     * @param options client configuration
+     * @throws IllegalArgumentException if options is null
+     */
+    public HttpClientTransport(InterledgerClientOptions options) {
+        this(createHttpClient(options));
+    }
+
+    /**
+     * Creates an HTTP client from the given options.
+     *
+     * @param options client configuration
+     * @return configured HTTP client
+     */
+    public static HttpClient createHttpClient(InterledgerClientOptions options) {
+        Assert.notNull(options, "InterledgerClientOptions cannot be null");
+
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(options.connectTimeOutInSeconds));  // Connect timeout
+
+        if (options.executor != null) {
+            builder.executor(options.executor);
+        } else if (options.virtualThreads) {
+            builder.executor(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(HTTP_THREAD_NAME, 0).factory()));
+        }
+
+        if (options.httpVersion != null) {
+            builder.version(options.httpVersion);
+        }
+
+        if (options.priority > 0) {
+            builder.priority(options.priority);
+        }
+
+        return builder.build();
+    }
+
+    @Override
+    public InterledgerResponse exchange(HttpRequest request) throws IOException, InterruptedException {
+        return toResponse(client.send(request, HttpResponse.BodyHandlers.ofByteArray()));
+    }
+
+    @Override
+    public CompletableFuture<InterledgerResponse> exchangeAsync(HttpRequest request) {
+        CompletableFuture<HttpResponse<byte[]>> sent = client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+        return InterledgerTransport.cancelling(sent.thenApply(HttpClientTransport::toResponse), sent);
+    }
+
+    private static InterledgerResponse toResponse(HttpResponse<byte[]> response) {
+        return new InterledgerResponse(response.uri(), response.statusCode(), response.headers(), response.body());
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.transport;
+
+import io.fliqa.client.interledger.utils.Assert;
+
+import java.net.URI;
+import java.net.http.HttpHeaders;
+import java.util.Map;
+
+/**
+ * Raw HTTP response as returned by an {@link InterledgerTransport}.
+ *
+ * <p>Holds the status code, response headers and the undecoded body bytes. The body is
+ * deserialized by the client, the transport never interprets it.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see InterledgerTransport
+ * @since 1.0
+ */
+public class InterledgerResponse {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    /**
+     * URI the response was received from.
+     */
+    public final URI uri;
+
+    /**
+     * HTTP status code.
+     */
+    public final int statusCode;
+
+    /**
+     * HTTP response headers.
+     */
+    public final HttpHeaders headers;
+
+    /**
+     * Response body, empty if the response has no body.
+     */
+    public final byte[] body;
+
+    /**
+     * Creates a new response.
+     *
+     * @param uri        URI the response was received from
+     * @param statusCode HTTP status code
+     * @param headers    response headers, or null for no headers
+     * @param body       response body, or null for no body
+     */
+    public InterledgerResponse(URI uri, int statusCode, HttpHeaders headers, byte[] body) {
+        Assert.notNull(uri, "URI cannot be null");
+
+        this.uri = uri;
+        this.statusCode = statusCode;
+        this.headers = headers != null ? headers : HttpHeaders.of(Map.of(), (name, value) -> true);
+        this.body = body != null ? body : EMPTY;
+    }
+
+    /**
+     * Checks if the status code signals success.
+     *
+     * @return true for 2xx status codes
+     */
+    public boolean isSuccess() {
+        return statusCode >= 200 && statusCode < 300;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.transport;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Transport used by the Interledger API client to exchange signed HTTP requests with Open Payments servers.
+ *
+ * <p>The client builds, signs and logs requests and maps responses to model objects or exceptions.
+ * The transport is only responsible for delivering the request and returning the raw response
+ * (status code, headers and body bytes). This separation allows:
+ * <ul>
+ *   <li>Tuned or alternative HTTP stacks in place of the JDK {@link java.net.http.HttpClient}</li>
+ *   <li>In-memory transports for load tests and benchmarks without the network</li>
+ *   <li>Decorators adding cross-cutting behaviour around every exchange</li>
+ * </ul>
+ *
+ * <p>Implementations must be thread-safe, a single transport is shared by all calls of a client.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see HttpClientTransport
+ * @see InterledgerResponse
+ * @since 1.0
+ */
+public interface InterledgerTransport {
+
+    /**
+     * Sends the request and blocks until the complete response has been received.
+     *
+     * @param request signed HTTP request
+     * @return received response, regardless of the status code
+     * @throws IOException          if the request could not be sent or the response could not be received
+     * @throws InterruptedException if the calling thread was interrupted while waiting for the response
+     */
+    InterledgerResponse exchange(HttpRequest request) throws IOException, InterruptedException;
+
+    /**
+     * Sends the request without blocking the calling thread.
+     *
+     * <p>Cancelling the returned future should abort the exchange and release anything held for it
+     * (i.e. a concurrency limit slot), decorators pass the cancellation on to their delegate with {@link #cancelling}.
+     *
+     * @param request signed HTTP request
+     * @return future completed with the received response (regardless of the status code),
+     * or completed exceptionally with an {@link IOException} if the exchange failed
+     */
+    CompletableFuture<InterledgerResponse> exchangeAsync(HttpRequest request);
+
+    /**
+     * Gets the host a request is sent to, used to keep per-host state (limits, circuit breakers, latencies).
+     *
+     * @param uri request URI
+     * @return host as {@code scheme://host[:port]}
+     */
+    static String getHost(URI uri) {
+        return uri.getScheme() + "://" + uri.getRawAuthority();
+    }
+
+    /**
+     * Cancels the source once the future derived from it is cancelled.
+     * Cancelling a dependent {@link CompletableFuture} never reaches the stage it was derived from.
+     *
+     * @param result future returned to the caller
+     * @param source future of the exchange the result depends on
+     * @param <T>    type of result
+     * @return result
+     */
+    static <T> CompletableFuture<T> cancelling(CompletableFuture<T> result, CompletableFuture<?> source) {
+        result.whenComplete((value, throwable) -> {
+            if (result.isCancelled()) {
+                source.cancel(true);
+            }
+        });
+        return result;
+    }
+}
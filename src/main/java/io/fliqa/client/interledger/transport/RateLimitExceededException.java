@@ -0,0 +1,63 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.transport;
+
+import io.fliqa.client.interledger.ApiOperation;
+
+import java.io.IOException;
+
+/**
+ * Thrown by the {@link RateLimitTransport} when a request is rejected without being sent,
+ * because no token of the host's rate limit became available in time.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see RateLimitTransport
+ * @since 1.0
+ */
+public class RateLimitExceededException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String host;
+    private final ApiOperation operation;
+
+    /**
+     * Creates a new exception.
+     *
+     * @param host      host the limit applies to
+     * @param operation operation the limit applies to
+     */
+    public RateLimitExceededException(String host, ApiOperation operation) {
+        super(String.format("Rate limit for: %s on: %s exceeded", operation, host));
+        this.host = host;
+        this.operation = operation;
+    }
+
+    /**
+     * @return host the limit applies to
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * @return operation the limit applies to
+     */
+    public ApiOperation getOperation() {
+        return operation;
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.transport;
+
+import io.fliqa.client.interledger.ApiOperation;
+import io.fliqa.client.interledger.RateLimitPolicy;
+import io.fliqa.client.interledger.utils.Assert;
+import io.fliqa.client.interledger.utils.RetryAfter;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Transport decorator applying client side rate limits per host and {@link ApiOperation}.
+ *
+ * <p>The operation is the one the client tagged the request with ({@link ApiRequest}), requests sent
+ * otherwise are limited as {@link ApiOperation#OTHER}.
+ *
+ * <p>Requests wait for a token of their bucket (blocking callers sleep, asynchronous callers are
+ * scheduled without holding a thread) or are rejected with a {@link RateLimitExceededException}
+ * if the wait would exceed {@link RateLimitPolicy#maxWait}. A 429 response with a {@code Retry-After}
+ * header pauses the bucket of the operation for the requested time.
+ *
+ * <p>Buckets are held per host in an (immutable) array indexed by operation, looked up without allocation or locks.
+ *
+ * <h3>Thread Safety</h3>
+ * <p>This class is thread-safe.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see RateLimitPolicy
+ * @see TokenBucket
+ * @see io.fliqa.client.interledger.InterledgerClientOptions#rateLimit
+ * @since 1.0
+ */
+public class RateLimitTransport implements InterledgerTransport {
+
+    private static final int TOO_MANY_REQUESTS = 429;
+    private static final ApiOperation[] OPERATIONS = ApiOperation.values();
+
+    private final InterledgerTransport delegate;
+    private final RateLimitPolicy policy;
+    private final long maxWaitNanos;
+
+    private final ConcurrentHashMap<String, TokenBucket[]> buckets = new ConcurrentHashMap<>();
+    private final LongAdder rejected = new LongAdder();
+
+    /**
+     * Creates a new rate limiting transport.
+     *
+     * @param delegate transport exchanging requests
+     * @param policy   rate limits ({@link RateLimitPolicy#DISABLED} passes all requests through)
+     * @throws IllegalArgumentException if delegate or policy is null
+     */
+    public RateLimitTransport(InterledgerTransport delegate, RateLimitPolicy policy) {
+        Assert.notNull(delegate, "InterledgerTransport cannot be null");
+        Assert.notNull(policy, "RateLimitPolicy cannot be null");
+        this.delegate = delegate;
+        this.policy = policy;
+        this.maxWaitNanos = policy.maxWait.toNanos();
+    }
+
+    /**
+     * @return true if any rate limit is configured
+     */
+    public boolean isEnabled() {
+        return policy.isEnabled();
+    }
+
+    /**
+     * @return number of requests rejected because no token became available in time
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * Gets the bucket of an operation on a host.
+     *
+     * @param host      host as {@code scheme://host[:port]}
+     * @param operation operation type
+     * @return bucket or null if the operation is not limited or no request was sent to the host yet
+     */
+    public TokenBucket getBucket(String host, ApiOperation operation) {
+        TokenBucket[] hostBuckets = buckets.get(host);
+        return hostBuckets != null ? hostBuckets[operation.ordinal()] : null;
+    }
+
+    @Override
+    public InterledgerResponse exchange(HttpRequest request) throws IOException, InterruptedException {
+        TokenBucket bucket = getOrCreateBucket(request);
+        if (bucket == null) {
+            return delegate.exchange(request);
+        }
+
+        long wait = reserve(bucket, request);
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+
+        return checkRetryAfter(bucket, delegate.exchange(request));
+    }
+
+    @Override
+    public CompletableFuture<InterledgerResponse> exchangeAsync(HttpRequest request) {
+        TokenBucket bucket = getOrCreateBucket(request);
+        if (bucket == null) {
+            return delegate.exchangeAsync(request);
+        }
+
+        long wait;
+        try {
+            wait = reserve(bucket, request);
+        } catch (RateLimitExceededException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        if (wait <= 0) {
+            CompletableFuture<InterledgerResponse> exchange = delegate.exchangeAsync(request);
+            return InterledgerTransport.cancelling(exchange.thenApply(response -> checkRetryAfter(bucket, response)), exchange);
+        }
+
+        CompletableFuture<InterledgerResponse> result = new CompletableFuture<>();
+        CompletableFuture.delayedExecutor(wait, TimeUnit.NANOSECONDS).execute(() -> {
+            if (result.isDone()) {
+                return; // cancelled while waiting
+            }
+
+            CompletableFuture<InterledgerResponse> exchange;
+            try {
+                exchange = delegate.exchangeAsync(request);
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+                return;
+            }
+
+            InterledgerTransport.cancelling(result, exchange);
+            exchange.whenComplete((response, throwable) -> {
+                if (throwable != null) {
+                    result.completeExceptionally(throwable);
+                } else {
+                    result.complete(checkRetryAfter(bucket, response));
+                }
+            });
+        });
+
+        return result;
+    }
+
+    private long reserve(TokenBucket bucket, HttpRequest request) throws RateLimitExceededException {
+        long wait = bucket.reserve(maxWaitNanos);
+        if (wait < 0) {
+            rejected.increment();
+            throw new RateLimitExceededException(InterledgerTransport.getHost(request.uri()), ApiRequest.getOperation(request));
+        }
+        return wait;
+    }
+
+    private static InterledgerResponse checkRetryAfter(TokenBucket bucket, InterledgerResponse response) {
+        if (response.statusCode == TOO_MANY_REQUESTS) {
+            Duration retryAfter = RetryAfter.parse(response.headers);
+            if (retryAfter != null) {
+                bucket.pause(retryAfter.toNanos());
+            }
+        }
+        return response;
+    }
+
+    private TokenBucket getOrCreateBucket(HttpRequest request) {
+        if (!policy.isEnabled()) {
+            return null;
+        }
+
+        String host = InterledgerTransport.getHost(request.uri());
+        TokenBucket[] hostBuckets = buckets.get(host);
+        if (hostBuckets == null) {
+            hostBuckets = buckets.computeIfAbsent(host, this::createBuckets);
+        }
+
+        return hostBuckets[ApiRequest.getOperation(request).ordinal()];
+    }
+
+    private TokenBucket[] createBuckets(String host) {
+        TokenBucket[] hostBuckets = new TokenBucket[OPERATIONS.length];
+        for (ApiOperation operation : OPERATIONS) {
+            RateLimitPolicy.Limit limit = policy.getLimit(host, operation);
+            if (limit != null) {
+                hostBuckets[operation.ordinal()] = new TokenBucket(limit);
+            }
+        }
+        return hostBuckets;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.transport;
+
+import io.fliqa.client.interledger.RateLimitPolicy;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token bucket, implemented as generic cell rate algorithm (GCRA).
+ *
+ * <p>Instead of a token count refilled over time, the bucket keeps a single "theoretical arrival time":
+ * the time the bucket would be full again. Each permit moves it one emission interval ({@code 1 / rate})
+ * forward, a permit is available as long as it is at most {@code burst - 1} intervals ahead of now.
+ * Reserving a permit is a single compare-and-set, so concurrent callers never block each other.
+ *
+ * <h3>Thread Safety</h3>
+ * <p>This class is thread-safe.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @see RateLimitTransport
+ * @since 1.0
+ */
+public class TokenBucket {
+
+    private final RateLimitPolicy.Limit limit;
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final LongSupplier nanoTime;
+
+    private final AtomicLong arrival;
+
+    /**
+     * Creates a new, full bucket.
+     *
+     * @param limit rate and burst of the bucket
+     */
+    public TokenBucket(RateLimitPolicy.Limit limit) {
+        this(limit, System::nanoTime);
+    }
+
+    TokenBucket(RateLimitPolicy.Limit limit, LongSupplier nanoTime) {
+        this.limit = limit;
+        this.intervalNanos = Math.max(1L, Math.round(1_000_000_000L / limit.permitsPerSecond));
+        this.toleranceNanos = intervalNanos * (limit.burst - 1);
+        this.nanoTime = nanoTime;
+        this.arrival = new AtomicLong(nanoTime.getAsLong());
+    }
+
+    /**
+     * @return rate and burst of the bucket
+     */
+    public RateLimitPolicy.Limit getLimit() {
+        return limit;
+    }
+
+    /**
+     * Reserves a permit if it becomes available within the given time.
+     *
+     * @param maxWaitNanos maximum time to wait for the permit
+     * @return 0 if the permit can be used immediately, time to wait before using the reserved permit,
+     * or -1 if no permit is available in time (nothing is reserved)
+     */
+    public long reserve(long maxWaitNanos) {
+        while (true) {
+            long now = nanoTime.getAsLong();
+            long current = arrival.get();
+            long base = current - now > 0 ? current : now;
+            long wait = base - toleranceNanos - now;
+
+            if (wait > maxWaitNanos) {
+                return -1;
+            }
+
+            if (arrival.compareAndSet(current, base + intervalNanos)) {
+                return Math.max(0L, wait);
+            }
+        }
+    }
+
+    /**
+     * Hands out no permits for the given time, i.e. after the server answered with a Retry-After header.
+     * Afterwards permits are handed out at the configured rate (without burst).
+     *
+     * @param pauseNanos time to pause
+     */
+    public void pause(long pauseNanos) {
+        long target = nanoTime.getAsLong() + pauseNanos + toleranceNanos;
+        arrival.accumulateAndGet(target, (current, update) -> update - current > 0 ? update : current);
+    }
+
+    /**
+     * @return number of permits available immediately
+     */
+    public int getAvailablePermits() {
+        long ahead = arrival.get() - nanoTime.getAsLong();
+        if (ahead <= 0) {
+            return limit.burst;
+        }
+
+        long available = (toleranceNanos - ahead) / intervalNanos + 1;
+        return (int) Math.max(0L, Math.min(limit.burst, available));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TokenBucket{limit=%s, available=%d}", limit, getAvailablePermits());
+    }
+}
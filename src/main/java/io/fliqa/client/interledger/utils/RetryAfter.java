@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.utils;
+
+import java.net.http.HttpHeaders;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Parser of the HTTP {@code Retry-After} header (RFC 9110), given either as delay in seconds or as HTTP date.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @since 1.0
+ */
+public final class RetryAfter {
+
+    /**
+     * Retry-After header name
+     */
+    public static final String RETRY_AFTER_HEADER = "Retry-After";
+
+    private RetryAfter() {
+        // utility class
+    }
+
+    /**
+     * Gets the time to wait as requested by the Retry-After header.
+     *
+     * @param headers response headers
+     * @return time to wait (zero if the date is in the past) or null if the header is missing or invalid
+     */
+    public static Duration parse(HttpHeaders headers) {
+        return parse(headers, Instant.now());
+    }
+
+    /**
+     * Gets the time to wait as requested by the Retry-After header.
+     *
+     * @param headers response headers
+     * @param now     current time, used for HTTP dates
+     * @return time to wait (zero if the date is in the past) or null if the header is missing or invalid
+     */
+    public static Duration parse(HttpHeaders headers, Instant now) {
+        if (headers == null) {
+            return null;
+        }
+
+        return headers.firstValue(RETRY_AFTER_HEADER)
+                .map(value -> parse(value, now))
+                .orElse(null);
+    }
+
+    /**
+     * Parses a Retry-After header value.
+     *
+     * @param value delay in seconds or HTTP date
+     * @param now   current time, used for HTTP dates
+     * @return time to wait (zero if the date is in the past) or null if the value is invalid
+     */
+    public static Duration parse(String value, Instant now) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        String trimmed = value.trim();
+        try {
+            long seconds = Long.parseLong(trimmed);
+            return seconds < 0 ? null : Duration.ofSeconds(seconds);
+        } catch (NumberFormatException e) {
+            // not delay seconds, try HTTP date
+        }
+
+        try {
+            Instant at = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            Duration delay = Duration.between(now, at);
+            return delay.isNegative() ? Duration.ZERO : delay;
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.utils;
+
+/**
+ * Helpers for UTF-8 encoded bytes, i.e. truncating bodies for logging without splitting a character.
+ *
+ * @author Fliqa
+ * @version 1.0
+ * @since 1.0
+ */
+public final class Utf8 {
+
+    /**
+     * Longest UTF-8 sequence is a lead byte followed by three continuation bytes
+     */
+    private static final int MAX_CONTINUATION_BYTES = 3;
+
+    private Utf8() {
+        // utility class
+    }
+
+    /**
+     * Gets the length of the longest prefix not cutting a multi-byte sequence in two.
+     *
+     * <p>When the byte following the prefix continues a sequence, the prefix backs off to the start of that
+     * sequence. Malformed input is backed off by at most three bytes.
+     *
+     * @param bytes     UTF-8 encoded bytes
+     * @param maxLength maximum prefix length in bytes
+     * @return prefix length, {@code bytes.length} if not longer than maxLength
+     * @throws IllegalArgumentException if bytes is null or maxLength is negative
+     */
+    public static int prefixLength(byte[] bytes, int maxLength) {
+        Assert.notNull(bytes, "Bytes cannot be null");
+        Assert.isTrue(maxLength >= 0, "maxLength cannot be negative.");
+
+        if (bytes.length <= maxLength) {
+            return bytes.length;
+        }
+
+        int end = maxLength;
+        while (end > 0 && end > maxLength - MAX_CONTINUATION_BYTES && isContinuation(bytes[end])) {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * @return true for bytes {@code 10xxxxxx}, continuing a multi-byte sequence
+     */
+    private static boolean isContinuation(byte value) {
+        return (value & 0xC0) == 0x80;
+    }
+}
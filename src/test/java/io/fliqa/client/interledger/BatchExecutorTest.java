@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger;
+
+import io.fliqa.client.interledger.exception.InterledgerClientException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchExecutorTest {
+
+    @Test
+    public void resultsKeepOrderOfItems() {
+        List<Integer> items = IntStream.range(0, 100).boxed().toList();
+
+        List<BatchResult<String>> results = BatchExecutor.run(items, 8,
+                (Integer item) -> CompletableFuture.supplyAsync(() -> "item-" + item)).join();
+
+        assertEquals(100, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals("item-" + i, results.get(i).getValue());
+        }
+    }
+
+    @Test
+    public void limitsCallsInFlight() {
+        List<CompletableFuture<String>> started = new ArrayList<>();
+        CompletableFuture<List<BatchResult<String>>> batch = BatchExecutor.run(List.of(1, 2, 3, 4, 5), 2, item -> {
+            CompletableFuture<String> call = new CompletableFuture<>();
+            started.add(call);
+            return call;
+        });
+
+        assertEquals(2, started.size());
+
+        started.get(0).complete("first");
+        assertEquals(3, started.size()); // next item is started as soon as one completes
+
+        while (!batch.isDone()) {
+            started.stream().filter(call -> !call.isDone()).findFirst().orElseThrow().complete("next");
+        }
+
+        assertEquals(5, started.size());
+        assertEquals(5, batch.orTimeout(5, TimeUnit.SECONDS).join().size());
+    }
+
+    @Test
+    public void failuresAreReturnedPerItem() {
+        List<BatchResult<String>> results = BatchExecutor.run(List.of(1, 2, 3), 2, (Integer item) -> {
+            if (item == 2) {
+                throw new IllegalArgumentException("invalid item");
+            }
+            if (item == 3) {
+                return CompletableFuture.failedFuture(new InterledgerClientException(404, "not found"));
+            }
+            return CompletableFuture.completedFuture("ok");
+        }).join();
+
+        assertTrue(results.get(0).isSuccess());
+        assertEquals("invalid item", results.get(1).getError().getCause().getMessage());
+        assertEquals(404, results.get(2).getError().getCode());
+    }
+
+    @Test
+    public void emptyBatch() {
+        assertTrue(BatchExecutor.run(List.<Integer>of(), 2, (Integer item) -> CompletableFuture.completedFuture("ok")).join().isEmpty());
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger;
+
+import io.fliqa.client.interledger.exception.InterledgerClientException;
+import io.fliqa.client.interledger.model.AccessGrant;
+import io.fliqa.client.interledger.model.PaymentPointer;
+import io.fliqa.client.interledger.model.WalletAddress;
+import io.fliqa.client.interledger.transport.InterledgerResponse;
+import io.fliqa.client.interledger.transport.StubTransport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GrantManagerTest {
+
+    private static final String AUTH_SERVER = "https://auth.interledger-test.dev";
+    private static final String MANAGE_URL = AUTH_SERVER + "/token/dd17a202-9982-4ed9-ae31-564947fb6379";
+
+    private final AtomicInteger tokens = new AtomicInteger();
+
+    private PrivateKey privateKey;
+    private PaymentPointer receiver;
+    private StubTransport transport;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        privateKey = KeyPairGenerator.getInstance("Ed25519").generateKeyPair().getPrivate();
+
+        receiver = new PaymentPointer();
+        receiver.address = URI.create("https://ilp.interledger-test.dev/bob");
+        receiver.authServer = URI.create(AUTH_SERVER);
+        receiver.resourceServer = URI.create("https://ilp.interledger-test.dev");
+        receiver.assetCode = "EUR";
+        receiver.assetScale = 2;
+
+        transport = new StubTransport(this::handle);
+    }
+
+    /**
+     * Simulated auth server issuing tokens expiring in 600 seconds, resource server rejecting token "token-1"
+     */
+    private InterledgerResponse handle(HttpRequest request) {
+        String path = request.uri().getPath();
+        if (request.method().equals("DELETE")) {
+            return StubTransport.response(request, 204, null);
+        }
+
+        if (path.startsWith("/token/") || path.equals("/")) {
+            return StubTransport.response(request, 200, "{\"access_token\":{\"value\":\"token-" + tokens.incrementAndGet() + "\"," +
+                    "\"manage\":\"" + MANAGE_URL + "\",\"expires_in\":600," +
+                    "\"access\":[{\"type\":\"incoming-payment\",\"actions\":[\"create\",\"read\",\"complete\"]}]}}");
+        }
+
+        if (request.headers().firstValue("Authorization").orElse("").equals("GNAP token-1")) {
+            return StubTransport.response(request, 401, "{\"error\":{\"code\":\"invalid_token\",\"description\":\"invalid access token\"}}");
+        }
+
+        return StubTransport.response(request, 201, "{\"id\":\"https://ilp.interledger-test.dev/incoming-payments/1\",\"walletAddress\":\"https://ilp.interledger-test.dev/bob\"," +
+                "\"completed\":false,\"createdAt\":\"2025-01-01T00:00:00Z\",\"updatedAt\":\"2025-01-01T00:00:00Z\"}");
+    }
+
+    private static String authorization(HttpRequest request) {
+        return request.headers().firstValue("Authorization").orElseThrow();
+    }
+
+    private InterledgerApiClientImpl client(int refreshMarginInSeconds) {
+        InterledgerClientOptions options = InterledgerClientOptions.builder()
+                .grantReuse(true)
+                .grantRefreshMarginInSeconds(refreshMarginInSeconds)
+                .build();
+
+        return new InterledgerApiClientImpl(new WalletAddress("https://ilp.interledger-test.dev/fliqa"),
+                privateKey, "test-key-id", options, transport);
+    }
+
+    private long count(String method) {
+        return transport.requests.stream().filter(request -> request.method().equals(method)).count();
+    }
+
+    @Test
+    public void grantIsReused() throws InterledgerClientException {
+        InterledgerApiClientImpl client = client(30);
+
+        AccessGrant first = client.createPendingGrant(receiver);
+        AccessGrant second = client.createPendingGrant(receiver);
+
+        assertNotSame(first, second); // callers never share the cached grant
+        assertEquals("token-1", first.access.token);
+        assertEquals("token-1", second.access.token);
+        assertEquals(1, transport.requests.size());
+    }
+
+    @Test
+    public void grantIsNotReusedByDefault() throws InterledgerClientException {
+        InterledgerApiClientImpl client = new InterledgerApiClientImpl(new WalletAddress("https://ilp.interledger-test.dev/fliqa"),
+                privateKey, "test-key-id", InterledgerClientOptions.DEFAULT, transport);
+
+        client.createPendingGrant(receiver);
+        client.createPendingGrant(receiver);
+
+        assertEquals(2, transport.requests.size());
+    }
+
+    @Test
+    public void concurrentCallsShareRequest() {
+        InterledgerAsyncApiClient client = new InterledgerAsyncApiClientImpl(client(30));
+
+        CompletableFuture<AccessGrant> first = client.createPendingGrant(receiver);
+        CompletableFuture<AccessGrant> second = client.createPendingGrant(receiver);
+
+        assertEquals("token-1", first.join().access.token);
+        assertEquals("token-1", second.join().access.token);
+        assertEquals(1, transport.requests.size());
+    }
+
+    @Test
+    public void expiringTokenIsRotated() throws InterledgerClientException {
+        InterledgerApiClientImpl client = client(600); // token expires within the refresh margin right away
+
+        AccessGrant first = client.createPendingGrant(receiver);
+        AccessGrant second = client.createPendingGrant(receiver);
+
+        assertEquals("token-1", first.access.token);
+        assertEquals("token-2", second.access.token);
+        assertEquals(URI.create(MANAGE_URL + "/"), transport.requests.get(1).uri());
+        assertEquals("GNAP token-1", transport.requests.get(1).headers().firstValue("Authorization").orElseThrow());
+    }
+
+    @Test
+    public void rejectedRotationWithSynchronousTransport() throws InterledgerClientException {
+        // transport completing exchanges on the calling thread, rotation is rejected
+        transport = new StubTransport(request -> request.uri().getPath().startsWith("/token/")
+                ? StubTransport.response(request, 401, "{\"error\":{\"code\":\"invalid_token\",\"description\":\"invalid access token\"}}")
+                : handle(request), Runnable::run);
+        InterledgerApiClientImpl client = client(600); // token expires within the refresh margin right away
+
+        AccessGrant first = client.createPendingGrant(receiver);
+        AccessGrant second = client.createPendingGrant(receiver); // rotation fails, a new grant is requested
+
+        assertEquals("token-1", first.access.token);
+        assertEquals("token-2", second.access.token);
+        assertEquals(3, transport.requests.size());
+
+        client.createPendingGrant(receiver); // the new grant is cached, so it is rotated next
+        assertEquals(URI.create(MANAGE_URL + "/"), transport.requests.get(3).uri());
+        assertEquals("GNAP token-2", transport.requests.get(3).headers().firstValue("Authorization").orElseThrow());
+    }
+
+    @Test
+    public void rejectedTokenIsRenewed() throws InterledgerClientException {
+        InterledgerApiClientImpl client = client(30);
+
+        AccessGrant grant = client.createPendingGrant(receiver);
+        client.createIncomingPayment(receiver, grant, BigDecimal.TEN); // token-1 is rejected, repeated with token-2
+
+        assertEquals(4, transport.requests.size());
+        assertEquals("GNAP token-1", authorization(transport.requests.get(1)));
+        assertEquals(URI.create(AUTH_SERVER + "/"), transport.requests.get(2).uri()); // new grant, replacing the rejected one
+        assertEquals("GNAP token-2", authorization(transport.requests.get(3)));
+
+        AccessGrant renewed = client.createPendingGrant(receiver);
+        assertEquals("token-2", renewed.access.token);
+    }
+
+    @Test
+    public void rejectedTokenIsRenewedAsync() {
+        InterledgerAsyncApiClient client = new InterledgerAsyncApiClientImpl(client(30));
+
+        AccessGrant grant = client.createPendingGrant(receiver).join();
+        client.createIncomingPayment(receiver, grant, BigDecimal.TEN).join();
+
+        assertEquals("GNAP token-2", authorization(transport.requests.get(transport.requests.size() - 1)));
+    }
+
+    @Test
+    public void grantObtainedBeforeRotationIsUsedAfterIt() throws InterledgerClientException {
+        InterledgerApiClientImpl client = client(600); // token expires within the refresh margin right away
+
+        AccessGrant before = client.createPendingGrant(receiver);
+        client.createPendingGrant(receiver); // rotates token-1, which is no longer accepted
+
+        client.createIncomingPayment(receiver, before, BigDecimal.TEN);
+        client.getIncomingPayment(client.createIncomingPayment(receiver, before, BigDecimal.TEN), before);
+
+        assertEquals("token-1", before.access.token);
+        assertEquals(0, transport.requests.stream().skip(2).filter(request -> authorization(request).equals("GNAP token-1")).count());
+        assertEquals(5, transport.requests.size());
+    }
+
+    @Test
+    public void closeRevokesTokens() throws InterledgerClientException {
+        InterledgerApiClientImpl client = client(30);
+        client.createPendingGrant(receiver);
+
+        client.close();
+
+        assertEquals(1, count("DELETE"));
+        HttpRequest revoke = transport.requests.get(1);
+        assertEquals(URI.create(MANAGE_URL + "/"), revoke.uri());
+        assertEquals("GNAP token-1", revoke.headers().firstValue("Authorization").orElseThrow());
+    }
+
+    @Test
+    public void rotateAndRevokeToken() throws InterledgerClientException {
+        InterledgerApiClientImpl client = client(30);
+        AccessGrant grant = client.createPendingGrant(receiver);
+
+        AccessGrant rotated = client.rotateToken(grant);
+        client.revokeToken(rotated);
+
+        assertEquals("token-2", rotated.access.token);
+        assertEquals(1, count("DELETE"));
+    }
+}
@@ -1,29 +1,331 @@
 package io.fliqa.client.interledger;
 
+import io.fliqa.client.interledger.exception.InterledgerCircuitOpenException;
+import io.fliqa.client.interledger.exception.InterledgerClientException;
+import io.fliqa.client.interledger.exception.InterledgerConnectionException;
+import io.fliqa.client.interledger.exception.InterledgerRateLimitException;
+import io.fliqa.client.interledger.exception.InterledgerServerException;
+import io.fliqa.client.interledger.logging.CapturedExchange;
+import io.fliqa.client.interledger.metrics.ExchangeEvent;
+import io.fliqa.client.interledger.model.AccessGrant;
+import io.fliqa.client.interledger.model.AccessToken;
+import io.fliqa.client.interledger.model.IncomingPayment;
+import io.fliqa.client.interledger.model.PaymentPointer;
 import io.fliqa.client.interledger.model.WalletAddress;
+import io.fliqa.client.interledger.transport.InterledgerResponse;
+import io.fliqa.client.interledger.transport.StubTransport;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.ConnectException;
 import java.net.URI;
+import java.net.http.HttpRequest;
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
 import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 
 class InterledgerApiClientImplTest {
 
+    private static final String WALLET_JSON = "{\"id\":\"https://ilp.interledger-test.dev/alice\"," +
+            "\"publicName\":\"Alice\",\"assetCode\":\"EUR\",\"assetScale\":2," +
+            "\"authServer\":\"https://auth.interledger-test.dev\",\"resourceServer\":\"https://ilp.interledger-test.dev\"}";
+
     private InterledgerApiClientImpl client;
+    private WalletAddress walletAddress;
+    private PrivateKey privateKey;
 
     @BeforeEach
     public void setUp() throws NoSuchAlgorithmException {
         // Create test client instance for accessing protected methods
         KeyPairGenerator keyGen = KeyPairGenerator.getInstance("Ed25519");
         KeyPair keyPair = keyGen.generateKeyPair();
-        WalletAddress walletAddress = new WalletAddress("$example.com/alice");
+        walletAddress = new WalletAddress("$example.com/alice");
+        privateKey = keyPair.getPrivate();
+
+        client = new InterledgerApiClientImpl(walletAddress, privateKey, "test-key-id");
+    }
+
+    private InterledgerApiClientImpl client(StubTransport transport) {
+        return new InterledgerApiClientImpl(walletAddress, privateKey, "test-key-id", InterledgerClientOptions.DEFAULT, transport);
+    }
+
+    @Test
+    public void send_throughTransport() throws InterledgerClientException {
+        StubTransport transport = StubTransport.json(200, WALLET_JSON);
+
+        PaymentPointer wallet = client(transport).getWallet(new WalletAddress("https://ilp.interledger-test.dev/alice"));
 
-        client = new InterledgerApiClientImpl(walletAddress, keyPair.getPrivate(), "test-key-id");
+        assertEquals("Alice", wallet.publicName);
+        assertEquals(URI.create("https://auth.interledger-test.dev"), wallet.authServer);
+        assertEquals(1, transport.requests.size());
+        assertEquals("GET", transport.requests.get(0).method());
+    }
+
+    @Test
+    public void send_errorThroughTransport() {
+        StubTransport transport = StubTransport.json(401, "{\"error\":{\"code\":\"invalid_client\",\"description\":\"invalid signature\"}}");
+
+        InterledgerClientException exception = assertThrows(InterledgerClientException.class,
+                () -> client(transport).getWallet(new WalletAddress("https://ilp.interledger-test.dev/alice")));
+
+        assertEquals(401, exception.getCode());
+        assertEquals("[401] (invalid_client) invalid signature", exception.getMessage());
+        assertEquals("{\"error\":{\"code\":\"invalid_client\",\"description\":\"invalid signature\"}}", exception.getResponseBody());
+    }
+
+    @Test
+    public void send_invalidResponseBody() {
+        StubTransport transport = StubTransport.json(200, "{\"id\": not json");
+
+        InterledgerClientException exception = assertThrows(InterledgerClientException.class,
+                () -> client(transport).getWallet(new WalletAddress("https://ilp.interledger-test.dev/alice")));
+
+        assertEquals("Failed to deserialize response to: 'io.fliqa.client.interledger.model.PaymentPointer'.", exception.getMessage());
+        assertEquals("{\"id\": not json", exception.getResponseBody());
+    }
+
+    @Test
+    public void send_transportFailure() {
+        StubTransport transport = new StubTransport(request -> StubTransport.fail("connection reset"));
+
+        InterledgerClientException exception = assertThrows(InterledgerClientException.class,
+                () -> client(transport).getWallet(new WalletAddress("https://ilp.interledger-test.dev/alice")));
+
+        assertEquals("connection reset", exception.getCause().getMessage());
+    }
+
+    @Test
+    public void hedge_lostAttemptReleasesConcurrencySlot() throws Exception {
+        CountDownLatch unblock = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        StubTransport transport = new StubTransport(request -> {
+            if (calls.incrementAndGet() == 2) { // first attempt of the second call hangs
+                try {
+                    unblock.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return StubTransport.response(request, 200, WALLET_JSON);
+        });
+
+        InterledgerClientOptions options = InterledgerClientOptions.builder()
+                .concurrencyLimit(ConcurrencyLimitPolicy.DEFAULT)
+                .hedging(HedgingPolicy.builder()
+                        .minSamples(1)
+                        .minDelay(Duration.ofMillis(10))
+                        .budget(1.0)
+                        .build())
+                .build();
+        InterledgerApiClientImpl hedgingClient = new InterledgerApiClientImpl(walletAddress, privateKey, "test-key-id", options, transport);
+
+        WalletAddress alice = new WalletAddress("https://ilp.interledger-test.dev/alice");
+        try {
+            hedgingClient.getWallet(alice);
+            hedgingClient.getWallet(alice); // answered by the hedge
+
+            assertEquals(3, calls.get());
+            assertEquals(1, hedgingClient.getRequestHedger().getHedgeWins());
+            // the cancelled first attempt gave its slot back while its exchange is still hanging
+            assertEquals(0, hedgingClient.getConcurrencyLimitTransport().getLimiter("https://ilp.interledger-test.dev").getInFlight());
+        } finally {
+            unblock.countDown();
+        }
+    }
+
+    private InterledgerApiClientImpl retryingClient(StubTransport transport) {
+        InterledgerClientOptions options = InterledgerClientOptions.builder()
+                .retryPolicy(RetryPolicy.builder()
+                        .initialBackoff(Duration.ofMillis(1))
+                        .build())
+                .build();
+        return new InterledgerApiClientImpl(walletAddress, privateKey, "test-key-id", options, transport);
+    }
+
+    @Test
+    public void send_serverErrorIsTyped() {
+        StubTransport transport = StubTransport.json(503, "{\"error\":{\"code\":\"unavailable\",\"description\":\"try later\"}}");
+
+        InterledgerClientException exception = assertThrows(InterledgerClientException.class,
+                () -> client(transport).getWallet(new WalletAddress("https://ilp.interledger-test.dev/alice")));
+
+        assertInstanceOf(InterledgerServerException.class, exception);
+        assertTrue(exception.isRetryable());
+        assertEquals(1, transport.requests.size()); // retries disabled by default
+    }
+
+    @Test
+    public void send_retriesGetAndSignsAgain() throws InterledgerClientException {
+        AtomicInteger calls = new AtomicInteger();
+        StubTransport transport = new StubTransport(request -> calls.incrementAndGet() < 3
+                ? StubTransport.response(request, 503, "{\"error\":{\"code\":\"unavailable\",\"description\":\"try later\"}}")
+                : StubTransport.response(request, 200, WALLET_JSON));
+
+        PaymentPointer wallet = retryingClient(transport).getWallet(new WalletAddress("https://ilp.interledger-test.dev/alice"));
+
+        assertEquals("Alice", wallet.publicName);
+        assertEquals(3, transport.requests.size());
+        assertNotSame(transport.requests.get(0), transport.requests.get(1));
+    }
+
+    @Test
+    public void sendAsync_retriesGet() {
+        AtomicInteger calls = new AtomicInteger();
+        StubTransport transport = new StubTransport(request -> calls.incrementAndGet() < 2
+                ? StubTransport.fail("connection reset")
+                : StubTransport.response(request, 200, WALLET_JSON));
+
+        PaymentPointer wallet = retryingClient(transport).getWalletAsync(new WalletAddress("https://ilp.interledger-test.dev/alice")).join();
+
+        assertEquals("Alice", wallet.publicName);
+        assertEquals(2, transport.requests.size());
+    }
+
+    @Test
+    public void send_reportsEveryAttemptToMetricsListener() throws InterledgerClientException {
+        AtomicInteger calls = new AtomicInteger();
+        StubTransport transport = new StubTransport(request -> calls.incrementAndGet() < 2
+                ? StubTransport.response(request, 503, "{\"error\":{\"code\":\"unavailable\",\"description\":\"try later\"}}")
+                : StubTransport.response(request, 200, WALLET_JSON));
+        List<ExchangeEvent> events = new CopyOnWriteArrayList<>();
+        InterledgerClientOptions options = InterledgerClientOptions.builder()
+                .retryPolicy(RetryPolicy.builder()
+                        .initialBackoff(Duration.ofMillis(1))
+                        .build())
+                .metricsListener(events::add)
+                .build();
+
+        new InterledgerApiClientImpl(walletAddress, privateKey, "test-key-id", options, transport)
+                .getWallet(new WalletAddress("https://ilp.interledger-test.dev/alice"));
+
+        assertEquals(2, events.size());
+        assertEquals(ApiOperation.GET_WALLET, events.get(0).operation);
+        assertEquals("https://ilp.interledger-test.dev", events.get(0).host);
+        assertEquals(1, events.get(0).attempt);
+        assertEquals(503, events.get(0).statusCode);
+        assertTrue(events.get(0).isError());
+        assertEquals(2, events.get(1).attempt);
+        assertEquals(200, events.get(1).statusCode);
+        assertEquals(WALLET_JSON.length(), events.get(1).bytesReceived);
+        assertFalse(events.get(1).isError());
+    }
+
+    @Test
+    public void send_capturesFailedAttempts() throws InterledgerClientException {
+        AtomicInteger calls = new AtomicInteger();
+        StubTransport transport = new StubTransport(request -> calls.incrementAndGet() < 2
+                ? StubTransport.response(request, 503, "{\"error\":{\"code\":\"unavailable\",\"description\":\"try later\"}}")
+                : StubTransport.response(request, 200, WALLET_JSON));
+        InterledgerClientOptions options = InterledgerClientOptions.builder()
+                .retryPolicy(RetryPolicy.builder()
+                        .initialBackoff(Duration.ofMillis(1))
+                        .build())
+                .capture(CapturePolicy.builder().captureErrors(true).build())
+                .build();
+
+        InterledgerApiClientImpl client = new InterledgerApiClientImpl(walletAddress, privateKey, "test-key-id", options, transport);
+        client.getWallet(new WalletAddress("https://ilp.interledger-test.dev/alice"));
+
+        List<CapturedExchange> captured = client.getExchangeCapture().getCaptured();
+        assertEquals(1, captured.size());
+        assertEquals(CapturedExchange.Reason.ERROR, captured.get(0).reason);
+        assertEquals(503, captured.get(0).statusCode);
+        assertEquals(1, captured.get(0).attempt);
+        assertTrue(captured.get(0).responseBody.contains("try later"));
+    }
+
+    @Test
+    public void send_retryGivesUp() {
+        StubTransport transport = new StubTransport(request -> StubTransport.fail("connection reset"));
+
+        InterledgerClientException exception = assertThrows(InterledgerClientException.class,
+                () -> retryingClient(transport).getWallet(new WalletAddress("https://ilp.interledger-test.dev/alice")));
+
+        assertInstanceOf(InterledgerConnectionException.class, exception);
+        assertEquals(RetryPolicy.DEFAULT.maxAttempts, transport.requests.size());
+    }
+
+    @Test
+    public void send_postNotRetriedAfterRequestWasSent() {
+        StubTransport transport = new StubTransport(request -> StubTransport.fail("connection reset"));
+        PaymentPointer receiver = new PaymentPointer();
+        receiver.address = URI.create("https://ilp.interledger-test.dev/bob");
+        receiver.authServer = URI.create("https://auth.interledger-test.dev");
+
+        assertThrows(InterledgerConnectionException.class, () -> retryingClient(transport).createPendingGrant(receiver));
+        assertEquals(1, transport.requests.size());
+    }
+
+    @Test
+    public void send_postRetriedOnConnectFailure() {
+        StubTransport transport = new StubTransport(request -> {
+            throw new UncheckedIOException(new ConnectException("connection refused"));
+        });
+        PaymentPointer receiver = new PaymentPointer();
+        receiver.address = URI.create("https://ilp.interledger-test.dev/bob");
+        receiver.authServer = URI.create("https://auth.interledger-test.dev");
+
+        InterledgerConnectionException exception = assertThrows(InterledgerConnectionException.class,
+                () -> retryingClient(transport).createPendingGrant(receiver));
+
+        assertFalse(exception.isRequestSent());
+        assertEquals(RetryPolicy.DEFAULT.maxAttempts, transport.requests.size());
+    }
+
+    @Test
+    public void send_rejectedByOpenCircuitBreaker() {
+        StubTransport transport = new StubTransport(request -> StubTransport.fail("connection reset"));
+        InterledgerClientOptions options = InterledgerClientOptions.builder()
+                .circuitBreaker(CircuitBreakerPolicy.builder()
+                        .slidingWindowSize(2)
+                        .minimumCalls(2)
+                        .build())
+                .build();
+        InterledgerApiClientImpl client = new InterledgerApiClientImpl(walletAddress, privateKey, "test-key-id", options, transport);
+        WalletAddress address = new WalletAddress("https://ilp.interledger-test.dev/alice");
+
+        assertThrows(InterledgerConnectionException.class, () -> client.getWallet(address));
+        assertThrows(InterledgerConnectionException.class, () -> client.getWallet(address));
+
+        InterledgerCircuitOpenException exception = assertThrows(InterledgerCircuitOpenException.class, () -> client.getWallet(address));
+        assertEquals("https://ilp.interledger-test.dev", exception.getHost());
+        assertFalse(exception.isRetryable());
+        assertEquals(2, transport.requests.size());
+    }
+
+    @Test
+    public void send_rateLimitedPerApiCall() throws InterledgerClientException {
+        StubTransport transport = new StubTransport(request -> StubTransport.response(request, 200, WALLET_JSON));
+        InterledgerClientOptions options = InterledgerClientOptions.builder()
+                .rateLimit(RateLimitPolicy.builder()
+                        .limit(ApiOperation.GET_WALLET, 0.1, 1)
+                        .maxWait(Duration.ZERO)
+                        .build())
+                .build();
+        InterledgerApiClientImpl client = new InterledgerApiClientImpl(walletAddress, privateKey, "test-key-id", options, transport);
+        WalletAddress address = new WalletAddress("https://ilp.interledger-test.dev/alice");
+
+        client.getWallet(address);
+        InterledgerRateLimitException exception = assertThrows(InterledgerRateLimitException.class, () -> client.getWallet(address));
+        assertEquals(ApiOperation.GET_WALLET, exception.getOperation());
+        assertEquals("https://ilp.interledger-test.dev", exception.getHost());
+
+        // other calls to the same host have their own (here no) limit
+        client.send(HttpRequest.newBuilder(address.paymentPointer).GET().build(), PaymentPointer.class);
+        assertEquals(2, transport.requests.size());
     }
 
     @Test
@@ -124,4 +426,130 @@ class InterledgerApiClientImplTest {
 
         assertEquals("https://example.com/payments?status=pending", result.toString());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void getWallet_cached() throws InterledgerClientException {
+        StubTransport transport = StubTransport.json(200, WALLET_JSON);
+        InterledgerClientOptions options = InterledgerClientOptions.builder().walletCacheSize(10).build();
+        InterledgerApiClientImpl cachingClient = new InterledgerApiClientImpl(walletAddress, privateKey, "test-key-id", options, transport);
+
+        WalletAddress alice = new WalletAddress("https://ilp.interledger-test.dev/alice");
+        PaymentPointer first = cachingClient.getWallet(alice);
+        PaymentPointer second = cachingClient.getWallet(alice);
+
+        assertSame(first, second);
+        assertEquals(1, transport.requests.size());
+        assertEquals(1, cachingClient.getWalletCache().getStatistics().hits);
+        assertEquals(1, cachingClient.getWalletCache().getStatistics().misses);
+    }
+
+    @Test
+    public void getWallet_notCachedByDefault() throws InterledgerClientException {
+        StubTransport transport = StubTransport.json(200, WALLET_JSON);
+        InterledgerApiClientImpl defaultClient = client(transport);
+
+        WalletAddress alice = new WalletAddress("https://ilp.interledger-test.dev/alice");
+        defaultClient.getWallet(alice);
+        defaultClient.getWallet(alice);
+
+        assertEquals(2, transport.requests.size());
+        assertFalse(defaultClient.getWalletCache().isEnabled());
+    }
+
+    private static PaymentPointer wallet(String host, String name) {
+        PaymentPointer wallet = new PaymentPointer();
+        wallet.address = URI.create("https://" + host + "/" + name);
+        wallet.authServer = URI.create("https://auth." + host);
+        wallet.resourceServer = URI.create("https://" + host);
+        wallet.assetCode = "EUR";
+        wallet.assetScale = 2;
+        return wallet;
+    }
+
+    /**
+     * Auth servers issue grants, resource server of "closed.interledger-test.dev" rejects incoming payments
+     */
+    private static InterledgerResponse handleBatch(HttpRequest request) {
+        if (request.uri().getHost().startsWith("auth.")) {
+            return StubTransport.response(request, 200, "{\"access_token\":{\"value\":\"token\"," +
+                    "\"access\":[{\"type\":\"incoming-payment\",\"actions\":[\"create\",\"read\",\"complete\"]}]}}");
+        }
+
+        if (request.uri().getHost().equals("closed.interledger-test.dev")) {
+            return StubTransport.response(request, 403, "{\"error\":{\"code\":\"forbidden\",\"description\":\"wallet closed\"}}");
+        }
+
+        return StubTransport.response(request, 201, "{\"id\":\"https://ilp.interledger-test.dev/incoming-payments/1\",\"walletAddress\":\"https://ilp.interledger-test.dev/bob\"," +
+                "\"completed\":false,\"createdAt\":\"2025-01-01T00:00:00Z\",\"updatedAt\":\"2025-01-01T00:00:00Z\"}");
+    }
+
+    @Test
+    public void createIncomingPayments_oneGrantPerReceiver() throws InterledgerClientException {
+        StubTransport transport = new StubTransport(InterledgerApiClientImplTest::handleBatch);
+        PaymentPointer bob = wallet("ilp.interledger-test.dev", "bob");
+        PaymentPointer carol = wallet("ilp.interledger-test.dev", "carol");
+
+        List<BatchResult<IncomingPayment>> results = client(transport).createIncomingPayments(List.of(
+                new IncomingPaymentItem(bob, new BigDecimal("10.00")),
+                new IncomingPaymentItem(carol, new BigDecimal("20.00")),
+                new IncomingPaymentItem(bob, new BigDecimal("30.00"))));
+
+        assertEquals(3, results.size());
+        assertTrue(results.stream().allMatch(BatchResult::isSuccess));
+        assertEquals(2, transport.requests.stream().filter(request -> request.uri().getHost().startsWith("auth.")).count());
+        assertEquals(5, transport.requests.size());
+    }
+
+    @Test
+    public void createIncomingPayments_failedItemDoesNotFailBatch() throws InterledgerClientException {
+        StubTransport transport = new StubTransport(InterledgerApiClientImplTest::handleBatch);
+
+        List<BatchResult<IncomingPayment>> results = client(transport).createIncomingPayments(List.of(
+                new IncomingPaymentItem(wallet("ilp.interledger-test.dev", "bob"), new BigDecimal("10.00")),
+                new IncomingPaymentItem(wallet("closed.interledger-test.dev", "dave"), new BigDecimal("20.00"))));
+
+        assertTrue(results.get(0).isSuccess());
+        assertEquals(URI.create("https://ilp.interledger-test.dev/incoming-payments/1"), results.get(0).getValue().id);
+
+        assertFalse(results.get(1).isSuccess());
+        assertNull(results.get(1).getValue());
+        assertEquals(403, results.get(1).getError().getCode());
+    }
+
+    @Test
+    public void createIncomingPayments_nullItemIsRejected() {
+        List<IncomingPaymentItem> items = new ArrayList<>();
+        items.add(null);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> client.createIncomingPayments(items));
+
+        assertEquals("IncomingPaymentItem cannot be null", exception.getMessage());
+    }
+
+    @Test
+    public void listIncomingPayments_followsCursor() {
+        StubTransport transport = new StubTransport(request -> {
+            boolean first = !request.uri().getQuery().contains("cursor=");
+            return StubTransport.response(request, 200, "{\"pagination\":{\"endCursor\":\"" + (first ? "c1" : "c2") + "\"," +
+                    "\"hasNextPage\":" + first + ",\"hasPreviousPage\":" + !first + "}," +
+                    "\"result\":[{\"id\":\"https://ilp.interledger-test.dev/incoming-payments/" + (first ? 1 : 2) + "\"}]}");
+        });
+        InterledgerApiClientImpl pagingClient = new InterledgerApiClientImpl(walletAddress, privateKey, "test-key-id",
+                InterledgerClientOptions.builder().listPageSize(1).build(), transport);
+
+        AccessGrant grant = new AccessGrant();
+        grant.access = new AccessToken();
+        grant.access.token = "token";
+
+        List<IncomingPayment> payments;
+        try (Stream<IncomingPayment> stream = pagingClient.listIncomingPayments(wallet("ilp.interledger-test.dev", "bob"), grant)) {
+            payments = stream.toList();
+        }
+
+        assertEquals(2, payments.size());
+        assertEquals(URI.create("https://ilp.interledger-test.dev/incoming-payments/2"), payments.get(1).id);
+        assertEquals("wallet-address=https://ilp.interledger-test.dev/bob&first=1", transport.requests.get(0).uri().getQuery());
+        assertEquals("wallet-address=https://ilp.interledger-test.dev/bob&first=1&cursor=c1", transport.requests.get(1).uri().getQuery());
+    }
+}
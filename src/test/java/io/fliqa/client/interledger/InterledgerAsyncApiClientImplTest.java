@@ -0,0 +1,126 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.fliqa.client.interledger.exception.InterledgerClientException;
+import io.fliqa.client.interledger.model.PaymentPointer;
+import io.fliqa.client.interledger.model.WalletAddress;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPairGenerator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InterledgerAsyncApiClientImplTest {
+
+    private static final String WALLET_JSON = "{\"id\":\"https://ilp.interledger-test.dev/alice\"," +
+            "\"publicName\":\"Alice\",\"assetCode\":\"EUR\",\"assetScale\":2," +
+            "\"authServer\":\"https://auth.interledger-test.dev\",\"resourceServer\":\"https://ilp.interledger-test.dev\"}";
+
+    private HttpServer server;
+    private InterledgerAsyncApiClient client;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/alice", exchange -> respond(exchange, 200, WALLET_JSON));
+        server.createContext("/missing", exchange -> respond(exchange, 404, "{\"error\":{\"code\":\"not_found\",\"description\":\"wallet not found\"}}"));
+        server.start();
+
+        KeyPairGenerator keyGen = KeyPairGenerator.getInstance("Ed25519");
+        client = new InterledgerAsyncApiClientImpl(new WalletAddress("https://ilp.interledger-test.dev/fliqa"),
+                keyGen.generateKeyPair().getPrivate(),
+                "test-key-id");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private WalletAddress address(String path) {
+        return new WalletAddress("http://localhost:" + server.getAddress().getPort() + path);
+    }
+
+    @Test
+    public void getWallet() {
+        PaymentPointer wallet = client.getWallet(address("/alice")).join();
+
+        assertEquals("Alice", wallet.publicName);
+        assertEquals("EUR", wallet.assetCode);
+        assertEquals(2, wallet.assetScale);
+    }
+
+    @Test
+    public void getWallet_concurrent() {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[50];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = client.getWallet(address("/alice"));
+        }
+
+        CompletableFuture.allOf(futures).join();
+        for (CompletableFuture<?> future : futures) {
+            assertEquals("Alice", ((PaymentPointer) future.join()).publicName);
+        }
+    }
+
+    @Test
+    public void getWallet_errorCompletesExceptionally() {
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> client.getWallet(address("/missing")).join());
+
+        InterledgerClientException cause = assertInstanceOf(InterledgerClientException.class, exception.getCause());
+        assertEquals(404, cause.getCode());
+        assertEquals("[404] (not_found) wallet not found", cause.getMessage());
+    }
+
+    @Test
+    public void getWallet_connectionFailureCompletesExceptionally() {
+        server.stop(0);
+
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> client.getWallet(address("/alice")).join());
+
+        assertInstanceOf(InterledgerClientException.class, exception.getCause());
+    }
+
+    @Test
+    public void invalidArgumentsAreRejectedImmediately() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> client.getWallet(null));
+
+        assertEquals("WalletAddress cannot be null", exception.getMessage());
+    }
+}
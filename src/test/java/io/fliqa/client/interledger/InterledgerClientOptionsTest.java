@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpClient;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InterledgerClientOptionsTest {
+
+    @Test
+    public void builderDefaults() {
+        InterledgerClientOptions options = InterledgerClientOptions.builder().build();
+
+        assertEquals(InterledgerClientOptions.DEFAULT.connectTimeOutInSeconds, options.connectTimeOutInSeconds);
+        assertEquals(InterledgerClientOptions.DEFAULT.timeOutInSeconds, options.timeOutInSeconds);
+        assertEquals(InterledgerClientOptions.DEFAULT.transactionExpirationInSeconds, options.transactionExpirationInSeconds);
+        assertNull(options.executor);
+        assertFalse(options.virtualThreads);
+        assertNull(options.httpVersion);
+        assertEquals(0, options.priority);
+        assertSame(WatchPolicy.DEFAULT, options.paymentWatch);
+    }
+
+    @Test
+    public void createHttpClient_withExecutorAndVersion() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            InterledgerClientOptions options = InterledgerClientOptions.builder()
+                    .executor(executor)
+                    .httpVersion(HttpClient.Version.HTTP_1_1)
+                    .priority(10)
+                    .build();
+
+            HttpClient client = InterledgerApiClientImpl.createDefaultHttpClient(options);
+
+            assertSame(executor, client.executor().orElseThrow());
+            assertEquals(HttpClient.Version.HTTP_1_1, client.version());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void createHttpClient_withVirtualThreads() {
+        InterledgerClientOptions options = InterledgerClientOptions.builder()
+                .virtualThreads(true)
+                .build();
+
+        HttpClient client = InterledgerApiClientImpl.createDefaultHttpClient(options);
+
+        assertTrue(client.executor().isPresent());
+        assertEquals(HttpClient.Version.HTTP_2, client.version());
+    }
+
+    @Test
+    public void invalidPriority() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> InterledgerClientOptions.builder().priority(257));
+
+        assertEquals("priority must be between 1 and 256, but was: 257.", exception.getMessage());
+    }
+}
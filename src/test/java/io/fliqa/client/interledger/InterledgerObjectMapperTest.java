@@ -0,0 +1,200 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.fliqa.client.interledger.exception.InterledgerClientException;
+import io.fliqa.client.interledger.model.*;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InterledgerObjectMapperTest {
+
+    private static final ObjectMapper REFLECTIVE = InterledgerObjectMapper.get(false);
+    private static final ObjectMapper CODECS = InterledgerObjectMapper.get();
+
+    private static final String WALLET = "{\"id\":\"https://ilp.interledger-test.dev/alice\",\"publicName\":\"Alice\"," +
+            "\"assetCode\":\"EUR\",\"assetScale\":2,\"authServer\":\"https://auth.interledger-test.dev\"," +
+            "\"resourceServer\":\"https://ilp.interledger-test.dev\",\"unknown\":{\"nested\":[1,2,{\"a\":null}]}}";
+
+    private static final String GRANT = "{\"access_token\":{\"value\":\"OS9M2PMHKUR64TB8N6BW7OZB8CDFONP219RP1LT0\"," +
+            "\"manage\":\"https://auth.interledger-test.dev/token/8f69de01-5bf9-4603-91ed-eeca101081f1\",\"expires_in\":3600," +
+            "\"access\":[{\"type\":\"outgoing-payment\",\"actions\":[\"create\",\"read\"],\"identifier\":\"https://ilp.interledger-test.dev/alice\"," +
+            "\"limits\":{\"receiver\":\"https://ilp.interledger-test.dev/bob/incoming-payments/48884225\"," +
+            "\"debitAmount\":{\"value\":\"2600\",\"assetCode\":\"USD\",\"assetScale\":2},\"interval\":\"R/2022-03-01T13:00:00Z/P1M\"}}]}," +
+            "\"continue\":{\"access_token\":{\"value\":\"33OMUKMKSKU80UPRY5NM\"},\"uri\":\"https://auth.interledger-test.dev/continue/4CF492MLVMSW9MKMXKHQ\",\"wait\":30}}";
+
+    private static final String INCOMING_PAYMENT = "{\"id\":\"https://ilp.interledger-test.dev/incoming-payments/016da9d5\"," +
+            "\"walletAddress\":\"https://ilp.interledger-test.dev/alice/\",\"incomingAmount\":{\"value\":\"250\",\"assetCode\":\"USD\",\"assetScale\":2}," +
+            "\"receivedAmount\":{\"value\":0,\"assetCode\":\"USD\",\"assetScale\":\"2\"},\"completed\":false,\"expiresAt\":\"2022-04-12T23:20:50.52Z\"," +
+            "\"createdAt\":\"2022-03-12T23:20:50.52Z\",\"updatedAt\":\"2022-04-01T10:24:36.11Z\",\"metadata\":{\"externalId\":\"Coffee\",\"description\":\"Hi Mo\"}," +
+            "\"methods\":[{\"type\":\"ilp\",\"ilpAddress\":\"g.ilp.iwuyge987y.98y08y\",\"sharedSecret\":\"1c7eaXa4rd2fFOBl1iydvCT1tV5TbM3RW1WLCafu_JA\"}]}";
+
+    private static final String QUOTE = "{\"id\":\"https://ilp.interledger-test.dev/quotes/ab03296b\",\"walletAddress\":\"https://ilp.interledger-test.dev/alice/\"," +
+            "\"receiver\":\"https://ilp.interledger-test.dev/incoming-payments/37a0d0ee\",\"debitAmount\":{\"value\":\"2600\",\"assetCode\":\"USD\",\"assetScale\":2}," +
+            "\"receiveAmount\":{\"value\":\"2500\",\"assetCode\":\"USD\",\"assetScale\":2},\"method\":\"ilp\",\"createdAt\":\"2022-03-12T23:20:50.52Z\",\"expiresAt\":null}";
+
+    private static final String PAYMENT = "{\"id\":\"https://ilp.interledger-test.dev/outgoing-payments/8c68d3cc\",\"walletAddress\":\"https://ilp.interledger-test.dev/alice/\"," +
+            "\"quoteId\":\"https://ilp.interledger-test.dev/quotes/ab03296b\",\"failed\":false,\"receiver\":\"https://ilp.interledger-test.dev/bob/incoming-payments/48884225\"," +
+            "\"debitAmount\":{\"value\":\"2600\",\"assetCode\":\"USD\",\"assetScale\":2},\"receiveAmount\":{\"value\":\"2500\",\"assetCode\":\"USD\",\"assetScale\":2}," +
+            "\"sentAmount\":{\"value\":\"0\",\"assetCode\":\"USD\",\"assetScale\":2},\"grantSpentDebitAmount\":{\"value\":\"2600\",\"assetCode\":\"USD\",\"assetScale\":2}," +
+            "\"metadata\":{\"description\":\"Thank you for the shoes.\"},\"createdAt\":\"2022-03-12T23:20:50.52Z\",\"updatedAt\":\"2022-04-01T10:24:36.11Z\"}";
+
+    private static final String OUTGOING_PAYMENT = "{\"interact\":{\"redirect\":\"https://auth.interledger-test.dev/4CF492MLVMSW9MKMXKHQ\",\"finish\":\"4105340a-05eb-4290-8739-f9e2b463bfa7\"}," +
+            "\"continue\":{\"access_token\":{\"value\":\"33OMUKMKSKU80UPRY5NM\"},\"uri\":\"https://auth.interledger-test.dev/continue/4CF492MLVMSW9MKMXKHQ\",\"wait\":30}}";
+
+    private static String reflective(Object value) throws Exception {
+        return new String(REFLECTIVE.writeValueAsBytes(value), StandardCharsets.UTF_8);
+    }
+
+    private static String codecs(Object value) throws Exception {
+        return new String(CODECS.writeValueAsBytes(value), StandardCharsets.UTF_8);
+    }
+
+    private static <T> T assertSameRoundTrip(String json, Class<T> type) throws Exception {
+        T generated = CODECS.readValue(json, type);
+        assertEquals(reflective(REFLECTIVE.readValue(json, type)), codecs(generated));
+        return generated;
+    }
+
+    @Test
+    public void codecsArePresent() throws Exception {
+        assertTrue(InterledgerObjectMapper.hasCodecs());
+        assertTrue(CODECS.getRegisteredModuleIds().contains(InterledgerObjectMapper.CODEC_MODULE));
+        assertInstanceOf(PaymentPointerCodec.Serializer.class, CODECS.getSerializerProviderInstance().findValueSerializer(PaymentPointer.class));
+    }
+
+    @Test
+    public void requestModelsAreByteIdentical() throws Exception {
+        PaymentPointer receiver = CODECS.readValue(WALLET, PaymentPointer.class);
+        PaymentRequest paymentRequest = PaymentRequest.build(receiver, new BigDecimal("12.34"), 60);
+        paymentRequest.metadata = new MetaData();
+        paymentRequest.metadata.externalId = "order-1";
+
+        OutgoingPaymentRequest outgoingPaymentRequest = new OutgoingPaymentRequest();
+        outgoingPaymentRequest.walletAddress = URI.create("https://ilp.interledger-test.dev/alice");
+        outgoingPaymentRequest.quoteId = URI.create("https://ilp.interledger-test.dev/quotes/ab03296b");
+
+        Object[] requests = {
+                GrantAccessRequest.build(new WalletAddress("https://ilp.interledger-test.dev/fliqa"),
+                        AccessItemType.incomingPayment,
+                        Set.of(AccessAction.read, AccessAction.complete, AccessAction.create)),
+                GrantAccessRequest.outgoing(new WalletAddress("https://ilp.interledger-test.dev/fliqa"),
+                                AccessItemType.outgoingPayment,
+                                Set.of(AccessAction.create, AccessAction.read),
+                                URI.create("https://ilp.interledger-test.dev/alice"),
+                                InterledgerAmount.build(new BigDecimal("26.00"), "USD"))
+                        .redirectInteract(URI.create("https://fliqa.io/return/76a8c9b0"), "4edb2194-dbdf-46bb-9397-d5fd57b7c8a7"),
+                paymentRequest,
+                QuoteRequest.build(URI.create("https://ilp.interledger-test.dev/alice"), "https://ilp.interledger-test.dev/incoming-payments/37a0d0ee", "ilp"),
+                outgoingPaymentRequest,
+                InteractRef.build("ad82597c-bbfa-4eb0-b04e-c9ed4e3c2c54")
+        };
+
+        for (Object request : requests) {
+            assertEquals(reflective(request), codecs(request));
+        }
+        assertEquals("{\"interact_ref\":\"ad82597c-bbfa-4eb0-b04e-c9ed4e3c2c54\"}", codecs(requests[5]));
+    }
+
+    @Test
+    public void responseModelsAreReadAndWrittenIdentically() throws Exception {
+        PaymentPointer wallet = assertSameRoundTrip(WALLET, PaymentPointer.class);
+        assertEquals("Alice", wallet.publicName);
+        assertEquals(2, wallet.assetScale);
+
+        AccessGrant grant = assertSameRoundTrip(GRANT, AccessGrant.class);
+        assertEquals(3600, (int) grant.access.expiresIn);
+        assertEquals(Set.of(AccessAction.create, AccessAction.read), grant.access.access.iterator().next().actions);
+
+        IncomingPayment incomingPayment = assertSameRoundTrip(INCOMING_PAYMENT, IncomingPayment.class);
+        assertEquals("0", incomingPayment.receivedAmount.amount); // coerced like Jackson does
+        assertEquals(2, incomingPayment.receivedAmount.assetScale);
+        assertFalse(incomingPayment.completed);
+
+        Quote quote = assertSameRoundTrip(QUOTE, Quote.class);
+        assertNull(quote.expiresAt);
+
+        Payment payment = assertSameRoundTrip(PAYMENT, Payment.class);
+        assertFalse(payment.failed);
+        assertNull(payment.grantSpentReceiveAmount);
+
+        OutgoingPayment outgoingPayment = assertSameRoundTrip(OUTGOING_PAYMENT, OutgoingPayment.class);
+        assertEquals("4105340a-05eb-4290-8739-f9e2b463bfa7", outgoingPayment.interact.token);
+    }
+
+    @Test
+    public void invalidContentFails() {
+        InterledgerObjectMapper mapper = InterledgerObjectMapper.DEFAULT;
+
+        InterledgerClientException exception = assertThrows(InterledgerClientException.class,
+                () -> mapper.readValue("[\"alice\"]", PaymentPointer.class));
+        assertEquals("Failed to deserialize response to: 'io.fliqa.client.interledger.model.PaymentPointer'.", exception.getMessage());
+
+        assertThrows(InterledgerClientException.class,
+                () -> mapper.readValue("{\"assetScale\":{}}".getBytes(StandardCharsets.UTF_8), PaymentPointer.class));
+    }
+
+    @Test
+    public void readersAndWritersAreCached() {
+        InterledgerObjectMapper mapper = new InterledgerObjectMapper();
+
+        for (Class<?> type : InterledgerObjectMapper.MODEL_TYPES) {
+            assertSame(mapper.getReader(type), mapper.getReader(type));
+            assertSame(mapper.getWriter(type), mapper.getWriter(type));
+        }
+
+        assertSame(mapper.getReader(ApiError.class), mapper.getReader(ApiError.class));
+    }
+
+    @Test
+    public void streamRoundTrip() throws Exception {
+        InterledgerObjectMapper mapper = InterledgerObjectMapper.DEFAULT;
+
+        PaymentPointer wallet = mapper.readValue(new ByteArrayInputStream(WALLET.getBytes(StandardCharsets.UTF_8)), PaymentPointer.class);
+        assertEquals("Alice", wallet.publicName);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        mapper.writeValue(out, wallet);
+        assertEquals(mapper.writeValueAsString(wallet), out.toString(StandardCharsets.UTF_8));
+
+        // stream is left open
+        out.write('!');
+        assertTrue(out.toString(StandardCharsets.UTF_8).endsWith("}!"));
+    }
+
+    @Test
+    public void readError() throws InterledgerClientException {
+        InterledgerObjectMapper mapper = InterledgerObjectMapper.DEFAULT;
+
+        ApiError error = mapper.readError("{\"error\":{\"code\":\"invalid_client\",\"description\":\"Invalid client\"}}", 401);
+        assertEquals("invalid_client", error.code);
+        assertEquals("Invalid client", error.description);
+
+        // not an API error, raw content is reported
+        InterledgerClientException exception = assertThrows(InterledgerClientException.class,
+                () -> mapper.readError("{\"message\":\"Bad gateway\"}", 502));
+        assertEquals(502, exception.getCode());
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger;
+
+import io.fliqa.client.interledger.exception.InterledgerClientException;
+import io.fliqa.client.interledger.exception.UncheckedInterledgerException;
+import io.fliqa.client.interledger.model.Page;
+import io.fliqa.client.interledger.model.PageInfo;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PageIteratorTest {
+
+    private static class NumberPage extends Page<Integer> {
+    }
+
+    /**
+     * Pages of 3 numbers up to the given count, cursor is the last number of the previous page
+     */
+    private static class Pages implements Function<String, CompletableFuture<? extends Page<Integer>>> {
+
+        private final int count;
+        private final List<String> cursors = new ArrayList<>();
+
+        private Pages(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public CompletableFuture<NumberPage> apply(String cursor) {
+            cursors.add(cursor);
+            int from = cursor == null ? 0 : Integer.parseInt(cursor) + 1;
+            int to = Math.min(from + 3, count);
+
+            NumberPage page = new NumberPage();
+            page.result = IntStream.range(from, to).boxed().toList();
+            page.pagination = new PageInfo();
+            page.pagination.hasNextPage = to < count;
+            page.pagination.endCursor = String.valueOf(to - 1);
+            return CompletableFuture.completedFuture(page);
+        }
+    }
+
+    @Test
+    public void streamsAllPagesLazily() {
+        Pages pages = new Pages(10);
+
+        try (Stream<Integer> stream = PageIterator.stream(pages)) {
+            assertTrue(pages.cursors.isEmpty()); // nothing requested before the stream is consumed
+            assertEquals(IntStream.range(0, 10).boxed().toList(), stream.collect(Collectors.toList()));
+        }
+
+        assertEquals(List.of("2", "5", "8"), pages.cursors.subList(1, 4));
+        assertNull(pages.cursors.get(0));
+    }
+
+    @Test
+    public void nextPageIsPrefetched() {
+        Pages pages = new Pages(10);
+        Iterator<Integer> iterator = new PageIterator<>(pages);
+
+        assertEquals(0, (int) iterator.next());
+
+        assertEquals(2, pages.cursors.size()); // second page requested while the first is processed
+    }
+
+    @Test
+    public void emptyList() {
+        assertFalse(new PageIterator<>(new Pages(0)).hasNext());
+    }
+
+    @Test
+    public void failedPageIsThrownWhenReached() {
+        Pages pages = new Pages(10);
+        Iterator<Integer> iterator = new PageIterator<>(cursor -> cursor == null
+                ? pages.apply(null)
+                : CompletableFuture.failedFuture(new InterledgerClientException(403, "forbidden")));
+
+        assertEquals(List.of(0, 1, 2), List.of(iterator.next(), iterator.next(), iterator.next()));
+
+        UncheckedInterledgerException exception = assertThrows(UncheckedInterledgerException.class, iterator::hasNext);
+        assertEquals(403, exception.getCause().getCode());
+    }
+
+    @Test
+    public void publisherHonorsDemand() {
+        Pages pages = new Pages(10);
+        List<Integer> received = new ArrayList<>();
+        List<Flow.Subscription> subscriptions = new ArrayList<>();
+        CompletableFuture<Void> completed = new CompletableFuture<>();
+
+        new PagePublisher<>(pages).subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscriptions.add(subscription);
+            }
+
+            @Override
+            public void onNext(Integer item) {
+                received.add(item);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                completed.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                completed.complete(null);
+            }
+        });
+
+        assertTrue(pages.cursors.isEmpty()); // no page before demand
+
+        subscriptions.get(0).request(4);
+        assertEquals(List.of(0, 1, 2, 3), received);
+        assertEquals(3, pages.cursors.size()); // current and one prefetched page
+        assertFalse(completed.isDone());
+
+        subscriptions.get(0).request(Long.MAX_VALUE);
+        assertEquals(IntStream.range(0, 10).boxed().toList(), received);
+        assertTrue(completed.isDone());
+    }
+
+    @Test
+    public void publisherSignalsFailure() {
+        CompletableFuture<Throwable> failure = new CompletableFuture<>();
+
+        new PagePublisher<Integer>(cursor -> CompletableFuture.failedFuture(new InterledgerClientException(401, "invalid token")))
+                .subscribe(new Flow.Subscriber<>() {
+                    @Override
+                    public void onSubscribe(Flow.Subscription subscription) {
+                        subscription.request(1);
+                    }
+
+                    @Override
+                    public void onNext(Integer item) {
+                        fail("no items expected");
+                    }
+
+                    @Override
+                    public void onError(Throwable throwable) {
+                        failure.complete(throwable);
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        fail("failure expected");
+                    }
+                });
+
+        InterledgerClientException exception = assertInstanceOf(InterledgerClientException.class, failure.join());
+        assertEquals(401, exception.getCode());
+    }
+}
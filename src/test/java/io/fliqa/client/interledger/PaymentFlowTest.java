@@ -0,0 +1,166 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger;
+
+import io.fliqa.client.interledger.exception.InterledgerClientException;
+import io.fliqa.client.interledger.model.Payment;
+import io.fliqa.client.interledger.model.WalletAddress;
+import io.fliqa.client.interledger.transport.InterledgerResponse;
+import io.fliqa.client.interledger.transport.StubTransport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.security.KeyPairGenerator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PaymentFlowTest {
+
+    private static final WalletAddress RECEIVER = new WalletAddress("https://ilp.receiver.test/bob");
+    private static final WalletAddress SENDER = new WalletAddress("https://ilp.sender.test/alice");
+    private static final URI RETURN_URL = URI.create("https://demo.fliqa.io/interledger/payment.html?paymentId=1234");
+
+    private static final String GRANT_JSON = "{\"access_token\":{\"value\":\"token\",\"manage\":\"https://auth.sender.test/token/1\"," +
+            "\"access\":[{\"type\":\"quote\",\"actions\":[\"create\",\"read\"]}]}}";
+
+    private final CountDownLatch senderWalletRequested = new CountDownLatch(1);
+    private final CountDownLatch quoteGrantRequested = new CountDownLatch(1);
+    private final AtomicInteger senderGrants = new AtomicInteger();
+
+    private ExecutorService executor;
+    private StubTransport transport;
+    private InterledgerApiClientImpl client;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        executor = Executors.newCachedThreadPool(); // handlers block until a parallel step was requested
+        transport = new StubTransport(this::handle, executor);
+        client = new InterledgerApiClientImpl(new WalletAddress("https://ilp.interledger-test.dev/fliqa"),
+                KeyPairGenerator.getInstance("Ed25519").generateKeyPair().getPrivate(),
+                "test-key-id", InterledgerClientOptions.DEFAULT, transport);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static String wallet(String host, String name) {
+        return "{\"id\":\"https://ilp." + host + "/" + name + "\",\"publicName\":\"" + name + "\",\"assetCode\":\"EUR\",\"assetScale\":2," +
+                "\"authServer\":\"https://auth." + host + "\",\"resourceServer\":\"https://ilp." + host + "\"}";
+    }
+
+    private static String amount(String value) {
+        return "{\"value\":\"" + value + "\",\"assetCode\":\"EUR\",\"assetScale\":2}";
+    }
+
+    /**
+     * Simulated receiver and sender servers, the receiver side only answers once the matching sender side
+     * step was requested, so a sequential flow would time out.
+     */
+    private InterledgerResponse handle(HttpRequest request) {
+        String host = request.uri().getHost();
+        String path = request.uri().getPath().replaceAll("(.)/$", "$1"); // resource URLs end with a slash
+
+        switch (host + path) {
+            case "ilp.receiver.test/bob":
+                await(senderWalletRequested);
+                return StubTransport.response(request, 200, wallet("receiver.test", "bob"));
+            case "ilp.sender.test/alice":
+                senderWalletRequested.countDown();
+                return StubTransport.response(request, 200, wallet("sender.test", "alice"));
+            case "auth.receiver.test/":
+                return StubTransport.response(request, 200, GRANT_JSON);
+            case "ilp.receiver.test/incoming-payments":
+                await(quoteGrantRequested);
+                return StubTransport.response(request, 201, "{\"id\":\"https://ilp.receiver.test/incoming-payments/1\"," +
+                        "\"walletAddress\":\"https://ilp.receiver.test/bob\",\"completed\":false," +
+                        "\"createdAt\":\"2025-01-01T00:00:00Z\",\"updatedAt\":\"2025-01-01T00:00:00Z\"}");
+            case "auth.sender.test/":
+                if (senderGrants.incrementAndGet() == 1) {
+                    quoteGrantRequested.countDown();
+                    return StubTransport.response(request, 200, GRANT_JSON);
+                }
+                return StubTransport.response(request, 200, "{\"interact\":{\"redirect\":\"https://auth.sender.test/interact/1\"}," +
+                        "\"continue\":{\"access_token\":{\"value\":\"continue-token\"},\"uri\":\"https://auth.sender.test/continue/1\"}}");
+            case "ilp.sender.test/quotes":
+                return StubTransport.response(request, 201, "{\"id\":\"https://ilp.sender.test/quotes/1\",\"method\":\"ilp\"," +
+                        "\"walletAddress\":\"https://ilp.sender.test/alice\",\"receiver\":\"https://ilp.receiver.test/incoming-payments/1\"," +
+                        "\"debitAmount\":" + amount("1234") + ",\"receiveAmount\":" + amount("1234") + ",\"createdAt\":\"2025-01-01T00:00:00Z\"}");
+            case "auth.sender.test/continue/1":
+                return StubTransport.response(request, 200, GRANT_JSON);
+            case "ilp.sender.test/outgoing-payments":
+                return StubTransport.response(request, 201, "{\"id\":\"https://ilp.sender.test/outgoing-payments/1\",\"failed\":false}");
+            default:
+                return StubTransport.response(request, 404, "{\"error\":{\"code\":\"not_found\",\"description\":\"" + path + "\"}}");
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) {
+                throw new AssertionError("independent step was not started in parallel");
+            }
+        } catch (InterruptedException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    @Test
+    public void independentStepsRunInParallel() throws InterledgerClientException {
+        PaymentFlow flow = client.startPayment(RECEIVER, SENDER, new BigDecimal("12.34"), RETURN_URL, "nonce");
+
+        assertEquals(URI.create("https://auth.sender.test/interact/1"), flow.getRedirect());
+        assertEquals(URI.create("https://ilp.receiver.test/incoming-payments/1"), flow.incomingPayment.id);
+        assertEquals(URI.create("https://ilp.sender.test/quotes/1"), flow.quote.id);
+        assertEquals("bob", flow.receiverWallet.publicName);
+        assertEquals("alice", flow.senderWallet.publicName);
+        assertEquals(7, transport.requests.size());
+    }
+
+    @Test
+    public void completeFinalizesGrantAndPayment() throws InterledgerClientException {
+        PaymentFlow flow = new InterledgerAsyncApiClientImpl(client)
+                .startPayment(RECEIVER, SENDER, new BigDecimal("12.34"), RETURN_URL, "nonce")
+                .join();
+
+        Payment payment = flow.completeAsync("interact-ref").join();
+
+        assertEquals(URI.create("https://ilp.sender.test/outgoing-payments/1"), payment.id);
+        List<String> paths = transport.requests.stream().skip(7).map(request -> request.uri().getPath()).toList();
+        assertEquals(List.of("/continue/1/", "/outgoing-payments/"), paths);
+    }
+
+    @Test
+    public void failingStepFailsFlow() {
+        WalletAddress unknown = new WalletAddress("https://ilp.receiver.test/unknown");
+
+        InterledgerClientException exception = assertThrows(InterledgerClientException.class,
+                () -> client.startPayment(unknown, SENDER, new BigDecimal("12.34"), RETURN_URL, "nonce"));
+
+        assertEquals(404, exception.getCode());
+    }
+}
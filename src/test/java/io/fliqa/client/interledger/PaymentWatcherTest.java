@@ -0,0 +1,210 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger;
+
+import io.fliqa.client.interledger.exception.InterledgerClientException;
+import io.fliqa.client.interledger.exception.InterledgerPaymentExpiredException;
+import io.fliqa.client.interledger.model.AccessGrant;
+import io.fliqa.client.interledger.model.AccessToken;
+import io.fliqa.client.interledger.model.IncomingPayment;
+import io.fliqa.client.interledger.model.WalletAddress;
+import io.fliqa.client.interledger.transport.InterledgerResponse;
+import io.fliqa.client.interledger.transport.StubTransport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.security.KeyPairGenerator;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PaymentWatcherTest {
+
+    private static final WatchPolicy POLICY = WatchPolicy.builder()
+            .initialInterval(Duration.ofMillis(10))
+            .multiplier(1.0)
+            .maxInterval(Duration.ofMillis(10))
+            .jitter(0.0)
+            .tickDuration(Duration.ofMillis(5))
+            .maxDuration(Duration.ofSeconds(5))
+            .build();
+
+    private final ConcurrentHashMap<String, AtomicInteger> polls = new ConcurrentHashMap<>();
+    private volatile int completeAfter = 3;
+    private volatile int status = 200;
+
+    private InterledgerApiClientImpl client;
+    private PaymentWatcher watcher;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        client = new InterledgerApiClientImpl(new WalletAddress("https://ilp.interledger-test.dev/fliqa"),
+                KeyPairGenerator.getInstance("Ed25519").generateKeyPair().getPrivate(),
+                "test-key-id", InterledgerClientOptions.DEFAULT, new StubTransport(this::handle));
+        watcher = new PaymentWatcher(client, POLICY);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        watcher.close();
+    }
+
+    /**
+     * Incoming payments are completed on the n-th poll.
+     */
+    private InterledgerResponse handle(HttpRequest request) {
+        String id = request.uri().toString().replaceAll("/$", "");
+        int poll = polls.computeIfAbsent(id, key -> new AtomicInteger()).incrementAndGet();
+        if (status != 200) {
+            return StubTransport.response(request, status, "{\"error\":{\"code\":\"error\",\"description\":\"failed\"}}");
+        }
+        return StubTransport.response(request, 200, payment(id, poll >= completeAfter));
+    }
+
+    private static String payment(String id, boolean completed) {
+        return "{\"id\":\"" + id + "\",\"walletAddress\":\"https://ilp.interledger-test.dev/bob\",\"completed\":" + completed + "," +
+                "\"createdAt\":\"2025-01-01T00:00:00Z\",\"updatedAt\":\"2025-01-01T00:00:00Z\"}";
+    }
+
+    private static IncomingPayment incomingPayment(String id, Instant expiresAt) {
+        IncomingPayment payment = new IncomingPayment();
+        payment.id = URI.create(id);
+        payment.expiresAt = expiresAt;
+        return payment;
+    }
+
+    private static AccessGrant grant() {
+        AccessGrant grant = new AccessGrant();
+        grant.access = new AccessToken();
+        grant.access.token = "token";
+        return grant;
+    }
+
+    @Test
+    public void completesOnceThePaymentIsCompleted() throws Exception {
+        IncomingPayment completed = watcher.watch(incomingPayment("https://ilp.interledger-test.dev/incoming-payments/1", null), grant())
+                .get(5, TimeUnit.SECONDS);
+
+        assertTrue(completed.completed);
+        assertEquals(3, polls.get("https://ilp.interledger-test.dev/incoming-payments/1").get());
+        assertEquals(3, watcher.getPolls());
+        assertEquals(0, watcher.size());
+    }
+
+    @Test
+    public void watchesManyPaymentsWithOneThread() throws Exception {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[200];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = watcher.watch(incomingPayment("https://ilp.host" + (i % 4) + ".test/incoming-payments/" + i, null), grant());
+        }
+
+        CompletableFuture.allOf(futures).get(10, TimeUnit.SECONDS);
+
+        assertEquals(200, polls.size());
+        assertEquals(600, watcher.getPolls());
+    }
+
+    @Test
+    public void completedPaymentIsNotPolled() throws Exception {
+        IncomingPayment payment = incomingPayment("https://ilp.interledger-test.dev/incoming-payments/1", null);
+        payment.completed = true;
+
+        assertSame(payment, watcher.watch(payment, grant()).get());
+        assertEquals(0, watcher.getPolls());
+    }
+
+    @Test
+    public void expiresWhenNotCompletedInTime() {
+        completeAfter = Integer.MAX_VALUE;
+        IncomingPayment payment = incomingPayment("https://ilp.interledger-test.dev/incoming-payments/1", Instant.now().plusMillis(50));
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> watcher.watch(payment, grant()).get(5, TimeUnit.SECONDS));
+
+        InterledgerPaymentExpiredException expired = assertInstanceOf(InterledgerPaymentExpiredException.class, exception.getCause());
+        assertFalse(expired.getPayment().completed);
+        assertTrue(watcher.getPolls() >= 2);
+    }
+
+    @Test
+    public void clientErrorStopsWatching() {
+        status = 404;
+
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> watcher.watch(incomingPayment("https://ilp.interledger-test.dev/incoming-payments/1", null), grant()).get(5, TimeUnit.SECONDS));
+
+        assertEquals(404, assertInstanceOf(InterledgerClientException.class, exception.getCause()).getCode());
+        assertEquals(1, watcher.getPolls());
+    }
+
+    @Test
+    public void serverErrorIsPolledAgain() throws Exception {
+        status = 503;
+        CompletableFuture<IncomingPayment> future = watcher.watch(incomingPayment("https://ilp.interledger-test.dev/incoming-payments/1", null), grant());
+
+        while (watcher.getPolls() < 2) {
+            Thread.sleep(5);
+        }
+        status = 200;
+
+        assertTrue(future.get(5, TimeUnit.SECONDS).completed);
+    }
+
+    @Test
+    public void listenerIsNotified() throws Exception {
+        completeAfter = 1;
+        CountDownLatch notified = new CountDownLatch(1);
+        AtomicReference<IncomingPayment> completed = new AtomicReference<>();
+
+        watcher.watch(incomingPayment("https://ilp.interledger-test.dev/incoming-payments/1", null), grant(), new PaymentListener() {
+            @Override
+            public void onCompleted(IncomingPayment payment) {
+                completed.set(payment);
+                notified.countDown();
+            }
+
+            @Override
+            public void onExpired(IncomingPayment payment) {
+                fail("not expired");
+            }
+        });
+
+        assertTrue(notified.await(5, TimeUnit.SECONDS));
+        assertTrue(completed.get().completed);
+    }
+
+    @Test
+    public void closeCancelsWatches() {
+        completeAfter = Integer.MAX_VALUE;
+        CompletableFuture<IncomingPayment> future = watcher.watch(incomingPayment("https://ilp.interledger-test.dev/incoming-payments/1", null), grant());
+
+        watcher.close();
+
+        assertThrows(CancellationException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertThrows(IllegalStateException.class, () -> watcher.watch(incomingPayment("https://ilp.interledger-test.dev/incoming-payments/2", null), grant()));
+    }
+}
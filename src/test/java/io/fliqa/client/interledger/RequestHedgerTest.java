@@ -0,0 +1,156 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger;
+
+import io.fliqa.client.interledger.transport.InterledgerResponse;
+import io.fliqa.client.interledger.transport.StubTransport;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestHedgerTest {
+
+    private static final String HOST = "https://ilp.interledger-test.dev";
+
+    private static HttpRequest request(String method) {
+        return HttpRequest.newBuilder(URI.create(HOST + "/alice")).method(method, HttpRequest.BodyPublishers.noBody()).build();
+    }
+
+    private static HedgingPolicy policy(double budget) {
+        return HedgingPolicy.builder()
+                .minSamples(1)
+                .minDelay(Duration.ofMillis(5))
+                .maxDelay(Duration.ofMillis(20))
+                .budget(budget)
+                .build();
+    }
+
+    private static CompletableFuture<InterledgerResponse> ok(HttpRequest request) {
+        return CompletableFuture.completedFuture(StubTransport.response(request, 200, "{}"));
+    }
+
+    @Test
+    public void onlyReadsAreHedged() {
+        RequestHedger hedger = new RequestHedger(HedgingPolicy.DEFAULT);
+
+        assertTrue(hedger.isHedged(request("GET")));
+        assertFalse(hedger.isHedged(request("POST")));
+        assertFalse(new RequestHedger(HedgingPolicy.DISABLED).isHedged(request("GET")));
+    }
+
+    @Test
+    public void notHedgedWithoutLatencySamples() {
+        RequestHedger hedger = new RequestHedger(policy(1.0));
+
+        InterledgerResponse response = hedger.exchange(request("GET"), () -> request("GET"),
+                RequestHedgerTest::ok, RequestHedgerTest::ok).join();
+
+        assertEquals(200, response.statusCode);
+        assertEquals(0, hedger.getHedges());
+        Duration delay = hedger.getHedgeDelay(HOST); // clamped between min and max delay
+        assertTrue(delay.toMillis() >= 5 && delay.toMillis() <= 20, "hedge delay: " + delay);
+    }
+
+    @Test
+    public void slowRequestIsHedged() {
+        RequestHedger hedger = new RequestHedger(policy(1.0));
+        hedger.exchange(request("GET"), () -> request("GET"), RequestHedgerTest::ok, RequestHedgerTest::ok).join();
+
+        CompletableFuture<InterledgerResponse> stuck = new CompletableFuture<>();
+        AtomicInteger built = new AtomicInteger();
+
+        InterledgerResponse response = hedger.exchange(request("GET"),
+                () -> {
+                    built.incrementAndGet();
+                    return request("GET");
+                },
+                request -> stuck,
+                RequestHedgerTest::ok).orTimeout(5, TimeUnit.SECONDS).join();
+
+        assertEquals(200, response.statusCode);
+        assertEquals(1, built.get()); // hedge is built (signed) again
+        assertTrue(stuck.isCancelled()); // loser is cancelled
+        assertEquals(1, hedger.getHedges());
+        assertEquals(1, hedger.getHedgeWins());
+    }
+
+    @Test
+    public void hedgeBudgetLimitsExtraRequests() throws InterruptedException {
+        RequestHedger hedger = new RequestHedger(policy(0.1));
+        hedger.exchange(request("GET"), () -> request("GET"), RequestHedgerTest::ok, RequestHedgerTest::ok).join();
+
+        CompletableFuture<InterledgerResponse> result = hedger.exchange(request("GET"), () -> request("GET"),
+                request -> new CompletableFuture<>(),
+                RequestHedgerTest::ok);
+
+        Thread.sleep(100);
+        assertFalse(result.isDone());
+        assertEquals(0, hedger.getHedges());
+    }
+
+    @Test
+    public void failedFirstAttemptWaitsForHedge() {
+        RequestHedger hedger = new RequestHedger(policy(1.0));
+        hedger.exchange(request("GET"), () -> request("GET"), RequestHedgerTest::ok, RequestHedgerTest::ok).join();
+
+        CompletableFuture<InterledgerResponse> failing = new CompletableFuture<>();
+        CompletableFuture<InterledgerResponse> result = hedger.exchange(request("GET"), () -> request("GET"),
+                request -> failing,
+                request -> {
+                    failing.completeExceptionally(new IllegalStateException("connection reset"));
+                    return ok(request);
+                });
+
+        assertEquals(200, result.orTimeout(5, TimeUnit.SECONDS).join().statusCode);
+    }
+
+    @Test
+    public void cancelledSlowPrimariesKeepHedgeDelay() {
+        RequestHedger hedger = new RequestHedger(HedgingPolicy.builder()
+                .percentile(0.75)
+                .minSamples(1)
+                .minDelay(Duration.ofMillis(1))
+                .maxDelay(Duration.ofSeconds(1))
+                .budget(1.0)
+                .build());
+
+        // primaries answer after ~50 ms
+        hedger.exchange(request("GET"), () -> request("GET"),
+                request -> CompletableFuture.supplyAsync(() -> StubTransport.response(request, 200, "{}"),
+                        CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS)),
+                RequestHedgerTest::ok).join();
+        assertTrue(hedger.getHedgeDelay(HOST).toMillis() >= 50);
+
+        // hedges win, the slow primaries are cancelled
+        for (int i = 0; i < RequestHedger.RECOMPUTE_INTERVAL; i++) {
+            CompletableFuture<InterledgerResponse> stuck = new CompletableFuture<>();
+            hedger.exchange(request("GET"), () -> request("GET"), request -> stuck, RequestHedgerTest::ok)
+                    .orTimeout(5, TimeUnit.SECONDS).join();
+            assertTrue(stuck.isCancelled());
+        }
+
+        assertEquals(RequestHedger.RECOMPUTE_INTERVAL, hedger.getHedgeWins());
+        // cancelled primaries are sampled (at the time they were cancelled), the delay does not drift down to min delay
+        assertTrue(hedger.getHedgeDelay(HOST).toMillis() >= 40, "hedge delay: " + hedger.getHedgeDelay(HOST));
+    }
+}
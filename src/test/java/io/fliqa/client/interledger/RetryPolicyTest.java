@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger;
+
+import io.fliqa.client.interledger.exception.InterledgerClientException;
+import io.fliqa.client.interledger.exception.InterledgerConnectionException;
+import io.fliqa.client.interledger.exception.InterledgerServerException;
+import io.fliqa.client.interledger.transport.InterledgerResponse;
+import io.fliqa.client.interledger.utils.RetryAfter;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.http.HttpHeaders;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryPolicyTest {
+
+    private final RetryPolicy policy = RetryPolicy.builder()
+            .maxAttempts(4)
+            .initialBackoff(Duration.ofMillis(100))
+            .multiplier(2)
+            .maxBackoff(Duration.ofMillis(300))
+            .jitter(0.5)
+            .maxElapsed(Duration.ofSeconds(10))
+            .build();
+
+    private static InterledgerResponse response(int status, Map<String, List<String>> headers) {
+        return new InterledgerResponse(URI.create("https://ilp.interledger-test.dev/alice"), status,
+                HttpHeaders.of(headers, (name, value) -> true), new byte[0]);
+    }
+
+    @Test
+    public void backoff_exponentialCappedWithJitter() {
+        assertEquals(Duration.ofMillis(100), policy.getBackoff(1, 0));
+        assertEquals(Duration.ofMillis(200), policy.getBackoff(2, 0));
+        assertEquals(Duration.ofMillis(300), policy.getBackoff(3, 0));
+        assertEquals(Duration.ofMillis(300), policy.getBackoff(10, 0));
+
+        assertEquals(Duration.ofMillis(50), policy.getBackoff(1, 1));
+        assertEquals(Duration.ofMillis(150), policy.getBackoff(3, 1));
+    }
+
+    @Test
+    public void get_retriedOnTransientStatus() {
+        assertNotNull(policy.getDelay("GET", 1, Duration.ZERO, response(503, Map.of())));
+        assertNotNull(policy.getDelay("GET", 1, Duration.ZERO, response(429, Map.of())));
+        assertNotNull(policy.getDelay("GET", 1, Duration.ZERO, response(502, Map.of())));
+
+        assertNull(policy.getDelay("GET", 1, Duration.ZERO, response(200, Map.of())));
+        assertNull(policy.getDelay("GET", 1, Duration.ZERO, response(404, Map.of())));
+        assertNull(policy.getDelay("GET", 1, Duration.ZERO, response(501, Map.of())));
+    }
+
+    @Test
+    public void post_notRetriedOnStatus() {
+        assertNull(policy.getDelay("POST", 1, Duration.ZERO, response(503, Map.of())));
+        assertNull(policy.getDelay("POST", 1, Duration.ZERO, response(429, Map.of())));
+    }
+
+    @Test
+    public void post_retriedOnlyBeforeRequestWasSent() {
+        InterledgerClientException refused = new InterledgerConnectionException(new ConnectException("connection refused"));
+        InterledgerClientException reset = new InterledgerConnectionException(new IOException("connection reset"));
+
+        assertFalse(((InterledgerConnectionException) refused).isRequestSent());
+        assertTrue(((InterledgerConnectionException) reset).isRequestSent());
+
+        assertNotNull(policy.getDelay("POST", 1, Duration.ZERO, refused));
+        assertNull(policy.getDelay("POST", 1, Duration.ZERO, reset));
+        assertNotNull(policy.getDelay("GET", 1, Duration.ZERO, reset));
+    }
+
+    @Test
+    public void fatalFailureNotRetried() {
+        InterledgerClientException forbidden = new InterledgerClientException(403, "forbidden");
+
+        assertFalse(forbidden.isRetryable());
+        assertNull(policy.getDelay("GET", 1, Duration.ZERO, forbidden));
+    }
+
+    @Test
+    public void maxAttempts() {
+        assertNotNull(policy.getDelay("GET", 3, Duration.ZERO, response(503, Map.of())));
+        assertNull(policy.getDelay("GET", 4, Duration.ZERO, response(503, Map.of())));
+
+        assertFalse(RetryPolicy.NONE.isEnabled());
+        assertNull(RetryPolicy.NONE.getDelay("GET", 1, Duration.ZERO, response(503, Map.of())));
+    }
+
+    @Test
+    public void retryAfter_replacesBackoff() {
+        Duration delay = policy.getDelay("GET", 1, Duration.ZERO, response(429, Map.of("Retry-After", List.of("2"))));
+        assertEquals(Duration.ofSeconds(2), delay);
+
+        InterledgerServerException unavailable = new InterledgerServerException(503, "unavailable",
+                HttpHeaders.of(Map.of("Retry-After", List.of("3")), (name, value) -> true), null);
+        assertTrue(unavailable.isRetryable());
+        assertEquals(Duration.ofSeconds(3), policy.getDelay("GET", 1, Duration.ZERO, unavailable));
+    }
+
+    @Test
+    public void budgetExceeded() {
+        assertNull(policy.getDelay("GET", 1, Duration.ZERO, response(429, Map.of("Retry-After", List.of("60")))));
+        assertNull(policy.getDelay("GET", 1, Duration.ofMillis(9960), response(503, Map.of())));
+    }
+
+    @Test
+    public void parseRetryAfter() {
+        Instant now = Instant.parse("2025-01-01T10:00:00Z");
+
+        assertEquals(Duration.ofSeconds(120), RetryAfter.parse("120", now));
+        assertEquals(Duration.ofSeconds(30), RetryAfter.parse("Wed, 01 Jan 2025 10:00:30 GMT", now));
+        assertEquals(Duration.ZERO, RetryAfter.parse("Wed, 01 Jan 2025 09:00:00 GMT", now));
+        assertNull(RetryAfter.parse("-1", now));
+        assertNull(RetryAfter.parse("soon", now));
+        assertNull(RetryAfter.parse("", now));
+    }
+
+    @Test
+    public void invalidJitter() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> RetryPolicy.builder().jitter(1.5));
+
+        assertEquals("jitter must be between 0 and 1.", exception.getMessage());
+    }
+}
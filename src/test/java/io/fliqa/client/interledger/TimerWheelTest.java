@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimerWheelTest {
+
+    private static final long TICK = 10;
+
+    @Test
+    public void expiresTimersOnceDue() {
+        TimerWheel<String> wheel = new TimerWheel<>(TICK, 8, 0);
+        wheel.schedule("b", 35);
+        wheel.schedule("a", 20);
+        wheel.schedule("c", 40);
+
+        List<String> expired = new ArrayList<>();
+        wheel.advance(19, expired::add);
+        assertEquals(List.of(), expired);
+
+        wheel.advance(39, expired::add);
+        assertEquals(List.of("a"), expired);
+
+        wheel.advance(40, expired::add);
+        assertEquals(List.of("a", "b", "c"), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void timersOfLaterRoundsStayInPlace() {
+        TimerWheel<String> wheel = new TimerWheel<>(TICK, 4, 0);
+        wheel.schedule("next", 10);
+        wheel.schedule("later", 50); // same bucket, one round later
+
+        List<String> expired = new ArrayList<>();
+        wheel.advance(10, expired::add);
+        assertEquals(List.of("next"), expired);
+        assertEquals(1, wheel.size());
+
+        wheel.advance(49, expired::add);
+        assertEquals(List.of("next"), expired);
+
+        wheel.advance(50, expired::add);
+        assertEquals(List.of("next", "later"), expired);
+    }
+
+    @Test
+    public void pastTimersExpireOnNextTick() {
+        TimerWheel<String> wheel = new TimerWheel<>(TICK, 8, 100);
+        wheel.schedule("late", 50);
+
+        List<String> expired = new ArrayList<>();
+        wheel.advance(109, expired::add);
+        assertEquals(List.of(), expired);
+
+        wheel.advance(110, expired::add);
+        assertEquals(List.of("late"), expired);
+    }
+
+    @Test
+    public void expiredTimersCanBeRescheduled() {
+        TimerWheel<Integer> wheel = new TimerWheel<>(TICK, 8, 0);
+        wheel.schedule(0, 10);
+
+        List<Integer> expired = new ArrayList<>();
+        wheel.advance(100, polled -> {
+            expired.add(polled);
+            wheel.schedule(polled + 1, (polled + 2) * TICK); // every tick, even when due in the current bucket
+        });
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), expired);
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    public void clearRemovesAllTimers() {
+        TimerWheel<String> wheel = new TimerWheel<>(TICK, 8, 0);
+        wheel.schedule("a", 10);
+        wheel.schedule("b", 1000);
+
+        List<String> removed = new ArrayList<>();
+        wheel.clear(removed::add);
+
+        assertEquals(2, removed.size());
+        assertEquals(0, wheel.size());
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.cache;
+
+import io.fliqa.client.interledger.model.PaymentPointer;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpHeaders;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WalletCacheTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-01T10:00:00Z");
+
+    private static final URI ALICE = URI.create("https://ilp.interledger-test.dev/alice");
+    private static final URI BOB = URI.create("https://ilp.interledger-test.dev/bob");
+    private static final URI CAROL = URI.create("https://ilp.interledger-test.dev/carol");
+
+    /**
+     * Clock that can be moved forward in tests
+     */
+    private static class TestClock extends Clock {
+
+        private Instant now = NOW;
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("UTC");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+    }
+
+    private static HttpHeaders headers(String... nameValues) {
+        Map<String, List<String>> map = new HashMap<>();
+        for (int i = 0; i < nameValues.length; i += 2) {
+            map.put(nameValues[i], List.of(nameValues[i + 1]));
+        }
+        return HttpHeaders.of(map, (name, value) -> true);
+    }
+
+    private static PaymentPointer wallet(URI id) {
+        PaymentPointer wallet = new PaymentPointer();
+        wallet.address = id;
+        return wallet;
+    }
+
+    @Test
+    public void hitAndMiss() {
+        WalletCache cache = new WalletCache(10, 60, new TestClock());
+
+        assertNull(cache.get(ALICE));
+        cache.put(ALICE, wallet(ALICE), headers());
+        assertEquals(ALICE, cache.get(ALICE).address);
+
+        CacheStatistics statistics = cache.getStatistics();
+        assertEquals(1, statistics.hits);
+        assertEquals(1, statistics.misses);
+        assertEquals(1, statistics.size);
+        assertEquals(0.5, statistics.hitRate());
+    }
+
+    @Test
+    public void fallbackTtl() {
+        TestClock clock = new TestClock();
+        WalletCache cache = new WalletCache(10, 60, clock);
+        cache.put(ALICE, wallet(ALICE), headers());
+
+        clock.advance(Duration.ofSeconds(59));
+        assertNotNull(cache.get(ALICE));
+
+        clock.advance(Duration.ofSeconds(1));
+        assertNull(cache.get(ALICE));
+    }
+
+    @Test
+    public void cacheControlTtl() {
+        WalletCache cache = new WalletCache(10, 60);
+
+        assertEquals(Duration.ofSeconds(3600), cache.getTtl(headers("Cache-Control", "public, max-age=3600"), NOW));
+        assertEquals(Duration.ofSeconds(120), cache.getTtl(headers("Cache-Control", "max-age=3600, s-maxage=120"), NOW));
+        assertEquals(Duration.ZERO, cache.getTtl(headers("Cache-Control", "no-store"), NOW));
+        assertEquals(Duration.ZERO, cache.getTtl(headers("Cache-Control", "No-Cache"), NOW));
+        assertEquals(Duration.ZERO, cache.getTtl(headers("Cache-Control", "max-age=invalid"), NOW));
+        // no max-age, falls back to default
+        assertEquals(Duration.ofSeconds(60), cache.getTtl(headers("Cache-Control", "public"), NOW));
+    }
+
+    @Test
+    public void expiresTtl() {
+        WalletCache cache = new WalletCache(10, 60);
+
+        assertEquals(Duration.ofMinutes(10), cache.getTtl(headers("Expires", "Sat, 01 Mar 2025 10:10:00 GMT"), NOW));
+        assertEquals(Duration.ofMinutes(5), cache.getTtl(headers(
+                "Expires", "Sat, 01 Mar 2025 10:10:00 GMT",
+                "Date", "Sat, 01 Mar 2025 10:05:00 GMT"), NOW));
+        assertEquals(Duration.ZERO, cache.getTtl(headers("Expires", "0"), NOW));
+        // max-age takes precedence over Expires
+        assertEquals(Duration.ofSeconds(30), cache.getTtl(headers(
+                "Cache-Control", "max-age=30",
+                "Expires", "Sat, 01 Mar 2025 10:10:00 GMT"), NOW));
+    }
+
+    @Test
+    public void notCachedWhenServerForbids() {
+        WalletCache cache = new WalletCache(10, 60, new TestClock());
+
+        cache.put(ALICE, wallet(ALICE), headers());
+        cache.put(ALICE, wallet(ALICE), headers("Cache-Control", "no-store"));
+
+        assertNull(cache.get(ALICE));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void evictsOldest() {
+        WalletCache cache = new WalletCache(2, 60, new TestClock());
+
+        cache.put(ALICE, wallet(ALICE), headers());
+        cache.put(BOB, wallet(BOB), headers());
+        cache.put(ALICE, wallet(ALICE), headers()); // replace doesn't change the order or size
+        cache.put(CAROL, wallet(CAROL), headers());
+
+        assertNull(cache.get(ALICE));
+        assertNotNull(cache.get(BOB));
+        assertNotNull(cache.get(CAROL));
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getStatistics().evictions);
+    }
+
+    @Test
+    public void invalidateAndClear() {
+        WalletCache cache = new WalletCache(10, 60, new TestClock());
+        cache.put(ALICE, wallet(ALICE), headers());
+        cache.put(BOB, wallet(BOB), headers());
+
+        cache.invalidate(ALICE);
+        assertNull(cache.get(ALICE));
+        assertNotNull(cache.get(BOB));
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void putAndInvalidateConcurrently() throws Exception {
+        WalletCache cache = new WalletCache(4, 60, new TestClock());
+        List<URI> addresses = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            addresses.add(URI.create("https://ilp.interledger-test.dev/wallet-" + i));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                int offset = thread;
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        URI address = addresses.get((i / 2 + offset) % addresses.size());
+                        if (i % 2 == 0) {
+                            cache.put(address, wallet(address), headers());
+                        } else {
+                            cache.invalidate(address);
+                        }
+                    }
+                }));
+            }
+
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertTrue(cache.size() <= 4);
+
+        // no orphaned or duplicated keys left behind: fresh entries fill the cache and are evicted in order
+        addresses.forEach(cache::invalidate);
+        assertEquals(0, cache.size());
+
+        for (int i = 3; i >= 0; i--) {
+            cache.put(addresses.get(i), wallet(addresses.get(i)), headers());
+        }
+        cache.put(ALICE, wallet(ALICE), headers());
+
+        assertEquals(4, cache.size());
+        assertNull(cache.get(addresses.get(3)));
+        for (int i = 0; i < 3; i++) {
+            assertNotNull(cache.get(addresses.get(i)));
+        }
+        assertNotNull(cache.get(ALICE));
+    }
+
+    @Test
+    public void disabled() {
+        WalletCache cache = new WalletCache(0, 60);
+        cache.put(ALICE, wallet(ALICE), headers());
+
+        assertFalse(cache.isEnabled());
+        assertNull(cache.get(ALICE));
+        assertEquals(0, cache.getStatistics().misses);
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.logging;
+
+import io.fliqa.client.interledger.ApiOperation;
+import io.fliqa.client.interledger.CapturePolicy;
+import io.fliqa.client.interledger.InterledgerClientOptions;
+import io.fliqa.client.interledger.exception.InterledgerClientException;
+import io.fliqa.client.interledger.signature.SignatureRequestBuilder;
+import io.fliqa.client.interledger.transport.InterledgerResponse;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPairGenerator;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExchangeCaptureTest {
+
+    private static final URI URI = java.net.URI.create("https://ilp.interledger-test.dev/alice");
+
+    private static HttpRequest get() {
+        return HttpRequest.newBuilder(URI)
+                .header("Authorization", "GNAP secret-token")
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+
+    private static InterledgerResponse response(int status, String body) {
+        HttpHeaders headers = HttpHeaders.of(Map.of("Content-Type", List.of("application/json")), (name, value) -> true);
+        return new InterledgerResponse(URI, status, headers, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void disabledCapturesNothing() {
+        ExchangeCapture capture = new ExchangeCapture(CapturePolicy.DISABLED);
+
+        assertFalse(capture.isEnabled());
+        assertFalse(capture.onExchange(ApiOperation.GET_WALLET, get(), 1, Long.MAX_VALUE, null, new InterledgerClientException("failed")));
+        assertEquals(List.of(), capture.getCaptured());
+    }
+
+    @Test
+    public void samplesOneInN() {
+        ExchangeCapture capture = new ExchangeCapture(CapturePolicy.builder()
+                .sample(ApiOperation.GET_WALLET, 3)
+                .build());
+
+        for (int i = 0; i < 9; i++) {
+            capture.onExchange(ApiOperation.GET_WALLET, get(), 1, 1_000, response(200, "{}"), null);
+            capture.onExchange(ApiOperation.GET_INCOMING_PAYMENT, get(), 1, 1_000, response(200, "{}"), null);
+        }
+
+        List<CapturedExchange> captured = capture.getCaptured();
+        assertEquals(3, captured.size());
+        assertEquals(CapturedExchange.Reason.SAMPLED, captured.get(0).reason);
+        assertTrue(captured.stream().allMatch(exchange -> exchange.operation == ApiOperation.GET_WALLET));
+    }
+
+    @Test
+    public void capturesSlowAndFailedExchanges() {
+        ExchangeCapture capture = new ExchangeCapture(CapturePolicy.builder()
+                .slowThreshold(Duration.ofMillis(100))
+                .captureErrors(true)
+                .build());
+
+        assertFalse(capture.onExchange(ApiOperation.GET_WALLET, get(), 1, Duration.ofMillis(10).toNanos(), response(200, "{}"), null));
+        assertTrue(capture.onExchange(ApiOperation.GET_WALLET, get(), 1, Duration.ofMillis(200).toNanos(), response(200, "{\"slow\":true}"), null));
+        assertTrue(capture.onExchange(ApiOperation.GET_WALLET, get(), 2, 1_000, response(503, "{\"error\":{}}"), null));
+        assertTrue(capture.onExchange(ApiOperation.GET_WALLET, get(), 3, 1_000, null, new InterledgerClientException("connection reset")));
+
+        List<CapturedExchange> captured = capture.getCaptured();
+        assertEquals(3, captured.size());
+
+        assertEquals(CapturedExchange.Reason.SLOW, captured.get(0).reason);
+        assertEquals("{\"slow\":true}", captured.get(0).responseBody);
+
+        assertEquals(CapturedExchange.Reason.ERROR, captured.get(1).reason);
+        assertEquals(503, captured.get(1).statusCode);
+        assertEquals(2, captured.get(1).attempt);
+
+        assertEquals(CapturedExchange.Reason.ERROR, captured.get(2).reason);
+        assertEquals(0, captured.get(2).statusCode);
+        assertEquals("connection reset", captured.get(2).failure);
+        assertTrue(captured.get(2).toString().endsWith("Failed: connection reset"));
+    }
+
+    @Test
+    public void redactsSensitiveHeaders() throws Exception {
+        ExchangeCapture capture = new ExchangeCapture(CapturePolicy.builder().sample(1).build());
+        HttpRequest signed = new SignatureRequestBuilder(KeyPairGenerator.getInstance("Ed25519").generateKeyPair().getPrivate(), "test-key-id")
+                .POST()
+                .accessToken("secret-token")
+                .json("{\"a\":1}")
+                .target(URI)
+                .getRequest(InterledgerClientOptions.DEFAULT);
+
+        capture.onExchange(ApiOperation.CREATE_INCOMING_PAYMENT, signed, 1, 1_000, response(201, "{}"), null);
+
+        CapturedExchange exchange = capture.getCaptured().get(0);
+        assertEquals("{\"a\":1}", exchange.requestBody);
+        assertEquals(List.of("<redacted>"), exchange.requestHeaders.get("Authorization"));
+        assertEquals(List.of("<redacted>"), exchange.requestHeaders.get("Signature"));
+        assertTrue(exchange.requestHeaders.get("Signature-Input").get(0).startsWith("sig1=("));
+        assertEquals(List.of("application/json"), exchange.responseHeaders.get("Content-Type"));
+        assertFalse(capture.dump().contains("secret-token"));
+    }
+
+    @Test
+    public void redactsAccessTokensInGrantBodies() {
+        ExchangeCapture capture = new ExchangeCapture(CapturePolicy.builder().sample(1).build());
+        String grant = "{\"access_token\":{\"value\":\"outgoing-token\",\"manage\":\"https://auth.test/token/1\",\"expires_in\":600,"
+                + "\"access\":[{\"type\":\"outgoing-payment\",\"actions\":[\"create\"]}]},"
+                + "\"continue\":{\"access_token\":{\"value\":\"continue-token\"},\"uri\":\"https://auth.test/continue/1\"}}";
+
+        capture.onExchange(ApiOperation.CONTINUE_GRANT, get(), 1, 1_000, response(200, grant), null);
+
+        String dump = capture.dump();
+        assertFalse(dump.contains("outgoing-token"));
+        assertFalse(dump.contains("continue-token"));
+        assertTrue(dump.contains("https://auth.test/token/1"));
+        assertTrue(dump.contains("https://auth.test/continue/1"));
+        assertTrue(capture.getCaptured().get(0).responseBody.contains("\"value\":\"<redacted>\""));
+    }
+
+    @Test
+    public void redactsForeignRequestHeaders() {
+        ExchangeCapture capture = new ExchangeCapture(CapturePolicy.builder().sample(1).build());
+
+        capture.onExchange(ApiOperation.GET_WALLET, get(), 1, 1_000, response(200, "{}"), null);
+
+        CapturedExchange exchange = capture.getCaptured().get(0);
+        assertEquals(List.of("<redacted>"), exchange.requestHeaders.get("Authorization"));
+        assertEquals(List.of("application/json"), exchange.requestHeaders.get("Accept"));
+        assertNull(exchange.requestBody);
+    }
+
+    @Test
+    public void truncatesBodies() {
+        ExchangeCapture capture = new ExchangeCapture(CapturePolicy.builder()
+                .sample(1)
+                .maxBodySize(4)
+                .build());
+
+        capture.onExchange(ApiOperation.GET_WALLET, get(), 1, 1_000, response(200, "{\"abcdef\":1}"), null);
+
+        assertEquals("{\"ab... (12 bytes)", capture.getCaptured().get(0).responseBody);
+    }
+
+    @Test
+    public void truncatesBodiesOnCharacterBoundary() {
+        ExchangeCapture capture = new ExchangeCapture(CapturePolicy.builder()
+                .sample(1)
+                .maxBodySize(10)
+                .build());
+
+        capture.onExchange(ApiOperation.GET_WALLET, get(), 1, 1_000, response(200, "{\"name\":\"čšž\"}"), null);
+
+        assertEquals("{\"name\":\"... (17 bytes)", capture.getCaptured().get(0).responseBody);
+    }
+
+    @Test
+    public void replacesOldestWhenFull() {
+        ExchangeCapture capture = new ExchangeCapture(CapturePolicy.builder()
+                .sample(1)
+                .capacity(3)
+                .build());
+
+        for (int i = 1; i <= 5; i++) {
+            capture.onExchange(ApiOperation.GET_WALLET, get(), i, 1_000, response(200, "{}"), null);
+        }
+
+        List<CapturedExchange> captured = capture.getCaptured();
+        assertEquals(3, captured.size());
+        assertEquals(3, captured.get(0).attempt);
+        assertEquals(5, captured.get(2).attempt);
+        assertEquals(5, capture.getCapturedCount());
+
+        capture.clear();
+        assertEquals(List.of(), capture.getCaptured());
+        assertEquals("", capture.dump());
+    }
+}
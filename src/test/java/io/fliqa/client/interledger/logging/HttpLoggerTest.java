@@ -0,0 +1,197 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.logging;
+
+import io.fliqa.client.interledger.InterledgerClientOptions;
+import io.fliqa.client.interledger.signature.SignatureRequestBuilder;
+import io.fliqa.client.interledger.transport.InterledgerResponse;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.LegacyAbstractLogger;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPairGenerator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpLoggerTest {
+
+    private static final URI URI = java.net.URI.create("https://ilp.interledger-test.dev/incoming-payments");
+
+    /**
+     * Logger capturing messages at and above the given level.
+     */
+    private static class CapturingLogger extends LegacyAbstractLogger {
+
+        private final Level level;
+        private final List<String> messages = new CopyOnWriteArrayList<>();
+
+        private CapturingLogger(Level level) {
+            this.level = level;
+        }
+
+        @Override
+        public boolean isTraceEnabled() {
+            return level.toInt() <= Level.TRACE.toInt();
+        }
+
+        @Override
+        public boolean isDebugEnabled() {
+            return level.toInt() <= Level.DEBUG.toInt();
+        }
+
+        @Override
+        public boolean isInfoEnabled() {
+            return level.toInt() <= Level.INFO.toInt();
+        }
+
+        @Override
+        public boolean isWarnEnabled() {
+            return level.toInt() <= Level.WARN.toInt();
+        }
+
+        @Override
+        public boolean isErrorEnabled() {
+            return true;
+        }
+
+        @Override
+        protected String getFullyQualifiedCallerName() {
+            return null;
+        }
+
+        @Override
+        protected void handleNormalizedLoggingCall(Level level, Marker marker, String messagePattern, Object[] arguments, Throwable throwable) {
+            messages.add(level + " " + messagePattern + (arguments != null ? " " + List.of(arguments) : ""));
+        }
+    }
+
+    private static HttpRequest request(String body) {
+        return HttpRequest.newBuilder(URI)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private static InterledgerResponse response(String body) {
+        return new InterledgerResponse(URI, 201, null, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void disabledLoggerLogsNothing() {
+        CapturingLogger logger = new CapturingLogger(Level.INFO);
+        HttpLogger httpLogger = new HttpLogger(logger);
+
+        httpLogger.logRequest(request("{}"));
+        httpLogger.logResponse(response("{}"));
+        httpLogger.close();
+
+        assertEquals(List.of(), logger.messages);
+        assertEquals(0, httpLogger.getPending());
+    }
+
+    @Test
+    public void debugLogsMethodAndStatus() {
+        CapturingLogger logger = new CapturingLogger(Level.DEBUG);
+        HttpLogger httpLogger = new HttpLogger(logger);
+
+        httpLogger.logRequest(request("{}"));
+        httpLogger.logResponse(response("{}"));
+        httpLogger.close(); // writes buffered records
+
+        assertEquals(List.of("DEBUG HTTP Request:  POST " + URI, "DEBUG HTTP Response: 201 " + URI), logger.messages);
+    }
+
+    @Test
+    public void traceLogsSignedHeadersAndBody() throws Exception {
+        CapturingLogger logger = new CapturingLogger(Level.TRACE);
+        HttpLogger httpLogger = new HttpLogger(logger);
+        HttpRequest signed = new SignatureRequestBuilder(KeyPairGenerator.getInstance("Ed25519").generateKeyPair().getPrivate(), "test-key-id")
+                .POST()
+                .json("{\"a\":1}")
+                .target(URI)
+                .getRequest(InterledgerClientOptions.DEFAULT);
+
+        httpLogger.logRequest(signed);
+        httpLogger.close();
+
+        String request = logger.messages.get(0);
+        assertTrue(request.startsWith("TRACE HTTP Request:  POST " + URI), request);
+        assertTrue(request.contains("Content-Digest: sha-512=:"), request);
+        assertTrue(request.contains("Signature-Input: sig1=("), request);
+        assertTrue(request.endsWith("body: {\"a\":1}"), request);
+    }
+
+    @Test
+    public void traceLogsOnlyLengthOfForeignRequestBody() {
+        CapturingLogger logger = new CapturingLogger(Level.TRACE);
+        HttpLogger httpLogger = new HttpLogger(logger);
+
+        httpLogger.logRequest(request("{\"a\":1}"));
+        httpLogger.close();
+
+        String request = logger.messages.get(0);
+        assertTrue(request.contains("Content-Type: application/json"), request);
+        assertTrue(request.endsWith("body: <7 bytes>"), request);
+    }
+
+    @Test
+    public void traceLogsCappedBody() {
+        CapturingLogger logger = new CapturingLogger(Level.TRACE);
+        HttpLogger httpLogger = new HttpLogger(logger, 16, 8);
+
+        httpLogger.logResponse(response("{\"id\":\"123456789\"}"));
+        httpLogger.close();
+
+        String response = logger.messages.get(0);
+        assertTrue(response.endsWith("body: {\"id\":\"1... (18 bytes)"), response);
+    }
+
+    @Test
+    public void traceCapsBodyOnCharacterBoundary() {
+        CapturingLogger logger = new CapturingLogger(Level.TRACE);
+        HttpLogger httpLogger = new HttpLogger(logger, 16, 10);
+
+        httpLogger.logResponse(response("{\"name\":\"čšž\"}")); // 9 bytes, then two bytes per character
+        httpLogger.close();
+
+        String response = logger.messages.get(0);
+        assertTrue(response.endsWith("body: {\"name\":\"... (17 bytes)"), response);
+        assertFalse(response.contains("�"), response);
+    }
+
+    @Test
+    public void fullBufferDropsRecords() {
+        CapturingLogger logger = new CapturingLogger(Level.DEBUG);
+        HttpLogger httpLogger = new HttpLogger(logger, 2, 8);
+
+        for (int i = 0; i < 1000; i++) {
+            httpLogger.logResponse(response("{}")); // never blocks, even when the buffer is full
+        }
+        httpLogger.close();
+
+        long written = logger.messages.stream().filter(message -> message.startsWith("DEBUG")).count();
+        assertEquals(1000, written + httpLogger.getDropped());
+        if (httpLogger.getDropped() > 0) {
+            assertTrue(logger.messages.stream().anyMatch(message -> message.startsWith("WARN HTTP log buffer full")));
+        }
+    }
+}
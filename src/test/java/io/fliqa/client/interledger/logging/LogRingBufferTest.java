@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LogRingBufferTest {
+
+    @Test
+    public void keepsOrder() {
+        LogRingBuffer<Integer> buffer = new LogRingBuffer<>(4);
+        for (int round = 0; round < 3; round++) { // wraps around the ring
+            assertTrue(buffer.offer(1));
+            assertTrue(buffer.offer(2));
+            assertTrue(buffer.offer(3));
+
+            assertEquals(1, (int) buffer.poll());
+            assertEquals(2, (int) buffer.poll());
+            assertEquals(3, (int) buffer.poll());
+            assertNull(buffer.poll());
+        }
+    }
+
+    @Test
+    public void rejectsWhenFull() {
+        LogRingBuffer<Integer> buffer = new LogRingBuffer<>(3);
+        assertEquals(4, buffer.capacity());
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+        assertEquals(4, buffer.size());
+
+        assertEquals(0, (int) buffer.poll());
+        assertTrue(buffer.offer(4));
+    }
+
+    @Test
+    public void concurrentProducers() {
+        LogRingBuffer<Integer> buffer = new LogRingBuffer<>(1 << 16);
+
+        CompletableFuture.allOf(IntStream.range(0, 4)
+                .mapToObj(producer -> CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        assertTrue(buffer.offer(producer * 10_000 + i));
+                    }
+                }))
+                .toArray(CompletableFuture[]::new)).join();
+
+        Set<Integer> items = new HashSet<>();
+        Integer item;
+        while ((item = buffer.poll()) != null) {
+            items.add(item);
+        }
+        assertEquals(40_000, items.size());
+    }
+}
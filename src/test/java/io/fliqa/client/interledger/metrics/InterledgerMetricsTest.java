@@ -0,0 +1,60 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.metrics;
+
+import io.fliqa.client.interledger.ApiOperation;
+import io.fliqa.client.interledger.exception.InterledgerClientException;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InterledgerMetricsTest {
+
+    private static ExchangeEvent event(String uri, ApiOperation operation, int attempt, int status, InterledgerClientException failure) {
+        return new ExchangeEvent(operation, "POST", URI.create(uri), attempt, status, 100, 200, 5_000_000, failure);
+    }
+
+    @Test
+    public void recordsPerHostAndOperation() {
+        InterledgerMetrics metrics = new InterledgerMetrics();
+        metrics.onExchange(event("https://ilp.alice.test/quotes", ApiOperation.CREATE_QUOTE, 1, 201, null));
+        metrics.onExchange(event("https://ilp.alice.test/quotes", ApiOperation.CREATE_QUOTE, 2, 503, null));
+        metrics.onExchange(event("https://ilp.bob.test:8443/incoming-payments", ApiOperation.CREATE_INCOMING_PAYMENT, 1, 0,
+                new InterledgerClientException("connection reset")));
+
+        assertEquals(Set.of("https://ilp.alice.test", "https://ilp.bob.test:8443"), metrics.getHosts());
+
+        OperationMetrics quotes = metrics.getMetrics("https://ilp.alice.test", ApiOperation.CREATE_QUOTE);
+        assertEquals(2, quotes.getExchanges());
+        assertEquals(1, quotes.getErrors());
+        assertEquals(0, quotes.getFailures());
+        assertEquals(1, quotes.getRetries());
+        assertEquals(200, quotes.getBytesSent());
+        assertEquals(400, quotes.getBytesReceived());
+        assertEquals(2, quotes.getLatency().getCount());
+        assertEquals(0, metrics.getMetrics("https://ilp.alice.test", ApiOperation.CREATE_QUOTE_REQUEST).getExchanges());
+
+        OperationMetrics payments = metrics.getMetrics("https://ilp.bob.test:8443", ApiOperation.CREATE_INCOMING_PAYMENT);
+        assertEquals(1, payments.getFailures());
+        assertEquals(1, payments.getErrors());
+
+        assertNull(metrics.getMetrics("https://unknown.test", ApiOperation.CREATE_QUOTE));
+        assertEquals(2, metrics.getMetrics(ApiOperation.CREATE_QUOTE).getExchanges());
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    public void bucketsCoverAllValues() {
+        for (long micros = 0; micros < 100_000; micros++) {
+            int index = LatencyHistogram.indexOf(micros);
+            assertTrue(micros <= LatencyHistogram.upperBound(index), "value above its bucket: " + micros);
+            assertTrue(index == 0 || micros > LatencyHistogram.upperBound(index - 1), "value below its bucket: " + micros);
+        }
+    }
+
+    @Test
+    public void relativeErrorIsBounded() {
+        for (long micros = 1; micros < 1L << 36; micros = micros * 3 + 1) {
+            long upper = LatencyHistogram.upperBound(LatencyHistogram.indexOf(micros));
+            assertTrue(upper - micros <= micros / LatencyHistogram.SUB_BUCKETS, "error too large for: " + micros);
+        }
+    }
+
+    @Test
+    public void percentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int millis = 1; millis <= 100; millis++) {
+            histogram.record(Duration.ofMillis(millis).toNanos());
+        }
+
+        assertEquals(100, histogram.getCount());
+        assertWithin(Duration.ofMillis(50), histogram.getPercentile(50));
+        assertWithin(Duration.ofMillis(99), histogram.getPercentile(99));
+        assertEquals(Duration.ofMillis(100), histogram.getPercentile(100));
+        assertEquals(Duration.ofMillis(100), histogram.getMax());
+        assertEquals(Duration.ofNanos(50_500_000), histogram.getMean());
+    }
+
+    @Test
+    public void emptyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(Duration.ZERO, histogram.getPercentile(99));
+        assertEquals(Duration.ZERO, histogram.getMean());
+    }
+
+    @Test
+    public void concurrentRecording() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        CompletableFuture.allOf(IntStream.range(0, 8)
+                .mapToObj(thread -> CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        histogram.record(i * 1000L);
+                    }
+                }))
+                .toArray(CompletableFuture[]::new)).join();
+
+        assertEquals(80_000, histogram.getCount());
+        assertEquals(Duration.ofNanos(9_999_000), histogram.getMax());
+    }
+
+    @Test
+    public void invalidPercentile() {
+        assertThrows(IllegalArgumentException.class, () -> new LatencyHistogram().getPercentile(101));
+    }
+
+    private static void assertWithin(Duration expected, Duration actual) {
+        assertTrue(actual.compareTo(expected) >= 0, actual + " below " + expected);
+        assertTrue(actual.toNanos() <= expected.toNanos() * 9 / 8, actual + " too far above " + expected);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.signature;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestSignerTest {
+
+    private KeyPair keyPair;
+    private RequestSigner signer;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        signer = new RequestSigner(keyPair.getPrivate(), "test-key-id");
+    }
+
+    private boolean verify(byte[] data, byte[] signature) throws Exception {
+        Signature verifier = Signature.getInstance("Ed25519");
+        verifier.initVerify(keyPair.getPublic());
+        verifier.update(data);
+        return verifier.verify(signature);
+    }
+
+    @Test
+    public void keyIdParameter() {
+        assertEquals("test-key-id", signer.getKeyId());
+        assertEquals(";keyid=\"test-key-id\"", signer.getKeyIdParameter());
+    }
+
+    @Test
+    public void signIsRepeatable() throws Exception {
+        byte[] first = "first".getBytes(StandardCharsets.UTF_8);
+        byte[] second = "second".getBytes(StandardCharsets.UTF_8);
+
+        byte[] firstSignature = signer.sign(first);
+        byte[] secondSignature = signer.sign(second);
+
+        // reused instance must not carry over state from the previous signature
+        assertTrue(verify(first, firstSignature));
+        assertTrue(verify(second, secondSignature));
+        assertArrayEquals(firstSignature, signer.sign(first)); // Ed25519 is deterministic
+    }
+
+    @Test
+    public void digestMatchesStaticDigest() throws Exception {
+        byte[] content = "{\"amount\":\"10.00\"}".getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(SignatureRequestBuilder.digestContentSha512(content), signer.digestBase64(content));
+        assertEquals(signer.digestBase64(content), signer.digestBase64(content));
+    }
+
+    @Test
+    public void signConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                byte[] data = ("request-" + i).getBytes(StandardCharsets.UTF_8);
+                results.add(executor.submit(() -> verify(data, signer.sign(data))));
+            }
+
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void invalidKey() throws Exception {
+        KeyPair rsa = KeyPairGenerator.getInstance("RSA").generateKeyPair();
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new RequestSigner(rsa.getPrivate(), "test-key-id"));
+
+        assertEquals("Private key can not be used for Ed25519 signatures!", exception.getMessage());
+    }
+
+    @Test
+    public void buildersShareSigner() {
+        SignatureRequestBuilder first = new SignatureRequestBuilder(signer, null)
+                .GET()
+                .target("https://ilp.interledger-test.dev/alice")
+                .build(1741002284L);
+
+        SignatureRequestBuilder second = new SignatureRequestBuilder(signer, null)
+                .GET()
+                .target("https://ilp.interledger-test.dev/alice")
+                .build(1741002284L);
+
+        assertSame(first.signer, second.signer);
+        assertEquals(first.getHeaders(), second.getHeaders());
+    }
+
+    @Test
+    public void rebuildReplacesSignatureParams() {
+        SignatureRequestBuilder builder = new SignatureRequestBuilder(signer, null)
+                .GET()
+                .target("https://ilp.interledger-test.dev/alice")
+                .build(1741002284L)
+                .build(1741002290L);
+
+        assertEquals("sig1=(\"@method\" \"@target-uri\");keyid=\"test-key-id\";created=1741002290",
+                builder.getSignatureParamsHeader());
+    }
+}
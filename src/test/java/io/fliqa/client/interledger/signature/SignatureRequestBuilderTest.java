@@ -15,6 +15,7 @@
  */
 package io.fliqa.client.interledger.signature;
 
+import io.fliqa.client.interledger.InterledgerClientOptions;
 import io.fliqa.client.interledger.model.AccessAction;
 import io.fliqa.client.interledger.model.AccessItemType;
 import io.fliqa.client.interledger.model.GrantAccessRequest;
@@ -22,6 +23,8 @@ import io.fliqa.client.interledger.model.WalletAddress;
 import org.junit.jupiter.api.Test;
 
 import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
 import java.security.KeyFactory;
 import java.security.PrivateKey;
 import java.security.spec.PKCS8EncodedKeySpec;
@@ -144,4 +147,67 @@ class SignatureRequestBuilderTest {
         assertEquals("application/json", headers.get(CONTENT_TYPE_HEADER));
         assertEquals("application/json", headers.get(ACCEPT_HEADER));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void bodyIsEncodedOnce() throws Exception {
+
+        GrantAccessRequest grantRequest = GrantAccessRequest.build(new WalletAddress(TEST_WALLET_ADDRESS),
+                AccessItemType.incomingPayment,
+                Set.of(AccessAction.read, AccessAction.complete, AccessAction.create));
+
+        SignatureRequestBuilder fromObject = new SignatureRequestBuilder(getTestPrivateKey(), TEST_KEY_ID)
+                .method("POST")
+                .target(URI.create("https://auth.test.interledger.example"))
+                .json(grantRequest)
+                .build(1741002284L);
+
+        SignatureRequestBuilder fromString = new SignatureRequestBuilder(getTestPrivateKey(), TEST_KEY_ID)
+                .method("POST")
+                .target(URI.create("https://auth.test.interledger.example"))
+                .json(fromObject.getBody())
+                .build(1741002284L);
+
+        // serializing to bytes directly must produce the same body, digest and signature as the String variant
+        assertEquals(fromString.getBody(), fromObject.getBody());
+        assertEquals(fromString.getHeaders(), fromObject.getHeaders());
+
+        // body publisher sends exactly the digested bytes
+        HttpRequest request = fromObject.getRequest(InterledgerClientOptions.DEFAULT);
+        assertEquals(fromObject.getBody().length(), request.bodyPublisher().orElseThrow().contentLength());
+    }
+
+    @Test
+    public void signedRequestKeepsBodyAndHeaders() throws Exception {
+
+        SignatureRequestBuilder builder = new SignatureRequestBuilder(getTestPrivateKey(), TEST_KEY_ID)
+                .method("POST")
+                .target(URI.create("https://auth.test.interledger.example"))
+                .json("{\"amount\":\"12.34\"}")
+                .build(1741002284L);
+
+        SignedHttpRequest request = builder.getRequest(InterledgerClientOptions.DEFAULT);
+
+        // logged body is the very array sent and digested, headers are the signed ones
+        assertSame(builder.getBodyBytes(), request.getBodyBytes());
+        assertEquals(builder.getHeaders(), request.getSignedHeaders());
+        assertEquals(builder.getHeaders().get(SIGNATURE_HEADER), request.headers().firstValue(SIGNATURE_HEADER).orElseThrow());
+        assertEquals("POST", request.method());
+    }
+
+    @Test
+    public void contentLengthIsByteLength() throws Exception {
+
+        String json = "{\"description\":\"pla\u010dilo \u20ac\"}";
+
+        SignatureRequestBuilder builder = new SignatureRequestBuilder(getTestPrivateKey(), TEST_KEY_ID)
+                .method("POST")
+                .target(URI.create("https://auth.test.interledger.example"))
+                .json(json)
+                .build(1741002284L);
+
+        int length = json.getBytes(StandardCharsets.UTF_8).length;
+        assertTrue(builder.getSignatureBase().contains("\"content-length\": " + length));
+        assertEquals(length, builder.getRequest(InterledgerClientOptions.DEFAULT).bodyPublisher().orElseThrow().contentLength());
+        assertEquals(json, builder.getBody());
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.transport;
+
+import io.fliqa.client.interledger.CircuitBreakerPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private static final long MS = 1_000_000L;
+
+    private final AtomicLong now = new AtomicLong();
+
+    private final CircuitBreakerPolicy policy = CircuitBreakerPolicy.builder()
+            .slidingWindowSize(4)
+            .minimumCalls(4)
+            .failureRateThreshold(0.5)
+            .slowCallDuration(Duration.ofMillis(100))
+            .slowCallRateThreshold(0.75)
+            .openDuration(Duration.ofSeconds(10))
+            .halfOpenCalls(2)
+            .build();
+
+    private final CircuitBreaker breaker = new CircuitBreaker("https://auth.interledger-test.dev", policy, now::get);
+
+    private void call(boolean failed, long durationMs) throws CircuitBreakerOpenException {
+        breaker.acquirePermission();
+        breaker.onResult(failed, durationMs * MS);
+    }
+
+    @Test
+    public void opensOnFailureRate() throws CircuitBreakerOpenException {
+        call(false, 1);
+        call(true, 1);
+        call(false, 1);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState()); // below minimum calls
+
+        call(true, 1);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        CircuitBreakerOpenException exception = assertThrows(CircuitBreakerOpenException.class, breaker::acquirePermission);
+        assertEquals(Duration.ofSeconds(10), exception.getRetryIn());
+        assertEquals(1, breaker.getRejectedCalls());
+    }
+
+    @Test
+    public void opensOnSlowCallRate() throws CircuitBreakerOpenException {
+        call(false, 200);
+        call(false, 200);
+        call(false, 1);
+        call(false, 200);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    public void slidingWindowForgetsOldCalls() throws CircuitBreakerOpenException {
+        call(true, 1);
+        call(false, 1);
+        call(false, 1);
+        call(false, 1);
+        assertEquals(0.25, breaker.getFailureRate());
+
+        call(false, 1); // evicts the failure
+        assertEquals(0.0, breaker.getFailureRate());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void halfOpen_closesOnSuccess() throws CircuitBreakerOpenException {
+        for (int i = 0; i < 4; i++) {
+            call(true, 1);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        breaker.acquirePermission();
+        breaker.acquirePermission();
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertThrows(CircuitBreakerOpenException.class, breaker::acquirePermission); // trial calls taken
+
+        breaker.onResult(false, MS);
+        breaker.onResult(false, MS);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    public void halfOpen_reopensOnFailure() throws CircuitBreakerOpenException {
+        for (int i = 0; i < 4; i++) {
+            call(true, 1);
+        }
+
+        now.addAndGet(Duration.ofSeconds(11).toNanos());
+        call(true, 1);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    public void halfOpen_releasedPermissionCanBeReused() throws CircuitBreakerOpenException {
+        for (int i = 0; i < 4; i++) {
+            call(true, 1);
+        }
+
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        breaker.acquirePermission();
+        breaker.acquirePermission();
+        breaker.releasePermission();
+
+        breaker.acquirePermission();
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+    }
+
+    @Test
+    public void transport_rejectsPerHost() throws Exception {
+        StubTransport stub = new StubTransport(request -> "bad.example".equals(request.uri().getHost())
+                ? StubTransport.response(request, 503, null)
+                : StubTransport.response(request, 200, "{}"));
+
+        CircuitBreakerTransport transport = new CircuitBreakerTransport(stub, CircuitBreakerPolicy.builder()
+                .slidingWindowSize(2)
+                .minimumCalls(2)
+                .build());
+
+        HttpRequest bad = HttpRequest.newBuilder(URI.create("https://bad.example/alice")).build();
+        HttpRequest good = HttpRequest.newBuilder(URI.create("https://good.example/bob")).build();
+
+        transport.exchange(bad);
+        transport.exchange(bad);
+        assertEquals(200, transport.exchange(good).statusCode);
+
+        assertThrows(CircuitBreakerOpenException.class, () -> transport.exchange(bad));
+        CompletionException exception = assertThrows(CompletionException.class, () -> transport.exchangeAsync(bad).join());
+        assertInstanceOf(CircuitBreakerOpenException.class, exception.getCause());
+
+        assertEquals(3, stub.requests.size());
+        assertEquals(CircuitBreaker.State.OPEN, transport.getStates().get("https://bad.example"));
+        assertEquals(CircuitBreaker.State.CLOSED, transport.getStates().get("https://good.example"));
+    }
+
+    @Test
+    public void transport_disabledPassesThrough() throws Exception {
+        StubTransport stub = StubTransport.json(503, null);
+        CircuitBreakerTransport transport = new CircuitBreakerTransport(stub, CircuitBreakerPolicy.DISABLED);
+        HttpRequest request = HttpRequest.newBuilder(URI.create("https://bad.example/alice")).build();
+
+        for (int i = 0; i < 30; i++) {
+            assertEquals(503, transport.exchange(request).statusCode);
+        }
+        assertTrue(transport.getStates().isEmpty());
+    }
+}
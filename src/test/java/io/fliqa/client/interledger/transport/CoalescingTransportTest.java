@@ -0,0 +1,205 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.transport;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoalescingTransportTest {
+
+    private static final URI WALLET = URI.create("https://ilp.interledger-test.dev/alice");
+
+    private static HttpRequest get(String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(WALLET).GET();
+        if (token != null) {
+            builder.header("Authorization", "GNAP " + token);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Stub answering only once released, so requests stay in flight
+     */
+    private static StubTransport blocking(CountDownLatch release, boolean fail) {
+        return new StubTransport(request -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return fail ? StubTransport.fail("connection reset") : StubTransport.response(request, 200, "{}");
+        });
+    }
+
+    @Test
+    public void concurrentIdenticalGetsShareExchange() {
+        CountDownLatch release = new CountDownLatch(1);
+        StubTransport delegate = blocking(release, false);
+        CoalescingTransport transport = new CoalescingTransport(delegate, true);
+
+        List<CompletableFuture<InterledgerResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(transport.exchangeAsync(get("token")));
+        }
+        assertEquals(1, transport.getInFlight());
+        release.countDown();
+
+        InterledgerResponse first = futures.get(0).join();
+        for (CompletableFuture<InterledgerResponse> future : futures) {
+            assertSame(first, future.join());
+        }
+
+        assertEquals(1, delegate.requests.size());
+        assertEquals(9, transport.getSavedCalls());
+        assertEquals(0, transport.getInFlight());
+    }
+
+    @Test
+    public void differentTokensAreNotCoalesced() {
+        CountDownLatch release = new CountDownLatch(1);
+        StubTransport delegate = blocking(release, false);
+        CoalescingTransport transport = new CoalescingTransport(delegate, true);
+
+        CompletableFuture<InterledgerResponse> first = transport.exchangeAsync(get("token-1"));
+        CompletableFuture<InterledgerResponse> second = transport.exchangeAsync(get("token-2"));
+        CompletableFuture<InterledgerResponse> third = transport.exchangeAsync(get(null));
+        release.countDown();
+        CompletableFuture.allOf(first, second, third).join();
+
+        assertEquals(3, delegate.requests.size());
+        assertEquals(0, transport.getSavedCalls());
+    }
+
+    @Test
+    public void postIsNotCoalesced() throws Exception {
+        StubTransport delegate = StubTransport.json(200, "{}");
+        CoalescingTransport transport = new CoalescingTransport(delegate, true);
+        HttpRequest post = HttpRequest.newBuilder(WALLET).POST(HttpRequest.BodyPublishers.ofString("{}")).build();
+
+        transport.exchange(post);
+        transport.exchange(post);
+
+        assertEquals(2, delegate.requests.size());
+    }
+
+    @Test
+    public void failureIsSharedWithAllCallers() {
+        CountDownLatch release = new CountDownLatch(1);
+        CoalescingTransport transport = new CoalescingTransport(blocking(release, true), true);
+
+        CompletableFuture<InterledgerResponse> first = transport.exchangeAsync(get("token"));
+        CompletableFuture<InterledgerResponse> second = transport.exchangeAsync(get("token"));
+        release.countDown();
+
+        for (CompletableFuture<InterledgerResponse> future : List.of(first, second)) {
+            CompletionException exception = assertThrows(CompletionException.class, future::join);
+            assertInstanceOf(IOException.class, exception.getCause());
+        }
+        assertEquals(1, transport.getSavedCalls());
+    }
+
+    @Test
+    public void sharedExchangeCancelledOnceAllCallersCancelled() {
+        CompletableFuture<InterledgerResponse> exchange = new CompletableFuture<>();
+        CoalescingTransport transport = new CoalescingTransport(new InterledgerTransport() {
+            @Override
+            public InterledgerResponse exchange(HttpRequest request) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public CompletableFuture<InterledgerResponse> exchangeAsync(HttpRequest request) {
+                return exchange;
+            }
+        }, true);
+
+        CompletableFuture<InterledgerResponse> first = transport.exchangeAsync(get("token"));
+        CompletableFuture<InterledgerResponse> second = transport.exchangeAsync(get("token"));
+
+        first.cancel(true);
+        assertFalse(exchange.isCancelled()); // still awaited by the second caller
+        assertEquals(1, transport.getInFlight());
+
+        second.cancel(true);
+        assertTrue(exchange.isCancelled());
+        assertEquals(0, transport.getInFlight());
+    }
+
+    @Test
+    public void blockingCallersShareExchange() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        StubTransport delegate = blocking(release, false);
+        CoalescingTransport transport = new CoalescingTransport(delegate, true);
+
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        try {
+            List<Future<InterledgerResponse>> results = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                results.add(executor.submit(() -> transport.exchange(get("token"))));
+            }
+
+            // wait until all callers joined the single request in flight
+            long deadline = System.currentTimeMillis() + 5000;
+            while (transport.getSavedCalls() < 4 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            for (Future<InterledgerResponse> result : results) {
+                assertEquals(200, result.get().statusCode);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, delegate.requests.size());
+        assertEquals(4, transport.getSavedCalls());
+    }
+
+    @Test
+    public void sequentialCallsAreNotCoalesced() throws Exception {
+        StubTransport delegate = StubTransport.json(200, "{}");
+        CoalescingTransport transport = new CoalescingTransport(delegate, true);
+
+        transport.exchange(get("token"));
+        transport.exchangeAsync(get("token")).join();
+
+        assertEquals(2, delegate.requests.size());
+    }
+
+    @Test
+    public void disabled() {
+        CountDownLatch release = new CountDownLatch(1);
+        StubTransport delegate = blocking(release, false);
+        CoalescingTransport transport = new CoalescingTransport(delegate, false);
+
+        CompletableFuture<InterledgerResponse> first = transport.exchangeAsync(get("token"));
+        CompletableFuture<InterledgerResponse> second = transport.exchangeAsync(get("token"));
+        release.countDown();
+        CompletableFuture.allOf(first, second).join();
+
+        assertEquals(2, delegate.requests.size());
+        assertFalse(transport.isEnabled());
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.transport;
+
+import io.fliqa.client.interledger.ConcurrencyLimitPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrencyLimiterTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofSeconds(3).toNanos();
+
+    private static ConcurrencyLimiter limiter(int initialLimit, int maxQueue, Duration maxWait) {
+        return new ConcurrencyLimiter("https://ilp.interledger-test.dev", ConcurrencyLimitPolicy.builder()
+                .initialLimit(initialLimit)
+                .minLimit(1)
+                .maxLimit(10)
+                .backoffRatio(0.5)
+                .maxQueue(maxQueue)
+                .maxWait(maxWait)
+                .build());
+    }
+
+    @Test
+    public void limitGrowsWhileUsed() throws Exception {
+        ConcurrencyLimiter limiter = limiter(2, 0, Duration.ZERO);
+
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire();
+            limiter.acquire();
+            limiter.release(FAST, false);
+            limiter.release(FAST, false);
+        }
+
+        assertTrue(limiter.getLimit() > 2);
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    public void limitShrinksOnSlowOrDroppedCalls() throws Exception {
+        ConcurrencyLimiter limiter = limiter(8, 0, Duration.ZERO);
+
+        limiter.acquire();
+        limiter.release(SLOW, false);
+        assertEquals(4, limiter.getLimit());
+
+        limiter.acquire();
+        limiter.release(FAST, true);
+        assertEquals(2, limiter.getLimit());
+
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire();
+            limiter.release(FAST, true);
+        }
+        assertEquals(1, limiter.getLimit());
+    }
+
+    @Test
+    public void rejectsBeyondLimitWithoutQueue() throws Exception {
+        ConcurrencyLimiter limiter = limiter(1, 0, Duration.ofSeconds(1));
+        limiter.acquire();
+
+        ConcurrencyLimitExceededException exception = assertThrows(ConcurrencyLimitExceededException.class, limiter::acquire);
+        assertEquals(1, exception.getLimit());
+        assertEquals(1, limiter.getRejected());
+    }
+
+    @Test
+    public void queuedUntilReleased() throws Exception {
+        ConcurrencyLimiter limiter = limiter(1, 5, Duration.ofSeconds(10));
+        limiter.acquire();
+
+        CompletableFuture<Void> waiting = limiter.acquireAsync();
+        assertFalse(waiting.isDone());
+        assertEquals(1, limiter.getQueueDepth());
+
+        limiter.release(FAST, false);
+
+        assertTrue(waiting.isDone());
+        assertEquals(0, limiter.getQueueDepth());
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    public void queuedWaitIsBounded() throws Exception {
+        ConcurrencyLimiter limiter = limiter(1, 5, Duration.ofMillis(50));
+        limiter.acquire();
+
+        CompletableFuture<Void> waiting = limiter.acquireAsync();
+
+        CompletionException exception = assertThrows(CompletionException.class, waiting::join);
+        assertInstanceOf(ConcurrencyLimitExceededException.class, exception.getCause());
+        assertEquals(0, limiter.getQueueDepth());
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    public void cancelledWaiterIsSkipped() throws Exception {
+        ConcurrencyLimiter limiter = limiter(1, 5, Duration.ofSeconds(10));
+        limiter.acquire();
+
+        CompletableFuture<Void> cancelled = limiter.acquireAsync();
+        CompletableFuture<Void> next = limiter.acquireAsync();
+        cancelled.cancel(false);
+
+        limiter.release(FAST, false);
+
+        assertTrue(next.isDone());
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    public void cancelledWaiterLeavesQueue() throws Exception {
+        ConcurrencyLimiter limiter = limiter(1, 1, Duration.ofSeconds(10));
+        limiter.acquire();
+
+        limiter.acquireAsync().cancel(false);
+        assertEquals(0, limiter.getQueueDepth());
+
+        CompletableFuture<Void> next = limiter.acquireAsync(); // not rejected by the cancelled waiter
+        assertFalse(next.isDone());
+        assertEquals(1, limiter.getQueueDepth());
+    }
+
+    @Test
+    public void transport_synchronousFailuresDoNotNestCompletions() {
+        CompletableFuture<InterledgerResponse> first = new CompletableFuture<>();
+        AtomicInteger calls = new AtomicInteger();
+        InterledgerTransport failing = new InterledgerTransport() {
+            @Override
+            public InterledgerResponse exchange(HttpRequest request) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public CompletableFuture<InterledgerResponse> exchangeAsync(HttpRequest request) {
+                // i.e. rejected by an open circuit breaker, on the calling thread
+                return calls.getAndIncrement() == 0 ? first : CompletableFuture.failedFuture(new IllegalStateException("failed"));
+            }
+        };
+
+        ConcurrencyLimitTransport transport = new ConcurrencyLimitTransport(failing, ConcurrencyLimitPolicy.builder()
+                .initialLimit(1)
+                .minLimit(1)
+                .maxQueue(50_000)
+                .maxWait(Duration.ofSeconds(30))
+                .build());
+        HttpRequest request = HttpRequest.newBuilder(URI.create("https://ilp.interledger-test.dev/alice")).build();
+
+        List<CompletableFuture<InterledgerResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            futures.add(transport.exchangeAsync(request));
+        }
+
+        first.complete(StubTransport.response(request, 200, "{}"));
+
+        for (CompletableFuture<InterledgerResponse> future : futures.subList(1, futures.size())) {
+            CompletionException exception = assertThrows(CompletionException.class, () -> future.orTimeout(10, TimeUnit.SECONDS).join());
+            assertInstanceOf(IllegalStateException.class, exception.getCause());
+        }
+        assertEquals(0, transport.getLimiter("https://ilp.interledger-test.dev").getInFlight());
+    }
+
+    @Test
+    public void transport_limitsConcurrentAsyncExchanges() throws Exception {
+        CountDownLatch proceed = new CountDownLatch(1);
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger maxActive = new AtomicInteger();
+
+        StubTransport stub = new StubTransport(request -> {
+            maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                proceed.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            active.decrementAndGet();
+            return StubTransport.response(request, 200, "{}");
+        });
+
+        ConcurrencyLimitTransport transport = new ConcurrencyLimitTransport(stub, ConcurrencyLimitPolicy.builder()
+                .initialLimit(2)
+                .build());
+        HttpRequest request = HttpRequest.newBuilder(URI.create("https://ilp.interledger-test.dev/alice")).build();
+
+        List<CompletableFuture<InterledgerResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            futures.add(transport.exchangeAsync(request));
+        }
+
+        assertEquals(4, (int) transport.getQueueDepths().get("https://ilp.interledger-test.dev"));
+        proceed.countDown();
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+        assertEquals(6, stub.requests.size());
+        assertTrue(maxActive.get() <= 2);
+        assertEquals(0, transport.getLimiter("https://ilp.interledger-test.dev").getInFlight());
+    }
+}
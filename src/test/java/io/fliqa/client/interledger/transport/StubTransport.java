@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.transport;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ * In-memory transport for unit tests, answers every request with the given handler and records all requests.
+ */
+public class StubTransport implements InterledgerTransport {
+
+    public final List<HttpRequest> requests = new CopyOnWriteArrayList<>();
+
+    private final Function<HttpRequest, InterledgerResponse> handler;
+    private final Executor executor;
+
+    public StubTransport(Function<HttpRequest, InterledgerResponse> handler) {
+        this(handler, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param executor runs the handler of asynchronous exchanges (i.e. for handlers blocking on other requests)
+     */
+    public StubTransport(Function<HttpRequest, InterledgerResponse> handler, Executor executor) {
+        this.handler = handler;
+        this.executor = executor;
+    }
+
+    public static StubTransport json(int status, String body) {
+        return new StubTransport(request -> response(request, status, body));
+    }
+
+    public static InterledgerResponse response(HttpRequest request, int status, String body) {
+        return response(request, status, body, Map.of());
+    }
+
+    public static InterledgerResponse response(HttpRequest request, int status, String body, Map<String, List<String>> headers) {
+        return new InterledgerResponse(request.uri(), status,
+                HttpHeaders.of(headers, (name, value) -> true),
+                body != null ? body.getBytes(StandardCharsets.UTF_8) : null);
+    }
+
+    @Override
+    public InterledgerResponse exchange(HttpRequest request) throws IOException {
+        requests.add(request);
+        return handle(request);
+    }
+
+    @Override
+    public CompletableFuture<InterledgerResponse> exchangeAsync(HttpRequest request) {
+        requests.add(request);
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return handle(request);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, executor);
+    }
+
+    private InterledgerResponse handle(HttpRequest request) throws IOException {
+        try {
+            return handler.apply(request);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Handler result simulating a failed exchange.
+     */
+    public static InterledgerResponse fail(String message) {
+        throw new UncheckedIOException(new IOException(message));
+    }
+}
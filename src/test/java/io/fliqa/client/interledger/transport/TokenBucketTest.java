@@ -0,0 +1,131 @@
+/*
+ * Copyright 2025 Fliqa
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.fliqa.client.interledger.transport;
+
+import io.fliqa.client.interledger.ApiOperation;
+import io.fliqa.client.interledger.RateLimitPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    private final AtomicLong now = new AtomicLong(-5 * SECOND); // nano time can be negative
+
+    private TokenBucket bucket(double permitsPerSecond, int burst) {
+        return new TokenBucket(new RateLimitPolicy.Limit(permitsPerSecond, burst), now::get);
+    }
+
+    @Test
+    public void burstThenRate() {
+        TokenBucket bucket = bucket(10, 3);
+        assertEquals(3, bucket.getAvailablePermits());
+
+        assertEquals(0, bucket.reserve(0));
+        assertEquals(0, bucket.reserve(0));
+        assertEquals(0, bucket.reserve(0));
+        assertEquals(0, bucket.getAvailablePermits());
+        assertEquals(-1, bucket.reserve(0));
+
+        assertEquals(SECOND / 10, bucket.reserve(SECOND)); // reserved for later
+        assertEquals(2 * SECOND / 10, bucket.reserve(SECOND));
+
+        now.addAndGet(SECOND);
+        assertEquals(3, bucket.getAvailablePermits());
+    }
+
+    @Test
+    public void pauseForRetryAfter() {
+        TokenBucket bucket = bucket(100, 5);
+
+        bucket.pause(2 * SECOND);
+        assertEquals(-1, bucket.reserve(SECOND));
+        assertEquals(0, bucket.getAvailablePermits());
+
+        now.addAndGet(2 * SECOND);
+        assertEquals(0, bucket.reserve(0));
+        assertEquals(-1, bucket.reserve(0)); // no burst right after the pause
+    }
+
+    @Test
+    public void operationOfRequest() {
+        HttpRequest complete = request("POST", "https://ilp.dev/incoming-payments/1/complete");
+
+        assertEquals(ApiOperation.OTHER, ApiRequest.getOperation(complete));
+        assertEquals(ApiOperation.FINALIZE_PAYMENT, ApiRequest.getOperation(new ApiRequest(ApiOperation.FINALIZE_PAYMENT, complete)));
+        assertEquals(ApiOperation.GET_WALLET, ApiRequest.getOperation(request(ApiOperation.GET_WALLET, "GET", "https://ilp.dev/alice")));
+    }
+
+    @Test
+    public void transport_limitsPerHostAndOperation() throws Exception {
+        StubTransport stub = StubTransport.json(200, "{}");
+        RateLimitTransport transport = new RateLimitTransport(stub, RateLimitPolicy.builder()
+                .limit(ApiOperation.CREATE_QUOTE, 0.1, 1)
+                .limit("https://slow.dev", ApiOperation.GET_WALLET, 0.1, 1)
+                .maxWait(Duration.ZERO)
+                .build());
+
+        transport.exchange(request(ApiOperation.CREATE_QUOTE, "POST", "https://fast.dev/quotes"));
+        transport.exchange(request(ApiOperation.CREATE_QUOTE, "POST", "https://slow.dev/quotes")); // own bucket per host
+        assertThrows(RateLimitExceededException.class, () -> transport.exchange(request(ApiOperation.CREATE_QUOTE, "POST", "https://fast.dev/quotes")));
+
+        transport.exchange(request(ApiOperation.GET_WALLET, "GET", "https://fast.dev/alice")); // not limited
+        transport.exchange(request(ApiOperation.GET_WALLET, "GET", "https://fast.dev/alice"));
+        transport.exchange(request(ApiOperation.GET_WALLET, "GET", "https://slow.dev/alice"));
+
+        CompletionException exception = assertThrows(CompletionException.class,
+                () -> transport.exchangeAsync(request(ApiOperation.GET_WALLET, "GET", "https://slow.dev/alice")).join());
+        RateLimitExceededException rejected = assertInstanceOf(RateLimitExceededException.class, exception.getCause());
+        assertEquals(ApiOperation.GET_WALLET, rejected.getOperation());
+        assertEquals("https://slow.dev", rejected.getHost());
+
+        assertEquals(2, transport.getRejected());
+        assertEquals(5, stub.requests.size());
+        assertNull(transport.getBucket("https://fast.dev", ApiOperation.GET_WALLET));
+    }
+
+    @Test
+    public void transport_pausesOnRetryAfter() throws Exception {
+        StubTransport stub = new StubTransport(request ->
+                StubTransport.response(request, 429, null, Map.of("Retry-After", List.of("30"))));
+        RateLimitTransport transport = new RateLimitTransport(stub, RateLimitPolicy.builder()
+                .limit(ApiOperation.CREATE_INCOMING_PAYMENT, 100, 10)
+                .maxWait(Duration.ZERO)
+                .build());
+
+        assertEquals(429, transport.exchange(request(ApiOperation.CREATE_INCOMING_PAYMENT, "POST", "https://ilp.dev/incoming-payments")).statusCode);
+        assertThrows(RateLimitExceededException.class, () -> transport.exchange(request(ApiOperation.CREATE_INCOMING_PAYMENT, "POST", "https://ilp.dev/incoming-payments")));
+        assertEquals(0, transport.getBucket("https://ilp.dev", ApiOperation.CREATE_INCOMING_PAYMENT).getAvailablePermits());
+    }
+
+    private static HttpRequest request(String method, String uri) {
+        return HttpRequest.newBuilder(URI.create(uri)).method(method, HttpRequest.BodyPublishers.noBody()).build();
+    }
+
+    private static HttpRequest request(ApiOperation operation, String method, String uri) {
+        return new ApiRequest(operation, request(method, uri));
+    }
+}